@@ -1,77 +1,41 @@
 package com.pil97.ticketing.auth.application;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.stereotype.Service;
-
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
-
-@Service
-@RequiredArgsConstructor
-public class TokenService {
-
-  private static final String REFRESH_KEY_PREFIX = "refresh:";
-  private static final String BLACKLIST_KEY_PREFIX = "blacklist:";
-  private static final String BLACKLIST_VALUE = "logout";
-  private static final long REFRESH_TOKEN_TTL_DAYS = 7;
 
-  private final StringRedisTemplate redisTemplate;
+/**
+ * RefreshToken / AccessToken 블랙리스트 저장소 추상화 인터페이스
+ * <p>
+ * AuthService, JwtAuthenticationFilter는 이 인터페이스에만 의존한다.
+ * - 기본: RedisTokenService (Redis key + TTL, 다중 인스턴스 공유)
+ * - standalone 프로파일: InMemoryTokenService (JVM 내부 Map, Redis 왕복 없음)
+ */
+public interface TokenService {
 
   /**
-   * RefreshToken Redis 저장
-   * - key: refresh:{memberId}
+   * RefreshToken 저장
    * - TTL: 7일
    */
-  public void saveRefreshToken(Long memberId, String refreshToken) {
-    redisTemplate.opsForValue().set(
-      REFRESH_KEY_PREFIX + memberId,
-      refreshToken,
-      REFRESH_TOKEN_TTL_DAYS,
-      TimeUnit.DAYS
-    );
-  }
+  void saveRefreshToken(Long memberId, String refreshToken);
 
   /**
-   * Redis에서 RefreshToken 조회
+   * RefreshToken 조회
    */
-  public Optional<String> getRefreshToken(Long memberId) {
-    return Optional.ofNullable(
-      redisTemplate.opsForValue().get(REFRESH_KEY_PREFIX + memberId)
-    );
-  }
+  Optional<String> getRefreshToken(Long memberId);
 
   /**
-   * Redis에서 RefreshToken 삭제
+   * RefreshToken 삭제
    * - 로그아웃 시 호출
    */
-  public void deleteRefreshToken(Long memberId) {
-    redisTemplate.delete(REFRESH_KEY_PREFIX + memberId);
-  }
+  void deleteRefreshToken(Long memberId);
 
   /**
    * AccessToken 블랙리스트 등록
-   * - key: blacklist:{accessToken}
-   * - TTL: 토큰 잔여 만료 시간 (불필요한 메모리 점유 방지)
+   * - TTL: 토큰 잔여 만료 시간, 0 이하면 등록하지 않는다
    */
-  public void addToBlacklist(String accessToken, long remainingMs) {
-    if (remainingMs <= 0) {
-      return;
-    }
-    redisTemplate.opsForValue().set(
-      BLACKLIST_KEY_PREFIX + accessToken,
-      BLACKLIST_VALUE,
-      remainingMs,
-      TimeUnit.MILLISECONDS
-    );
-  }
+  void addToBlacklist(String accessToken, long remainingMs);
 
   /**
    * AccessToken 블랙리스트 등록 여부 확인
    */
-  public boolean isBlacklisted(String accessToken) {
-    return Boolean.TRUE.equals(
-      redisTemplate.hasKey(BLACKLIST_KEY_PREFIX + accessToken)
-    );
-  }
-}
\ No newline at end of file
+  boolean isBlacklisted(String accessToken);
+}
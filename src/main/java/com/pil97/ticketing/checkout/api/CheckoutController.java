@@ -0,0 +1,70 @@
+package com.pil97.ticketing.checkout.api;
+
+import com.pil97.ticketing.checkout.api.dto.request.CheckoutRequest;
+import com.pil97.ticketing.checkout.api.dto.response.CheckoutResponse;
+import com.pil97.ticketing.checkout.application.CheckoutService;
+import com.pil97.ticketing.common.io.IoBudget;
+import com.pil97.ticketing.common.response.ApiResponse;
+import com.pil97.ticketing.infra.idempotency.IdempotencyFingerprintFilter;
+import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "9. Checkout", description = "통합 결제 API - 좌석 선점 / 예약 / 결제를 요청 1회로 처리")
+@RestController
+@RequiredArgsConstructor
+public class CheckoutController {
+
+  private final CheckoutService checkoutService;
+
+  /**
+   * POST /checkout
+   * <p>
+   * 이 API의 목적:
+   * - 좌석 선점(HOLD) → 예약 → 결제를 요청 1회로 처리한다.
+   * - 트랜잭션은 생성 / 결제 결과 반영 2회이고, 게이트웨이 승인은 그 사이 좌석 락과 트랜잭션 밖에서 호출한다.
+   * - 결제 성공 시 좌석 RESERVED, 예약 CONFIRMED, HOLD CONFIRMED로 생성된다.
+   * - 결제 실패 시 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE로 남는다.
+   * <p>
+   * 상태코드 정책:
+   * - 처리 완료 시 201 Created (결제 실패 포함)
+   * - 비동기 결제 모드(payment.async.enabled)에서는 PENDING 결제까지 생성하고 202 Accepted,
+   *   최종 결과는 GET /payments/{paymentId}로 확인한다
+   * - 게이트웨이 응답 시간 초과면 결제 UNKNOWN, 좌석 HELD로 남기고 202 Accepted (상태 조회로 확정)
+   * - 매진 / 좌석 선점 불가 / 같은 좌석 결제 진행 중이면 409 (SHOWTIME-SEAT-004 / 005, SEAT-002)
+   * - X-Admission-Token 헤더 누락 시 403 (QUEUE-002)
+   * <p>
+   * 멱등성 정책:
+   * - Idempotency-Key 헤더 필수 (HOLD / 예약 / 결제 전체에 key 1개)
+   * - 동일 key + 동일 본문 재요청 시 기존 응답 반환 (HTTP 200)
+   * - 동일 key + 다른 본문 재요청 시 409 반환 (fingerprint는 IdempotencyFingerprintFilter가 원본 본문으로 계산)
+   * - 동시 신규 요청 시 SETNX lock으로 1건만 처리, 나머지 409 반환 (완료 대기 모드에서는 완료 후 저장된 결과 반환)
+   */
+  @IoBudget(sql = 12, redis = 14)
+  @PostMapping("/checkout")
+  public ResponseEntity<ApiResponse<CheckoutResponse>> checkout(
+    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+    @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+    @RequestAttribute(name = IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE, required = false) byte[] fingerprint,
+    @AuthenticationPrincipal Member loginMember,
+    @RequestBody @Valid CheckoutRequest request) {
+
+    IdempotencyResult<CheckoutResponse> result =
+      checkoutService.checkout(idempotencyKey, fingerprint, admissionToken, loginMember, request);
+
+    HttpStatus status = result.isReplayed() ? HttpStatus.OK
+      : PaymentStatus.isUnsettled(result.getResponse().paymentStatus()) ? HttpStatus.ACCEPTED
+      : HttpStatus.CREATED;
+
+    return ResponseEntity
+      .status(status)
+      .body(ApiResponse.success(result.getResponse()));
+  }
+}
@@ -0,0 +1,30 @@
+package com.pil97.ticketing.checkout.api.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통합 결제(HOLD → 예약 → 결제) 요청 바디 DTO
+ * - showtimeId / seatId: 구매할 회차 좌석
+ * - amount: 결제 금액
+ * - 회원은 인증 정보(로그인 회원)로 정한다
+ */
+@Getter
+@NoArgsConstructor
+public class CheckoutRequest {
+
+  @NotNull(message = "회차 ID는 필수입니다")
+  private Long showtimeId;
+
+  @NotNull(message = "좌석 ID는 필수입니다")
+  private Long seatId;
+
+  // 최소 1원 이상이어야 함
+  @Min(value = 1, message = "결제 금액은 1원 이상이어야 합니다")
+  private int amount;
+
+  // true이면 강제 실패 처리 - Mock 결제 실패 시나리오 재현용
+  private boolean forceFailure = false;
+}
@@ -0,0 +1,63 @@
+package com.pil97.ticketing.checkout.api.dto.response;
+
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.reservation.domain.Reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통합 결제 결과 응답 DTO
+ * <p>
+ * JSON 예시(성공):
+ * {
+ * "holdId": 1,
+ * "reservationId": 1,
+ * "paymentId": 1,
+ * "showtimeId": 1,
+ * "seatId": 3,
+ * "seatStatus": "RESERVED",
+ * "reservationStatus": "CONFIRMED",
+ * "paymentStatus": "SUCCESS",
+ * "paidAt": "2026-04-07T10:00:00"
+ * }
+ * JSON 예시(결제 실패):
+ * {
+ * "holdId": 2,
+ * "reservationId": 2,
+ * "paymentId": 2,
+ * "showtimeId": 1,
+ * "seatId": 3,
+ * "seatStatus": "AVAILABLE",
+ * "reservationStatus": "FAILED",
+ * "paymentStatus": "FAIL",
+ * "paidAt": null
+ * }
+ */
+public record CheckoutResponse(
+  Long holdId,
+  Long reservationId,
+  Long paymentId,
+  Long showtimeId,
+  Long seatId,
+  String seatStatus,
+  String reservationStatus,
+  String paymentStatus,
+  // 결제 성공 시 완료 시각, 그 외 null
+  LocalDateTime paidAt
+) {
+  // 통합 결제로 생성한 엔티티를 응답 DTO로 변환
+  public static CheckoutResponse of(Hold hold, Reservation reservation, Payment payment) {
+    return new CheckoutResponse(
+      hold.getId(),
+      reservation.getId(),
+      payment.getId(),
+      hold.getShowtimeSeat().getShowtime().getId(),
+      hold.getShowtimeSeat().getSeat().getId(),
+      hold.getShowtimeSeat().getStatus().name(),
+      reservation.getStatus().name(),
+      payment.getStatus().name(),
+      payment.getPaidAt()
+    );
+  }
+}
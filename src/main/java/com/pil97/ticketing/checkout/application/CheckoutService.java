@@ -0,0 +1,290 @@
+package com.pil97.ticketing.checkout.application;
+
+import com.pil97.ticketing.checkout.api.dto.request.CheckoutRequest;
+import com.pil97.ticketing.checkout.api.dto.response.CheckoutResponse;
+import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.common.lock.DistributedLockService;
+import com.pil97.ticketing.common.lock.LockAcquisitionFailedException;
+import com.pil97.ticketing.common.lock.LockTask;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
+import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.payment.application.PaymentCompletionService;
+import com.pil97.ticketing.payment.application.PaymentWorker;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.event.PaymentStatusChangedEvent;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayRequest;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.payment.error.PaymentErrorCode;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.queue.error.QueueErrorCode;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.event.ReservationStatusChangedEvent;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.error.SeatErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import com.pil97.ticketing.showtimeseat.error.ShowtimeSeatErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 통합 결제 - 좌석 선점(HOLD) → 예약 → 결제를 요청 1회로 처리
+ * <p>
+ * 개별 API 3회(POST /showtimes/{id}/hold → POST /holds/{id}/reserve → POST /payments)와 같은 상태 전이를 만들되,
+ * 인증 / 회원 조회 / 트랜잭션 / 멱등성 확인을 1회씩만 한다.
+ * - 좌석 분산락 안에서 HOLD / 예약 / PENDING 결제 생성 트랜잭션을 커밋까지 마친 뒤 락을 해제한다
+ *   (커밋 전 락 해제로 다른 요청이 커밋 전 좌석 상태를 읽지 않게)
+ * - 게이트웨이 승인은 락 해제 후 트랜잭션 밖에서 호출하고, 결과는 짧은 두 번째 트랜잭션으로 반영한다
+ *   (게이트웨이 지연 동안 좌석 락과 DB 커넥션을 잡지 않는다 - 그동안 좌석은 HELD라 다른 요청이 선점할 수 없다)
+ * - 매진(잔여 좌석 카운터) / 같은 좌석 결제 진행 중(락 경합) / 좌석 선점 불가(상태 조회 1회)면 쓰기와 게이트웨이 호출 없이 실패한다
+ * - 결제 결과 반영은 PaymentCompletionService.apply()를 그대로 쓴다 (비동기 결제 worker와 같은 규칙)
+ * - 비동기 결제 모드(payment.async.enabled)에서는 PENDING 결제까지 생성하고, 결제 처리는 커밋 후 PaymentWorker에 넘긴다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckoutService {
+
+  // 통합 결제 멱등성 key prefix
+  private static final String IDEMPOTENCY_PREFIX = "idempotency:checkout";
+  // 통합 결제 멱등성 결과 보관 TTL
+  private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);
+  // HOLD 만료 시간(분) - HoldService와 동일 (비동기 결제 모드에서 결제 완료 전까지 좌석을 잡아 두는 시간)
+  private static final long HOLD_MINUTES = 5L;
+  // 좌석 락 대기 시간(초) - 같은 좌석의 결제가 진행 중이면 기다리지 않고 실패
+  private static final long LOCK_WAIT_SECONDS = 0L;
+  // 좌석 락 유지 시간(초) - HoldService와 동일 (게이트웨이 호출은 락 밖에서 한다)
+  private static final long LOCK_LEASE_SECONDS = 5L;
+
+  /**
+   * 비동기 결제 모드 사용 여부
+   * application.yml: payment.async.enabled
+   */
+  @Value("${payment.async.enabled:false}")
+  private boolean asyncEnabled;
+
+  private final ShowtimeSeatRepository showtimeSeatRepository;
+  private final HoldRepository holdRepository;
+  private final ReservationRepository reservationRepository;
+  private final PaymentRepository paymentRepository;
+  private final IdempotencyRedisRepository idempotencyRedisRepository;
+  private final DistributedLockService distributedLockService;
+  private final QueueService queueService;
+  private final SeatInventoryService seatInventoryService;
+  private final PaymentGateway paymentGateway;
+  private final PaymentWorker paymentWorker;
+  private final PaymentCompletionService paymentCompletionService;
+  private final DomainEventPublisher domainEventPublisher;
+  private final PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 통합 결제 처리
+   * - idempotency key 누락 시 예외 발생
+   * - 동일 key + 동일 본문 재요청 시 Redis 캐시 반환 (입장 토큰 / 좌석 검증 및 DB 처리 없음)
+   * - 동일 key + 다른 본문 재요청 시 409 반환
+   * - 동시 신규 요청 시 SETNX lock으로 1건만 처리
+   * - 멱등성 판정은 트랜잭션을 열기 전에 한다 (DB 멱등성 저장소 사용 시 요청 1건이 커넥션 2개를 잡지 않게)
+   *
+   * @param idempotencyKey 클라이언트가 전달한 idempotency key
+   * @param fingerprint    요청(메서드 + URI + 본문)의 SHA-256 digest (IdempotencyFingerprintFilter에서 계산)
+   * @param admissionToken 대기열 입장 토큰 (X-Admission-Token 헤더)
+   * @param loginMember    로그인 회원 (HOLD / 예약 소유자)
+   * @param request        통합 결제 요청
+   */
+  public IdempotencyResult<CheckoutResponse> checkout(String idempotencyKey, byte[] fingerprint, String admissionToken,
+                                                      Member loginMember, CheckoutRequest request) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING);
+    }
+
+    return idempotencyRedisRepository
+      .find(IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, CheckoutResponse.class)
+      .map(IdempotencyResult::ofReplayed)
+      .orElseGet(() -> IdempotencyResult.ofNew(
+        processCheckout(idempotencyKey, fingerprint, admissionToken, loginMember, request)
+      ));
+  }
+
+  /**
+   * 실제 통합 결제 처리 - 최초 요청에서만 실행
+   * - 입장 토큰 검증(서명 검증) → 매진 단락(카운터 1회) → 좌석 분산락 → 생성 트랜잭션 → 커밋 → 락 해제
+   *   → (동기 결제 모드) 게이트웨이 승인 → 결과 반영 트랜잭션
+   * - 처리 성공 시 커밋 후 트랜잭션 밖에서 결과 저장, 실패 / 결제 거절 / 예외 / 롤백 시 lock 해제하여 재시도 허용
+   */
+  private CheckoutResponse processCheckout(String idempotencyKey, byte[] fingerprint, String admissionToken,
+                                           Member loginMember, CheckoutRequest request) {
+    boolean success = false;
+    try {
+      // 입장 토큰 검증 - 대기열을 통해 입장 허용된 회원만 구매 가능 (서명 검증, Redis 조회 없음)
+      AdmissionTokenClaims admission = queueService.validateAdmissionToken(admissionToken, loginMember.getId());
+
+      // 매진 단락 - 남은 좌석이 없으면 락 획득 + DB 조회 없이 O(1)로 실패
+      seatInventoryService.validateShowtimeAvailable(request.getShowtimeId());
+
+      // 비동기 결제 모드 - worker 작업 큐가 가득 찼으면 좌석을 잡기 전에 실패
+      if (asyncEnabled) {
+        paymentWorker.ensureCapacity();
+      }
+
+      CheckoutResponse response = executeWithSeatLock(request, () -> transactionTemplate.execute(status ->
+        processInTransaction(idempotencyKey, fingerprint, admission.eventId(), loginMember, request)));
+
+      if (!asyncEnabled) {
+        response = completePayment(idempotencyKey, fingerprint, response.paymentId(), request);
+      }
+
+      // 결제 거절 - 캐시 저장 안 함 (동일 key 재시도 시 재처리)
+      success = !PaymentStatus.FAIL.name().equals(response.paymentStatus());
+      if (success) {
+        idempotencyRedisRepository.saveAfterCommit(
+          IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
+      }
+      return response;
+
+    } finally {
+      if (!success) {
+        idempotencyRedisRepository.releaseLock(IDEMPOTENCY_PREFIX, idempotencyKey);
+      }
+    }
+  }
+
+  /**
+   * 좌석 분산락 안에서 작업 실행
+   * - 락 키는 HOLD API와 같다 ("hold:seat:{showtimeId}:{seatId}") → 개별 HOLD 요청과도 직렬화된다
+   * - 락을 바로 얻지 못하면 같은 좌석의 선점 / 결제가 진행 중이므로 좌석 선점 불가(409)로 응답한다
+   */
+  private CheckoutResponse executeWithSeatLock(CheckoutRequest request,
+                                               LockTask<CheckoutResponse> task) {
+    String lockKey = "hold:seat:" + request.getShowtimeId() + ":" + request.getSeatId();
+    try {
+      return distributedLockService.executeWithLock(lockKey, LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, task);
+    } catch (LockAcquisitionFailedException e) {
+      log.info("action=CHECKOUT_SEAT_BUSY showtimeId={} seatId={}", request.getShowtimeId(), request.getSeatId());
+      throw new BusinessException(SeatErrorCode.NOT_AVAILABLE_FOR_HOLD);
+    }
+  }
+
+  /**
+   * 트랜잭션 안의 HOLD / 예약 / 결제 생성 - 좌석 분산락 보유 중에 실행
+   * - 좌석 상태를 먼저 확인해, 선점 불가면 쓰기 / 게이트웨이 호출 없이 실패한다 (SQL 1)
+   * - 결제는 PENDING으로 생성하고 좌석은 HELD로 둔다 (승인 결과 반영은 completePayment() / PaymentWorker)
+   * - SQL: 좌석 그래프 조회 1 + INSERT 3 (HOLD / 예약 / 결제) + UPDATE 1 (좌석)
+   */
+  private CheckoutResponse processInTransaction(String idempotencyKey, byte[] fingerprint, Long admittedEventId,
+                                                Member loginMember, CheckoutRequest request) {
+    ShowtimeSeat showtimeSeat = showtimeSeatRepository
+      .findByShowtimeIdAndSeatIdWithShowtime(request.getShowtimeId(), request.getSeatId())
+      .orElseThrow(() -> new BusinessException(ShowtimeSeatErrorCode.NOT_FOUND));
+
+    // 입장 토큰 이벤트 범위 확인 - 다른 이벤트 대기열로 받은 토큰 사용 차단
+    if (!showtimeSeat.getShowtime().getEvent().getId().equals(admittedEventId)) {
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_EVENT_MISMATCH);
+    }
+
+    if (showtimeSeat.getStatus() != ShowtimeSeatStatus.AVAILABLE) {
+      throw new BusinessException(SeatErrorCode.NOT_AVAILABLE_FOR_HOLD);
+    }
+
+    // 1) HOLD 생성 + 좌석 HELD
+    Hold hold = holdRepository.save(
+      Hold.create(showtimeSeat, loginMember, LocalDateTime.now().plusMinutes(HOLD_MINUTES)));
+    showtimeSeat.markHeld();
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.AVAILABLE, ShowtimeSeatStatus.HELD);
+    domainEventPublisher.publish(new HoldStatusChangedEvent(hold.getId(), null, HoldStatus.ACTIVE));
+
+    // 2) 예약 생성 (PENDING)
+    Reservation reservation = reservationRepository.save(
+      Reservation.create(hold, showtimeSeat.getShowtime(), showtimeSeat.getSeat(), loginMember));
+    domainEventPublisher.publish(
+      new ReservationStatusChangedEvent(reservation.getId(), null, ReservationStatus.PENDING));
+
+    // 3) 결제 생성 (PENDING)
+    Payment payment = paymentRepository.save(Payment.create(reservation, request.getAmount()));
+    domainEventPublisher.publish(
+      new PaymentStatusChangedEvent(payment.getId(), reservation.getId(), null, PaymentStatus.PENDING));
+
+    CheckoutResponse response = CheckoutResponse.of(hold, reservation, payment);
+    if (asyncEnabled) {
+      idempotencyRedisRepository.recordInTransaction(
+        IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
+      paymentWorker.submitAfterCommit(payment.getId(), request.getAmount(), request.isForceFailure());
+    }
+    return response;
+  }
+
+  /**
+   * 동기 결제 모드의 결제 승인 + 결과 반영 - 좌석 락 해제 후, 트랜잭션 밖에서 실행
+   * - 게이트웨이 호출 동안 DB 커넥션 / 좌석 락을 잡지 않는다
+   * - 결과 반영은 짧은 트랜잭션 하나로 한다 (PaymentCompletionService.apply(), 성공 시 입장 토큰 자리 반환 포함)
+   * - 게이트웨이 거절: 결제 FAIL, 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE로 커밋
+   * - 게이트웨이 응답 시간 초과: 승인되었을 수 있으므로 결제 UNKNOWN, 좌석은 HELD로 두고 그 응답을 기록한다
+   *   (확정은 PaymentConfirmationService가 게이트웨이 상태 조회로 한다)
+   * - 그 외 게이트웨이 응답 없음(오류 / circuit open / bulkhead 포화): 거절과 같이 좌석을 반환한 뒤
+   *   PAYMENT_GATEWAY_UNAVAILABLE (503)
+   * - SQL: 결제 조회 1 + 예약 락 조회 1 + HOLD 그래프 조회 1 + UPDATE 4 (결제 / 예약 / HOLD / 좌석)
+   */
+  private CheckoutResponse completePayment(String idempotencyKey, byte[] fingerprint, Long paymentId,
+                                           CheckoutRequest request) {
+    PaymentGatewayResult gatewayResult;
+    try {
+      gatewayResult = paymentGateway.authorize(
+        new PaymentGatewayRequest(paymentId, request.getAmount(), request.isForceFailure()));
+    } catch (PaymentGatewayException e) {
+      if (e.getReason() == PaymentGatewayException.Reason.TIMEOUT) {
+        log.warn("action=PAYMENT_GATEWAY_TIMEOUT paymentId={}", paymentId);
+        gatewayResult = null;
+      } else {
+        log.warn("action=PAYMENT_GATEWAY_UNAVAILABLE paymentId={} reason={}", paymentId, e.getReason());
+        transactionTemplate.executeWithoutResult(status -> paymentCompletionService.apply(paymentId, false));
+        throw new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+      }
+    }
+
+    PaymentGatewayResult result = gatewayResult;
+    return transactionTemplate.execute(status -> {
+      // 응답 시간 초과(result == null) - 승인 여부 미확정으로 UNKNOWN
+      Payment payment = result == null
+        ? paymentCompletionService.applyUnknown(paymentId)
+        : paymentCompletionService.apply(paymentId, result == PaymentGatewayResult.APPROVED);
+      Reservation reservation = payment.getReservation();
+      CheckoutResponse response = CheckoutResponse.of(reservation.getHold(), reservation, payment);
+
+      // 결제 거절 - 결과 기록 안 함 (동일 key 재시도 시 재처리)
+      if (payment.getStatus() != PaymentStatus.FAIL) {
+        idempotencyRedisRepository.recordInTransaction(
+          IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
+      }
+      return response;
+    });
+  }
+}
@@ -0,0 +1,25 @@
+package com.pil97.ticketing.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Profile("!standalone")
+@Configuration
+public class RedisPubSubConfig {
+
+  /**
+   * ✅ Redis Pub/Sub 수신 컨테이너
+   * - 인스턴스 간 로컬 캐시 무효화 알림 등 채널 구독을 한 곳에서 관리한다
+   * - 리스너는 각 infra 컴포넌트가 addMessageListener로 직접 등록한다
+   * - 구독 연결 1개를 공유하므로 채널이 늘어도 Redis 연결 수는 늘지 않는다
+   */
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    return container;
+  }
+}
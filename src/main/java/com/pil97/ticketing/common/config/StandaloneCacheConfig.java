@@ -0,0 +1,42 @@
+package com.pil97.ticketing.common.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@EnableCaching
+@Configuration
+@Profile("standalone")
+public class StandaloneCacheConfig {
+
+  private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+  /**
+   * ✅ JVM 내부 캐시 매니저 설정 (standalone 프로파일)
+   * <p>
+   * RedisCacheManager 대신 ConcurrentMapCacheManager를 사용한다.
+   * - 직렬화 없이 객체 참조를 그대로 보관하므로 캐시 hit 시 Redis 왕복·JSON 역직렬화 비용이 없다
+   * - ConcurrentMapCacheManager는 TTL을 지원하지 않으므로 evictAll()로 10분마다 전체 비워 RedisCacheConfig와 같은 신선도를 유지한다
+   */
+  @Bean
+  public CacheManager cacheManager() {
+    return cacheManager;
+  }
+
+  /**
+   * 10분마다 전체 캐시 비우기 - RedisCacheConfig의 entryTtl(10분) 대체
+   */
+  @Scheduled(fixedRate = 600000, initialDelay = 600000)
+  public void evictAll() {
+    cacheManager.getCacheNames().forEach(name -> {
+      var cache = cacheManager.getCache(name);
+      if (cache != null) {
+        cache.clear();
+      }
+    });
+  }
+}
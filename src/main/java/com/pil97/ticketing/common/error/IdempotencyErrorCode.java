@@ -7,7 +7,7 @@ import org.springframework.http.HttpStatus;
 /**
  * 멱등성 공통 에러코드
  * - 도메인에 종속되지 않는 인프라 레벨 예외
- * - 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: IDEMPOTENCY-003)
+ * - 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: IDEMPOTENCY-004)
  */
 @Getter
 @RequiredArgsConstructor
@@ -23,7 +23,11 @@ public enum IdempotencyErrorCode implements ErrorCode {
 
   // Idempotency-Key 헤더 누락 시
   IDEMPOTENCY_KEY_MISSING(HttpStatus.BAD_REQUEST, "IDEMPOTENCY-003",
-    "Idempotency-Key header is required");
+    "Idempotency-Key header is required"),
+
+  // 멱등성 API 요청 본문이 fingerprint 계산 상한(idempotency.fingerprint.max-body-bytes)을 넘은 경우
+  IDEMPOTENCY_PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "IDEMPOTENCY-004",
+    "Request body is too large for an idempotent request");
 
   private final HttpStatus status;
   private final String code;
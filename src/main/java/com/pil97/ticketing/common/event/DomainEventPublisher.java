@@ -0,0 +1,239 @@
+package com.pil97.ticketing.common.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도메인 이벤트 발행 (좌석 / HOLD / 예약 / 결제 상태 전환)
+ * <p>
+ * 상태 전환 지점에서 publish()한 이벤트를 트랜잭션 커밋 후 전용 executor에서 @EventListener로 전달한다.
+ * - 후속 처리(캐시 무효화, 카운터, 알림 등)를 각 서비스에 직접 연결하지 않고 리스너로 추가한다
+ * - 트랜잭션 안에서 발행한 이벤트는 모아 두었다가 커밋 후 작업 1건으로 제출한다 - 롤백되면 버려진다
+ * - 요청 스레드는 큐에 넣기만 하므로 리스너 실행 시간이 쓰기 경로 응답 지연에 더해지지 않는다
+ * - 한 트랜잭션의 이벤트는 발행 순서대로 전달하고, 트랜잭션 간 순서는 보장하지 않는다
+ * - 작업 큐 상한을 두고, 가득 차면 CallerRunsPolicy로 커밋한 스레드가 직접 전달한다 (유실 없이 backpressure)
+ * - 리스너 예외는 로그와 실패 수로만 남기고 상태 전환에는 영향을 주지 않는다
+ * - 리스너가 없는 이벤트 타입은 synchronization 등록 / executor 제출 없이 버린다 (skipped) - 구독자 없는 전달 작업으로 쓰기 경로가 느려지지 않게 한다
+ * - 이벤트는 JVM 메모리에만 있으므로, 전달 전에 인스턴스가 종료되면 유실된다 (유실되면 안 되는 부수 효과는 Outbox 사용)
+ * <p>
+ * 리스너는 이 executor 스레드에서 실행되므로 DB 쓰기가 필요하면 자체 트랜잭션을 열어야 한다.
+ * ApplicationEventPublisher로 같은 이벤트를 직접 발행하면 리스너가 발행 스레드에서 동기 실행되므로 이 클래스를 통해서만 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+  /**
+   * 이벤트 전달 스레드 수
+   * application.yml: domain-event.pool-size
+   */
+  @Value("${domain-event.pool-size:2}")
+  private int poolSize = 2;
+
+  /**
+   * 전달 대기 작업 상한 (커밋된 트랜잭션 단위)
+   * application.yml: domain-event.queue-capacity
+   */
+  @Value("${domain-event.queue-capacity:10000}")
+  private int queueCapacity = 10000;
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  // backpressure 지표 - 발행 / 전달 / 리스너 실패 이벤트 수, 큐가 가득 차 발행 스레드가 직접 전달한 작업 수
+  private final AtomicLong published = new AtomicLong();
+  private final AtomicLong delivered = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong callerRuns = new AtomicLong();
+  // 리스너가 없어 전달하지 않은 이벤트 수
+  private final AtomicLong skipped = new AtomicLong();
+  // 커밋부터 전달 시작까지 걸린 최대 시간 (마지막 지표 로그 이후)
+  private final AtomicLong maxLagNanos = new AtomicLong();
+
+  // 이벤트 타입별 리스너 존재 여부 - 컨텍스트 refresh 시 다시 계산한다
+  private final Map<Class<?>, Boolean> listenedTypes = new ConcurrentHashMap<>();
+
+  private long lastLoggedPublished;
+  private ThreadPoolExecutor eventExecutor;
+
+  @PostConstruct
+  void initExecutor() {
+    eventExecutor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity),
+      new CustomizableThreadFactory("domain-event-"),
+      (task, executor) -> {
+        callerRuns.incrementAndGet();
+        if (!executor.isShutdown()) {
+          task.run();
+        }
+      }
+    );
+  }
+
+  /**
+   * 종료 시 제출된 이벤트를 최대 10초까지 마저 전달한다
+   */
+  @PreDestroy
+  void shutdownExecutor() throws InterruptedException {
+    eventExecutor.shutdown();
+    if (!eventExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("action=DOMAIN_EVENT_SHUTDOWN_TIMEOUT remaining={}", eventExecutor.getQueue().size());
+    }
+  }
+
+  /**
+   * 도메인 이벤트 발행
+   * - 트랜잭션 안: 커밋 후 전달 (롤백되면 버려진다)
+   * - 트랜잭션 밖: 즉시 전달 작업 제출
+   * - 이벤트 타입을 받는 리스너가 없으면 아무것도 등록 / 제출하지 않는다
+   *
+   * @param event 도메인 이벤트 (각 도메인의 domain.event 패키지 record)
+   */
+  public void publish(Object event) {
+    published.incrementAndGet();
+    if (!hasListener(event.getClass())) {
+      skipped.incrementAndGet();
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(List.of(event));
+      return;
+    }
+    currentBatch().events.add(event);
+  }
+
+  /**
+   * 현재 지표 조회
+   */
+  public DomainEventStats getStats() {
+    return new DomainEventStats(
+      published.get(),
+      delivered.get(),
+      failed.get(),
+      callerRuns.get(),
+      skipped.get(),
+      eventExecutor.getQueue().size(),
+      queueCapacity,
+      TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get())
+    );
+  }
+
+  /**
+   * 지표 로그 - 마지막 로그 이후 발행된 이벤트가 있을 때만 남긴다
+   * application.yml: domain-event.stats-log-interval-ms
+   */
+  @Scheduled(fixedDelayString = "${domain-event.stats-log-interval-ms:60000}")
+  void logStats() {
+    DomainEventStats stats = getStats();
+    if (stats.published() == lastLoggedPublished) {
+      return;
+    }
+    lastLoggedPublished = stats.published();
+    maxLagNanos.set(0);
+    log.info("action=DOMAIN_EVENT_STATS published={} delivered={} failed={} callerRuns={} skipped={} queueDepth={}/{} maxLagMs={}",
+      stats.published(), stats.delivered(), stats.failed(), stats.callerRuns(), stats.skipped(),
+      stats.queueDepth(), stats.queueCapacity(), stats.maxLagMs());
+  }
+
+  /**
+   * 리스너 존재 여부 캐시 초기화 - @EventListener 메서드는 싱글톤 초기화 이후 등록되므로 refresh 완료 시 다시 계산한다
+   */
+  @EventListener(ContextRefreshedEvent.class)
+  void resetListenedTypes() {
+    listenedTypes.clear();
+  }
+
+  private boolean hasListener(Class<?> eventType) {
+    return listenedTypes.computeIfAbsent(eventType, this::resolveHasListener);
+  }
+
+  /**
+   * 이벤트 타입을 받는 @EventListener / @TransactionalEventListener 메서드가 컨텍스트에 있는지 확인
+   * - 일반 객체 이벤트는 PayloadApplicationEvent로 감싸 전달되므로 그 타입으로 매칭한다
+   * - ApplicationListener&lt;ApplicationEvent&gt;로 모든 이벤트를 받는 프레임워크 리스너(DelegatingApplicationListener 등)는 구독자로 보지 않는다
+   * - 리스너 목록을 알 수 없는 발행자(테스트 대역 등)면 있다고 보고 전달한다
+   */
+  private boolean resolveHasListener(Class<?> eventType) {
+    if (!(applicationEventPublisher instanceof AbstractApplicationContext context)) {
+      return true;
+    }
+    ResolvableType payloadType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+    return context.getApplicationListeners().stream()
+      .anyMatch(listener -> listener instanceof ApplicationListenerMethodAdapter adapter
+        && adapter.supportsEventType(payloadType));
+  }
+
+  private void submit(List<Object> events) {
+    long committedNanos = System.nanoTime();
+    eventExecutor.execute(() -> deliver(events, committedNanos));
+  }
+
+  /**
+   * 이벤트 전달 - executor 스레드에서 발행 순서대로 실행
+   */
+  private void deliver(List<Object> events, long committedNanos) {
+    maxLagNanos.accumulateAndGet(System.nanoTime() - committedNanos, Math::max);
+    for (Object event : events) {
+      try {
+        applicationEventPublisher.publishEvent(event);
+        delivered.incrementAndGet();
+      } catch (Exception e) {
+        failed.incrementAndGet();
+        log.error("action=DOMAIN_EVENT_LISTENER_FAILED event={} message={}", event, e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * 현재 트랜잭션의 이벤트 묶음 - 트랜잭션마다 synchronization 1개를 등록해 사용한다
+   * (REQUIRES_NEW 등으로 synchronization이 일시 중단되면 새 트랜잭션은 별도 묶음을 갖는다)
+   */
+  private PendingEvents currentBatch() {
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      if (synchronization instanceof PendingEvents batch) {
+        return batch;
+      }
+    }
+    PendingEvents batch = new PendingEvents();
+    TransactionSynchronizationManager.registerSynchronization(batch);
+    return batch;
+  }
+
+  private final class PendingEvents implements TransactionSynchronization {
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Override
+    public void afterCommit() {
+      submit(events);
+    }
+  }
+}
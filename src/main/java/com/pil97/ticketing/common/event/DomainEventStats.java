@@ -0,0 +1,25 @@
+package com.pil97.ticketing.common.event;
+
+/**
+ * 도메인 이벤트 전달 지표
+ *
+ * @param published     발행된 이벤트 수 (롤백으로 버려진 이벤트 포함)
+ * @param delivered     리스너까지 전달된 이벤트 수
+ * @param failed        리스너 예외로 끝난 이벤트 수
+ * @param callerRuns    큐가 가득 차 커밋한 스레드가 직접 전달한 작업 수 (backpressure 발생 횟수)
+ * @param skipped       받는 리스너가 없어 전달하지 않은 이벤트 수
+ * @param queueDepth    전달 대기 중인 작업 수
+ * @param queueCapacity 전달 대기 작업 상한
+ * @param maxLagMs      커밋부터 전달 시작까지 걸린 최대 시간 (마지막 지표 로그 이후)
+ */
+public record DomainEventStats(
+  long published,
+  long delivered,
+  long failed,
+  long callerRuns,
+  long skipped,
+  int queueDepth,
+  int queueCapacity,
+  long maxLagMs
+) {
+}
@@ -0,0 +1,73 @@
+package com.pil97.ticketing.common.io;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * I/O 응답 헤더용 본문 버퍼링 래퍼
+ * <p>
+ * 동기 응답은 본문을 모아 두었다가 헤더를 붙인 뒤 내보낸다 (ContentCachingResponseWrapper와 동일).
+ * 비동기 응답(StreamingResponseBody 등)은 최초 디스패치가 끝날 때 passThrough()로 전환해
+ * 이후 OutputStream 쓰기를 원본 응답으로 바로 흘려보낸다 (대용량 스트리밍 본문을 메모리에 쌓지 않는다).
+ */
+final class HeaderBufferingResponseWrapper extends ContentCachingResponseWrapper {
+
+  private volatile boolean passThrough;
+  private ServletOutputStream outputStream;
+
+  HeaderBufferingResponseWrapper(HttpServletResponse response) {
+    super(response);
+  }
+
+  /**
+   * 지금까지 모은 본문을 내보내고 이후 쓰기를 원본 응답으로 전환한다
+   */
+  void passThrough() throws IOException {
+    copyBodyToResponse(false);
+    passThrough = true;
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() throws IOException {
+    if (outputStream == null) {
+      ServletOutputStream cached = super.getOutputStream();
+      outputStream = new ServletOutputStream() {
+
+        @Override
+        public void write(int b) throws IOException {
+          target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+          target().flush();
+        }
+
+        @Override
+        public boolean isReady() {
+          return cached.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+          cached.setWriteListener(writeListener);
+        }
+
+        private OutputStream target() throws IOException {
+          return passThrough ? getResponse().getOutputStream() : cached;
+        }
+      };
+    }
+    return outputStream;
+  }
+}
@@ -0,0 +1,54 @@
+package com.pil97.ticketing.common.io;
+
+/**
+ * 요청 단위 I/O 집계 (SQL 문 / Redis 명령 수와 소요 시간)
+ * <p>
+ * IoAccountingFilter가 요청 스레드에 IoUsage를 열고 닫으며,
+ * JDBC / Redis 래퍼와 분산락 구현체가 실행 시간을 record*()로 더한다.
+ * - 요청 밖(스케줄러, 이벤트 / relay 스레드)에서 실행된 I/O는 집계하지 않는다
+ * - 요청 스레드에서 동기 실행된 I/O만 센다 (다른 스레드에 위임한 작업은 포함하지 않는다)
+ */
+public final class IoAccounting {
+
+  private static final ThreadLocal<IoUsage> CURRENT = new ThreadLocal<>();
+
+  private IoAccounting() {
+  }
+
+  /**
+   * 현재 스레드의 집계 시작 - 이미 열려 있으면 새로 시작한다
+   */
+  public static IoUsage begin() {
+    IoUsage usage = new IoUsage();
+    CURRENT.set(usage);
+    return usage;
+  }
+
+  /**
+   * 현재 스레드의 집계 종료
+   */
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * 현재 스레드의 집계 (요청 밖이면 null)
+   */
+  public static IoUsage current() {
+    return CURRENT.get();
+  }
+
+  public static void recordSql(long elapsedNanos) {
+    IoUsage usage = CURRENT.get();
+    if (usage != null) {
+      usage.addSql(elapsedNanos);
+    }
+  }
+
+  public static void recordRedis(long elapsedNanos) {
+    IoUsage usage = CURRENT.get();
+    if (usage != null) {
+      usage.addRedis(elapsedNanos);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.pil97.ticketing.common.io;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 단위 I/O 집계용 래퍼 등록
+ * - DataSource 빈 → IoAccountingDataSource
+ * - RedisTemplate 빈의 연결 팩토리 → IoAccountingRedisConnectionFactory (팩토리 빈 자체는 교체하지 않는다)
+ * - io-accounting.enabled=false이면 아무것도 감싸지 않는다
+ */
+@Component
+public class IoAccountingBeanPostProcessor implements BeanPostProcessor {
+
+  /**
+   * 요청 단위 I/O 집계 사용 여부
+   * application.yml: io-accounting.enabled
+   */
+  @Value("${io-accounting.enabled:true}")
+  private boolean enabled = true;
+
+  /**
+   * RedisTemplate은 초기화(afterPropertiesSet) 전에 연결 팩토리를 바꿔 끼운다
+   */
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (enabled && bean instanceof RedisTemplate<?, ?> redisTemplate && redisTemplate.getConnectionFactory() != null) {
+      redisTemplate.setConnectionFactory(IoAccountingRedisConnectionFactory.wrap(redisTemplate.getConnectionFactory()));
+    }
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (enabled && bean instanceof DataSource dataSource && !(bean instanceof IoAccountingDataSource)) {
+      return new IoAccountingDataSource(dataSource);
+    }
+    return bean;
+  }
+}
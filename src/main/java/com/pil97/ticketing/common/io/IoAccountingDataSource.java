@@ -0,0 +1,108 @@
+package com.pil97.ticketing.common.io;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 수 / 시간을 IoAccounting에 기록하는 DataSource 래퍼
+ * <p>
+ * Connection이 만든 Statement의 execute* 호출을 감싸 시간을 잰다.
+ * - JPA(Hibernate)와 JdbcTemplate 쿼리를 모두 센다
+ * - 요청 밖에서는 시간만 재고 버리므로 org.hibernate.SQL 로그처럼 문장 포맷 / 출력 비용이 들지 않는다
+ */
+public class IoAccountingDataSource extends DelegatingDataSource {
+
+  public IoAccountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private static Connection wrap(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(
+      IoAccountingDataSource.class.getClassLoader(),
+      new Class<?>[]{Connection.class},
+      new ConnectionHandler(connection)
+    );
+  }
+
+  /**
+   * 프록시 자신 기준으로 equals / hashCode를 처리하고 나머지는 대상에 위임
+   * (Hibernate가 Statement를 HashMap 키로 쓰므로 프록시 간 동등성이 대상과 어긋나지 않게 한다)
+   */
+  private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+    if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+      return proxy == args[0];
+    }
+    if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+      return System.identityHashCode(proxy);
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  /**
+   * Statement 생성 메서드의 결과만 감싸고 나머지는 그대로 위임
+   */
+  private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = IoAccountingDataSource.invoke(proxy, target, method, args);
+      Class<?> statementType = switch (method.getName()) {
+        case "createStatement" -> Statement.class;
+        case "prepareStatement" -> PreparedStatement.class;
+        case "prepareCall" -> CallableStatement.class;
+        default -> null;
+      };
+      if (statementType == null) {
+        return result;
+      }
+      return Proxy.newProxyInstance(
+        IoAccountingDataSource.class.getClassLoader(),
+        new Class<?>[]{statementType},
+        new StatementHandler(result)
+      );
+    }
+  }
+
+  /**
+   * execute / executeQuery / executeUpdate / executeBatch 등 실행 메서드 1회를 SQL 1건으로 기록
+   */
+  private record StatementHandler(Object target) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (!method.getName().startsWith("execute")) {
+        return IoAccountingDataSource.invoke(proxy, target, method, args);
+      }
+      long started = System.nanoTime();
+      try {
+        return IoAccountingDataSource.invoke(proxy, target, method, args);
+      } finally {
+        IoAccounting.recordSql(System.nanoTime() - started);
+      }
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.pil97.ticketing.common.io;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 단위 I/O 집계 필터
+ * <p>
+ * 요청마다 IoAccounting 집계를 열고, 끝나면 엔드포인트별 누적 지표와 @IoBudget 상한을 확인한다.
+ * - Security 필터 체인보다 먼저 실행되어 인증 필터의 회원 조회 / 블랙리스트 확인도 포함한다
+ * - 엔드포인트는 "HTTP 메서드 + 매핑 패턴" 단위로 묶는다 (매핑 전에 끝난 요청은 UNMAPPED)
+ * - io-accounting.response-headers=true(dev)이면 X-Sql-Count / X-Sql-Time-Ms / X-Redis-Count / X-Redis-Time-Ms 헤더를 붙인다
+ *   (본문을 버퍼에 모았다가 헤더를 붙인 뒤 내보내므로 운영에서는 끈다)
+ *   비동기 응답(StreamingResponseBody)은 최초 디스패치의 I/O만 헤더로 붙이고, 이후 본문은 버퍼 없이 그대로 내보낸다
+ * - 운영 지표는 엔드포인트별 요청당 평균 / 최대 값을 주기적으로 로그로 남긴다 (action=IO_STATS)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IoAccountingFilter extends OncePerRequestFilter {
+
+  public static final String SQL_COUNT_HEADER = "X-Sql-Count";
+  public static final String SQL_TIME_HEADER = "X-Sql-Time-Ms";
+  public static final String REDIS_COUNT_HEADER = "X-Redis-Count";
+  public static final String REDIS_TIME_HEADER = "X-Redis-Time-Ms";
+
+  private static final String UNMAPPED = "UNMAPPED";
+
+  /**
+   * 요청 단위 I/O 집계 사용 여부
+   * application.yml: io-accounting.enabled
+   */
+  @Value("${io-accounting.enabled:true}")
+  private boolean enabled = true;
+
+  /**
+   * 응답 헤더로 요청별 I/O 노출 여부
+   * application.yml: io-accounting.response-headers
+   */
+  @Value("${io-accounting.response-headers:false}")
+  private boolean responseHeaders;
+
+  /**
+   * @IoBudget 초과 시 예외 발생 여부 (false이면 경고 로그만 남긴다)
+   * application.yml: io-accounting.fail-on-budget-exceeded
+   */
+  @Value("${io-accounting.fail-on-budget-exceeded:false}")
+  private boolean failOnBudgetExceeded;
+
+  private final Map<String, EndpointIoStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled;
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    IoUsage usage = IoAccounting.begin();
+    HeaderBufferingResponseWrapper responseWrapper = responseHeaders ? new HeaderBufferingResponseWrapper(response) : null;
+    try {
+      filterChain.doFilter(request, responseWrapper != null ? responseWrapper : response);
+    } finally {
+      IoAccounting.end();
+      if (responseWrapper != null) {
+        writeHeaders(responseWrapper, usage);
+        if (isAsyncStarted(request)) {
+          responseWrapper.passThrough();
+        } else {
+          responseWrapper.copyBodyToResponse();
+        }
+      }
+    }
+
+    String endpoint = endpoint(request);
+    IoBudget budget = budget(request);
+    boolean exceeded = budget != null && (usage.getSqlCount() > budget.sql() || usage.getRedisCount() > budget.redis());
+    statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointIoStats()).record(usage, exceeded);
+
+    if (exceeded) {
+      String message = String.format("action=IO_BUDGET_EXCEEDED endpoint=%s sql=%d/%d redis=%d/%d sqlMs=%d redisMs=%d",
+        endpoint, usage.getSqlCount(), budget.sql(), usage.getRedisCount(), budget.redis(),
+        usage.getSqlMillis(), usage.getRedisMillis());
+      log.warn(message);
+      if (failOnBudgetExceeded) {
+        throw new IllegalStateException(message);
+      }
+    }
+  }
+
+  /**
+   * 엔드포인트별 지표 로그 - 마지막 로그 이후 요청이 있었던 엔드포인트만 남기고 초기화한다
+   * application.yml: io-accounting.stats-log-interval-ms
+   */
+  @Scheduled(fixedDelayString = "${io-accounting.stats-log-interval-ms:60000}")
+  void logStats() {
+    statsByEndpoint.forEach((endpoint, stats) -> stats.logAndReset(endpoint));
+  }
+
+  private void writeHeaders(HttpServletResponse response, IoUsage usage) {
+    response.setHeader(SQL_COUNT_HEADER, String.valueOf(usage.getSqlCount()));
+    response.setHeader(SQL_TIME_HEADER, String.valueOf(usage.getSqlMillis()));
+    response.setHeader(REDIS_COUNT_HEADER, String.valueOf(usage.getRedisCount()));
+    response.setHeader(REDIS_TIME_HEADER, String.valueOf(usage.getRedisMillis()));
+  }
+
+  private String endpoint(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+  }
+
+  private IoBudget budget(HttpServletRequest request) {
+    if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+      return handlerMethod.getMethodAnnotation(IoBudget.class);
+    }
+    return null;
+  }
+
+  /**
+   * 엔드포인트 1개의 누적 I/O 지표 (마지막 로그 이후)
+   */
+  private static final class EndpointIoStats {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder sqlCount = new LongAdder();
+    private final LongAdder sqlNanos = new LongAdder();
+    private final LongAdder redisCount = new LongAdder();
+    private final LongAdder redisNanos = new LongAdder();
+    private final LongAdder budgetExceeded = new LongAdder();
+    private final AtomicLong maxSqlCount = new AtomicLong();
+    private final AtomicLong maxRedisCount = new AtomicLong();
+
+    void record(IoUsage usage, boolean exceeded) {
+      requests.increment();
+      sqlCount.add(usage.getSqlCount());
+      sqlNanos.add(usage.getSqlNanos());
+      redisCount.add(usage.getRedisCount());
+      redisNanos.add(usage.getRedisNanos());
+      maxSqlCount.accumulateAndGet(usage.getSqlCount(), Math::max);
+      maxRedisCount.accumulateAndGet(usage.getRedisCount(), Math::max);
+      if (exceeded) {
+        budgetExceeded.increment();
+      }
+    }
+
+    void logAndReset(String endpoint) {
+      long count = requests.sumThenReset();
+      if (count == 0) {
+        return;
+      }
+      log.info("action=IO_STATS endpoint={} requests={} sqlPerRequest={} sqlMsPerRequest={} maxSql={} "
+          + "redisPerRequest={} redisMsPerRequest={} maxRedis={} budgetExceeded={}",
+        endpoint, count,
+        String.format("%.1f", (double) sqlCount.sumThenReset() / count),
+        String.format("%.2f", (double) TimeUnit.NANOSECONDS.toMicros(sqlNanos.sumThenReset()) / 1000 / count),
+        maxSqlCount.getAndSet(0),
+        String.format("%.1f", (double) redisCount.sumThenReset() / count),
+        String.format("%.2f", (double) TimeUnit.NANOSECONDS.toMicros(redisNanos.sumThenReset()) / 1000 / count),
+        maxRedisCount.getAndSet(0),
+        budgetExceeded.sumThenReset());
+    }
+  }
+}
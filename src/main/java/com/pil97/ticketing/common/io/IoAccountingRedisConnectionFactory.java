@@ -0,0 +1,99 @@
+package com.pil97.ticketing.common.io;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Redis 명령 수 / 시간을 IoAccounting에 기록하는 RedisConnectionFactory 프록시
+ * <p>
+ * RedisTemplate에만 끼워 넣는다 (IoAccountingBeanPostProcessor).
+ * - 연결의 명령 메서드와 xxxCommands() 하위 인터페이스 호출 1회를 명령 1건으로 기록한다
+ * - 파이프라인 / 트랜잭션 안의 명령도 1건씩 세므로 명령 수는 왕복 수보다 클 수 있다
+ * - 캐시(RedisCacheManager), Pub/Sub 리스너 컨테이너는 팩토리를 직접 쓰므로 포함하지 않는다
+ */
+public final class IoAccountingRedisConnectionFactory {
+
+  /**
+   * 명령이 아닌 연결 관리 메서드
+   */
+  private static final Set<String> NON_COMMAND_METHODS = Set.of(
+    "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "openPipeline",
+    "isSubscribed", "getSubscription", "getSentinelConnection", "getConvertPipelineAndTxResults",
+    "translateExceptionIfPossible", "toString", "hashCode", "equals"
+  );
+
+  private IoAccountingRedisConnectionFactory() {
+  }
+
+  /**
+   * 연결 팩토리를 감싼다 - 팩토리 자체의 생명주기(start / destroy)는 원래 빈이 관리한다
+   */
+  public static RedisConnectionFactory wrap(RedisConnectionFactory connectionFactory) {
+    return (RedisConnectionFactory) proxy(connectionFactory, new FactoryHandler(connectionFactory));
+  }
+
+  private static Object proxy(Object target, InvocationHandler handler) {
+    return Proxy.newProxyInstance(
+      IoAccountingRedisConnectionFactory.class.getClassLoader(),
+      Arrays.stream(ClassUtils.getAllInterfaces(target))
+        .filter(type -> Modifier.isPublic(type.getModifiers()))
+        .toArray(Class<?>[]::new),
+      handler
+    );
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  /**
+   * getConnection() / getClusterConnection() 결과를 명령 집계 프록시로 감싼다
+   */
+  private record FactoryHandler(RedisConnectionFactory target) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = IoAccountingRedisConnectionFactory.invoke(target, method, args);
+      if (result != null && method.getName().endsWith("Connection") && !method.getName().equals("getSentinelConnection")) {
+        return proxy(result, new CommandHandler(result));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * 연결 / xxxCommands() 하위 인터페이스의 명령 호출 1회를 1건으로 기록
+   */
+  private record CommandHandler(Object target) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if (name.endsWith("Commands") && method.getParameterCount() == 0) {
+        Object commands = IoAccountingRedisConnectionFactory.invoke(target, method, args);
+        return commands == null ? null : proxy(commands, new CommandHandler(commands));
+      }
+      if (NON_COMMAND_METHODS.contains(name)) {
+        return IoAccountingRedisConnectionFactory.invoke(target, method, args);
+      }
+      long started = System.nanoTime();
+      try {
+        return IoAccountingRedisConnectionFactory.invoke(target, method, args);
+      } finally {
+        IoAccounting.recordRedis(System.nanoTime() - started);
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.pil97.ticketing.common.io;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 요청 1건당 I/O 상한
+ * <p>
+ * 인증 필터의 회원 조회 / 블랙리스트 확인을 포함한 요청 전체 기준이다.
+ * 초과하면 IoAccountingFilter가 경고 로그를 남기고,
+ * io-accounting.fail-on-budget-exceeded=true(test 프로파일)이면 예외를 던져 테스트를 실패시킨다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IoBudget {
+
+  /**
+   * 최대 SQL 문 수
+   */
+  int sql();
+
+  /**
+   * 최대 Redis 명령 수 (Redisson 락 호출 포함)
+   */
+  int redis();
+}
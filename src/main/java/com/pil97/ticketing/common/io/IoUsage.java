@@ -0,0 +1,36 @@
+package com.pil97.ticketing.common.io;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건의 I/O 사용량
+ * - 요청 스레드에서만 갱신하므로 동기화하지 않는다
+ */
+@Getter
+public class IoUsage {
+
+  private int sqlCount;
+  private long sqlNanos;
+  private int redisCount;
+  private long redisNanos;
+
+  void addSql(long elapsedNanos) {
+    sqlCount++;
+    sqlNanos += elapsedNanos;
+  }
+
+  void addRedis(long elapsedNanos) {
+    redisCount++;
+    redisNanos += elapsedNanos;
+  }
+
+  public long getSqlMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(sqlNanos);
+  }
+
+  public long getRedisMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(redisNanos);
+  }
+}
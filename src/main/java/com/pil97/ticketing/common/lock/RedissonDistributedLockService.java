@@ -0,0 +1,79 @@
+package com.pil97.ticketing.common.lock;
+
+import com.pil97.ticketing.common.io.IoAccounting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistributedLockService의 Redisson(RLock) 구현체
+ * - 여러 인스턴스 간 락을 공유하므로 다중 노드 배포에서 사용한다
+ * - standalone 프로파일에서는 StripedDistributedLockService가 대신 등록된다
+ * - Redisson은 RedisTemplate을 거치지 않으므로 락 호출(획득 / 보유 확인 / 해제)을 여기서 Redis 명령 1건씩으로 집계한다
+ */
+@Slf4j
+@Service
+@Profile("!standalone")
+@RequiredArgsConstructor
+public class RedissonDistributedLockService implements DistributedLockService {
+
+  private final RedissonClient redissonClient;
+
+  /**
+   * ✅ 분산락 획득 후 작업 실행
+   * - Redis RLock으로 lockKey 단위 직렬화
+   */
+  @Override
+  public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, LockTask<T> task) {
+
+    // 1) Redis에 lockKey로 락 객체 생성
+    //    아직 락을 획득한 게 아니고 락 객체만 가져온 상태 (자물쇠를 가리키는 포인터)
+    RLock lock = redissonClient.getLock(lockKey);
+
+    try {
+      // 2) 락 획득 시도
+      //    waitTime 동안 대기 후 획득 성공 → true, 실패 → false
+      long started = System.nanoTime();
+      boolean acquired;
+      try {
+        acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
+      } finally {
+        IoAccounting.recordRedis(System.nanoTime() - started);
+      }
+
+      if (!acquired) {
+        log.warn("Failed to acquire lock. key={}", lockKey);
+        throw new LockAcquisitionFailedException(lockKey);
+      }
+
+      // 3) 락 획득 성공 → 비즈니스 로직 실행
+      return task.execute();
+
+    } catch (InterruptedException e) {
+      // 4) 대기 중 인터럽트 발생 시 스레드 상태 복원 후 예외 처리
+      Thread.currentThread().interrupt();
+      throw new LockAcquisitionFailedException(lockKey);
+
+    } finally {
+      // 5) 작업 성공/실패 여부와 관계없이 반드시 락 해제
+      //    isHeldByCurrentThread() 확인: 현재 스레드가 락을 가지고 있을 때만 해제
+      //    락 획득 실패 상태에서 unlock() 호출하면 예외가 발생하므로 반드시 확인
+      long started = System.nanoTime();
+      boolean held = lock.isHeldByCurrentThread();
+      IoAccounting.recordRedis(System.nanoTime() - started);
+      if (held) {
+        started = System.nanoTime();
+        try {
+          lock.unlock();
+        } finally {
+          IoAccounting.recordRedis(System.nanoTime() - started);
+        }
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.pil97.ticketing.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DistributedLockService의 JVM 내부 구현체 (standalone 프로파일)
+ * <p>
+ * 단일 노드 배포에서는 락을 다른 인스턴스와 공유할 필요가 없으므로 Redis 대신 striped lock을 사용한다.
+ * - lockKey hash로 고정 개수의 ReentrantLock 중 하나를 선택 → 키마다 락 객체를 만들지 않아 메모리가 일정하다
+ * - 서로 다른 키가 같은 stripe에 걸리면 불필요하게 직렬화될 수 있으므로 stripe 수를 동시 요청 수보다 충분히 크게 둔다
+ * - leaseTime은 적용하지 않는다: 프로세스가 죽으면 락도 함께 사라지므로 영구 락 위험이 없다
+ */
+@Slf4j
+@Service
+@Profile("standalone")
+public class StripedDistributedLockService implements DistributedLockService {
+
+  private final ReentrantLock[] stripes;
+
+  /**
+   * StripedDistributedLockService 생성자
+   * - stripeCount: striped lock 개수 (application.yml: lock.standalone.stripes)
+   */
+  public StripedDistributedLockService(@Value("${lock.standalone.stripes:1024}") int stripeCount) {
+    this.stripes = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * ✅ striped lock 획득 후 작업 실행
+   */
+  @Override
+  public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, LockTask<T> task) {
+    ReentrantLock lock = stripes[Math.floorMod(lockKey.hashCode(), stripes.length)];
+
+    boolean acquired = false;
+    try {
+      acquired = lock.tryLock(waitTime, TimeUnit.SECONDS);
+
+      if (!acquired) {
+        log.warn("Failed to acquire lock. key={}", lockKey);
+        throw new LockAcquisitionFailedException(lockKey);
+      }
+
+      return task.execute();
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new LockAcquisitionFailedException(lockKey);
+
+    } finally {
+      if (acquired) {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.pil97.ticketing.event.domain.repository;
 
 import com.pil97.ticketing.event.application.dto.EventSummaryQueryResult;
 import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,4 +32,14 @@ public interface EventRepository extends JpaRepository<Event, Long> {
   // 스케줄러에서 대기열 자동 삭제 대상 이벤트를 판단할 때 사용
   @Query("select e from Event e where e.endTime is not null and e.endTime < :now")
   List<Event> findEndedEvents(@Param("now") LocalDateTime now);
+
+  // 종료 시각이 [from, to) 구간인 공연 ID 목록 조회
+  // 정산 대사 스케줄러에서 최근 종료된 공연을 고를 때 사용
+  @Query("select e.id from Event e where e.endTime >= :from and e.endTime < :to order by e.id")
+  List<Long> findIdsEndedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // 지정 상태이고 아직 종료되지 않은 공연 ID 목록 조회
+  // 잔여 좌석 카운터 보정 스케줄러에서 판매 중인 공연을 고를 때 사용 (대기열 유무와 무관)
+  @Query("select e.id from Event e where e.status = :status and (e.endTime is null or e.endTime > :now) order by e.id")
+  List<Long> findIdsByStatusNotEnded(@Param("status") EventStatus status, @Param("now") LocalDateTime now);
 }
@@ -1,5 +1,6 @@
 package com.pil97.ticketing.hold.api;
 
+import com.pil97.ticketing.common.io.IoBudget;
 import com.pil97.ticketing.common.response.ApiResponse;
 import com.pil97.ticketing.hold.api.dto.request.HoldCreateRequest;
 import com.pil97.ticketing.hold.api.dto.response.HoldResponse;
@@ -26,18 +27,21 @@ public class HoldController {
    * <p>
    * 상태코드 정책:
    * - 선점 성공 시 201 Created
+   * - X-Admission-Token 헤더 누락 시 403 (QUEUE-002)
    * <p>
    * 응답 정책:
    * - 표준 응답 포맷(ApiResponse)로 감싸서 반환
    */
+  @IoBudget(sql = 8, redis = 10)
   @PostMapping("/showtimes/{showtimeId}/hold")
   public ResponseEntity<ApiResponse<HoldResponse>> hold(
     @PathVariable Long showtimeId,
-    @Valid @RequestBody HoldCreateRequest request
+    @Valid @RequestBody HoldCreateRequest request,
+    @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken
   ) {
 
     // 서비스 호출: 좌석 선점 처리
-    HoldResponse response = holdService.hold(showtimeId, request);
+    HoldResponse response = holdService.hold(showtimeId, request, admissionToken);
 
     // 201 Created + 표준 응답
     return ResponseEntity
@@ -1,15 +1,24 @@
 package com.pil97.ticketing.hold.application;
 
+import com.pil97.ticketing.common.event.DomainEventPublisher;
 import com.pil97.ticketing.hold.domain.Hold;
 import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
 import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -18,6 +27,9 @@ import java.util.List;
 public class HoldExpirationService {
 
   private final HoldRepository holdRepository;
+  private final QueueService queueService;
+  private final SeatInventoryService seatInventoryService;
+  private final DomainEventPublisher domainEventPublisher;
 
   public void expireHolds(LocalDateTime now) {
 
@@ -28,8 +40,36 @@ public class HoldExpirationService {
     for (Hold hold : expiredTargets) {
       hold.expire();
       hold.getShowtimeSeat().markAvailable(); // 추가 쿼리 없이 접근 가능
+      seatInventoryService.recordTransition(
+        hold.getShowtimeSeat(), ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.AVAILABLE);
+      domainEventPublisher.publish(new HoldStatusChangedEvent(hold.getId(), HoldStatus.ACTIVE, HoldStatus.EXPIRED));
+    }
+
+    // 활성 사용자 윈도우 - HOLD를 만료시킨 회원의 자리 반환
+    if (queueService.isActiveWindowEnabled()) {
+      releaseIdleAdmissions(expiredTargets);
     }
 
     log.info("Expired holds processed. count={}", expiredTargets.size());
   }
+
+  /**
+   * 만료된 HOLD 회원의 입장 자리 반환
+   * - 같은 이벤트에 다른 ACTIVE HOLD(결제 대기 예약 포함)가 남은 회원은 아직 활동 중이므로 반환하지 않는다
+   * - 반환은 커밋 이후에 수행 - 롤백된 만료로 자리를 먼저 잃지 않게 한다
+   */
+  private void releaseIdleAdmissions(List<Hold> expiredTargets) {
+    Map<Long, Set<Long>> memberIdsByEventId = new LinkedHashMap<>();
+    for (Hold hold : expiredTargets) {
+      memberIdsByEventId
+        .computeIfAbsent(hold.getShowtimeSeat().getShowtime().getEvent().getId(), id -> new HashSet<>())
+        .add(hold.getMember().getId());
+    }
+
+    memberIdsByEventId.forEach((eventId, memberIds) -> {
+      Set<Long> idle = new HashSet<>(memberIds);
+      idle.removeAll(holdRepository.findMemberIdsWithActiveHold(eventId, memberIds));
+      idle.forEach(memberId -> queueService.releaseAdmissionAfterCommit(eventId, memberId));
+    });
+  }
 }
\ No newline at end of file
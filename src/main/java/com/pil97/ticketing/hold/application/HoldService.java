@@ -1,15 +1,21 @@
 package com.pil97.ticketing.hold.application;
 
+import com.pil97.ticketing.common.event.DomainEventPublisher;
 import com.pil97.ticketing.common.exception.BusinessException;
 import com.pil97.ticketing.common.lock.DistributedLockService;
 import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
 import com.pil97.ticketing.member.domain.Member;
 import com.pil97.ticketing.member.domain.repository.MemberRepository;
 import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.queue.error.QueueErrorCode;
 import com.pil97.ticketing.seat.domain.Seat;
 import com.pil97.ticketing.seat.error.SeatErrorCode;
 import com.pil97.ticketing.showtime.domain.Showtime;
 import com.pil97.ticketing.showtime.error.ShowtimeErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
 import com.pil97.ticketing.showtimeseat.error.ShowtimeSeatErrorCode;
@@ -44,6 +50,8 @@ public class HoldService {
   private final MemberRepository memberRepository;
   private final DistributedLockService distributedLockService;
   private final QueueService queueService;
+  private final SeatInventoryService seatInventoryService;
+  private final DomainEventPublisher domainEventPublisher;
 
   /**
    * 좌석 선점(HOLD) 진입점
@@ -53,22 +61,27 @@ public class HoldService {
    * - waitTime(3초): 락 획득을 최대 3초 대기
    * - leaseTime(5초): 락 획득 후 최대 5초 유지
    * → 5초 안에 처리가 완료되지 않으면 락 자동 해제
+   * - 회차 잔여 좌석 카운터가 0이면 분산락 / DB 조회 없이 매진 예외 발생
    *
-   * @param showtimeId 공연 회차 ID
-   * @param request    선점 요청 정보(seatId, memberId)
+   * @param showtimeId     공연 회차 ID
+   * @param request        선점 요청 정보(seatId, memberId)
+   * @param admissionToken 대기열 입장 토큰 (X-Admission-Token 헤더)
    * @return HOLD 생성 결과 응답
    */
   @Transactional
-  public HoldResponse hold(Long showtimeId, HoldCreateRequest request) {
+  public HoldResponse hold(Long showtimeId, HoldCreateRequest request, String admissionToken) {
 
-    // 입장 토큰 검증 - 대기열을 통해 입장 허용된 유저만 HOLD 가능
-    queueService.validateAdmissionToken(request.getMemberId());
+    // 입장 토큰 검증 - 대기열을 통해 입장 허용된 유저만 HOLD 가능 (서명 검증, Redis 조회 없음)
+    AdmissionTokenClaims admission = queueService.validateAdmissionToken(admissionToken, request.getMemberId());
+
+    // 매진 단락 - 남은 좌석이 없으면 락 획득 + DB 조회 없이 O(1)로 실패
+    seatInventoryService.validateShowtimeAvailable(showtimeId);
 
     return distributedLockService.executeWithLock(
       "hold:seat:" + showtimeId + ":" + request.getSeatId(),
       3L,
       5L,
-      () -> processHold(showtimeId, request)
+      () -> processHold(showtimeId, request, admission.eventId())
     );
   }
 
@@ -77,22 +90,29 @@ public class HoldService {
    * 좌석 선점(HOLD) 실제 처리
    * - 분산락 획득 후 호출되는 내부 메서드
    * - showtime, seat, showtimeSeat, member 존재 여부를 검증
+   * - 회차가 입장 토큰의 이벤트에 속하는지 검증
    * - AVAILABLE 상태의 좌석만 HOLD 가능
    * - 성공 시 HOLD를 생성하고 좌석 상태를 HELD로 변경
    * - HOLD 만료 시간은 현재 시각 기준 5분 뒤로 저장
    * - 비관적 락 없이 분산락 범위 안에서만 실행되므로 동시성 안전
    *
-   * @param showtimeId 공연 회차 ID
-   * @param request    선점 요청 정보(seatId, memberId)
+   * @param showtimeId      공연 회차 ID
+   * @param request         선점 요청 정보(seatId, memberId)
+   * @param admittedEventId 입장 토큰이 발급된 이벤트 ID
    * @return HOLD 생성 결과 응답
    */
   @Transactional
-  public HoldResponse processHold(Long showtimeId, HoldCreateRequest request) {
+  public HoldResponse processHold(Long showtimeId, HoldCreateRequest request, Long admittedEventId) {
 
     // 1) 회차 존재 여부 확인
     Showtime showtime = showtimeRepository.findById(showtimeId)
       .orElseThrow(() -> new BusinessException(ShowtimeErrorCode.NOT_FOUND));
 
+    // 1-1) 입장 토큰 이벤트 범위 확인 - 다른 이벤트 대기열로 받은 토큰 사용 차단
+    if (!showtime.getEvent().getId().equals(admittedEventId)) {
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_EVENT_MISMATCH);
+    }
+
     // 2) 좌석 존재 여부 확인
     Seat seat = seatRepository.findById(request.getSeatId())
       .orElseThrow(() -> new BusinessException(SeatErrorCode.NOT_FOUND));
@@ -118,8 +138,10 @@ public class HoldService {
     Hold hold = Hold.create(showtimeSeat, member, expiresAt);
     Hold savedHold = holdRepository.save(hold);
 
-    // 8) 좌석 상태를 HELD로 변경
+    // 8) 좌석 상태를 HELD로 변경 - 커밋 후 잔여 좌석 카운터 반영 + 도메인 이벤트 전달
     showtimeSeat.markHeld();
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.AVAILABLE, ShowtimeSeatStatus.HELD);
+    domainEventPublisher.publish(new HoldStatusChangedEvent(savedHold.getId(), null, HoldStatus.ACTIVE));
 
     // 9) 응답 반환
     return new HoldResponse(
@@ -0,0 +1,18 @@
+package com.pil97.ticketing.hold.domain.event;
+
+import com.pil97.ticketing.hold.domain.HoldStatus;
+
+/**
+ * HOLD 상태 전환 이벤트 (생성 / expire / confirm / refund)
+ * 좌석·회원 등 연관 정보가 필요한 리스너는 holdId로 조회한다.
+ *
+ * @param holdId HOLD ID
+ * @param from   변경 전 상태 (생성 시 null)
+ * @param to     변경 후 상태
+ */
+public record HoldStatusChangedEvent(
+  Long holdId,
+  HoldStatus from,
+  HoldStatus to
+) {
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface HoldRepository extends JpaRepository<Hold, Long> {
 
@@ -21,13 +22,39 @@ public interface HoldRepository extends JpaRepository<Hold, Long> {
    * - showtimeSeat를 한 번에 같이 로드해서 N+1 방지
    * - HoldExpirationService에서 루프 돌면서 showtimeSeat에 접근하므로
    * 미리 join해서 가져오지 않으면 Hold 수만큼 추가 쿼리 발생
+   * - 잔여 좌석 카운터 반영에 회차 / 이벤트 ID가 필요하므로 showtime, event까지 함께 로드
+   * - PENDING 예약이 있는 HOLD는 제외 - 결제 대기 중인 좌석은 예약 결제 기한(ReservationExpirationService)으로 반환한다
    */
-  @Query("select h from Hold h join fetch h.showtimeSeat where h.status = :status and h.expiresAt < :now")
+  @Query("""
+    select h from Hold h
+    join fetch h.showtimeSeat ss
+    join fetch ss.showtime st
+    join fetch st.event
+    where h.status = :status and h.expiresAt < :now
+    and not exists (
+      select 1 from Reservation r
+      where r.hold = h and r.status = com.pil97.ticketing.reservation.domain.ReservationStatus.PENDING
+    )
+    """)
   List<Hold> findAllByStatusAndExpiresAtBeforeWithSeat(
     @Param("status") HoldStatus status,
     @Param("now") LocalDateTime now
   );
 
+  /**
+   * 이벤트에 ACTIVE HOLD가 남아 있는 회원 ID 조회
+   * - HOLD 만료 후 활성 사용자 윈도우 자리 반환 대상을 거르는 용도 - 남은 HOLD가 있는 회원은 아직 좌석을 고르는 중이다
+   * - PENDING 예약의 HOLD도 ACTIVE이므로 결제 대기 중인 회원도 함께 걸러진다
+   * - 같은 트랜잭션에서 만료시킨 HOLD는 쿼리 전 자동 flush로 EXPIRED가 반영되어 제외된다
+   */
+  @Query("""
+    select distinct h.member.id from Hold h
+    where h.status = com.pil97.ticketing.hold.domain.HoldStatus.ACTIVE
+    and h.showtimeSeat.showtime.event.id = :eventId
+    and h.member.id in :memberIds
+    """)
+  List<Long> findMemberIdsWithActiveHold(@Param("eventId") Long eventId, @Param("memberIds") Set<Long> memberIds);
+
   /**
    * 비관적 락을 이용한 HOLD 단건 조회
    * - 예약 생성 시 동일 HOLD에 대한 동시 요청을 DB 레벨에서 직렬화
@@ -37,4 +64,20 @@ public interface HoldRepository extends JpaRepository<Hold, Long> {
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select h from Hold h where h.id = :id")
   Optional<Hold> findByIdWithLock(@Param("id") Long id);
+
+  /**
+   * fetch join을 이용한 HOLD 단건 조회 (락 없음)
+   * - 결제 / 결제 완료 반영 시 예약을 락으로 조회한 뒤, 상태 전환에 필요한
+   * HOLD → 좌석 → 회차 → 이벤트를 1회 조회로 영속성 컨텍스트에 적재 (지연 로딩 3회 → 1회)
+   * - 회차 / 이벤트 row는 여러 요청이 공유하므로 예약 락 조회에 join하지 않는다
+   * (MariaDB의 FOR UPDATE는 join한 모든 row를 잠근다)
+   */
+  @Query("""
+    select h from Hold h
+    join fetch h.showtimeSeat ss
+    join fetch ss.showtime st
+    join fetch st.event
+    where h.id = :id
+    """)
+  Optional<Hold> findByIdWithSeat(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.pil97.ticketing.infra.auth;
+
+import com.pil97.ticketing.auth.application.TokenService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenService의 JVM 내부 구현체 (standalone 프로파일)
+ * - Redis key + TTL 대신 만료 시각을 함께 저장하고 조회 시 만료 여부를 판단한다
+ * - 만료 항목은 조회 시 제거하고, 조회되지 않는 항목은 주기적으로 정리한다
+ * - 단일 노드 전용: 재시작 시 RefreshToken과 블랙리스트가 사라진다 (재로그인 필요, 블랙리스트 토큰은 최대 AccessToken 만료까지 유효해질 수 있음)
+ */
+@Service
+@Profile("standalone")
+public class InMemoryTokenService implements TokenService {
+
+  private static final long REFRESH_TOKEN_TTL_MS = TimeUnit.DAYS.toMillis(7);
+
+  // memberId → RefreshToken
+  private final Map<Long, ExpiringValue> refreshTokens = new ConcurrentHashMap<>();
+  // accessToken → 블랙리스트 만료 시각
+  private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+
+  @Override
+  public void saveRefreshToken(Long memberId, String refreshToken) {
+    refreshTokens.put(memberId, new ExpiringValue(refreshToken, System.currentTimeMillis() + REFRESH_TOKEN_TTL_MS));
+  }
+
+  @Override
+  public Optional<String> getRefreshToken(Long memberId) {
+    ExpiringValue value = refreshTokens.get(memberId);
+    if (value == null) {
+      return Optional.empty();
+    }
+    if (value.expiresAtMillis() <= System.currentTimeMillis()) {
+      refreshTokens.remove(memberId, value);
+      return Optional.empty();
+    }
+    return Optional.of(value.value());
+  }
+
+  @Override
+  public void deleteRefreshToken(Long memberId) {
+    refreshTokens.remove(memberId);
+  }
+
+  @Override
+  public void addToBlacklist(String accessToken, long remainingMs) {
+    if (remainingMs <= 0) {
+      return;
+    }
+    blacklist.put(accessToken, System.currentTimeMillis() + remainingMs);
+  }
+
+  @Override
+  public boolean isBlacklisted(String accessToken) {
+    Long expiresAt = blacklist.get(accessToken);
+    if (expiresAt == null) {
+      return false;
+    }
+    if (expiresAt <= System.currentTimeMillis()) {
+      blacklist.remove(accessToken, expiresAt);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 만료 항목 정리 - Redis TTL 만료를 대신한다
+   */
+  @Scheduled(fixedDelay = 60000)
+  void evictExpired() {
+    long now = System.currentTimeMillis();
+    refreshTokens.values().removeIf(value -> value.expiresAtMillis() <= now);
+    blacklist.values().removeIf(expiresAt -> expiresAt <= now);
+  }
+
+  private record ExpiringValue(String value, long expiresAtMillis) {
+  }
+}
@@ -0,0 +1,179 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.response.ApiResponse;
+import com.pil97.ticketing.common.response.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 멱등성 fingerprint 계산 필터
+ * <p>
+ * Idempotency-Key 헤더가 있는 요청의 원본 본문을 한 번만 읽어 SHA-256 fingerprint를 계산하고
+ * request attribute(FINGERPRINT_ATTRIBUTE)로 전달한다.
+ * - 서비스에서 요청 DTO를 ObjectMapper로 재직렬화해 hash하던 비용을 제거한다
+ * - 읽은 본문은 wrapper로 다시 제공하므로 @RequestBody 바인딩은 그대로 동작한다
+ * - 본문 바이트 기준이므로 같은 의미라도 직렬화 형태(공백, 필드 순서)가 다르면 다른 요청으로 판정한다
+ * - 멱등성 API(IDEMPOTENT_PATHS의 POST)만 대상이고, 본문은 max-body-bytes까지만 버퍼에 담는다
+ *   (초과 시 IDEMPOTENCY-004 413 응답, 필터 체인 중단)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFingerprintFilter extends OncePerRequestFilter {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  public static final String FINGERPRINT_ATTRIBUTE = IdempotencyFingerprintFilter.class.getName() + ".FINGERPRINT";
+
+  // Idempotency-Key를 사용하는 API - 새 멱등성 API 추가 시 함께 추가할 것
+  private static final List<String> IDEMPOTENT_PATHS = List.of(
+    "/payments",
+    "/checkout",
+    "/holds/*/reserve"
+  );
+
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * fingerprint 계산을 위해 버퍼에 담는 본문 최대 크기 (기본 16KB)
+   * - 멱등성 API 요청 본문은 수백 바이트 수준이므로 넉넉한 상한
+   * application.yml: idempotency.fingerprint.max-body-bytes
+   */
+  @Value("${idempotency.fingerprint.max-body-bytes:16384}")
+  private int maxBodyBytes = 16384;
+
+  /**
+   * 멱등성 API가 아니거나 Idempotency-Key 헤더가 없는 요청은 본문을 읽지 않고 통과
+   * - 헤더 누락 검증(IDEMPOTENCY-003)은 서비스에서 처리한다
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.POST.matches(request.getMethod())
+      || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))
+      || !isIdempotentPath(request);
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    // Content-Length로 먼저 거르고, 길이를 모르는 본문(chunked)은 상한 + 1바이트까지만 읽어 판단
+    if (request.getContentLengthLong() > maxBodyBytes) {
+      writePayloadTooLarge(request, response);
+      return;
+    }
+    byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+    if (body.length > maxBodyBytes) {
+      writePayloadTooLarge(request, response);
+      return;
+    }
+
+    request.setAttribute(FINGERPRINT_ATTRIBUTE,
+      IdempotencyFingerprintUtil.hash(request.getMethod(), request.getRequestURI(), body));
+
+    filterChain.doFilter(new CachedBodyRequest(request, body), response);
+  }
+
+  private boolean isIdempotentPath(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return IDEMPOTENT_PATHS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+  }
+
+  /**
+   * 필터 레벨에서 표준 에러 응답 직접 작성
+   * - GlobalExceptionHandler를 거치지 않으므로 직접 응답을 직렬화
+   */
+  private void writePayloadTooLarge(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    IdempotencyErrorCode errorCode = IdempotencyErrorCode.IDEMPOTENCY_PAYLOAD_TOO_LARGE;
+    ErrorResponse errorResponse = ErrorResponse.of(
+      errorCode.getCode(),
+      errorCode.getMessage(),
+      request.getRequestURI()
+    );
+    response.setStatus(errorCode.getStatus().value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    response.getWriter().write(
+      objectMapper.writeValueAsString(ApiResponse.error(errorResponse))
+    );
+  }
+
+  /**
+   * 이미 읽은 본문을 다시 제공하는 request wrapper
+   */
+  private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          // 본문은 이미 메모리에 있으므로 비동기 읽기(Servlet async I/O)를 쓸 이유가 없다
+          throw new IllegalStateException("Non-blocking read is not supported for a cached idempotent request body");
+        }
+
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return input.read(b, off, len);
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+  }
+}
@@ -3,33 +3,45 @@ package com.pil97.ticketing.infra.idempotency;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
 
 /**
- * 요청 본문의 SHA-256 fingerprint 생성 유틸리티
- * - 멱등성 검증 시 동일 key + 다른 본문 요청을 구분하기 위해 사용
- * - 입력값은 요청 본문을 JSON 직렬화한 문자열
+ * 요청의 SHA-256 fingerprint 생성 유틸리티
+ * - 멱등성 검증 시 동일 key + 다른 요청을 구분하기 위해 사용
+ * - 입력값은 HTTP 메서드 + 요청 URI + 원본 요청 본문 바이트 (DTO 재직렬화 없음)
+ * - 결과는 32바이트 binary digest - hex 인코딩 없이 그대로 저장 / 비교한다
  */
 public class IdempotencyFingerprintUtil {
 
+  // 스레드별 MessageDigest 재사용 - 요청마다 provider 조회 / 인스턴스 생성 비용 제거
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256은 JVM 표준 보장 알고리즘 - 발생하지 않음
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+    }
+  });
+
   private IdempotencyFingerprintUtil() {
     // 유틸리티 클래스 - 인스턴스 생성 금지
   }
 
   /**
-   * 입력 문자열의 SHA-256 hash를 hex 문자열로 반환
+   * 요청의 SHA-256 digest 반환
+   * - 본문이 없는 요청(예: POST /holds/{holdId}/reserve)도 URI로 구분된다
    *
-   * @param input 요청 본문 JSON 문자열
-   * @return SHA-256 hex 문자열
+   * @param method     HTTP 메서드
+   * @param requestUri 요청 URI (path variable 포함)
+   * @param body       원본 요청 본문 바이트
+   * @return SHA-256 digest (32바이트)
    */
-  public static String hash(String input) {
-    try {
-      MessageDigest digest = MessageDigest.getInstance("SHA-256");
-      byte[] bytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-      return HexFormat.of().formatHex(bytes);
-    } catch (NoSuchAlgorithmException e) {
-      // SHA-256은 JVM 표준 보장 알고리즘 - 발생하지 않음
-      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
-    }
+  public static byte[] hash(String method, String requestUri, byte[] body) {
+    MessageDigest digest = SHA_256.get();
+    digest.reset();
+    digest.update(method.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) ' ');
+    digest.update(requestUri.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) '\n');
+    return digest.digest(body);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.pil97.ticketing.infra.idempotency;
+
+/**
+ * 멱등성 조회 + lock 선점 결과
+ * - IdempotencyStore.checkAndLock() 1회 호출로 결과 조회, fingerprint 검증, lock 선점까지 판정한다
+ *
+ * @param status       판정 결과
+ * @param responseBody REPLAY일 때 저장된 응답 JSON 바이트, 그 외에는 null
+ */
+public record IdempotencyLookup(
+  Status status,
+  byte[] responseBody
+) {
+
+  public enum Status {
+    // 동일 fingerprint의 저장된 결과 있음 - 기존 응답 재사용
+    REPLAY,
+    // 동일 key로 다른 본문의 결과가 저장되어 있음
+    MISMATCH,
+    // 결과 없음, 다른 요청이 lock 보유 중
+    IN_PROGRESS,
+    // 결과 없음, lock 선점 성공 - 신규 처리 진행
+    LOCK_ACQUIRED
+  }
+
+  public static IdempotencyLookup replay(byte[] responseBody) {
+    return new IdempotencyLookup(Status.REPLAY, responseBody);
+  }
+
+  public static IdempotencyLookup of(Status status) {
+    return new IdempotencyLookup(status, null);
+  }
+}
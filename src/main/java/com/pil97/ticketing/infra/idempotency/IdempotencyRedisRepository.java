@@ -4,19 +4,36 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pil97.ticketing.common.error.IdempotencyErrorCode;
 import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.infra.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 멱등성 보장을 위한 범용 Redis 저장소
- * - fingerprint 비교로 동일 key + 다른 본문 요청 차단
- * - SETNX 기반 in-progress lock으로 동시 신규 요청 차단
- * - 결과는 IdempotencyEntry(fingerprint + responseBody) 형태로 저장
+ * - 결과 조회, fingerprint 비교(동일 key + 다른 본문 차단), in-progress lock 선점을 저장소 1회 호출로 판정
+ * - 결과 저장과 lock 해제도 저장소 1회 호출로 처리
+ * - 결과는 fingerprint(binary) + 응답 JSON 바이트를 단일 레벨로 저장 - 저장 / 재사용 시 직렬화·역직렬화 각 1회
+ * - 실제 key 저장은 IdempotencyStore에 위임 (기본 Redis, idempotency.store로 MariaDB / 계층형 선택, standalone 프로파일은 JVM 내부 Map)
+ * - 완료 대기 모드(idempotency.wait-for-completion.enabled)에서는 처리 중인 key로 재요청 시
+ *   즉시 409를 반환하지 않고 lock 해제 알림을 기다려 저장된 결과를 반환한다 (클라이언트 재시도 증폭 방지)
+ * - 저장 / 재사용한 응답은 IdempotencyReplayCache에 담아, 짧은 시간 안의 반복 재요청은 저장소 호출 없이 응답한다
+ * - outbox 모드(outbox.enabled)에서는 결과 저장을 호출 측 트랜잭션의 outbox 이벤트로 기록하고 OutboxRelay가 저장소에 반영한다
+ * - find() / save() / releaseLock()은 업무 트랜잭션 밖에서 호출한다 (DB 저장소 사용 시 요청 1건이 커넥션 2개를 잡지 않게)
+ *   업무 트랜잭션 안에서 호출하는 것은 saveThroughOutbox()뿐이다
  */
 @Slf4j
 @Repository
@@ -24,107 +41,248 @@ import java.util.Optional;
 public class IdempotencyRedisRepository {
 
   private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+  // 해제 알림(pub/sub)이 유실되어도 대기 중 이 주기로 재확인한다
+  private static final long WAIT_RECHECK_INTERVAL_MS = 500L;
 
-  private final StringRedisTemplate stringRedisTemplate;
+  /**
+   * 완료 대기 모드 사용 여부
+   * application.yml: idempotency.wait-for-completion.enabled
+   */
+  @Value("${idempotency.wait-for-completion.enabled:false}")
+  private boolean waitForCompletion;
+
+  /**
+   * 완료 대기 최대 시간 (ms) - 초과 시 IDEMPOTENCY_IN_PROGRESS (409)
+   * application.yml: idempotency.wait-for-completion.timeout-ms
+   * 요청 스레드를 점유하므로 lock TTL(10초)보다 충분히 짧게 둔다.
+   * 활성 트랜잭션 안에서 호출되면 DB 커넥션을 잡은 채 기다리지 않도록 대기하지 않고 바로 409를 반환한다.
+   */
+  @Value("${idempotency.wait-for-completion.timeout-ms:3000}")
+  private long waitTimeoutMs = 3000L;
+
+  private final IdempotencyStore idempotencyStore;
   private final ObjectMapper objectMapper;
+  private final IdempotencyReplayCache replayCache;
+  private final OutboxWriter outboxWriter;
 
   /**
-   * 멱등성 처리 전체 흐름
-   * 1. 기존 결과 조회
-   * 2. 결과 있음 → fingerprint 검증 후 캐시 응답 반환
-   * - 일치 → Optional.of(기존 응답) 반환
-   * - 불일치 → IDEMPOTENCY_KEY_PAYLOAD_MISMATCH (409)
-   * 3. 결과 없음 → SETNX lock 선점 시도
-   * - 선점 실패 → IDEMPOTENCY_IN_PROGRESS (409)
-   * - 선점 성공 → Optional.empty() 반환 (신규 처리 진행)
+   * 멱등성 처리 전체 흐름 - 로컬 캐시 확인 후 저장소 1회 호출(Redis는 Lua 스크립트 1회 왕복)로 판정
+   * - 로컬 캐시 적중 → fingerprint 일치 시 캐시된 응답 반환, 불일치 시 IDEMPOTENCY_KEY_PAYLOAD_MISMATCH (409)
+   * - REPLAY → Optional.of(기존 응답) 반환
+   * - MISMATCH → IDEMPOTENCY_KEY_PAYLOAD_MISMATCH (409)
+   * - IN_PROGRESS → IDEMPOTENCY_IN_PROGRESS (409), 완료 대기 모드에서는 lock 해제까지 대기 후 재판정
+   *   (활성 트랜잭션 안에서 호출되면 대기하지 않는다)
+   * - LOCK_ACQUIRED → Optional.empty() 반환 (신규 처리 진행)
+   * - 업무 트랜잭션을 열기 전에 호출한다 - 판정 / lock 선점 / 완료 대기 동안 업무 DB 커넥션을 잡지 않는다
    *
    * @param prefix         도메인별 key prefix (예: "idempotency:payment")
    * @param idempotencyKey 클라이언트가 전달한 idempotency key
-   * @param fingerprint    요청 본문의 SHA-256 hash
+   * @param fingerprint    요청의 SHA-256 digest (IdempotencyFingerprintFilter에서 계산)
    * @param responseType   응답 DTO 타입
    * @return 기존 처리 결과 (없으면 Optional.empty())
    */
   public <T> Optional<T> find(String prefix, String idempotencyKey,
-                              String fingerprint, Class<T> responseType) {
+                              byte[] fingerprint, Class<T> responseType) {
     String lockKey = buildLockKey(prefix, idempotencyKey);
     String resultKey = buildResultKey(prefix, idempotencyKey);
 
-    // 1단계: 기존 결과 먼저 조회
-    String json = stringRedisTemplate.opsForValue().get(resultKey);
-
-    if (json != null) {
-      // 2단계: 결과 있음 - fingerprint 검증 후 캐시 응답 반환
-      try {
-        IdempotencyEntry entry = objectMapper.readValue(json, IdempotencyEntry.class);
-
-        if (!entry.getFingerprint().equals(fingerprint)) {
-          // 동일 key + 다른 본문 - 409 반환
-          throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH);
-        }
+    // 로컬 캐시 적중 시 저장소 왕복·역직렬화 없이 판정 - 결과는 한 번 저장되면 바뀌지 않는다
+    IdempotencyReplayCache.Entry cached = replayCache.get(resultKey);
+    if (cached != null && responseType.isInstance(cached.response())) {
+      if (!MessageDigest.isEqual(cached.fingerprint(), fingerprint)) {
+        throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH);
+      }
+      return Optional.of(responseType.cast(cached.response()));
+    }
 
-        T response = objectMapper.readValue(entry.getResponseBody(), responseType);
-        return Optional.of(response);
+    IdempotencyLookup lookup = idempotencyStore.checkAndLock(resultKey, lockKey, fingerprint, LOCK_TTL);
+    // 트랜잭션 안이면 대기 동안 DB 커넥션을 잡게 되므로 기다리지 않고 409 - 대기는 트랜잭션 밖 호출에서만 한다
+    if (lookup.status() == IdempotencyLookup.Status.IN_PROGRESS && waitForCompletion
+      && !TransactionSynchronizationManager.isActualTransactionActive()) {
+      lookup = awaitCompletion(resultKey, lockKey, fingerprint);
+    }
 
-      } catch (JsonProcessingException e) {
-        // 역직렬화 실패 시 손상된 캐시로 간주하고 신규 처리 진행 (결과 key는 TTL 만료까지 남을 수 있음)
-        log.warn("idempotency entry 역직렬화 실패: prefix={}, key={}", prefix, idempotencyKey);
+    switch (lookup.status()) {
+      case MISMATCH ->
+        // 동일 key + 다른 본문 - 409 반환
+        throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH);
+      case IN_PROGRESS ->
+        // 다른 요청이 처리 중 - 409 반환
+        throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
+      case LOCK_ACQUIRED -> {
+        // lock 선점 성공 - 신규 처리 진행 (처리 후 save() 호출 필요)
+        return Optional.empty();
+      }
+      default -> {
+        // REPLAY - 저장된 응답 반환
       }
     }
 
-    // 3단계: 결과 없음 - SETNX lock 선점 시도
-    Boolean acquired = stringRedisTemplate.opsForValue()
-      .setIfAbsent(lockKey, "processing", LOCK_TTL);
+    try {
+      T response = objectMapper.readValue(lookup.responseBody(), responseType);
+      replayCache.put(resultKey, fingerprint, response);
+      return Optional.of(response);
+    } catch (IOException e) {
+      // 역직렬화 실패 시 손상된 캐시로 간주하고 lock 선점 후 신규 처리 진행 (결과 key는 TTL 만료까지 남을 수 있음)
+      log.warn("idempotency 응답 역직렬화 실패: prefix={}, key={}", prefix, idempotencyKey);
+    }
 
-    if (Boolean.FALSE.equals(acquired)) {
-      // 다른 요청이 처리 중 - 409 반환
+    if (!idempotencyStore.tryLock(lockKey, LOCK_TTL)) {
       throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
     }
-
-    // lock 선점 성공 - 신규 처리 진행 (처리 후 save() 호출 필요)
     return Optional.empty();
   }
 
   /**
    * 처리 성공 결과를 Redis에 저장하고 in-progress lock 해제
    * - 결과 저장 후 lock 삭제
+   * - 저장한 응답을 로컬 캐시에 담는다 (업무 트랜잭션 커밋 후 호출되므로 커밋된 결과만 캐시된다)
    * - 처리 실패 시에는 호출하지 않음 (재시도 허용)
+   * - 업무 트랜잭션이 끝난 뒤(커넥션 반환 후) 트랜잭션 밖에서 호출한다
    *
    * @param prefix         도메인별 key prefix
    * @param idempotencyKey 클라이언트가 전달한 idempotency key
-   * @param fingerprint    요청 본문의 SHA-256 hash
+   * @param fingerprint    요청의 SHA-256 digest
    * @param response       저장할 처리 결과
    * @param ttl            결과 보관 TTL
    */
   public <T> void save(String prefix, String idempotencyKey,
-                       String fingerprint, T response, Duration ttl) {
+                       byte[] fingerprint, T response, Duration ttl) {
     String lockKey = buildLockKey(prefix, idempotencyKey);
     String resultKey = buildResultKey(prefix, idempotencyKey);
 
     try {
-      String responseBody = objectMapper.writeValueAsString(response);
-      IdempotencyEntry entry = new IdempotencyEntry(fingerprint, responseBody);
-      String json = objectMapper.writeValueAsString(entry);
+      byte[] responseBody = objectMapper.writeValueAsBytes(response);
 
-      // 결과 저장 후 lock 해제
-      stringRedisTemplate.opsForValue().set(resultKey, json, ttl);
-      stringRedisTemplate.delete(lockKey);
+      // 결과 저장 + lock 해제 (원자적 1회 호출)
+      idempotencyStore.saveAndUnlock(resultKey, lockKey, fingerprint, responseBody, ttl);
+      replayCache.put(resultKey, fingerprint, response);
 
     } catch (JsonProcessingException e) {
       // 직렬화 실패 시 lock만 해제 - 다음 요청에서 재처리
-      log.warn("idempotency entry 직렬화 실패: prefix={}, key={}", prefix, idempotencyKey);
-      stringRedisTemplate.delete(lockKey);
+      log.warn("idempotency 응답 직렬화 실패: prefix={}, key={}", prefix, idempotencyKey);
+      idempotencyStore.unlock(lockKey);
+    }
+  }
+
+  /**
+   * 처리 성공 결과를 outbox 이벤트로 기록 (outbox.enabled: true) - 호출 측 트랜잭션 안에서 호출
+   * - 결과는 업무 트랜잭션과 함께 커밋되고, OutboxRelay가 저장소에 저장하면서 lock을 해제한다 (요청 스레드에 저장소 쓰기 없음)
+   * - 커밋 후 응답을 로컬 캐시에 담아 같은 인스턴스의 재요청은 relay 반영 전에도 재사용한다
+   * - relay 반영 전 다른 인스턴스의 재요청은 IN_PROGRESS로 판정된다 (완료 대기 모드에서는 반영까지 대기)
+   * - 커밋되지 않으면 호출 측이 트랜잭션 종료 후 releaseLock()으로 lock을 해제한다 - 재시도 허용
+   *   (롤백 콜백에서 해제하면 아직 반환되지 않은 업무 커넥션을 쥔 채 저장소를 호출하게 된다)
+   *
+   * @param prefix         도메인별 key prefix
+   * @param idempotencyKey 클라이언트가 전달한 idempotency key
+   * @param fingerprint    요청의 SHA-256 digest
+   * @param response       저장할 처리 결과
+   * @param ttl            결과 보관 TTL
+   */
+  public <T> void saveThroughOutbox(String prefix, String idempotencyKey,
+                                    byte[] fingerprint, T response, Duration ttl) {
+    String lockKey = buildLockKey(prefix, idempotencyKey);
+    String resultKey = buildResultKey(prefix, idempotencyKey);
+
+    String responseJson;
+    try {
+      responseJson = objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      // 직렬화 실패 시 lock만 해제 - 다음 요청에서 재처리
+      log.warn("idempotency 응답 직렬화 실패: prefix={}, key={}", prefix, idempotencyKey);
+      idempotencyStore.unlock(lockKey);
+      return;
+    }
+
+    outboxWriter.append(OutboxEventType.IDEMPOTENCY_RESULT, resultKey,
+      new IdempotencyResultHandler.Payload(resultKey, lockKey, fingerprint, responseJson, ttl.toMillis()));
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCommit() {
+        replayCache.put(resultKey, fingerprint, response);
+      }
+    });
+  }
+
+  /**
+   * 업무 트랜잭션 안에서 처리 결과 기록 - outbox 모드면 saveThroughOutbox(), 아니면 아무것도 하지 않는다
+   * - 업무 서비스는 outbox 여부와 무관하게 트랜잭션 안에서 이 메서드를, 커밋 후 트랜잭션 밖에서 saveAfterCommit()을 호출한다
+   *
+   * @param prefix         도메인별 key prefix
+   * @param idempotencyKey 클라이언트가 전달한 idempotency key
+   * @param fingerprint    요청의 SHA-256 digest
+   * @param response       저장할 처리 결과
+   * @param ttl            결과 보관 TTL
+   */
+  public <T> void recordInTransaction(String prefix, String idempotencyKey,
+                                      byte[] fingerprint, T response, Duration ttl) {
+    if (outboxWriter.isEnabled()) {
+      saveThroughOutbox(prefix, idempotencyKey, fingerprint, response, ttl);
+    }
+  }
+
+  /**
+   * 업무 트랜잭션 커밋 후 트랜잭션 밖에서 처리 결과 저장 - outbox 모드면 relay가 반영하므로 아무것도 하지 않는다
+   *
+   * @param prefix         도메인별 key prefix
+   * @param idempotencyKey 클라이언트가 전달한 idempotency key
+   * @param fingerprint    요청의 SHA-256 digest
+   * @param response       저장할 처리 결과
+   * @param ttl            결과 보관 TTL
+   */
+  public <T> void saveAfterCommit(String prefix, String idempotencyKey,
+                                  byte[] fingerprint, T response, Duration ttl) {
+    if (!outboxWriter.isEnabled()) {
+      save(prefix, idempotencyKey, fingerprint, response, ttl);
     }
   }
 
   /**
    * 처리 실패 시 in-progress lock 해제
    * - 재시도를 허용하기 위해 결과는 저장하지 않고 lock만 해제
+   * - 업무 트랜잭션이 끝난 뒤(롤백 포함) 트랜잭션 밖에서 호출한다
    *
    * @param prefix         도메인별 key prefix
    * @param idempotencyKey 클라이언트가 전달한 idempotency key
    */
   public void releaseLock(String prefix, String idempotencyKey) {
-    stringRedisTemplate.delete(buildLockKey(prefix, idempotencyKey));
+    idempotencyStore.unlock(buildLockKey(prefix, idempotencyKey));
+  }
+
+  /**
+   * 처리 중인 요청의 완료 대기
+   * - lock 해제 대기 등록 후 재판정해 등록 전에 해제된 경우도 놓치지 않는다
+   * - 해제 알림을 받거나 재확인 주기가 지나면 다시 판정하고, IN_PROGRESS가 아니면 즉시 반환한다
+   * - 선행 요청이 실패해 결과 없이 lock이 해제되면 LOCK_ACQUIRED로 이 요청이 신규 처리를 이어받는다
+   *
+   * @return 최종 판정 결과 (시간 초과 시 IN_PROGRESS)
+   */
+  private IdempotencyLookup awaitCompletion(String resultKey, String lockKey, byte[] fingerprint) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+
+    while (true) {
+      CompletableFuture<Void> released = idempotencyStore.awaitRelease(lockKey);
+      try {
+        IdempotencyLookup lookup = idempotencyStore.checkAndLock(resultKey, lockKey, fingerprint, LOCK_TTL);
+        long remainingNanos = deadline - System.nanoTime();
+        if (lookup.status() != IdempotencyLookup.Status.IN_PROGRESS || remainingNanos <= 0) {
+          return lookup;
+        }
+        released.get(Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(WAIT_RECHECK_INTERVAL_MS)),
+          TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        // 재확인 주기 도래 - 다음 루프에서 다시 판정
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return IdempotencyLookup.of(IdempotencyLookup.Status.IN_PROGRESS);
+      } catch (ExecutionException e) {
+        // 해제 알림 future는 예외로 완료되지 않는다 - 다음 루프에서 다시 판정
+      } finally {
+        released.cancel(false);
+      }
+    }
   }
 
   /**
@@ -0,0 +1,81 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 멱등성 응답 재사용 로컬 캐시 (인스턴스 로컬, LRU + TTL)
+ * - 불안정한 네트워크의 클라이언트가 수 초 안에 같은 key로 반복하는 재요청을 Redis 조회·역직렬화 없이 JVM 안에서 응답한다
+ * - 결과 저장 시점(afterCommit 콜백의 save())과 저장소 결과를 재사용한 시점에 역직렬화된 응답 객체를 담는다
+ * - fingerprint를 함께 보관해 동일 key + 다른 본문 요청은 캐시에서도 MISMATCH로 판정한다
+ * - 응답 DTO는 불변 record이므로 캐시된 인스턴스를 요청 간에 그대로 공유한다
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, TTL이 지난 항목은 조회 시 제거한다
+ */
+@Component
+class IdempotencyReplayCache {
+
+  /**
+   * 최대 보관 항목 수 (0이면 미사용)
+   * application.yml: idempotency.replay-cache.max-entries
+   */
+  @Value("${idempotency.replay-cache.max-entries:10000}")
+  private int maxEntries = 10000;
+
+  /**
+   * 항목 보관 시간 (ms) - 재요청이 몰리는 짧은 구간만 커버하고 이후 재요청은 저장소에서 확인한다
+   * application.yml: idempotency.replay-cache.ttl-ms
+   */
+  @Value("${idempotency.replay-cache.ttl-ms:60000}")
+  private long ttlMs = 60000L;
+
+  // resultKey → 캐시 항목 (접근 순서 LinkedHashMap - 동기화 블록 안에서만 접근)
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+      return size() > maxEntries;
+    }
+  };
+
+  /**
+   * 만료되지 않은 캐시 항목 조회
+   *
+   * @param resultKey 결과 key
+   * @return 캐시 항목 (없거나 만료되었으면 null)
+   */
+  Entry get(String resultKey) {
+    if (maxEntries <= 0) {
+      return null;
+    }
+    synchronized (entries) {
+      Entry entry = entries.get(resultKey);
+      if (entry != null && entry.expiresAtMillis() <= System.currentTimeMillis()) {
+        entries.remove(resultKey);
+        return null;
+      }
+      return entry;
+    }
+  }
+
+  /**
+   * 응답 캐시
+   *
+   * @param resultKey   결과 key
+   * @param fingerprint 결과를 만든 요청의 SHA-256 digest
+   * @param response    역직렬화된 응답 DTO
+   */
+  void put(String resultKey, byte[] fingerprint, Object response) {
+    if (maxEntries <= 0) {
+      return;
+    }
+    Entry entry = new Entry(fingerprint, response, System.currentTimeMillis() + ttlMs);
+    synchronized (entries) {
+      entries.put(resultKey, entry);
+    }
+  }
+
+  record Entry(byte[] fingerprint, Object response, long expiresAtMillis) {
+  }
+}
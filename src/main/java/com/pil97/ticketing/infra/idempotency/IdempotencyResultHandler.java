@@ -0,0 +1,47 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import com.pil97.ticketing.infra.outbox.OutboxEventHandler;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * outbox 멱등성 결과 이벤트 전달 - 결과 저장 + in-progress lock 해제 (재전달되어도 결과 동일)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyResultHandler implements OutboxEventHandler<IdempotencyResultHandler.Payload> {
+
+  private final IdempotencyStore idempotencyStore;
+
+  @Override
+  public OutboxEventType type() {
+    return OutboxEventType.IDEMPOTENCY_RESULT;
+  }
+
+  @Override
+  public Class<Payload> payloadType() {
+    return Payload.class;
+  }
+
+  @Override
+  public void handle(Payload payload) {
+    idempotencyStore.saveAndUnlock(
+      payload.resultKey(),
+      payload.lockKey(),
+      payload.fingerprint(),
+      payload.responseJson().getBytes(StandardCharsets.UTF_8),
+      Duration.ofMillis(payload.ttlMs())
+    );
+  }
+
+  /**
+   * @param fingerprint  요청의 SHA-256 digest (JSON에는 base64로 기록)
+   * @param responseJson 응답 JSON
+   */
+  public record Payload(String resultKey, String lockKey, byte[] fingerprint, String responseJson, long ttlMs) {
+  }
+}
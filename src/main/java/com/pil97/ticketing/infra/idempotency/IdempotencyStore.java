@@ -0,0 +1,71 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 멱등성 결과 / in-progress lock 저장소 추상화 인터페이스
+ * <p>
+ * IdempotencyRedisRepository는 응답 직렬화·역직렬화 등 멱등성 흐름만 담당하고,
+ * 실제 key 저장은 이 인터페이스에 위임한다.
+ * 결과는 fingerprint(32바이트 binary) + 응답 JSON 바이트를 단일 레벨로 저장한다 (중첩 JSON envelope 없음).
+ * - 기본: RedisIdempotencyStore (Lua 스크립트로 조회·선점 / 저장·해제 각 1회 왕복, 다중 인스턴스 공유)
+ * - idempotency.store: db → JdbcIdempotencyStore (MariaDB idempotency_keys 테이블, Redis 없이 영속 보관)
+ * - idempotency.store: tiered → TieredIdempotencyStore (Redis 판정 + MariaDB 배치 보관, Redis 유실 시 DB 결과로 복구)
+ * - standalone 프로파일: InMemoryIdempotencyStore (JVM 내부 Map, Redis 왕복 없음)
+ */
+public interface IdempotencyStore {
+
+  /**
+   * 결과 조회 + fingerprint 검증 + in-progress lock 선점을 원자적으로 1회에 처리
+   * - 결과 있음: fingerprint 일치 시 REPLAY(응답 JSON 포함), 불일치 시 MISMATCH
+   * - 결과 없음: lock 선점 성공 시 LOCK_ACQUIRED, 실패 시 IN_PROGRESS
+   * 조회와 선점 사이에 다른 요청이 결과를 저장하고 lock을 해제해 중복 처리되는 경합이 없다.
+   *
+   * @param resultKey   결과 key
+   * @param lockKey     lock key
+   * @param fingerprint 요청의 SHA-256 digest
+   * @param lockTtl     lock 유지 시간 - 처리 중 장애 시 자동 해제
+   * @return 판정 결과
+   */
+  IdempotencyLookup checkAndLock(String resultKey, String lockKey, byte[] fingerprint, Duration lockTtl);
+
+  /**
+   * in-progress lock 단독 선점 (SETNX)
+   * 저장된 응답을 역직렬화하지 못해 신규 처리로 전환할 때만 사용한다.
+   *
+   * @param lockKey lock key
+   * @param ttl     lock 유지 시간 - 처리 중 장애 시 자동 해제
+   * @return 선점 성공 시 true, 이미 다른 요청이 처리 중이면 false
+   */
+  boolean tryLock(String lockKey, Duration ttl);
+
+  /**
+   * 결과 저장과 in-progress lock 해제를 원자적으로 1회에 처리
+   *
+   * @param resultKey    결과 key
+   * @param lockKey      lock key
+   * @param fingerprint  요청의 SHA-256 digest
+   * @param responseBody 응답 JSON 바이트
+   * @param ttl          결과 보관 TTL
+   */
+  void saveAndUnlock(String resultKey, String lockKey, byte[] fingerprint, byte[] responseBody, Duration ttl);
+
+  /**
+   * in-progress lock 해제
+   *
+   * @param lockKey lock key
+   */
+  void unlock(String lockKey);
+
+  /**
+   * in-progress lock 해제 대기 등록
+   * 결과 저장(saveAndUnlock) 또는 lock 해제(unlock) 시 완료되는 future를 반환한다.
+   * 알림은 유실될 수 있으므로 호출 측은 완료 후 또는 주기적으로 checkAndLock()으로 재확인해야 한다.
+   * 대기를 그만두면 future를 cancel()해 등록을 해제한다.
+   *
+   * @param lockKey lock key
+   * @return lock 해제 시 완료되는 future
+   */
+  CompletableFuture<Void> awaitRelease(String lockKey);
+}
@@ -0,0 +1,43 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * lock 해제를 기다리는 요청 목록 (인스턴스 로컬)
+ * - IdempotencyStore 구현체가 lock 해제 알림을 받으면 signal()로 같은 lockKey의 대기 요청을 모두 깨운다
+ * - 대기 요청이 시간 초과 등으로 future를 취소하면 목록에서 스스로 제거된다
+ */
+final class IdempotencyWaiters {
+
+  // lockKey → 대기 중인 future 목록
+  private final Map<String, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+  CompletableFuture<Void> register(String lockKey) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    waiters.compute(lockKey, (key, futures) -> {
+      Set<CompletableFuture<Void>> registered = futures != null ? futures : new HashSet<>();
+      registered.add(future);
+      return registered;
+    });
+    future.whenComplete((ignored, ex) -> unregister(lockKey, future));
+    return future;
+  }
+
+  void signal(String lockKey) {
+    Set<CompletableFuture<Void>> futures = waiters.remove(lockKey);
+    if (futures != null) {
+      futures.forEach(future -> future.complete(null));
+    }
+  }
+
+  private void unregister(String lockKey, CompletableFuture<Void> future) {
+    waiters.computeIfPresent(lockKey, (key, futures) -> {
+      futures.remove(future);
+      return futures.isEmpty() ? null : futures;
+    });
+  }
+}
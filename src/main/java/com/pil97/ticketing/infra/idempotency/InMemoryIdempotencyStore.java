@@ -0,0 +1,102 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IdempotencyStore의 JVM 내부 구현체 (standalone 프로파일)
+ * - 결과와 lock을 만료 시각과 함께 ConcurrentHashMap에 저장한다
+ * - 조회·검증·선점과 저장·해제는 같은 lockKey의 compute() 안에서 처리해 Redis Lua 스크립트와 같은 원자성을 갖는다
+ * - 만료 항목은 조회 시 무시하고 주기적으로 정리한다
+ */
+@Component
+@Profile("standalone")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  // resultKey → fingerprint + 응답 JSON 바이트
+  private final Map<String, StoredResult> results = new ConcurrentHashMap<>();
+  // lockKey → lock 만료 시각
+  private final Map<String, Long> locks = new ConcurrentHashMap<>();
+
+  // lock 해제 대기 요청 - 저장 / 해제 시 같은 JVM에서 바로 깨운다
+  private final IdempotencyWaiters waiters = new IdempotencyWaiters();
+
+  @Override
+  public IdempotencyLookup checkAndLock(String resultKey, String lockKey, byte[] fingerprint, Duration lockTtl) {
+    long now = System.currentTimeMillis();
+    IdempotencyLookup[] lookup = new IdempotencyLookup[1];
+    // saveAndUnlock()도 같은 lockKey로 compute()하므로 결과 조회와 lock 선점 사이에 결과가 저장되지 않는다
+    locks.compute(lockKey, (key, existing) -> {
+      StoredResult stored = results.get(resultKey);
+      if (stored != null && stored.expiresAtMillis() > now) {
+        lookup[0] = MessageDigest.isEqual(stored.fingerprint(), fingerprint)
+          ? IdempotencyLookup.replay(stored.responseBody())
+          : IdempotencyLookup.of(IdempotencyLookup.Status.MISMATCH);
+        return existing;
+      }
+      if (existing == null || existing <= now) {
+        lookup[0] = IdempotencyLookup.of(IdempotencyLookup.Status.LOCK_ACQUIRED);
+        return now + lockTtl.toMillis();
+      }
+      lookup[0] = IdempotencyLookup.of(IdempotencyLookup.Status.IN_PROGRESS);
+      return existing;
+    });
+    return lookup[0];
+  }
+
+  @Override
+  public boolean tryLock(String lockKey, Duration ttl) {
+    long now = System.currentTimeMillis();
+    long expiresAt = now + ttl.toMillis();
+    boolean[] acquired = {false};
+    // 기존 lock이 없거나 만료된 경우에만 선점 - compute() 내부는 key 단위로 원자적이다
+    locks.compute(lockKey, (key, existing) -> {
+      if (existing == null || existing <= now) {
+        acquired[0] = true;
+        return expiresAt;
+      }
+      return existing;
+    });
+    return acquired[0];
+  }
+
+  @Override
+  public void saveAndUnlock(String resultKey, String lockKey, byte[] fingerprint, byte[] responseBody, Duration ttl) {
+    locks.compute(lockKey, (key, existing) -> {
+      results.put(resultKey, new StoredResult(fingerprint, responseBody, System.currentTimeMillis() + ttl.toMillis()));
+      return null;
+    });
+    waiters.signal(lockKey);
+  }
+
+  @Override
+  public void unlock(String lockKey) {
+    locks.remove(lockKey);
+    waiters.signal(lockKey);
+  }
+
+  @Override
+  public CompletableFuture<Void> awaitRelease(String lockKey) {
+    return waiters.register(lockKey);
+  }
+
+  /**
+   * 만료 항목 정리 - Redis TTL 만료를 대신한다
+   */
+  @Scheduled(fixedDelay = 60000)
+  void evictExpired() {
+    long now = System.currentTimeMillis();
+    results.values().removeIf(value -> value.expiresAtMillis() <= now);
+    locks.values().removeIf(expiresAt -> expiresAt <= now);
+  }
+
+  private record StoredResult(byte[] fingerprint, byte[] responseBody, long expiresAtMillis) {
+  }
+}
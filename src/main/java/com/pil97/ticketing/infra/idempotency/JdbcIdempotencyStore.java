@@ -0,0 +1,334 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IdempotencyStore의 MariaDB 구현체 (idempotency.store: db, tiered 모드의 결과 보관소)
+ * - idempotency_keys 테이블에 lock(IN_PROGRESS, lockKey)과 결과(COMPLETED, resultKey)를 각각 한 행으로 저장한다
+ * - lock 선점은 unique key INSERT로, 만료된 lock 인수는 만료 조건부 UPDATE로 처리한다
+ * - 판정 / lock 선점(checkAndLock, tryLock, findResult)은 업무 트랜잭션 밖에서만 호출한다
+ *   업무 트랜잭션 안에서 호출하면 요청 1건이 커넥션 2개를 잡게 되어(업무 + 저장소) 풀 크기만큼의 동시 요청에서 풀이 고갈된다.
+ *   호출 측 트랜잭션이 있으면 IllegalStateException으로 바로 실패시킨다
+ * - 결과 저장 / lock 해제는 호출 측 트랜잭션이 있으면 그 커넥션으로 함께 커밋하고(OutboxRelay), 없으면 즉시 커밋한다
+ * - tiered 모드의 결과 저장은 enqueueResult()로 버퍼에 모아 주기적으로 배치 INSERT 한다 (요청 경로에 DB 쓰기 없음)
+ *   이 경로는 DB 보관을 보장하지 않는다 - 버퍼가 MAX_PENDING_RESULTS에 도달하면 새 결과는 버리고(IDEMPOTENCY_RESULT_DROPPED),
+ *   비정상 종료 시 아직 배치 저장되지 않은 결과(최대 flush 주기 + 저장 실패 재시도 구간)는 사라진다.
+ *   이 결과들은 Redis에만 남으므로, 그 사이 Redis까지 유실되면 같은 key 재요청은 신규 요청으로 처리된다
+ *   (결제 / 예약 자체는 DB 상태 검증으로 중복 처리되지 않는다). DB 보관이 반드시 필요하면 db 모드를 쓴다
+ * - 만료 행은 purge 스케줄러가 chunk 단위로 삭제해 긴 트랜잭션과 대량 잠금을 피한다
+ * - lock 해제 알림은 인스턴스 로컬로만 전달되며, 다른 인스턴스의 대기 요청은 재확인 주기로 결과를 확인한다
+ */
+@Slf4j
+@Component
+@Profile("!standalone")
+@ConditionalOnExpression("'${idempotency.store:redis}' != 'redis'")
+@RequiredArgsConstructor
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+  // 배치 저장 실패가 이어질 때 버퍼가 무한히 커지지 않도록 두는 상한 - 초과분은 DB에 보관되지 않는다
+  private static final int MAX_PENDING_RESULTS = 100_000;
+
+  private static final String SELECT_RESULT_SQL =
+    "SELECT fingerprint, response_body, expires_at FROM idempotency_keys "
+      + "WHERE idempotency_key = ? AND status = 'COMPLETED' AND expires_at > ?";
+
+  private static final String INSERT_LOCK_SQL =
+    "INSERT INTO idempotency_keys (idempotency_key, status, expires_at) VALUES (?, 'IN_PROGRESS', ?)";
+
+  // 만료된 lock만 인수 - 살아 있는 lock은 0행 갱신
+  private static final String TAKE_OVER_LOCK_SQL =
+    "UPDATE idempotency_keys SET expires_at = ? "
+      + "WHERE idempotency_key = ? AND status = 'IN_PROGRESS' AND expires_at <= ?";
+
+  private static final String DELETE_LOCK_SQL =
+    "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status = 'IN_PROGRESS'";
+
+  private static final String UPSERT_RESULT_SQL =
+    "INSERT INTO idempotency_keys (idempotency_key, status, fingerprint, response_body, expires_at) "
+      + "VALUES (?, 'COMPLETED', ?, ?, ?) "
+      + "ON DUPLICATE KEY UPDATE status = VALUES(status), fingerprint = VALUES(fingerprint), "
+      + "response_body = VALUES(response_body), expires_at = VALUES(expires_at)";
+
+  private static final String PURGE_SQL =
+    "DELETE FROM idempotency_keys WHERE expires_at <= ? LIMIT ?";
+
+  /**
+   * 결과 배치 저장 1회당 최대 행 수
+   * application.yml: idempotency.db.batch-size
+   */
+  @Value("${idempotency.db.batch-size:500}")
+  private int batchSize = 500;
+
+  /**
+   * 만료 행 purge 1회 DELETE당 최대 행 수
+   * application.yml: idempotency.db.purge-chunk-size
+   */
+  @Value("${idempotency.db.purge-chunk-size:1000}")
+  private int purgeChunkSize = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+
+  // resultKey → 배치 저장 대기 중인 결과 (같은 key는 마지막 결과로 덮어쓴다)
+  private final Map<String, StoredResult> pendingResults = new ConcurrentHashMap<>();
+
+  // 이 인스턴스에서 lock 해제를 기다리는 요청
+  private final IdempotencyWaiters waiters = new IdempotencyWaiters();
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  void initTransactionTemplate() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 결과 조회 → lock 선점 → 결과 재조회 순으로 판정
+   * - 단일 SQL로 조회와 선점을 묶을 수 없으므로, 선점 직전에 다른 요청이 결과 저장 후 lock을 해제한 경우를
+   *   선점 후 재조회로 걸러낸다 (이 경우 방금 잡은 lock을 풀고 저장된 결과로 판정)
+   */
+  @Override
+  public IdempotencyLookup checkAndLock(String resultKey, String lockKey, byte[] fingerprint, Duration lockTtl) {
+    assertNoCallerTransaction();
+    Optional<StoredResult> stored = findResult(resultKey);
+    if (stored.isPresent()) {
+      return stored.get().judge(fingerprint);
+    }
+
+    if (!tryLock(lockKey, lockTtl)) {
+      return IdempotencyLookup.of(IdempotencyLookup.Status.IN_PROGRESS);
+    }
+
+    stored = findResult(resultKey);
+    if (stored.isPresent()) {
+      unlock(lockKey);
+      return stored.get().judge(fingerprint);
+    }
+    return IdempotencyLookup.of(IdempotencyLookup.Status.LOCK_ACQUIRED);
+  }
+
+  @Override
+  public boolean tryLock(String lockKey, Duration ttl) {
+    assertNoCallerTransaction();
+    long now = System.currentTimeMillis();
+    Timestamp expiresAt = new Timestamp(now + ttl.toMillis());
+
+    return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+      try {
+        jdbcTemplate.update(INSERT_LOCK_SQL, lockKey, expiresAt);
+        return true;
+      } catch (DuplicateKeyException e) {
+        // 이미 lock 행이 있음 - 만료된 lock이면 인수, 아니면 처리 중
+        return jdbcTemplate.update(TAKE_OVER_LOCK_SQL, expiresAt, lockKey, new Timestamp(now)) == 1;
+      }
+    }));
+  }
+
+  /**
+   * 결과 저장 + lock 삭제를 한 트랜잭션으로 커밋한 뒤 대기 요청을 깨운다
+   * - 호출 측 트랜잭션(OutboxRelay)이 있으면 그 트랜잭션에 참여해 함께 커밋된다
+   */
+  @Override
+  public void saveAndUnlock(String resultKey, String lockKey, byte[] fingerprint, byte[] responseBody, Duration ttl) {
+    Timestamp expiresAt = new Timestamp(System.currentTimeMillis() + ttl.toMillis());
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update(UPSERT_RESULT_SQL, resultKey, fingerprint, responseBody, expiresAt);
+      jdbcTemplate.update(DELETE_LOCK_SQL, lockKey);
+    });
+    signalAfterCommit(lockKey);
+  }
+
+  @Override
+  public void unlock(String lockKey) {
+    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_LOCK_SQL, lockKey));
+    signalAfterCommit(lockKey);
+  }
+
+  @Override
+  public CompletableFuture<Void> awaitRelease(String lockKey) {
+    return waiters.register(lockKey);
+  }
+
+  /**
+   * 만료되지 않은 결과 조회 - 배치 저장 대기 중인 결과를 먼저 확인한다
+   *
+   * @param resultKey 결과 key
+   * @return 저장된 결과 (없거나 만료되었으면 Optional.empty())
+   */
+  Optional<StoredResult> findResult(String resultKey) {
+    assertNoCallerTransaction();
+    long now = System.currentTimeMillis();
+    StoredResult pending = pendingResults.get(resultKey);
+    if (pending != null && pending.expiresAtMillis() > now) {
+      return Optional.of(pending);
+    }
+
+    List<StoredResult> rows = transactionTemplate.execute(status -> jdbcTemplate.query(
+      SELECT_RESULT_SQL,
+      (rs, rowNum) -> new StoredResult(
+        rs.getBytes("fingerprint"),
+        rs.getBytes("response_body"),
+        rs.getTimestamp("expires_at").getTime()
+      ),
+      resultKey,
+      new Timestamp(now)
+    ));
+    return rows == null || rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+  }
+
+  /**
+   * 결과 배치 저장 예약 (tiered 모드)
+   * 요청 경로에서는 버퍼에만 담고, flushPendingResults()가 주기적으로 배치 INSERT 한다.
+   * 버퍼가 가득 차면 버리고, 저장 전 비정상 종료 시 사라진다 - DB 보관은 best-effort다 (클래스 설명 참고).
+   *
+   * @param resultKey    결과 key
+   * @param fingerprint  요청의 SHA-256 digest
+   * @param responseBody 응답 JSON 바이트
+   * @param ttl          결과 보관 TTL
+   */
+  void enqueueResult(String resultKey, byte[] fingerprint, byte[] responseBody, Duration ttl) {
+    if (pendingResults.size() >= MAX_PENDING_RESULTS) {
+      log.warn("action=IDEMPOTENCY_RESULT_DROPPED key={} pending={}", resultKey, pendingResults.size());
+      return;
+    }
+    pendingResults.put(resultKey,
+      new StoredResult(fingerprint, responseBody, System.currentTimeMillis() + ttl.toMillis()));
+  }
+
+  /**
+   * 배치 저장 대기 결과를 batch-size 단위로 INSERT ... ON DUPLICATE KEY UPDATE
+   * - 저장 실패 시 버퍼에 되돌려 다음 주기에 재시도한다 (그 사이 같은 key로 들어온 결과가 있으면 그것을 유지)
+   * - 실행 주기: application.yml idempotency.db.flush-interval-ms
+   */
+  @Scheduled(fixedDelayString = "${idempotency.db.flush-interval-ms:200}")
+  void flushPendingResults() {
+    while (!pendingResults.isEmpty()) {
+      Map<String, StoredResult> batch = drainBatch();
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      List<Object[]> args = new ArrayList<>(batch.size());
+      batch.forEach((resultKey, result) -> args.add(new Object[]{
+        resultKey, result.fingerprint(), result.responseBody(), new Timestamp(result.expiresAtMillis())
+      }));
+
+      try {
+        jdbcTemplate.batchUpdate(UPSERT_RESULT_SQL, args);
+      } catch (DataAccessException e) {
+        batch.forEach(pendingResults::putIfAbsent);
+        log.error("action=IDEMPOTENCY_RESULT_FLUSH_FAILED size={} message={}", batch.size(), e.getMessage(), e);
+        return;
+      }
+      log.debug("action=IDEMPOTENCY_RESULT_FLUSHED size={}", batch.size());
+    }
+  }
+
+  /**
+   * 종료 시 남은 결과 저장 - 정상 종료 시 버퍼 유실 방지
+   */
+  @PreDestroy
+  void flushOnShutdown() {
+    flushPendingResults();
+  }
+
+  /**
+   * 만료 행 purge
+   * - DELETE ... LIMIT chunk를 반복해 한 번에 잡는 행 잠금과 undo 로그를 chunk 크기로 제한한다
+   * - 각 DELETE는 자동 커밋되어 chunk 사이에 다른 트랜잭션이 끼어들 수 있다
+   * - 실행 주기: application.yml idempotency.db.purge-interval-ms
+   */
+  @Scheduled(fixedDelayString = "${idempotency.db.purge-interval-ms:60000}")
+  void purgeExpired() {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update(PURGE_SQL, now, purgeChunkSize);
+      total += deleted;
+    } while (deleted == purgeChunkSize);
+
+    if (total > 0) {
+      log.info("action=IDEMPOTENCY_KEYS_PURGED count={}", total);
+    }
+  }
+
+  /**
+   * 호출 측 트랜잭션 밖인지 확인
+   * - 판정 / lock 선점을 업무 트랜잭션 안에서 하면 커넥션을 2개 잡고, lock도 커밋 전까지 다른 요청에 보이지 않는다
+   */
+  private void assertNoCallerTransaction() {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Idempotency lookup must run outside of the caller's transaction");
+    }
+  }
+
+  /**
+   * lock 해제 알림 - 호출 측 트랜잭션에 참여한 경우 커밋 후에 깨운다 (커밋 전에 깨우면 대기 요청이 lock을 다시 본다)
+   */
+  private void signalAfterCommit(String lockKey) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      waiters.signal(lockKey);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCompletion(int status) {
+        waiters.signal(lockKey);
+      }
+    });
+  }
+
+  // 버퍼에서 최대 batch-size개를 꺼낸다 - 꺼내는 사이 같은 key가 갱신되면 갱신된 값은 버퍼에 남긴다
+  private Map<String, StoredResult> drainBatch() {
+    Map<String, StoredResult> batch = new LinkedHashMap<>();
+    Iterator<Map.Entry<String, StoredResult>> iterator = pendingResults.entrySet().iterator();
+    while (iterator.hasNext() && batch.size() < batchSize) {
+      Map.Entry<String, StoredResult> entry = iterator.next();
+      if (pendingResults.remove(entry.getKey(), entry.getValue())) {
+        batch.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * 저장된 결과 (fingerprint + 응답 JSON 바이트 + 보관 만료 시각)
+   */
+  record StoredResult(byte[] fingerprint, byte[] responseBody, long expiresAtMillis) {
+
+    IdempotencyLookup judge(byte[] requestFingerprint) {
+      return MessageDigest.isEqual(fingerprint, requestFingerprint)
+        ? IdempotencyLookup.replay(responseBody)
+        : IdempotencyLookup.of(IdempotencyLookup.Status.MISMATCH);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * IdempotencyStore의 Redis 구현체
+ * - 결과: {resultKey} = Hash { fp: SHA-256 digest(32바이트), body: 응답 JSON 바이트 } (PEXPIRE ttl)
+ * - lock: {lockKey} = processing (NX PX ttl)
+ * - 조회·검증·선점 / 저장·해제를 각각 Lua 스크립트 1회로 처리해 Redis 왕복과 경합 구간을 없앤다
+ * - 저장·해제 시 idempotency:released 채널로 lockKey를 발행해 다른 인스턴스의 완료 대기 요청을 깨운다
+ * - fingerprint / 응답은 바이트 그대로 주고받도록 스크립트 인자·결과를 byte[] serializer로 처리한다
+ * - idempotency.store: redis(기본)에서 단독으로, tiered에서 TieredIdempotencyStore의 1차 저장소로 사용한다
+ */
+@Component
+@Profile("!standalone")
+@ConditionalOnExpression("'${idempotency.store:redis}' != 'db'")
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore, MessageListener {
+
+  private static final String LOCK_VALUE = "processing";
+  static final String RELEASED_CHANNEL = "idempotency:released";
+  // 스크립트 인자와 bulk string 결과를 byte[] 그대로 주고받는다 (정수 결과는 serializer를 거치지 않음)
+  private static final RedisSerializer<byte[]> BYTES = RedisSerializer.byteArray();
+
+  /**
+   * 결과 조회 + fingerprint 검증 + lock 선점 스크립트
+   * KEYS[1]: 결과 key, KEYS[2]: lock key
+   * ARGV[1]: 요청 fingerprint, ARGV[2]: lock 유지 시간(ms), ARGV[3]: lock 값
+   * 반환: {REPLAY, 응답 JSON} / {MISMATCH} / {IN_PROGRESS} / {LOCK_ACQUIRED}
+   * Hash가 아닌 결과 key(이전 JSON envelope 형식)는 결과가 없는 것으로 보고 lock 선점으로 진행한다.
+   */
+  private static final RedisScript<List> CHECK_AND_LOCK_SCRIPT = new DefaultRedisScript<>(
+    "if redis.call('TYPE', KEYS[1])['ok'] == 'hash' then "
+      + "local stored = redis.call('HMGET', KEYS[1], 'fp', 'body') "
+      + "if stored[1] and stored[2] then "
+      + "if stored[1] ~= ARGV[1] then return {'MISMATCH'} end "
+      + "return {'REPLAY', stored[2]} "
+      + "end "
+      + "end "
+      + "if redis.call('SET', KEYS[2], ARGV[3], 'NX', 'PX', ARGV[2]) then return {'LOCK_ACQUIRED'} end "
+      + "return {'IN_PROGRESS'}",
+    List.class
+  );
+
+  /**
+   * 결과 저장 + lock 해제 + 해제 알림 스크립트
+   * KEYS[1]: 결과 key, KEYS[2]: lock key
+   * ARGV[1]: fingerprint, ARGV[2]: 응답 JSON, ARGV[3]: 결과 보관 시간(ms), ARGV[4]: 해제 알림 채널
+   * 이전 형식의 결과 key가 남아 있어도 덮어쓸 수 있도록 먼저 삭제한다.
+   */
+  private static final RedisScript<Long> SAVE_AND_UNLOCK_SCRIPT = new DefaultRedisScript<>(
+    "redis.call('DEL', KEYS[1]) "
+      + "redis.call('HSET', KEYS[1], 'fp', ARGV[1], 'body', ARGV[2]) "
+      + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+      + "redis.call('DEL', KEYS[2]) "
+      + "return redis.call('PUBLISH', ARGV[4], KEYS[2])",
+    Long.class
+  );
+
+  /**
+   * lock 해제 + 해제 알림 스크립트
+   * KEYS[1]: lock key, ARGV[1]: 해제 알림 채널
+   * 이미 만료된 lock이어도 대기 요청이 재확인할 수 있도록 알림은 항상 발행한다.
+   */
+  private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+    "redis.call('DEL', KEYS[1]) "
+      + "return redis.call('PUBLISH', ARGV[1], KEYS[1])",
+    Long.class
+  );
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  // 이 인스턴스에서 lock 해제를 기다리는 요청
+  private final IdempotencyWaiters waiters = new IdempotencyWaiters();
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(RELEASED_CHANNEL));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public IdempotencyLookup checkAndLock(String resultKey, String lockKey, byte[] fingerprint, Duration lockTtl) {
+    List<byte[]> result = stringRedisTemplate.execute(
+      CHECK_AND_LOCK_SCRIPT,
+      BYTES,
+      (RedisSerializer<List>) (RedisSerializer<?>) BYTES,
+      List.of(resultKey, lockKey),
+      fingerprint,
+      bytes(String.valueOf(lockTtl.toMillis())),
+      bytes(LOCK_VALUE)
+    );
+
+    IdempotencyLookup.Status status =
+      IdempotencyLookup.Status.valueOf(new String(result.get(0), StandardCharsets.UTF_8));
+    if (status == IdempotencyLookup.Status.REPLAY) {
+      return IdempotencyLookup.replay(result.get(1));
+    }
+    return IdempotencyLookup.of(status);
+  }
+
+  @Override
+  public boolean tryLock(String lockKey, Duration ttl) {
+    return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, LOCK_VALUE, ttl));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void saveAndUnlock(String resultKey, String lockKey, byte[] fingerprint, byte[] responseBody, Duration ttl) {
+    stringRedisTemplate.execute(
+      SAVE_AND_UNLOCK_SCRIPT,
+      BYTES,
+      (RedisSerializer<Long>) (RedisSerializer<?>) BYTES,
+      List.of(resultKey, lockKey),
+      fingerprint,
+      responseBody,
+      bytes(String.valueOf(ttl.toMillis())),
+      bytes(RELEASED_CHANNEL)
+    );
+  }
+
+  @Override
+  public void unlock(String lockKey) {
+    stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), RELEASED_CHANNEL);
+  }
+
+  @Override
+  public CompletableFuture<Void> awaitRelease(String lockKey) {
+    return waiters.register(lockKey);
+  }
+
+  /**
+   * lock 해제 알림 수신 - 발행한 인스턴스 자신도 구독하므로 같은 인스턴스의 대기 요청도 이 경로로 깨어난다
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    waiters.signal(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,76 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis 우선 + MariaDB 보관 계층형 IdempotencyStore (idempotency.store: tiered)
+ * - 판정과 lock은 Redis(Lua 1회 왕복)로 처리하고, 재요청(REPLAY)은 Redis만으로 응답한다
+ * - Redis에 결과가 없어 lock을 선점한 경우에만 DB 결과를 1회 조회한다
+ *   DB에 결과가 있으면(Redis flush / failover로 유실) Redis에 다시 채우고 lock을 해제한 뒤 그 결과로 판정한다
+ * - 결과 저장은 Redis에 즉시 저장하고, DB에는 배치 저장 버퍼로 넘겨 요청 경로에 DB 쓰기를 두지 않는다
+ *   DB 보관은 best-effort다 - 버퍼 상한 초과분과 비정상 종료 시 배치 저장 전 결과는 DB에 남지 않는다
+ *   (그 결과는 Redis에만 있으므로 Redis 유실이 겹치면 복구되지 않는다, JdbcIdempotencyStore 참고)
+ * - lock과 해제 알림은 Redis 단독 - lock 유실은 lock TTL(10초) 수준의 짧은 중복 처리 가능 구간만 만든다
+ */
+@Slf4j
+@Primary
+@Component
+@Profile("!standalone")
+@ConditionalOnExpression("'${idempotency.store:redis}' == 'tiered'")
+@RequiredArgsConstructor
+public class TieredIdempotencyStore implements IdempotencyStore {
+
+  private final RedisIdempotencyStore redisStore;
+  private final JdbcIdempotencyStore jdbcStore;
+
+  @Override
+  public IdempotencyLookup checkAndLock(String resultKey, String lockKey, byte[] fingerprint, Duration lockTtl) {
+    IdempotencyLookup lookup = redisStore.checkAndLock(resultKey, lockKey, fingerprint, lockTtl);
+    if (lookup.status() != IdempotencyLookup.Status.LOCK_ACQUIRED) {
+      return lookup;
+    }
+
+    // Redis에 결과 없음 - 신규 요청이거나 Redis에서 유실된 결과
+    Optional<JdbcIdempotencyStore.StoredResult> stored = jdbcStore.findResult(resultKey);
+    if (stored.isEmpty()) {
+      return lookup;
+    }
+
+    // DB 결과를 남은 보관 시간만큼 Redis에 다시 채우고, 방금 선점한 lock은 함께 해제
+    JdbcIdempotencyStore.StoredResult result = stored.get();
+    Duration remaining = Duration.ofMillis(Math.max(1L, result.expiresAtMillis() - System.currentTimeMillis()));
+    redisStore.saveAndUnlock(resultKey, lockKey, result.fingerprint(), result.responseBody(), remaining);
+    log.info("action=IDEMPOTENCY_RESULT_RESTORED key={}", resultKey);
+    return result.judge(fingerprint);
+  }
+
+  @Override
+  public boolean tryLock(String lockKey, Duration ttl) {
+    return redisStore.tryLock(lockKey, ttl);
+  }
+
+  @Override
+  public void saveAndUnlock(String resultKey, String lockKey, byte[] fingerprint, byte[] responseBody, Duration ttl) {
+    redisStore.saveAndUnlock(resultKey, lockKey, fingerprint, responseBody, ttl);
+    jdbcStore.enqueueResult(resultKey, fingerprint, responseBody, ttl);
+  }
+
+  @Override
+  public void unlock(String lockKey) {
+    redisStore.unlock(lockKey);
+  }
+
+  @Override
+  public CompletableFuture<Void> awaitRelease(String lockKey) {
+    return redisStore.awaitRelease(lockKey);
+  }
+}
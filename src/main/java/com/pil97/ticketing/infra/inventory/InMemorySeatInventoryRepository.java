@@ -0,0 +1,87 @@
+package com.pil97.ticketing.infra.inventory;
+
+import com.pil97.ticketing.showtimeseat.domain.SeatInventory;
+import com.pil97.ticketing.showtimeseat.domain.repository.SeatInventoryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SeatInventoryRepository의 JVM 내부 구현체 (standalone 프로파일)
+ * <p>
+ * Redis Hash 대신 이벤트 / 회차별 불변 스냅샷을 ConcurrentHashMap에 보관한다.
+ * 상태 전이 반영과 보정 덮어쓰기(버전 비교 후 이벤트 / 회차 일괄 교체)는 Redis Lua처럼 원자적이어야 하므로
+ * 이 저장소 단위로 동기화한다. (없는 카운터는 만들지 않음)
+ * key TTL은 두지 않는다 - 이벤트 / 회차 수만큼만 커지며 재시작 시 DB 집계로 다시 초기화된다.
+ */
+@Repository
+@Profile("standalone")
+public class InMemorySeatInventoryRepository implements SeatInventoryRepository {
+
+  // claim 수가 이 값을 넘으면 만료된 claim을 정리한다
+  private static final int CLAIM_CLEANUP_THRESHOLD = 10_000;
+
+  private final Map<Long, SeatInventory> eventInventories = new ConcurrentHashMap<>();
+  private final Map<Long, SeatInventory> showtimeInventories = new ConcurrentHashMap<>();
+  // eventId → 상태 전이 반영 횟수 (보정 compare-and-set용)
+  private final Map<Long, Long> eventVersions = new ConcurrentHashMap<>();
+  // transitionId → claim 만료 시각 (outbox 재전달 중복 반영 방지)
+  private final Map<String, Long> claimedTransitions = new ConcurrentHashMap<>();
+
+  @Override
+  public Optional<SeatInventory> findEventInventory(Long eventId) {
+    return Optional.ofNullable(eventInventories.get(eventId));
+  }
+
+  @Override
+  public Optional<SeatInventory> findShowtimeInventory(Long showtimeId) {
+    return Optional.ofNullable(showtimeInventories.get(showtimeId));
+  }
+
+  @Override
+  public long findInventoryVersion(Long eventId) {
+    return eventVersions.getOrDefault(eventId, 0L);
+  }
+
+  @Override
+  public synchronized boolean saveInventory(Long eventId, long expectedVersion, SeatInventory eventInventory,
+                                            Map<Long, SeatInventory> showtimeInventories, long ttlMillis) {
+    if (findInventoryVersion(eventId) != expectedVersion) {
+      return false;
+    }
+    eventInventories.put(eventId, eventInventory);
+    this.showtimeInventories.putAll(showtimeInventories);
+    return true;
+  }
+
+  @Override
+  public synchronized void applyTransition(Long eventId, Long showtimeId, long availableDelta, long heldDelta) {
+    if (eventInventories.computeIfPresent(eventId, (id, inventory) -> apply(inventory, availableDelta, heldDelta)) != null) {
+      eventVersions.merge(eventId, 1L, Long::sum);
+    }
+    showtimeInventories.computeIfPresent(showtimeId, (id, inventory) -> apply(inventory, availableDelta, heldDelta));
+  }
+
+  @Override
+  public synchronized boolean applyTransitionOnce(String transitionId, Long eventId, Long showtimeId,
+                                                  long availableDelta, long heldDelta, long claimTtlMillis) {
+    long now = System.currentTimeMillis();
+    Long claimedUntil = claimedTransitions.get(transitionId);
+    if (claimedUntil != null && claimedUntil > now) {
+      return false;
+    }
+    if (claimedTransitions.size() >= CLAIM_CLEANUP_THRESHOLD) {
+      claimedTransitions.values().removeIf(until -> until <= now);
+    }
+    claimedTransitions.put(transitionId, now + claimTtlMillis);
+    applyTransition(eventId, showtimeId, availableDelta, heldDelta);
+    return true;
+  }
+
+  private SeatInventory apply(SeatInventory inventory, long availableDelta, long heldDelta) {
+    return new SeatInventory(inventory.available() + availableDelta, inventory.held() + heldDelta);
+  }
+}
@@ -0,0 +1,175 @@
+package com.pil97.ticketing.infra.inventory;
+
+import com.pil97.ticketing.showtimeseat.domain.SeatInventory;
+import com.pil97.ticketing.showtimeseat.domain.repository.SeatInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SeatInventoryRepository의 Redis 구현체
+ * <p>
+ * Redis Key 규칙:
+ * - 이벤트 잔여 좌석: inventory:event:{eventId} (Hash - available, held, version)
+ * - 회차 잔여 좌석: inventory:showtime:{showtimeId} (Hash - available, held)
+ * - 반영된 전이 claim: inventory:transition:{transitionId} (String, TTL) - outbox 재전달 중복 반영 방지
+ * <p>
+ * 조회는 HMGET 1회, 상태 전이 반영은 Lua 1회(이벤트 / 회차 key 동시 증감 + 이벤트 버전 증가),
+ * 보정 덮어쓰기는 Lua 1회(버전 비교 후 이벤트 / 회차 key 일괄 기록)로 처리한다.
+ */
+@Repository
+@Profile("!standalone")
+@RequiredArgsConstructor
+public class SeatInventoryRedisRepository implements SeatInventoryRepository {
+
+  private static final String EVENT_KEY_PREFIX = "inventory:event:";
+  private static final String SHOWTIME_KEY_PREFIX = "inventory:showtime:";
+  private static final String FIELD_AVAILABLE = "available";
+  private static final String FIELD_HELD = "held";
+  private static final String FIELD_VERSION = "version";
+  private static final String TRANSITION_KEY_PREFIX = "inventory:transition:";
+
+  // 이벤트 / 회차 key 증감 - 없는 key는 만들지 않고, 이벤트 key가 있으면 version을 1 올린다
+  private static final String APPLY_TRANSITION_LUA =
+    "for i = 1, 2 do "
+      + "if redis.call('EXISTS', KEYS[i]) == 1 then "
+      + "redis.call('HINCRBY', KEYS[i], 'available', ARGV[1]) "
+      + "redis.call('HINCRBY', KEYS[i], 'held', ARGV[2]) "
+      + "if i == 1 then redis.call('HINCRBY', KEYS[1], 'version', 1) end "
+      + "end "
+      + "end ";
+
+  /**
+   * 상태 전이 반영 스크립트
+   * KEYS[1]: inventory:event:{eventId}, KEYS[2]: inventory:showtime:{showtimeId}
+   * ARGV[1]: available 증감, ARGV[2]: held 증감
+   * 아직 집계되지 않은(없는) key는 만들지 않는다. 이벤트 key가 있으면 version을 1 올린다.
+   */
+  private static final RedisScript<Long> APPLY_TRANSITION_SCRIPT = new DefaultRedisScript<>(
+    APPLY_TRANSITION_LUA + "return 1",
+    Long.class
+  );
+
+  /**
+   * 상태 전이 1회 반영 스크립트
+   * KEYS[1], KEYS[2]: APPLY_TRANSITION_SCRIPT와 같음, KEYS[3]: inventory:transition:{transitionId}
+   * ARGV[1], ARGV[2]: APPLY_TRANSITION_SCRIPT와 같음, ARGV[3]: claim TTL(ms)
+   * claim(SET NX PX)에 실패하면 이미 반영된 전이이므로 0 반환
+   */
+  private static final RedisScript<Long> APPLY_TRANSITION_ONCE_SCRIPT = new DefaultRedisScript<>(
+    "if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[3]) then return 0 end "
+      + APPLY_TRANSITION_LUA
+      + "return 1",
+    Long.class
+  );
+
+  /**
+   * 보정 덮어쓰기 스크립트 (compare-and-set)
+   * KEYS[1]: inventory:event:{eventId}, KEYS[2..n]: inventory:showtime:{showtimeId}
+   * ARGV[1]: 기대 버전, ARGV[2]: TTL(ms), ARGV[2i+1], ARGV[2i+2]: KEYS[i]의 available, held
+   * 이벤트 key의 version이 기대 버전과 다르면 아무것도 쓰지 않고 0 반환 (없는 key의 버전은 0)
+   */
+  private static final RedisScript<Long> SAVE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+    "local version = redis.call('HGET', KEYS[1], 'version') or '0' "
+      + "if version ~= ARGV[1] then return 0 end "
+      + "for i = 1, #KEYS do "
+      + "redis.call('HSET', KEYS[i], 'available', ARGV[2 * i + 1], 'held', ARGV[2 * i + 2]) "
+      + "redis.call('PEXPIRE', KEYS[i], ARGV[2]) "
+      + "end "
+      + "return 1",
+    Long.class
+  );
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public Optional<SeatInventory> findEventInventory(Long eventId) {
+    return find(EVENT_KEY_PREFIX + eventId);
+  }
+
+  @Override
+  public Optional<SeatInventory> findShowtimeInventory(Long showtimeId) {
+    return find(SHOWTIME_KEY_PREFIX + showtimeId);
+  }
+
+  // HGET inventory:event:{eventId} version
+  @Override
+  public long findInventoryVersion(Long eventId) {
+    Object version = redisTemplate.opsForHash().get(EVENT_KEY_PREFIX + eventId, FIELD_VERSION);
+    return version != null ? Long.parseLong(version.toString()) : 0L;
+  }
+
+  /**
+   * 이벤트 / 회차 카운터 덮어쓰기 (Lua 1회 왕복)
+   * 버전 비교 + HSET + PEXPIRE - 회차 수만큼 key가 늘어나지만 한 이벤트의 회차 수는 많지 않다.
+   */
+  @Override
+  public boolean saveInventory(Long eventId, long expectedVersion, SeatInventory eventInventory,
+                               Map<Long, SeatInventory> showtimeInventories, long ttlMillis) {
+    List<String> keys = new ArrayList<>(showtimeInventories.size() + 1);
+    List<String> args = new ArrayList<>(2 * showtimeInventories.size() + 4);
+    args.add(String.valueOf(expectedVersion));
+    args.add(String.valueOf(ttlMillis));
+
+    keys.add(EVENT_KEY_PREFIX + eventId);
+    addInventoryArgs(args, eventInventory);
+    showtimeInventories.forEach((showtimeId, inventory) -> {
+      keys.add(SHOWTIME_KEY_PREFIX + showtimeId);
+      addInventoryArgs(args, inventory);
+    });
+
+    Long saved = redisTemplate.execute(SAVE_IF_UNCHANGED_SCRIPT, keys, args.toArray());
+    return saved != null && saved == 1L;
+  }
+
+  @Override
+  public void applyTransition(Long eventId, Long showtimeId, long availableDelta, long heldDelta) {
+    if (availableDelta == 0 && heldDelta == 0) {
+      return;
+    }
+    redisTemplate.execute(
+      APPLY_TRANSITION_SCRIPT,
+      List.of(EVENT_KEY_PREFIX + eventId, SHOWTIME_KEY_PREFIX + showtimeId),
+      String.valueOf(availableDelta),
+      String.valueOf(heldDelta)
+    );
+  }
+
+  @Override
+  public boolean applyTransitionOnce(String transitionId, Long eventId, Long showtimeId,
+                                     long availableDelta, long heldDelta, long claimTtlMillis) {
+    Long applied = redisTemplate.execute(
+      APPLY_TRANSITION_ONCE_SCRIPT,
+      List.of(EVENT_KEY_PREFIX + eventId, SHOWTIME_KEY_PREFIX + showtimeId, TRANSITION_KEY_PREFIX + transitionId),
+      String.valueOf(availableDelta),
+      String.valueOf(heldDelta),
+      String.valueOf(claimTtlMillis)
+    );
+    return applied != null && applied == 1L;
+  }
+
+  // HMGET {key} available held
+  private Optional<SeatInventory> find(String key) {
+    List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of(FIELD_AVAILABLE, FIELD_HELD));
+    if (values == null || values.get(0) == null) {
+      return Optional.empty();
+    }
+    long available = Long.parseLong(values.get(0).toString());
+    long held = values.get(1) != null ? Long.parseLong(values.get(1).toString()) : 0L;
+    return Optional.of(new SeatInventory(available, held));
+  }
+
+  // 보정 스크립트 인자 - KEYS 순서대로 available, held
+  private void addInventoryArgs(List<String> args, SeatInventory inventory) {
+    args.add(String.valueOf(inventory.available()));
+    args.add(String.valueOf(inventory.held()));
+  }
+}
@@ -0,0 +1,32 @@
+package com.pil97.ticketing.infra.outbox;
+
+/**
+ * outbox 이벤트 전달 처리기
+ * - OutboxRelay가 이벤트 종류별로 찾아 payload를 역직렬화해 호출한다
+ * - 전달은 at-least-once다. 전달 후 삭제 커밋 전에 인스턴스가 죽으면 같은 이벤트가 다시 전달될 수 있으므로
+ *   처리는 재실행해도 결과가 같아야 한다. 증감처럼 재실행하면 결과가 달라지는 처리는 handle(outboxId, payload)를
+ *   재정의해 outbox id로 1회만 반영한다
+ * - relay는 DB 트랜잭션 밖에서 호출한다 (처리기의 DB 쓰기는 자체 트랜잭션으로 커밋된다)
+ * - 예외를 던지면 해당 이벤트와 같은 aggregate의 이후 이벤트는 다음 주기에 다시 시도한다
+ *
+ * @param <T> payload 타입
+ */
+public interface OutboxEventHandler<T> {
+
+  OutboxEventType type();
+
+  Class<T> payloadType();
+
+  void handle(T payload);
+
+  /**
+   * outbox id와 함께 전달 - OutboxRelay가 호출한다
+   * 재전달 시 중복 반영을 막아야 하는 처리기는 이 메서드를 재정의해 id를 claim한 뒤 반영한다.
+   *
+   * @param outboxId outbox_events.id - 재전달되어도 같은 값
+   * @param payload  이벤트 payload
+   */
+  default void handle(long outboxId, T payload) {
+    handle(payload);
+  }
+}
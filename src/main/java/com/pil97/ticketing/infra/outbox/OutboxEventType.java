@@ -0,0 +1,13 @@
+package com.pil97.ticketing.infra.outbox;
+
+/**
+ * outbox 이벤트 종류 - 종류별로 OutboxEventHandler 구현체 1개가 전달을 담당한다
+ */
+public enum OutboxEventType {
+  // 좌석 상태 전이에 따른 잔여 좌석 카운터 증감 (SeatInventoryTransitionHandler)
+  SEAT_INVENTORY_TRANSITION,
+  // 활성 사용자 윈도우 자리 반환 (AdmissionReleaseHandler)
+  ADMISSION_RELEASE,
+  // 멱등성 처리 결과 저장 + in-progress lock 해제 (IdempotencyResultHandler)
+  IDEMPOTENCY_RESULT
+}
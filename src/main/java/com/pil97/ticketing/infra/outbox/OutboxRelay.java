@@ -0,0 +1,203 @@
+package com.pil97.ticketing.infra.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * outbox 이벤트 배치 전달 (outbox.enabled: true)
+ * <p>
+ * - 파티션마다 MariaDB named lock(GET_LOCK)을 잡은 인스턴스 1개만 전달한다
+ *   → 같은 파티션 안에서는 id 순서대로 전달되어 같은 aggregate의 이벤트 순서가 보장되고, 파티션은 인스턴스 간에 나눠 처리된다
+ * - 파티션별로 batch-size건을 id 순서로 읽어 OutboxEventHandler에 전달하고, 전달된 행은 짧은 트랜잭션 1회로 삭제한다
+ *   → 처리기의 Redis / DB I/O는 relay 트랜잭션 밖에서 한다 (named lock 커넥션만 유지, 트랜잭션 / row lock 없음)
+ * - 전달에 실패한 이벤트는 attempts를 올리고, 같은 aggregate의 이후 이벤트는 이번 배치에서 건너뛴다 (순서 보장)
+ * - attempts가 max-attempts에 도달한 이벤트는 전달 대상에서 빠지고 테이블에 남는다 (수동 확인용)
+ * - 전달은 at-least-once다. 전달 후 삭제 커밋 전에 인스턴스가 죽으면 다음 주기에 다시 전달된다
+ *   (재실행하면 결과가 달라지는 처리기는 outbox id를 claim해 1회만 반영한다 - OutboxEventHandler)
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${outbox.enabled:false}")
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+  private static final String LOCK_NAME_PREFIX = "outbox_relay_";
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private static final String LOCK_SQL = "SELECT GET_LOCK(?, 0)";
+  private static final String UNLOCK_SQL = "SELECT RELEASE_LOCK(?)";
+
+  private static final String SELECT_BATCH_SQL =
+    "SELECT id, aggregate_key, event_type, payload, attempts FROM outbox_events "
+      + "WHERE partition_no = ? AND attempts < ? ORDER BY id LIMIT ?";
+
+  private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ?";
+
+  private static final String FAIL_SQL =
+    "UPDATE outbox_events SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+  /**
+   * 파티션별 1회 전달 최대 행 수
+   * application.yml: outbox.relay.batch-size
+   */
+  @Value("${outbox.relay.batch-size:200}")
+  private int batchSize = 200;
+
+  /**
+   * 이벤트별 최대 전달 시도 횟수
+   * application.yml: outbox.relay.max-attempts
+   */
+  @Value("${outbox.relay.max-attempts:10}")
+  private int maxAttempts = 10;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final ObjectMapper objectMapper;
+  private final OutboxWriter outboxWriter;
+  private final List<OutboxEventHandler<?>> handlers;
+
+  private TransactionTemplate transactionTemplate;
+  private final Map<String, OutboxEventHandler<?>> handlersByType = new HashMap<>();
+
+  @PostConstruct
+  void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    for (OutboxEventHandler<?> handler : handlers) {
+      handlersByType.put(handler.type().name(), handler);
+    }
+  }
+
+  /**
+   * 전체 파티션 전달 - 파티션마다 배치가 가득 차는 동안 이어서 전달한다
+   * application.yml: outbox.relay.interval-ms
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:100}")
+  public void relay() {
+    for (int partition = 0; partition < outboxWriter.getPartitions(); partition++) {
+      try {
+        int delivered;
+        do {
+          delivered = relayPartition(partition);
+        } while (delivered == batchSize);
+      } catch (DataAccessException e) {
+        log.warn("action=OUTBOX_RELAY_FAILED partition={} message={}", partition, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 파티션 1개 배치 전달 - named lock을 잡지 못하면 다른 인스턴스가 처리 중이므로 건너뛴다
+   * named lock은 세션 단위이므로 커넥션 1개로 잡고 해제하며, 조회 / 전달 / 삭제는 그 커넥션의 트랜잭션 밖에서 한다.
+   *
+   * @return 전달 완료(삭제)한 이벤트 수
+   */
+  int relayPartition(int partition) {
+    String lockName = LOCK_NAME_PREFIX + partition;
+    Integer delivered = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+      if (!namedLock(connection, LOCK_SQL, lockName)) {
+        return 0;
+      }
+      try {
+        return deliver(partition);
+      } finally {
+        namedLock(connection, UNLOCK_SQL, lockName);
+      }
+    });
+    return delivered == null ? 0 : delivered;
+  }
+
+  // GET_LOCK / RELEASE_LOCK 실행 - 결과가 1이면 true
+  private boolean namedLock(Connection connection, String sql, String lockName) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, lockName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getInt(1) == 1;
+      }
+    }
+  }
+
+  private int deliver(int partition) {
+    List<OutboxRow> rows = jdbcTemplate.query(SELECT_BATCH_SQL,
+      (rs, rowNum) -> new OutboxRow(
+        rs.getLong("id"),
+        rs.getString("aggregate_key"),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getInt("attempts")
+      ),
+      partition, maxAttempts, batchSize);
+
+    Set<String> blockedAggregates = new HashSet<>();
+    List<Object[]> delivered = new ArrayList<>();
+    List<Object[]> failed = new ArrayList<>();
+
+    for (OutboxRow row : rows) {
+      if (blockedAggregates.contains(row.aggregateKey())) {
+        continue;
+      }
+      try {
+        dispatch(row);
+        delivered.add(new Object[]{row.id()});
+      } catch (Exception e) {
+        blockedAggregates.add(row.aggregateKey());
+        failed.add(new Object[]{truncate(e.toString()), row.id()});
+        if (row.attempts() + 1 >= maxAttempts) {
+          log.error("action=OUTBOX_EVENT_GAVE_UP id={} type={} aggregateKey={} message={}",
+            row.id(), row.eventType(), row.aggregateKey(), e.getMessage());
+        } else {
+          log.warn("action=OUTBOX_EVENT_RETRY id={} type={} aggregateKey={} attempts={} message={}",
+            row.id(), row.eventType(), row.aggregateKey(), row.attempts() + 1, e.getMessage());
+        }
+      }
+    }
+
+    // 전달 결과만 짧은 트랜잭션 1회로 기록 - 처리기 I/O는 이미 끝났다
+    transactionTemplate.executeWithoutResult(status -> {
+      if (!delivered.isEmpty()) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, delivered);
+      }
+      if (!failed.isEmpty()) {
+        jdbcTemplate.batchUpdate(FAIL_SQL, failed);
+      }
+    });
+    return delivered.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void dispatch(OutboxRow row) throws Exception {
+    OutboxEventHandler<T> handler = (OutboxEventHandler<T>) handlersByType.get(row.eventType());
+    if (handler == null) {
+      throw new IllegalStateException("no outbox handler for type " + row.eventType());
+    }
+    handler.handle(row.id(), objectMapper.readValue(row.payload(), handler.payloadType()));
+  }
+
+  private String truncate(String message) {
+    return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  private record OutboxRow(long id, String aggregateKey, String eventType, String payload, int attempts) {
+  }
+}
@@ -0,0 +1,107 @@
+package com.pil97.ticketing.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox 이벤트 기록 (outbox.enabled: true)
+ * <p>
+ * 커밋 후 부수 효과를 afterCommit 콜백에서 요청 스레드가 직접 실행하는 대신, 업무 트랜잭션 안에서 outbox_events에 기록한다.
+ * - 부수 효과의 Redis I/O가 요청 지연에서 빠지고, 커밋 직후 인스턴스가 죽어도 이벤트가 유실되지 않는다
+ * - 트랜잭션 안에서 append()한 이벤트는 모아 두었다가 커밋 직전(beforeCommit)에 배치 INSERT 1회로 기록한다
+ * - aggregate_key 해시로 파티션을 정해, 같은 aggregate의 이벤트는 OutboxRelay가 기록 순서대로 전달한다
+ * - 비활성 상태에서는 호출 측이 기존 afterCommit 콜백 경로를 그대로 사용한다 (isEnabled()로 분기)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO outbox_events (partition_no, aggregate_key, event_type, payload) VALUES (?, ?, ?, ?)";
+
+  /**
+   * outbox 사용 여부
+   * application.yml: outbox.enabled
+   */
+  @Value("${outbox.enabled:false}")
+  private boolean enabled;
+
+  /**
+   * 파티션 수 - OutboxRelay가 파티션 단위로 인스턴스 간 작업을 나눈다
+   * application.yml: outbox.relay.partitions
+   * 전달 대기 중인 이벤트가 남아 있을 때 바꾸면 같은 aggregate의 순서가 일시적으로 보장되지 않는다.
+   */
+  @Value("${outbox.relay.partitions:8}")
+  private int partitions = 8;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  int getPartitions() {
+    return partitions;
+  }
+
+  /**
+   * 현재 트랜잭션에 outbox 이벤트 추가 - 커밋 직전에 함께 기록되고, 롤백되면 버려진다
+   *
+   * @param type         이벤트 종류
+   * @param aggregateKey 전달 순서를 보장할 단위 (예: "showtime:1", "idempotency:payment:uuid-1234")
+   * @param payload      이벤트 데이터 (JSON 직렬화)
+   */
+  public void append(OutboxEventType type, String aggregateKey, Object payload) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Transaction synchronization is not active");
+    }
+
+    String payloadJson;
+    try {
+      payloadJson = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("outbox payload serialization failed: " + type, e);
+    }
+
+    currentBatch().events.add(new Object[]{
+      Math.floorMod(aggregateKey.hashCode(), partitions), aggregateKey, type.name(), payloadJson
+    });
+  }
+
+  /**
+   * 현재 트랜잭션의 이벤트 묶음 - 트랜잭션마다 synchronization 1개를 등록해 사용한다
+   * (REQUIRES_NEW 등으로 synchronization이 일시 중단되면 새 트랜잭션은 별도 묶음을 갖는다)
+   */
+  private PendingBatch currentBatch() {
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      if (synchronization instanceof PendingBatch batch) {
+        return batch;
+      }
+    }
+    PendingBatch batch = new PendingBatch();
+    TransactionSynchronizationManager.registerSynchronization(batch);
+    return batch;
+  }
+
+  private final class PendingBatch implements TransactionSynchronization {
+
+    private final List<Object[]> events = new ArrayList<>();
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      if (!events.isEmpty()) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events);
+      }
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.pil97.ticketing.infra.payment;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 circuit breaker
+ * <p>
+ * - CLOSED: 최근 windowSize 건의 결과를 원형 버퍼로 기록하고, minCalls 건 이상 쌓인 상태에서
+ *   실패율이 failureRateThreshold 이상이면 OPEN으로 전환
+ * - OPEN: openMs 동안 호출을 거절 (게이트웨이 장애 중에 timeout까지 기다리는 호출이 쌓이지 않게 빠르게 실패)
+ * - HALF_OPEN: openMs 경과 후 시험 호출 1건만 허용 - 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN
+ * - 상태 전환은 드물고 호출당 작업이 작으므로 전체를 synchronized로 보호한다
+ */
+class CircuitBreaker {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int windowSize;
+  private final int minCalls;
+  private final double failureRateThreshold;
+  private final long openMs;
+  private final LongSupplier clock;
+
+  // 최근 호출 결과 원형 버퍼 (true = 실패)
+  private final boolean[] window;
+  private int windowIndex;
+  private int recordedCalls;
+  private int failedCalls;
+
+  private State state = State.CLOSED;
+  private long openedAtMillis;
+  private boolean halfOpenTrialInFlight;
+
+  CircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, long openMs) {
+    this(windowSize, minCalls, failureRateThreshold, openMs, System::currentTimeMillis);
+  }
+
+  CircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, long openMs, LongSupplier clock) {
+    this.windowSize = Math.max(1, windowSize);
+    this.minCalls = Math.max(1, Math.min(minCalls, this.windowSize));
+    this.failureRateThreshold = failureRateThreshold;
+    this.openMs = openMs;
+    this.clock = clock;
+    this.window = new boolean[this.windowSize];
+  }
+
+  /**
+   * 호출 허용 여부 - 허용된 호출은 반드시 onSuccess / onFailure / onIgnored 중 하나로 결과를 알려야 한다
+   */
+  synchronized boolean tryAcquire() {
+    if (state == State.OPEN) {
+      if (clock.getAsLong() - openedAtMillis < openMs) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      halfOpenTrialInFlight = false;
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenTrialInFlight) {
+        return false;
+      }
+      halfOpenTrialInFlight = true;
+    }
+    return true;
+  }
+
+  synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      reset();
+      return;
+    }
+    record(false);
+  }
+
+  synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    record(true);
+    if (recordedCalls >= minCalls && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+      open();
+    }
+  }
+
+  /**
+   * 실패로 세지 않는 결과 (호출 전 거절 등) - HALF_OPEN 시험 호출 자리만 반납한다
+   */
+  synchronized void onIgnored() {
+    if (state == State.HALF_OPEN) {
+      halfOpenTrialInFlight = false;
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private void record(boolean failed) {
+    if (recordedCalls == windowSize) {
+      if (window[windowIndex]) {
+        failedCalls--;
+      }
+    } else {
+      recordedCalls++;
+    }
+    window[windowIndex] = failed;
+    if (failed) {
+      failedCalls++;
+    }
+    windowIndex = (windowIndex + 1) % windowSize;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAtMillis = clock.getAsLong();
+    halfOpenTrialInFlight = false;
+  }
+
+  private void reset() {
+    state = State.CLOSED;
+    halfOpenTrialInFlight = false;
+    windowIndex = 0;
+    recordedCalls = 0;
+    failedCalls = 0;
+  }
+}
@@ -0,0 +1,221 @@
+package com.pil97.ticketing.infra.payment;
+
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayRequest;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제 게이트웨이 호출 정책 (circuit breaker → bulkhead → timeout)
+ * <p>
+ * 게이트웨이가 느려지거나 멈췄을 때 그 지연이 결제 요청 스레드와 예약 row 락 보유 시간으로 번지지 않게 막는다.
+ * - circuit breaker: 최근 호출의 실패(TIMEOUT / ERROR) 비율이 임계치를 넘으면 일정 시간 호출 없이 CIRCUIT_OPEN으로 즉시 실패
+ * - bulkhead: 게이트웨이 동시 호출 수 상한 - 초과 호출은 max-wait-ms까지만 기다리고 BULKHEAD_FULL로 실패
+ * - timeout: 전용 스레드 풀에서 호출하고 timeout-ms 안에 응답이 없으면 호출을 취소(interrupt)하고 TIMEOUT으로 실패
+ * - bulkhead 자리는 게이트웨이 호출이 실제로 끝났을 때 반납한다
+ *   (취소에 응답하지 않는 호출이 쌓여도 게이트웨이 호출 스레드는 상한을 넘지 않는다)
+ * - 거절(DECLINED)은 게이트웨이의 정상 응답이므로 circuit breaker에서 성공으로 센다
+ * - 승인 결과 조회(inquire) / 승인 취소(cancel)는 결제 요청 경로 밖의 확정 작업이므로 bulkhead / timeout만 적용하고 circuit breaker에는 세지 않는다
+ * - 별도 라이브러리(resilience4j 등) 없이 JDK 동시성 도구로 구현했다
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class ResilientPaymentGateway implements PaymentGateway {
+
+  /**
+   * 게이트웨이 응답 대기 상한 (ms)
+   * application.yml: payment.gateway.timeout-ms
+   */
+  @Value("${payment.gateway.timeout-ms:3000}")
+  private long timeoutMs = 3000L;
+
+  /**
+   * 게이트웨이 동시 호출 상한
+   * application.yml: payment.gateway.bulkhead.max-concurrent
+   */
+  @Value("${payment.gateway.bulkhead.max-concurrent:20}")
+  private int maxConcurrent = 20;
+
+  /**
+   * bulkhead 자리 대기 시간 (ms, 0이면 대기 없이 바로 실패)
+   * application.yml: payment.gateway.bulkhead.max-wait-ms
+   */
+  @Value("${payment.gateway.bulkhead.max-wait-ms:0}")
+  private long maxWaitMs = 0L;
+
+  /**
+   * 실패율 계산에 쓰는 최근 호출 수
+   * application.yml: payment.gateway.circuit-breaker.window-size
+   */
+  @Value("${payment.gateway.circuit-breaker.window-size:50}")
+  private int windowSize = 50;
+
+  /**
+   * 실패율을 판단하기 위한 최소 호출 수
+   * application.yml: payment.gateway.circuit-breaker.min-calls
+   */
+  @Value("${payment.gateway.circuit-breaker.min-calls:20}")
+  private int minCalls = 20;
+
+  /**
+   * circuit을 여는 실패율 (0.0 ~ 1.0)
+   * application.yml: payment.gateway.circuit-breaker.failure-rate-threshold
+   */
+  @Value("${payment.gateway.circuit-breaker.failure-rate-threshold:0.5}")
+  private double failureRateThreshold = 0.5;
+
+  /**
+   * circuit open 유지 시간 (ms) - 경과 후 시험 호출 1건으로 복구 여부 판단
+   * application.yml: payment.gateway.circuit-breaker.open-ms
+   */
+  @Value("${payment.gateway.circuit-breaker.open-ms:10000}")
+  private long openMs = 10000L;
+
+  private final SimulatedPaymentGateway delegate;
+
+  private Semaphore bulkhead;
+  private CircuitBreaker circuitBreaker;
+  private ThreadPoolExecutor gatewayExecutor;
+
+  @PostConstruct
+  void init() {
+    bulkhead = new Semaphore(maxConcurrent);
+    circuitBreaker = new CircuitBreaker(windowSize, minCalls, failureRateThreshold, openMs);
+    // 동시 실행 수는 bulkhead가 제한하므로 큐는 자리 반납과 스레드 반환 사이의 짧은 틈만 흡수한다
+    gatewayExecutor = new ThreadPoolExecutor(
+      maxConcurrent,
+      maxConcurrent,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(),
+      new CustomizableThreadFactory("payment-gateway-")
+    );
+  }
+
+  @PreDestroy
+  void shutdown() {
+    gatewayExecutor.shutdownNow();
+  }
+
+  @Override
+  public PaymentGatewayResult authorize(PaymentGatewayRequest request) {
+    if (!circuitBreaker.tryAcquire()) {
+      log.warn("action=PAYMENT_GATEWAY_REJECTED reason=CIRCUIT_OPEN paymentId={}", request.paymentId());
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.CIRCUIT_OPEN, "payment gateway circuit open");
+    }
+
+    if (!acquireBulkhead()) {
+      circuitBreaker.onIgnored();
+      log.warn("action=PAYMENT_GATEWAY_REJECTED reason=BULKHEAD_FULL paymentId={}", request.paymentId());
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.BULKHEAD_FULL, "payment gateway bulkhead full");
+    }
+
+    try {
+      PaymentGatewayResult result = callWithTimeout(() -> delegate.authorize(request));
+      circuitBreaker.onSuccess();
+      return result;
+    } catch (PaymentGatewayException e) {
+      circuitBreaker.onFailure();
+      log.warn("action=PAYMENT_GATEWAY_FAILED reason={} paymentId={} circuit={}",
+        e.getReason(), request.paymentId(), circuitBreaker.getState());
+      throw e;
+    }
+  }
+
+  @Override
+  public Optional<PaymentGatewayResult> inquire(Long paymentId) {
+    if (!acquireBulkhead()) {
+      log.warn("action=PAYMENT_GATEWAY_INQUIRE_REJECTED reason=BULKHEAD_FULL paymentId={}", paymentId);
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.BULKHEAD_FULL, "payment gateway bulkhead full");
+    }
+    return callWithTimeout(() -> delegate.inquire(paymentId));
+  }
+
+  @Override
+  public void cancel(Long paymentId) {
+    if (!acquireBulkhead()) {
+      log.warn("action=PAYMENT_GATEWAY_CANCEL_REJECTED reason=BULKHEAD_FULL paymentId={}", paymentId);
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.BULKHEAD_FULL, "payment gateway bulkhead full");
+    }
+    callWithTimeout(() -> {
+      delegate.cancel(paymentId);
+      return null;
+    });
+  }
+
+  /**
+   * 현재 circuit 상태 (부하 시나리오·운영 확인용)
+   */
+  public String getCircuitState() {
+    return circuitBreaker.getState().name();
+  }
+
+  private boolean acquireBulkhead() {
+    if (maxWaitMs <= 0) {
+      return bulkhead.tryAcquire();
+    }
+    try {
+      return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * 전용 스레드 풀에서 게이트웨이 호출 - timeout-ms 초과 시 취소하고 TIMEOUT
+   * - bulkhead 자리는 호출 작업이 끝날 때(작업 스레드의 finally) 반납한다
+   */
+  private <T> T callWithTimeout(Callable<T> call) {
+    Future<T> future;
+    try {
+      future = gatewayExecutor.submit(() -> {
+        try {
+          return call.call();
+        } finally {
+          bulkhead.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      bulkhead.release();
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.ERROR, "payment gateway call rejected", e);
+    }
+
+    try {
+      return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.TIMEOUT,
+        "payment gateway timeout " + timeoutMs + "ms", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.ERROR, "payment gateway call interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof PaymentGatewayException gatewayException) {
+        throw gatewayException;
+      }
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.ERROR, "payment gateway error", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.pil97.ticketing.infra.payment;
+
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayRequest;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 프로세스 내 결제 게이트웨이 시뮬레이터
+ * <p>
+ * 실 PG 없이 게이트웨이 지연·장애가 결제 p99와 예약 락 보유 시간에 미치는 영향을 재현하기 위한 구현이다.
+ * - 지연: 중앙값과 p99로 정한 로그정규 분포에서 뽑아 호출 스레드를 sleep (긴 꼬리를 가진 실제 PG 응답 분포를 흉내)
+ * - hang-rate 비율의 호출은 hang-ms 동안 응답하지 않는다 (timeout 정책 확인용)
+ * - error-rate 비율의 호출은 지연 후 ERROR로 실패한다
+ * - decline-rate 비율의 호출(및 forceFailure 요청)은 DECLINED를 반환한다
+ * - 승인 / 거절을 판정한 결과는 최근 RESULT_HISTORY_SIZE건까지 기억해 inquire()로 조회할 수 있다
+ *   (호출 측이 timeout으로 응답을 받지 못했어도 지연 뒤 판정까지 갔으면 결과가 남는다 - 실 PG의 "청구됐지만 응답 유실"과 같다)
+ * - cancel()은 기억하는 승인 결과를 CANCELLED로 바꾼다 (inquire()와 같은 지연 분포)
+ * - 설정 값은 테스트·부하 시나리오에서 실행 중에 바꿀 수 있도록 volatile로 둔다
+ */
+@Component
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+  // 표준정규분포 99 백분위 z 값
+  private static final double Z_P99 = 2.326;
+  // 승인 결과 조회용으로 기억하는 최근 판정 수
+  private static final int RESULT_HISTORY_SIZE = 100_000;
+
+  // paymentId → 판정 결과 (오래된 순으로 밀어낸다)
+  private final Map<Long, PaymentGatewayResult> results = Collections.synchronizedMap(
+    new LinkedHashMap<>(16, 0.75f, false) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, PaymentGatewayResult> eldest) {
+        return size() > RESULT_HISTORY_SIZE;
+      }
+    });
+
+  /**
+   * 응답 지연 중앙값 (ms, 0이면 지연 없음)
+   * application.yml: payment.gateway.simulator.latency-median-ms
+   */
+  @Value("${payment.gateway.simulator.latency-median-ms:0}")
+  private volatile long latencyMedianMs = 0L;
+
+  /**
+   * 응답 지연 p99 (ms) - 중앙값보다 작으면 중앙값으로 고정 지연
+   * application.yml: payment.gateway.simulator.latency-p99-ms
+   */
+  @Value("${payment.gateway.simulator.latency-p99-ms:0}")
+  private volatile long latencyP99Ms = 0L;
+
+  /**
+   * 오류 응답 비율 (0.0 ~ 1.0)
+   * application.yml: payment.gateway.simulator.error-rate
+   */
+  @Value("${payment.gateway.simulator.error-rate:0.0}")
+  private volatile double errorRate = 0.0;
+
+  /**
+   * 거절 응답 비율 (0.0 ~ 1.0)
+   * application.yml: payment.gateway.simulator.decline-rate
+   */
+  @Value("${payment.gateway.simulator.decline-rate:0.0}")
+  private volatile double declineRate = 0.0;
+
+  /**
+   * 무응답(hang) 비율 (0.0 ~ 1.0)
+   * application.yml: payment.gateway.simulator.hang-rate
+   */
+  @Value("${payment.gateway.simulator.hang-rate:0.0}")
+  private volatile double hangRate = 0.0;
+
+  /**
+   * 무응답 시 대기 시간 (ms)
+   * application.yml: payment.gateway.simulator.hang-ms
+   */
+  @Value("${payment.gateway.simulator.hang-ms:30000}")
+  private volatile long hangMs = 30000L;
+
+  @Override
+  public PaymentGatewayResult authorize(PaymentGatewayRequest request) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    if (random.nextDouble() < hangRate) {
+      sleep(hangMs);
+    } else {
+      sleep(sampleLatencyMs(random));
+    }
+
+    if (random.nextDouble() < errorRate) {
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.ERROR,
+        "simulated gateway error paymentId=" + request.paymentId());
+    }
+
+    PaymentGatewayResult result = request.forceFailure() || random.nextDouble() < declineRate
+      ? PaymentGatewayResult.DECLINED
+      : PaymentGatewayResult.APPROVED;
+    results.put(request.paymentId(), result);
+    return result;
+  }
+
+  @Override
+  public Optional<PaymentGatewayResult> inquire(Long paymentId) {
+    sleep(sampleLatencyMs(ThreadLocalRandom.current()));
+    return Optional.ofNullable(results.get(paymentId));
+  }
+
+  @Override
+  public void cancel(Long paymentId) {
+    sleep(sampleLatencyMs(ThreadLocalRandom.current()));
+    results.computeIfPresent(paymentId,
+      (id, result) -> result == PaymentGatewayResult.APPROVED ? PaymentGatewayResult.CANCELLED : result);
+  }
+
+  /**
+   * 로그정규 분포 지연 샘플링
+   * - median = e^mu, p99 = e^(mu + 2.326 * sigma) 를 만족하는 mu, sigma 사용
+   */
+  private long sampleLatencyMs(ThreadLocalRandom random) {
+    long median = latencyMedianMs;
+    if (median <= 0) {
+      return 0L;
+    }
+    long p99 = latencyP99Ms;
+    if (p99 <= median) {
+      return median;
+    }
+    double mu = Math.log(median);
+    double sigma = Math.log((double) p99 / median) / Z_P99;
+    return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+  }
+
+  private void sleep(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      // timeout 정책이 호출을 취소한 경우 - 응답 없이 종료
+      Thread.currentThread().interrupt();
+      throw new PaymentGatewayException(PaymentGatewayException.Reason.TIMEOUT, "simulated gateway call interrupted", e);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.pil97.ticketing.infra.queue;
+
+import com.pil97.ticketing.queue.application.QueueService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 입장 토큰 폐기 알림 구독
+ * <p>
+ * - queue:admission:revoked 채널에서 memberId를 수신해 이 인스턴스의 입장 토큰 로컬 캐시에서 제거한다.
+ * - queue:admission:revoked:event 채널에서 eventId를 수신해 그 이벤트의 캐시를 비우고 폐기 목록 스냅샷을 다시 읽게 한다.
+ * 발행 측(releaseAdmission / cleanUpEndedQueue)이 자기 인스턴스 캐시는 직접 제거하므로, 이 구독은 다른 인스턴스 전파용이다.
+ */
+@Slf4j
+@Component
+@Profile("!standalone")
+@RequiredArgsConstructor
+public class AdmissionRevocationSubscriber implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final QueueService queueService;
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, List.of(
+      new ChannelTopic(QueueRedisRepository.ADMISSION_REVOKED_CHANNEL),
+      new ChannelTopic(QueueRedisRepository.EVENT_ADMISSIONS_REVOKED_CHANNEL)));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      if (QueueRedisRepository.EVENT_ADMISSIONS_REVOKED_CHANNEL.equals(channel)) {
+        queueService.evictEventAdmissions(Long.parseLong(body));
+      } else {
+        queueService.evictAdmissionCache(Long.parseLong(body));
+      }
+    } catch (NumberFormatException e) {
+      log.warn("action=ADMISSION_REVOKED_MESSAGE_INVALID body={}", body);
+    }
+  }
+}
@@ -0,0 +1,494 @@
+package com.pil97.ticketing.infra.queue;
+
+import com.pil97.ticketing.queue.domain.AdmissionTokenEntry;
+import com.pil97.ticketing.queue.domain.QueueThroughputStats;
+import com.pil97.ticketing.queue.domain.repository.QueueRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * QueueRepository의 JVM 내부 구현체 (standalone 프로파일)
+ * <p>
+ * 단일 노드 배포에서 Redis 왕복 없이 대기열을 운영하기 위한 구현체로, Redis 자료구조를 다음과 같이 대체한다.
+ * - 대기열 Sorted Set → 이벤트별 ConcurrentSkipListMap(score → memberId) + memberId → score 역인덱스
+ *   + 순번(score) 위치별 대기자 수 Fenwick tree (ZRANK 대체)
+ * - INCR 카운터 → AtomicLong
+ * - 입장 토큰 Hash + 만료 Sorted Set → 이벤트별 Map(memberId → 토큰 + 만료 시각)
+ * - key TTL(폐기 목록) → 만료 시각을 함께 저장하고 조회 시 판단, 주기적으로 정리
+ * - Set(활성 이벤트) → ConcurrentHashMap.newKeySet()
+ * - 입장 허용 이력 chunk bitmap → 이벤트별 chunk 번호 → BitSet (Redis와 같은 2^16 구간 분할)
+ * <p>
+ * 대기열 변경(등록/제거)과 순번 조회는 이벤트 단위로 직렬화해 인덱스를 일관되게 유지하고, 상위 N명 조회는 락 없이 수행한다.
+ * 순번 조회는 Fenwick tree 누적합이라 Redis ZRANK와 같은 O(log N)이다 (skip list headMap 크기 계산은 O(rank)).
+ * 샤딩 모드(queue.shard.*)는 Redis hot key 분산용이므로 이 구현체에서는 적용하지 않는다.
+ * 단일 노드 전용: 재시작 시 대기열과 입장 토큰이 모두 사라진다.
+ */
+@Repository
+@Profile("standalone")
+public class InMemoryQueueRepository implements QueueRepository {
+
+  private static final int ADMITTED_CHUNK_BITS = 16;
+  private static final long ADMITTED_CHUNK_MASK = (1L << ADMITTED_CHUNK_BITS) - 1;
+
+  private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicLong> seqs = new ConcurrentHashMap<>();
+  // eventId → (memberId → 입장 토큰)
+  private final Map<Long, Map<Long, ExpiringToken>> admissionTokens = new ConcurrentHashMap<>();
+  // eventId → 폐기 기준 만료 시각 (폐기 시각 + 토큰 유효 시간)
+  private final Map<Long, Long> revokedEvents = new ConcurrentHashMap<>();
+  private final Set<String> activeEvents = ConcurrentHashMap.newKeySet();
+  // eventId → (chunk 번호 → chunk 내 offset BitSet)
+  private final Map<Long, ConcurrentSkipListMap<Long, BitSet>> admittedChunks = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicLong> enteredCounts = new ConcurrentHashMap<>();
+  private final Map<Long, QueueThroughputStats> throughputStats = new ConcurrentHashMap<>();
+
+  /**
+   * 대기열 등록 - 이미 등록된 memberId는 무시한다 (ZADD NX와 동일)
+   */
+  @Override
+  public boolean addIfAbsent(Long eventId, Long memberId, double score) {
+    EventQueue queue = queue(eventId);
+    synchronized (queue) {
+      if (queue.scoresByMember.containsKey(memberId)) {
+        return false;
+      }
+      queue.put(memberId, score);
+      return true;
+    }
+  }
+
+  /**
+   * 대기열 강제 등록 - 기존 순번 제거 후 새 score로 재등록
+   */
+  @Override
+  public void addOrReplace(Long eventId, Long memberId, double score) {
+    EventQueue queue = queue(eventId);
+    synchronized (queue) {
+      queue.remove(memberId);
+      queue.put(memberId, score);
+    }
+  }
+
+  /**
+   * 대기열 순번 조회 (0-based) - 내 score보다 작은 항목 수, O(log N)
+   */
+  @Override
+  public Long getRank(Long eventId, Long memberId) {
+    EventQueue queue = queues.get(eventId);
+    if (queue == null) {
+      return null;
+    }
+    synchronized (queue) {
+      Double score = queue.scoresByMember.get(memberId);
+      return score != null ? queue.rank(score) : null;
+    }
+  }
+
+  /**
+   * 순번 추정 스냅샷 갱신 - 단일 프로세스 자료구조로 순번을 정확히 계산하므로 아무것도 하지 않는다
+   */
+  @Override
+  public void refreshRankSnapshot(Long eventId) {
+  }
+
+  /**
+   * 상위 N명 memberId 조회 - score 오름차순
+   */
+  @Override
+  public Set<String> getTopMembers(Long eventId, long count) {
+    EventQueue queue = queues.get(eventId);
+    if (queue == null) {
+      return Collections.emptySet();
+    }
+    return queue.membersByScore.values().stream()
+      .limit(count)
+      .map(String::valueOf)
+      .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  @Override
+  public void remove(Long eventId, Long memberId) {
+    EventQueue queue = queues.get(eventId);
+    if (queue == null) {
+      return;
+    }
+    synchronized (queue) {
+      queue.remove(memberId);
+    }
+  }
+
+  /**
+   * 입장 토큰 저장 - ttlMillis 후 만료, touch로 연장해도 maxTtlMillis 후에는 만료
+   */
+  @Override
+  public void saveAdmissionToken(Long eventId, Long memberId, String token, long ttlMillis, long maxTtlMillis) {
+    long now = System.currentTimeMillis();
+    admissionTokens.computeIfAbsent(eventId, id -> new ConcurrentHashMap<>())
+      .put(memberId, new ExpiringToken(token, now + ttlMillis, now + maxTtlMillis));
+  }
+
+  /**
+   * 입장 토큰 만료 시각 연장 - 이미 만료된 토큰은 되살리지 않고, 발급 시 정한 세션 상한을 넘기지 않는다
+   */
+  @Override
+  public boolean touchAdmissionToken(Long eventId, Long memberId, long ttlMillis) {
+    Map<Long, ExpiringToken> tokens = admissionTokens.get(eventId);
+    if (tokens == null) {
+      return false;
+    }
+    long now = System.currentTimeMillis();
+    ExpiringToken touched = tokens.computeIfPresent(memberId, (id, token) ->
+      token.expiresAtMillis() > now
+        ? new ExpiringToken(token.value(), Math.min(now + ttlMillis, token.deadlineMillis()), token.deadlineMillis())
+        : token);
+    return touched != null && touched.expiresAtMillis() > now;
+  }
+
+  @Override
+  public Optional<String> findAdmissionToken(Long eventId, Long memberId) {
+    return findAdmissionTokenEntry(eventId, memberId).map(AdmissionTokenEntry::token);
+  }
+
+  @Override
+  public Optional<AdmissionTokenEntry> findAdmissionTokenEntry(Long eventId, Long memberId) {
+    ExpiringToken token = admissionToken(eventId, memberId);
+    if (token == null || token.expiresAtMillis() <= System.currentTimeMillis()) {
+      return Optional.empty();
+    }
+    return Optional.of(new AdmissionTokenEntry(token.value(), token.expiresAtMillis()));
+  }
+
+  @Override
+  public void deleteAdmissionToken(Long eventId, Long memberId) {
+    Map<Long, ExpiringToken> tokens = admissionTokens.get(eventId);
+    if (tokens != null) {
+      tokens.remove(memberId);
+    }
+  }
+
+  @Override
+  public void deleteAdmissionTokens(Long eventId) {
+    admissionTokens.remove(eventId);
+  }
+
+  @Override
+  public List<Long> removeExpiredAdmissionTokens(Long eventId, int limit) {
+    Map<Long, ExpiringToken> tokens = admissionTokens.get(eventId);
+    if (tokens == null) {
+      return List.of();
+    }
+
+    long now = System.currentTimeMillis();
+    List<Long> removed = new ArrayList<>();
+    for (Map.Entry<Long, ExpiringToken> entry : tokens.entrySet()) {
+      if (removed.size() >= limit) {
+        break;
+      }
+      // 순회 중 재발급된 토큰은 지우지 않도록 값까지 일치할 때만 제거
+      if (entry.getValue().expiresAtMillis() <= now && tokens.remove(entry.getKey(), entry.getValue())) {
+        removed.add(entry.getKey());
+      }
+    }
+    return removed;
+  }
+
+  @Override
+  public long countAdmissionTokens(Long eventId) {
+    Map<Long, ExpiringToken> tokens = admissionTokens.get(eventId);
+    return tokens != null ? tokens.size() : 0L;
+  }
+
+  /**
+   * 입장 토큰 폐기 알림 - 단일 노드에서는 전파할 다른 인스턴스가 없다
+   * 발행 측(cleanUpEndedQueue)이 자기 로컬 캐시를 직접 제거하므로 아무것도 하지 않는다.
+   */
+  @Override
+  public void publishAdmissionRevoked(Long memberId) {
+    // no-op
+  }
+
+  /**
+   * 이벤트 입장 토큰 일괄 폐기 알림 - 단일 노드에서는 전파할 다른 인스턴스가 없다
+   */
+  @Override
+  public void publishEventAdmissionsRevoked(Long eventId) {
+    // no-op
+  }
+
+  @Override
+  public void revokeEventAdmissions(Long eventId, long revokedUntilMillis) {
+    revokedEvents.put(eventId, revokedUntilMillis);
+  }
+
+  @Override
+  public Map<Long, Long> getEventAdmissionRevocations() {
+    long now = System.currentTimeMillis();
+    return revokedEvents.entrySet().stream()
+      .filter(entry -> entry.getValue() >= now)
+      .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  @Override
+  public void addActiveEvent(Long eventId) {
+    activeEvents.add(String.valueOf(eventId));
+  }
+
+  @Override
+  public void removeActiveEvent(Long eventId) {
+    activeEvents.remove(String.valueOf(eventId));
+  }
+
+  /**
+   * 활성 대기열 이벤트 ID 목록 조회 - 호출 측이 순회하는 동안 변경되지 않도록 복사본 반환
+   */
+  @Override
+  public Set<String> getActiveEventIds() {
+    return new HashSet<>(activeEvents);
+  }
+
+  @Override
+  public void deleteQueue(Long eventId) {
+    queues.remove(eventId);
+  }
+
+  @Override
+  public void saveAdmittedHistory(Long eventId, Long memberId) {
+    BitSet chunk = admittedChunks.computeIfAbsent(eventId, id -> new ConcurrentSkipListMap<>())
+      .computeIfAbsent(memberId >> ADMITTED_CHUNK_BITS, n -> new BitSet());
+    synchronized (chunk) {
+      chunk.set((int) (memberId & ADMITTED_CHUNK_MASK));
+    }
+  }
+
+  @Override
+  public boolean hasAdmittedHistory(Long eventId, Long memberId) {
+    Map<Long, BitSet> chunks = admittedChunks.get(eventId);
+    BitSet chunk = chunks != null ? chunks.get(memberId >> ADMITTED_CHUNK_BITS) : null;
+    if (chunk == null) {
+      return false;
+    }
+    synchronized (chunk) {
+      return chunk.get((int) (memberId & ADMITTED_CHUNK_MASK));
+    }
+  }
+
+  /**
+   * 입장 허용 회원 순회 - chunk 단위로 복사 후 호출해 순회 중 락을 잡고 있지 않는다
+   */
+  @Override
+  public void forEachAdmittedMember(Long eventId, LongConsumer action) {
+    ConcurrentSkipListMap<Long, BitSet> chunks = admittedChunks.get(eventId);
+    if (chunks == null) {
+      return;
+    }
+    for (Map.Entry<Long, BitSet> entry : chunks.entrySet()) {
+      BitSet snapshot;
+      synchronized (entry.getValue()) {
+        snapshot = (BitSet) entry.getValue().clone();
+      }
+      long base = entry.getKey() << ADMITTED_CHUNK_BITS;
+      snapshot.stream().forEach(offset -> action.accept(base + offset));
+    }
+  }
+
+  @Override
+  public void deleteAdmittedHistory(Long eventId) {
+    admittedChunks.remove(eventId);
+  }
+
+  /**
+   * 대기열 순번용 카운터 증가 - AtomicLong으로 동시 요청 시에도 고유한 순번 보장
+   */
+  @Override
+  public long nextScore(Long eventId, Long memberId) {
+    return seqs.computeIfAbsent(eventId, id -> new AtomicLong()).incrementAndGet();
+  }
+
+  @Override
+  public void deleteSeq(Long eventId) {
+    seqs.remove(eventId);
+  }
+
+  @Override
+  public long getQueueSize(Long eventId) {
+    EventQueue queue = queues.get(eventId);
+    return queue != null ? queue.scoresByMember.size() : 0L;
+  }
+
+  @Override
+  public void incrementEnteredCount(Long eventId) {
+    enteredCounts.computeIfAbsent(eventId, id -> new AtomicLong()).incrementAndGet();
+  }
+
+  @Override
+  public long getEnteredCount(Long eventId) {
+    AtomicLong entered = enteredCounts.get(eventId);
+    return entered != null ? entered.get() : 0L;
+  }
+
+  @Override
+  public Optional<QueueThroughputStats> findThroughputStats(Long eventId) {
+    return Optional.ofNullable(throughputStats.get(eventId));
+  }
+
+  @Override
+  public void saveThroughputStats(Long eventId, QueueThroughputStats stats) {
+    throughputStats.put(eventId, stats);
+  }
+
+  @Override
+  public void deleteThroughputStats(Long eventId) {
+    throughputStats.remove(eventId);
+    enteredCounts.remove(eventId);
+  }
+
+  /**
+   * 만료된 입장 토큰 / 폐기 목록 정리 - Redis TTL 만료를 대신한다
+   */
+  @Scheduled(fixedDelay = 60000)
+  void evictExpired() {
+    long now = System.currentTimeMillis();
+    admissionTokens.values().forEach(tokens -> tokens.values().removeIf(token -> token.expiresAtMillis() <= now));
+    revokedEvents.values().removeIf(revokedUntil -> revokedUntil < now);
+  }
+
+  private ExpiringToken admissionToken(Long eventId, Long memberId) {
+    Map<Long, ExpiringToken> tokens = admissionTokens.get(eventId);
+    return tokens != null ? tokens.get(memberId) : null;
+  }
+
+  private EventQueue queue(Long eventId) {
+    return queues.computeIfAbsent(eventId, id -> new EventQueue());
+  }
+
+  /**
+   * 이벤트별 대기열
+   * - membersByScore: score 오름차순 정렬 (상위 N명 조회)
+   * - scoresByMember: memberId → score 역인덱스 (중복 등록 확인, 제거)
+   * score는 nextScore()의 고유 순번이므로 키 충돌이 없다.
+   */
+  private static final class EventQueue {
+
+    private final ConcurrentSkipListMap<Double, Long> membersByScore = new ConcurrentSkipListMap<>();
+    private final Map<Long, Double> scoresByMember = new ConcurrentHashMap<>();
+    // score를 순번 index로 쓸 수 없으면(정수가 아니거나 범위 초과) null - 이후 headMap 크기로 계산
+    private RankIndex rankIndex = new RankIndex();
+
+    private void put(Long memberId, double score) {
+      membersByScore.put(score, memberId);
+      scoresByMember.put(memberId, score);
+      updateRankIndex(score, 1);
+    }
+
+    private void remove(Long memberId) {
+      Double score = scoresByMember.remove(memberId);
+      if (score != null) {
+        membersByScore.remove(score);
+        updateRankIndex(score, -1);
+      }
+    }
+
+    // 내 score보다 작은 항목 수
+    private long rank(double score) {
+      return rankIndex != null
+        ? rankIndex.prefixSum(RankIndex.toIndex(score) - 1)
+        : membersByScore.headMap(score).size();
+    }
+
+    private void updateRankIndex(double score, int delta) {
+      if (rankIndex == null) {
+        return;
+      }
+      int index = RankIndex.toIndex(score);
+      if (index < 0) {
+        rankIndex = null;
+        return;
+      }
+      if (!rankIndex.fits(index)) {
+        rankIndex = RankIndex.rebuild(membersByScore.keySet(), index);
+        return;
+      }
+      rankIndex.add(index, delta);
+    }
+  }
+
+  /**
+   * 순번(score) 위치별 대기자 수 Fenwick tree (Binary Indexed Tree)
+   * - score는 nextScore()가 발급한 1부터 증가하는 정수이므로 그대로 배열 index로 쓴다
+   * - 등록/제거는 add O(log N), 순번은 앞선 위치의 누적합 O(log N)
+   * - 배열은 발급된 최대 순번까지 커진다 (순번당 4바이트) - 넘치면 2배 크기로 다시 만든다
+   */
+  private static final class RankIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_INDEX = Integer.MAX_VALUE - 16;
+
+    // tree[0]은 사용하지 않는다
+    private final int[] tree;
+
+    private RankIndex() {
+      this(INITIAL_CAPACITY);
+    }
+
+    private RankIndex(int capacity) {
+      this.tree = new int[capacity];
+    }
+
+    // 순번 index - 1 이상 정수가 아니면 -1
+    private static int toIndex(double score) {
+      if (score < 1 || score > MAX_INDEX || score != Math.rint(score)) {
+        return -1;
+      }
+      return (int) score;
+    }
+
+    // 현재 대기자 score 전체로 index를 담을 수 있는 크기의 tree 생성 (membersByScore에는 새 score가 이미 들어 있다)
+    private static RankIndex rebuild(Collection<Double> scores, int index) {
+      long capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(index) * 2L);
+      RankIndex rebuilt = new RankIndex((int) Math.min(capacity, (long) MAX_INDEX + 1));
+      for (double score : scores) {
+        rebuilt.add(toIndex(score), 1);
+      }
+      return rebuilt;
+    }
+
+    private boolean fits(int index) {
+      return index < tree.length;
+    }
+
+    private void add(int index, int delta) {
+      for (int i = index; i > 0 && i < tree.length; i += i & -i) {
+        tree[i] += delta;
+      }
+    }
+
+    // [1, index] 구간 대기자 수
+    private long prefixSum(int index) {
+      long sum = 0L;
+      for (int i = Math.min(index, tree.length - 1); i > 0; i -= i & -i) {
+        sum += tree[i];
+      }
+      return sum;
+    }
+  }
+
+  private record ExpiringToken(String value, long expiresAtMillis, long deadlineMillis) {
+  }
+}
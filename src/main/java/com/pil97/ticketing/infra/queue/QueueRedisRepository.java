@@ -1,37 +1,178 @@
 package com.pil97.ticketing.infra.queue;
 
+import com.pil97.ticketing.queue.domain.AdmissionTokenEntry;
+import com.pil97.ticketing.queue.domain.QueueThroughputStats;
 import com.pil97.ticketing.queue.domain.repository.QueueRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
 
 /**
  * QueueRepository의 Redis 구현체
  * <p>
  * Redis Key 규칙:
  * - 대기열: queue:event:{eventId} (Sorted Set, score = queue:seq:{eventId}의 INCR 결과)
- * - 입장 토큰: token:user:{memberId} (String, TTL 30분)
+ * - 입장 토큰: token:event:{eventId} (Hash, field = memberId, value = 입장 토큰 값)
+ * - 입장 토큰 만료 인덱스: token:event:{eventId}:expiry (Sorted Set, score = 토큰 만료 시각, member = memberId)
+ *   → 회원별 key/TTL 대신 이벤트당 key 2개로 유지하고, 만료 토큰은 스케줄러 tick마다 일괄 정리한다.
+ * - 입장 토큰 폐기 목록: token:revoked:events (Sorted Set, member = eventId, score = 폐기 시각 + 토큰 유효 시간)
+ *   → 이벤트 종료 시 토큰별이 아닌 이벤트별 1건만 기록한다 (서명 토큰의 eid / 만료 시각으로 판정)
+ * - 입장 토큰 폐기 알림: queue:admission:revoked (Pub/Sub 채널, message = memberId - 회원 1명의 자리 반환)
+ * - 이벤트 입장 토큰 폐기 알림: queue:admission:revoked:event (Pub/Sub 채널, message = eventId - 이벤트 종료 시 1회)
  * - 활성 대기열 이벤트 목록: queue:active:events (Set)
- * - 입장 허용 이력: queue:admitted:members:{eventId} (Set)
+ * - 입장 허용 이력: memberId 2^16개 구간(chunk, n = memberId >> 16)마다 희소 / 밀집 표현 중 하나로 저장한다
+ *   - 희소: queue:admitted:{eventId}:chunk:{n}:sparse (Set, 값 = memberId & 0xFFFF) - 512개 이하, intset 인코딩으로 회원당 2byte
+ *   - 밀집: queue:admitted:{eventId}:chunk:{n} (Bitmap, offset = memberId & 0xFFFF) - 512개 초과 시 전환, chunk당 최대 8KB
+ * - 입장 허용 이력 chunk 목록: queue:admitted:{eventId}:chunks (Set, 값 = chunk 번호)
  * - 대기열 순번 카운터: queue:seq:{eventId} (String/Counter, INCR)
+ * - 처리량 통계: queue:stats:{eventId} (Hash - entered, admitRate, admitRateVar, dropRate, size, enteredAtTick, updatedAt)
+ * <p>
+ * 샤딩 모드 (queue.shard.event-ids에 등록된 이벤트):
+ * - 대기열을 memberId hash 기준 K개의 서브 큐로 분산해 단일 hot key(단일 Cluster 샤드) 집중을 피한다.
+ * - 서브 큐: queue:event:{eventId}:shard:{n} (Sorted Set)
+ * - 서브 큐 순번 카운터: queue:seq:{eventId}:shard:{n} (샤드별 INCR)
+ * - score = 샤드 로컬 순번 * K + n → 전역 순번. 샤드 간 round-robin으로 인터리빙되어 샤드 간에는 근사 FIFO다.
+ *   (샤드별 카운터가 독립적으로 증가하므로 다른 샤드 회원과의 선후는 진입 시각이 아닌 로컬 순번 기준이다)
+ * - 상위 N명 조회(스케줄러)는 샤드별 명령을 pipeline으로 묶어 1회 왕복으로 처리한다.
+ * - 순번 조회(폴링)는 회원이 속한 서브 큐 1개만 조회하고, 다른 샤드 몫은 스케줄러가 tick마다 갱신하는
+ *   샤드별 head/tail score와 크기 스냅샷으로 추정한다 → 폴링 부하가 K개 샤드 전체로 퍼지지 않는다.
  */
 @Repository
+@Profile("!standalone")
 @RequiredArgsConstructor
 public class QueueRedisRepository implements QueueRepository {
 
   private static final String QUEUE_KEY_PREFIX = "queue:event:";
-  private static final String TOKEN_KEY_PREFIX = "token:user:";
+  private static final String TOKEN_KEY_PREFIX = "token:event:";
+  private static final String TOKEN_EXPIRY_KEY_SUFFIX = ":expiry";
+  private static final String TOKEN_DEADLINE_KEY_SUFFIX = ":deadline";
+  private static final String REVOKED_EVENTS_KEY = "token:revoked:events";
+  static final String ADMISSION_REVOKED_CHANNEL = "queue:admission:revoked";
+  static final String EVENT_ADMISSIONS_REVOKED_CHANNEL = "queue:admission:revoked:event";
   private static final String ACTIVE_EVENTS_KEY = "queue:active:events";
-  private static final String ADMITTED_MEMBERS_KEY_PREFIX = "queue:admitted:members:";
-  private static final Duration ADMISSION_TOKEN_TTL = Duration.ofMinutes(30);
+  private static final String ADMITTED_KEY_PREFIX = "queue:admitted:";
+  private static final String ADMITTED_CHUNK_KEY_INFIX = ":chunk:";
+  private static final String ADMITTED_CHUNKS_KEY_SUFFIX = ":chunks";
+  private static final String ADMITTED_SPARSE_KEY_SUFFIX = ":sparse";
+  // chunk당 memberId 2^16개 → chunk bitmap은 가장 큰 set offset까지 할당되어 최대 8KB
+  private static final int ADMITTED_CHUNK_BITS = 16;
+  private static final long ADMITTED_CHUNK_MASK = (1L << ADMITTED_CHUNK_BITS) - 1;
+  // 희소 chunk(Set) 상한 - Redis 기본 set-max-intset-entries(512) 이하면 intset으로 회원당 2byte(최대 1KB)
+  // 넘으면 hashtable 인코딩이 되어 bitmap(최대 8KB)보다 커지므로 그 전에 bitmap으로 전환한다
+  private static final int ADMITTED_SPARSE_MAX = 512;
+
+  /**
+   * 입장 허용 이력 저장 스크립트 - chunk 표현 선택 / 전환을 원자 실행
+   * KEYS[1]: queue:admitted:{eventId}:chunks, KEYS[2]: chunk bitmap, KEYS[3]: chunk 희소 Set
+   * ARGV[1]: chunk 번호, ARGV[2]: chunk 내 offset, ARGV[3]: 희소 Set 상한
+   * bitmap이 이미 있으면 SETBIT, 없으면 희소 Set에 SADD하고 상한을 넘는 순간 bitmap으로 옮긴 뒤 Set을 지운다.
+   */
+  private static final RedisScript<Long> SAVE_ADMITTED_SCRIPT = new DefaultRedisScript<>(
+    "redis.call('SADD', KEYS[1], ARGV[1]) "
+      + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+      + "redis.call('SETBIT', KEYS[2], ARGV[2], 1) "
+      + "return 1 "
+      + "end "
+      + "redis.call('SADD', KEYS[3], ARGV[2]) "
+      + "if redis.call('SCARD', KEYS[3]) > tonumber(ARGV[3]) then "
+      + "for _, offset in ipairs(redis.call('SMEMBERS', KEYS[3])) do "
+      + "redis.call('SETBIT', KEYS[2], offset, 1) "
+      + "end "
+      + "redis.call('DEL', KEYS[3]) "
+      + "end "
+      + "return 1",
+    Long.class
+  );
+
+  /**
+   * 만료 입장 토큰 일괄 정리 스크립트
+   * KEYS[1]: token:event:{eventId}, KEYS[2]: token:event:{eventId}:expiry, KEYS[3]: token:event:{eventId}:deadline
+   * ARGV[1]: 현재 시각(ms), ARGV[2]: 1회 정리 상한
+   * 조회와 삭제 사이에 재발급된 토큰을 지우지 않도록 원자적으로 실행한다.
+   */
+  private static final RedisScript<List> REMOVE_EXPIRED_TOKENS_SCRIPT = new DefaultRedisScript<>(
+    "local ids = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+      + "if #ids > 0 then "
+      + "redis.call('ZREM', KEYS[2], unpack(ids)) "
+      + "redis.call('ZREM', KEYS[3], unpack(ids)) "
+      + "redis.call('HDEL', KEYS[1], unpack(ids)) "
+      + "end "
+      + "return ids",
+    List.class
+  );
+
+  /**
+   * 입장 토큰 만료 시각 연장 스크립트
+   * KEYS[1]: token:event:{eventId}, KEYS[2]: token:event:{eventId}:expiry, KEYS[3]: token:event:{eventId}:deadline
+   * ARGV[1]: memberId, ARGV[2]: 현재 시각(ms), ARGV[3]: 유효 시간(ms)
+   * 이미 만료되어 sweeper 정리를 기다리는 토큰은 되살리지 않는다.
+   * 연장 시각은 발급 시 기록한 세션 상한(deadline)을 넘지 않는다 - 상한이 없는 토큰(이전 버전 발급분)만 그대로 연장
+   */
+  private static final RedisScript<Long> TOUCH_TOKEN_SCRIPT = new DefaultRedisScript<>(
+    "local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1]) "
+      + "if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[2]) then return 0 end "
+      + "local extended = tonumber(ARGV[2]) + tonumber(ARGV[3]) "
+      + "local deadline = redis.call('ZSCORE', KEYS[3], ARGV[1]) "
+      + "if deadline and tonumber(deadline) < extended then extended = tonumber(deadline) end "
+      + "redis.call('ZADD', KEYS[2], extended, ARGV[1]) "
+      + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+      + "redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+      + "return 1",
+    Long.class
+  );
   private static final String QUEUE_SEQ_KEY_PREFIX = "queue:seq:";
+  private static final String SHARD_KEY_INFIX = ":shard:";
+  private static final String STATS_KEY_PREFIX = "queue:stats:";
+  private static final String STATS_ENTERED = "entered";
+  private static final String STATS_ADMIT_RATE = "admitRate";
+  private static final String STATS_ADMIT_RATE_VAR = "admitRateVar";
+  private static final String STATS_DROP_RATE = "dropRate";
+  private static final String STATS_SIZE = "size";
+  private static final String STATS_ENTERED_AT_TICK = "enteredAtTick";
+  private static final String STATS_UPDATED_AT = "updatedAt";
+
+  /**
+   * 샤딩 모드 이벤트의 서브 큐 개수(K)
+   * application.yml: queue.shard.count
+   */
+  @Value("${queue.shard.count:8}")
+  private int shardCount;
+
+  /**
+   * 샤딩 모드로 운영할 이벤트 ID 목록 (콤마 구분)
+   * application.yml: queue.shard.event-ids
+   * 목록에 없는 이벤트는 기존 단일 Sorted Set 모드로 동작한다.
+   */
+  @Value("${queue.shard.event-ids:}")
+  private Set<Long> shardedEventIds = Collections.emptySet();
 
   private final StringRedisTemplate redisTemplate;
 
+  // eventId → 샤드별 순번 추정 스냅샷 (스케줄러 tick마다 refreshRankSnapshot()으로 갱신, 없으면 첫 getRank()에서 조회)
+  private final Map<Long, ShardSnapshot> shardSnapshots = new ConcurrentHashMap<>();
+
   /**
    * 대기열 등록 - ZADD NX 옵션 적용
    * 이미 등록된 memberId는 score 갱신 없이 무시한다.
@@ -39,7 +180,7 @@ public class QueueRedisRepository implements QueueRepository {
   @Override
   public boolean addIfAbsent(Long eventId, Long memberId, double score) {
     Boolean result = redisTemplate.opsForZSet()
-      .addIfAbsent(queueKey(eventId), String.valueOf(memberId), score);
+      .addIfAbsent(memberQueueKey(eventId, memberId), String.valueOf(memberId), score);
     return Boolean.TRUE.equals(result);
   }
 
@@ -51,58 +192,322 @@ public class QueueRedisRepository implements QueueRepository {
   @Override
   public void addOrReplace(Long eventId, Long memberId, double score) {
     // 기존 순번 제거 후 새 score로 재등록
-    redisTemplate.opsForZSet().remove(queueKey(eventId), String.valueOf(memberId));
-    redisTemplate.opsForZSet().add(queueKey(eventId), String.valueOf(memberId), score);
+    String key = memberQueueKey(eventId, memberId);
+    redisTemplate.opsForZSet().remove(key, String.valueOf(memberId));
+    redisTemplate.opsForZSet().add(key, String.valueOf(memberId), score);
   }
 
   /**
    * 대기열 순번 조회 (0-based)
-   * ZRANK 명령 사용 - score 오름차순 기준 순번 반환
+   * 단일 모드: ZRANK 명령 사용 - score 오름차순 기준 순번 반환
+   * 샤딩 모드: 회원의 서브 큐에서 ZSCORE + ZRANK(pipeline 1회 왕복)로 샤드 내 순번을 구하고,
+   * 다른 샤드에서 앞선 인원은 스냅샷으로 추정해 더한다 (근사값 - 스냅샷 이후 이탈 / 입장 허용은 다음 tick에 반영)
+   * 스냅샷 시점에 대기 중이던 회원의 추정 오차는 다른 샤드에서 중간 이탈한(head가 아닌) 인원 수 이하다 - 이탈이 없으면 정확하다.
+   * 스냅샷 이후 진입 / 이탈 / 입장 허용분은 다음 tick 갱신 전까지 이 한도에 더해진다.
+   * 스냅샷이 없으면(기동 직후 / 스케줄러 첫 tick 전) 이 자리에서 조회해 채운다 - 샤드 간 균등 분포 가정(샤드 순번 × K)은 쓰지 않는다.
    */
   @Override
   public Long getRank(Long eventId, Long memberId) {
-    return redisTemplate.opsForZSet()
-      .rank(queueKey(eventId), String.valueOf(memberId));
+    if (!isSharded(eventId)) {
+      return redisTemplate.opsForZSet()
+        .rank(queueKey(eventId), String.valueOf(memberId));
+    }
+
+    byte[] key = rawKey(memberQueueKey(eventId, memberId));
+    byte[] member = rawKey(String.valueOf(memberId));
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.zSetCommands().zScore(key, member);
+      connection.zSetCommands().zRank(key, member);
+      return null;
+    });
+
+    Object score = results.get(0);
+    Object shardRank = results.get(1);
+    if (score == null || shardRank == null) {
+      return null;
+    }
+
+    int ownShard = shardOf(memberId);
+    long rank = ((Number) shardRank).longValue();
+    // 같은 이벤트의 동시 첫 조회는 computeIfAbsent로 1회 조회에 합친다
+    ShardSnapshot snapshot = shardSnapshots.computeIfAbsent(eventId, this::loadRankSnapshot);
+
+    double globalScore = ((Number) score).doubleValue();
+    boolean enteredAfterSnapshot = snapshot.enteredAfter(ownShard, globalScore);
+    for (int shard = 0; shard < shardCount; shard++) {
+      if (shard != ownShard) {
+        rank += snapshot.countAhead(shard, globalScore, shardCount, enteredAfterSnapshot);
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * 샤딩 모드 순번 추정 스냅샷 갱신 - 스케줄러 tick마다 호출
+   * 샤드별 ZRANGE 0 0 WITHSCORES + ZRANGE -1 -1 WITHSCORES + ZCARD를 pipeline 1회 왕복으로 조회한다.
+   * 폴링 횟수와 무관하게 tick당 1회만 전 샤드를 읽는다. 단일 모드 이벤트는 아무것도 하지 않는다.
+   */
+  @Override
+  public void refreshRankSnapshot(Long eventId) {
+    if (!isSharded(eventId)) {
+      return;
+    }
+    shardSnapshots.put(eventId, loadRankSnapshot(eventId));
+  }
+
+  // 샤드별 head / tail score와 크기 조회 (pipeline 1회 왕복)
+  private ShardSnapshot loadRankSnapshot(Long eventId) {
+    List<String> shardKeys = shardQueueKeys(eventId);
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (String shardKey : shardKeys) {
+        byte[] key = rawKey(shardKey);
+        connection.zSetCommands().zRangeWithScores(key, 0, 0);
+        connection.zSetCommands().zRangeWithScores(key, -1, -1);
+        connection.zSetCommands().zCard(key);
+      }
+      return null;
+    });
+
+    double[] headScores = new double[shardCount];
+    double[] tailScores = new double[shardCount];
+    long[] sizes = new long[shardCount];
+    for (int shard = 0; shard < shardCount; shard++) {
+      headScores[shard] = firstScore(results.get(shard * 3));
+      tailScores[shard] = firstScore(results.get(shard * 3 + 1));
+      Object size = results.get(shard * 3 + 2);
+      sizes[shard] = size != null ? ((Number) size).longValue() : 0L;
+    }
+    return new ShardSnapshot(headScores, tailScores, sizes);
+  }
+
+  // ZRANGE WITHSCORES 결과의 첫 score (빈 샤드면 0 - size 0으로 판단하므로 사용되지 않는다)
+  private double firstScore(Object tuples) {
+    if (tuples instanceof Collection<?> collection && !collection.isEmpty()) {
+      Double score = ((TypedTuple<?>) collection.iterator().next()).getScore();
+      return score != null ? score : 0D;
+    }
+    return 0D;
   }
 
   /**
    * 상위 N명 memberId 조회
-   * ZRANGE 0 N-1 명령으로 score 오름차순 상위 N명 반환
+   * 단일 모드: ZRANGE 0 N-1 명령으로 score 오름차순 상위 N명 반환
+   * 샤딩 모드: 샤드별 ZRANGE 0 N-1 WITHSCORES를 pipeline으로 조회 후 전역 순번(score) 기준 병합
    */
   @Override
   public Set<String> getTopMembers(Long eventId, long count) {
-    Set<String> members = redisTemplate.opsForZSet()
-      .range(queueKey(eventId), 0, count - 1);
-    return members != null ? members : Collections.emptySet();
+    if (!isSharded(eventId)) {
+      Set<String> members = redisTemplate.opsForZSet()
+        .range(queueKey(eventId), 0, count - 1);
+      return members != null ? members : Collections.emptySet();
+    }
+
+    List<String> shardKeys = shardQueueKeys(eventId);
+    List<Object> shardResults = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (String shardKey : shardKeys) {
+        connection.zSetCommands().zRangeWithScores(rawKey(shardKey), 0, count - 1);
+      }
+      return null;
+    });
+
+    List<TypedTuple<String>> candidates = new ArrayList<>();
+    for (Object shardResult : shardResults) {
+      if (shardResult instanceof Collection<?> tuples) {
+        for (Object tuple : tuples) {
+          @SuppressWarnings("unchecked")
+          TypedTuple<String> typedTuple = (TypedTuple<String>) tuple;
+          candidates.add(typedTuple);
+        }
+      }
+    }
+
+    // 전역 순번 오름차순으로 병합 - 반환 순서 보장을 위해 LinkedHashSet 사용
+    return candidates.stream()
+      .sorted(Comparator.comparingDouble(tuple -> tuple.getScore() != null ? tuple.getScore() : Double.MAX_VALUE))
+      .limit(count)
+      .map(TypedTuple::getValue)
+      .collect(Collectors.toCollection(LinkedHashSet::new));
   }
 
   /**
    * 대기열에서 특정 유저 제거
-   * ZREM 명령 사용
+   * ZREM 명령 사용 (샤딩 모드는 memberId가 속한 서브 큐에서 제거)
    */
   @Override
   public void remove(Long eventId, Long memberId) {
     redisTemplate.opsForZSet()
-      .remove(queueKey(eventId), String.valueOf(memberId));
+      .remove(memberQueueKey(eventId, memberId), String.valueOf(memberId));
+  }
+
+  /**
+   * 입장 토큰 저장 - ttlMillis 후 만료, touch로 연장해도 maxTtlMillis 후에는 만료
+   * HSET token:event:{eventId} + ZADD token:event:{eventId}:expiry + ZADD token:event:{eventId}:deadline (pipeline 1회 왕복)
+   * key의 TTL도 함께 갱신해 sweeper가 돌지 않아도 마지막 발급 ttlMillis(deadline은 maxTtlMillis) 후에는 key가 사라지게 한다.
+   */
+  @Override
+  public void saveAdmissionToken(Long eventId, Long memberId, String token, long ttlMillis, long maxTtlMillis) {
+    byte[] tokenKey = rawKey(tokenKey(eventId));
+    byte[] expiryKey = rawKey(tokenExpiryKey(eventId));
+    byte[] deadlineKey = rawKey(tokenDeadlineKey(eventId));
+    byte[] member = rawKey(String.valueOf(memberId));
+    long now = System.currentTimeMillis();
+
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.hashCommands().hSet(tokenKey, member, rawKey(token));
+      connection.zSetCommands().zAdd(expiryKey, now + ttlMillis, member);
+      connection.zSetCommands().zAdd(deadlineKey, now + maxTtlMillis, member);
+      connection.keyCommands().pExpire(tokenKey, ttlMillis);
+      connection.keyCommands().pExpire(expiryKey, ttlMillis);
+      connection.keyCommands().pExpire(deadlineKey, maxTtlMillis);
+      return null;
+    });
+  }
+
+  /**
+   * 입장 토큰 만료 시각 연장 - Lua 스크립트로 존재 확인/상한 적용/연장을 원자 실행
+   */
+  @Override
+  public boolean touchAdmissionToken(Long eventId, Long memberId, long ttlMillis) {
+    Long touched = redisTemplate.execute(
+      TOUCH_TOKEN_SCRIPT,
+      List.of(tokenKey(eventId), tokenExpiryKey(eventId), tokenDeadlineKey(eventId)),
+      String.valueOf(memberId),
+      String.valueOf(System.currentTimeMillis()),
+      String.valueOf(ttlMillis)
+    );
+    return touched != null && touched == 1L;
+  }
+
+  /**
+   * 입장 토큰 조회
+   * HGET + ZSCORE (pipeline 1회 왕복) - 만료 시각이 지난 토큰은 sweeper 정리 전이라도 empty
+   */
+  @Override
+  public Optional<String> findAdmissionToken(Long eventId, Long memberId) {
+    return findAdmissionTokenEntry(eventId, memberId).map(AdmissionTokenEntry::token);
+  }
+
+  /**
+   * 입장 토큰 값과 만료 시각 조회
+   * HGET + ZSCORE (pipeline 1회 왕복) - 만료 시각이 지난 토큰은 sweeper 정리 전이라도 empty
+   */
+  @Override
+  public Optional<AdmissionTokenEntry> findAdmissionTokenEntry(Long eventId, Long memberId) {
+    byte[] member = rawKey(String.valueOf(memberId));
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.hashCommands().hGet(rawKey(tokenKey(eventId)), member);
+      connection.zSetCommands().zScore(rawKey(tokenExpiryKey(eventId)), member);
+      return null;
+    });
+
+    Object token = results.get(0);
+    Object expiresAt = results.get(1);
+    if (token == null || expiresAt == null
+      || ((Number) expiresAt).longValue() <= System.currentTimeMillis()) {
+      return Optional.empty();
+    }
+    return Optional.of(new AdmissionTokenEntry(token.toString(), ((Number) expiresAt).longValue()));
+  }
+
+  /**
+   * 입장 토큰 삭제
+   * HDEL + ZREM expiry / deadline (pipeline 1회 왕복)
+   */
+  @Override
+  public void deleteAdmissionToken(Long eventId, Long memberId) {
+    byte[] member = rawKey(String.valueOf(memberId));
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.hashCommands().hDel(rawKey(tokenKey(eventId)), member);
+      connection.zSetCommands().zRem(rawKey(tokenExpiryKey(eventId)), member);
+      connection.zSetCommands().zRem(rawKey(tokenDeadlineKey(eventId)), member);
+      return null;
+    });
+  }
+
+  /**
+   * 이벤트의 입장 토큰 전체 삭제
+   * DEL token:event:{eventId} token:event:{eventId}:expiry token:event:{eventId}:deadline
+   */
+  @Override
+  public void deleteAdmissionTokens(Long eventId) {
+    redisTemplate.delete(List.of(tokenKey(eventId), tokenExpiryKey(eventId), tokenDeadlineKey(eventId)));
+  }
+
+  /**
+   * 만료된 입장 토큰 일괄 정리 - Lua 스크립트로 조회/삭제를 원자 실행
+   */
+  @Override
+  public List<Long> removeExpiredAdmissionTokens(Long eventId, int limit) {
+    @SuppressWarnings("unchecked")
+    List<Object> removed = redisTemplate.execute(
+      REMOVE_EXPIRED_TOKENS_SCRIPT,
+      List.of(tokenKey(eventId), tokenExpiryKey(eventId), tokenDeadlineKey(eventId)),
+      String.valueOf(System.currentTimeMillis()),
+      String.valueOf(limit)
+    );
+    if (removed == null) {
+      return List.of();
+    }
+    return removed.stream()
+      .map(memberId -> Long.parseLong(memberId.toString()))
+      .toList();
+  }
+
+  /**
+   * 입장 토큰 보유 인원 수 조회
+   * ZCARD token:event:{eventId}:expiry
+   */
+  @Override
+  public long countAdmissionTokens(Long eventId) {
+    Long count = redisTemplate.opsForZSet().zCard(tokenExpiryKey(eventId));
+    return count != null ? count : 0L;
   }
 
   /**
-   * 입장 토큰 저장 - TTL 30분
-   * SET token:user:{memberId} {token} EX 1800
+   * 입장 토큰 폐기 알림 발행
+   * PUBLISH queue:admission:revoked {memberId}
    */
   @Override
-  public void saveAdmissionToken(Long memberId, String token) {
-    redisTemplate.opsForValue()
-      .set(tokenKey(memberId), token, ADMISSION_TOKEN_TTL);
+  public void publishAdmissionRevoked(Long memberId) {
+    redisTemplate.convertAndSend(ADMISSION_REVOKED_CHANNEL, String.valueOf(memberId));
   }
 
   /**
-   * 입장 토큰 존재 여부 확인
-   * Redis key 존재 여부로 토큰 유효성 판단 (TTL 만료 시 자동 삭제됨)
+   * 이벤트 입장 토큰 일괄 폐기 알림 발행
+   * PUBLISH queue:admission:revoked:event {eventId}
    */
   @Override
-  public boolean hasAdmissionToken(Long memberId) {
-    return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey(memberId)));
+  public void publishEventAdmissionsRevoked(Long eventId) {
+    redisTemplate.convertAndSend(EVENT_ADMISSIONS_REVOKED_CHANNEL, String.valueOf(eventId));
+  }
+
+  /**
+   * 이벤트 입장 토큰 일괄 폐기 등록
+   * ZADD token:revoked:events {revokedUntilMillis} {eventId} 후 ZREMRANGEBYSCORE로 지난 항목 정리
+   */
+  @Override
+  public void revokeEventAdmissions(Long eventId, long revokedUntilMillis) {
+    redisTemplate.opsForZSet().add(REVOKED_EVENTS_KEY, String.valueOf(eventId), revokedUntilMillis);
+    redisTemplate.opsForZSet()
+      .removeRangeByScore(REVOKED_EVENTS_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+  }
+
+  /**
+   * 유효한 이벤트 단위 폐기 목록 조회
+   * ZRANGEBYSCORE token:revoked:events {now} +inf WITHSCORES
+   */
+  @Override
+  public Map<Long, Long> getEventAdmissionRevocations() {
+    Set<TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+      .rangeByScoreWithScores(REVOKED_EVENTS_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+    if (revoked == null || revoked.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<Long, Long> revocations = new HashMap<>();
+    for (TypedTuple<String> tuple : revoked) {
+      revocations.put(Long.parseLong(tuple.getValue()), tuple.getScore().longValue());
+    }
+    return revocations;
   }
 
   /**
@@ -138,51 +543,115 @@ public class QueueRedisRepository implements QueueRepository {
 
   /**
    * 대기열 key 삭제
-   * DEL queue:event:{eventId}
+   * DEL queue:event:{eventId} (샤딩 모드는 전체 서브 큐 key 삭제)
    */
   @Override
   public void deleteQueue(Long eventId) {
+    if (isSharded(eventId)) {
+      redisTemplate.delete(shardQueueKeys(eventId));
+      shardSnapshots.remove(eventId);
+      return;
+    }
     redisTemplate.delete(queueKey(eventId));
   }
 
   /**
-   * 입장 허용 이력 저장
-   * SADD queue:admitted:members:{eventId} {memberId}
+   * 입장 허용 이력 저장 - Lua 스크립트로 chunk 목록 등록 / 희소·밀집 표현 선택 / 전환을 원자 실행
+   * chunk 목록을 먼저 등록해 chunk key만 남고 목록에서 빠지는 경우가 없도록 한다.
    */
   @Override
   public void saveAdmittedHistory(Long eventId, Long memberId) {
-    redisTemplate.opsForSet()
-      .add(admittedMembersKey(eventId), String.valueOf(memberId));
+    long chunk = memberId >> ADMITTED_CHUNK_BITS;
+    redisTemplate.execute(
+      SAVE_ADMITTED_SCRIPT,
+      List.of(admittedChunksKey(eventId), admittedChunkKey(eventId, chunk), admittedSparseKey(eventId, chunk)),
+      String.valueOf(chunk),
+      String.valueOf(memberId & ADMITTED_CHUNK_MASK),
+      String.valueOf(ADMITTED_SPARSE_MAX)
+    );
   }
 
   /**
    * 입장 허용 이력 존재 여부 확인
-   * SISMEMBER queue:admitted:members:{eventId} {memberId}
+   * GETBIT queue:admitted:{eventId}:chunk:{n} {offset} + SISMEMBER queue:admitted:{eventId}:chunk:{n}:sparse {offset} (pipeline 1회 왕복)
    */
   @Override
   public boolean hasAdmittedHistory(Long eventId, Long memberId) {
-    return Boolean.TRUE.equals(redisTemplate.opsForSet()
-      .isMember(admittedMembersKey(eventId), String.valueOf(memberId)));
+    long chunk = memberId >> ADMITTED_CHUNK_BITS;
+    long offset = memberId & ADMITTED_CHUNK_MASK;
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.stringCommands().getBit(rawKey(admittedChunkKey(eventId, chunk)), offset);
+      connection.setCommands().sIsMember(rawKey(admittedSparseKey(eventId, chunk)), rawKey(String.valueOf(offset)));
+      return null;
+    });
+    return Boolean.TRUE.equals(results.get(0)) || Boolean.TRUE.equals(results.get(1));
   }
 
   /**
-   * 입장 허용 이력 Set 전체 조회
-   * SMEMBERS queue:admitted:members:{eventId}
+   * 입장 허용 회원 순회
+   * SMEMBERS queue:admitted:{eventId}:chunks 후 chunk별 GET bitmap + SMEMBERS 희소 Set(pipeline 1회 왕복)으로 하나씩 읽는다.
+   * 저장 스크립트가 chunk마다 한 표현만 남기므로 bitmap이 있으면 set bit를, 없으면 정렬한 희소 offset을 memberId로 변환한다.
+   * Redis bitmap은 offset 0이 첫 byte의 최상위 bit다.
    */
   @Override
-  public Set<String> getAdmittedMembers(Long eventId) {
-    Set<String> members = redisTemplate.opsForSet()
-      .members(admittedMembersKey(eventId));
-    return members != null ? members : Collections.emptySet();
+  public void forEachAdmittedMember(Long eventId, LongConsumer action) {
+    Set<String> chunks = redisTemplate.opsForSet().members(admittedChunksKey(eventId));
+    if (chunks == null || chunks.isEmpty()) {
+      return;
+    }
+
+    List<Long> sortedChunks = chunks.stream().map(Long::parseLong).sorted().toList();
+    for (Long chunk : sortedChunks) {
+      // bitmap은 문자열로 역직렬화하면 깨지므로 결과를 byte[] 그대로 받는다
+      List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        connection.stringCommands().get(rawKey(admittedChunkKey(eventId, chunk)));
+        connection.setCommands().sMembers(rawKey(admittedSparseKey(eventId, chunk)));
+        return null;
+      }, RedisSerializer.byteArray());
+
+      long base = chunk << ADMITTED_CHUNK_BITS;
+      byte[] bitmap = (byte[]) results.get(0);
+      if (bitmap == null) {
+        Collection<?> sparse = (Collection<?>) results.get(1);
+        if (sparse != null) {
+          sparse.stream()
+            .mapToLong(offset -> Long.parseLong(new String((byte[]) offset, StandardCharsets.UTF_8)))
+            .sorted()
+            .forEach(offset -> action.accept(base + offset));
+        }
+        continue;
+      }
+
+      for (int i = 0; i < bitmap.length; i++) {
+        int bits = bitmap[i] & 0xFF;
+        while (bits != 0) {
+          // 남은 bit 중 최상위 bit 위치 (0 = 최상위)
+          int bit = Integer.numberOfLeadingZeros(bits) - 24;
+          action.accept(base + i * 8L + bit);
+          bits &= ~(0x80 >>> bit);
+        }
+      }
+    }
   }
 
   /**
    * 입장 허용 이력 key 삭제
-   * DEL queue:admitted:members:{eventId}
+   * DEL queue:admitted:{eventId}:chunk:{n}[:sparse]... queue:admitted:{eventId}:chunks
    */
   @Override
   public void deleteAdmittedHistory(Long eventId) {
-    redisTemplate.delete(admittedMembersKey(eventId));
+    String chunksKey = admittedChunksKey(eventId);
+    Set<String> chunks = redisTemplate.opsForSet().members(chunksKey);
+
+    List<String> keys = new ArrayList<>();
+    if (chunks != null) {
+      for (String chunk : chunks) {
+        keys.add(admittedChunkKey(eventId, Long.parseLong(chunk)));
+        keys.add(admittedSparseKey(eventId, Long.parseLong(chunk)));
+      }
+    }
+    keys.add(chunksKey);
+    redisTemplate.delete(keys);
   }
 
   // queue:event:{eventId}
@@ -190,40 +659,250 @@ public class QueueRedisRepository implements QueueRepository {
     return QUEUE_KEY_PREFIX + eventId;
   }
 
-  // token:user:{memberId}
-  private String tokenKey(Long memberId) {
-    return TOKEN_KEY_PREFIX + memberId;
+  // token:event:{eventId}
+  private String tokenKey(Long eventId) {
+    return TOKEN_KEY_PREFIX + eventId;
+  }
+
+  // token:event:{eventId}:expiry
+  private String tokenExpiryKey(Long eventId) {
+    return TOKEN_KEY_PREFIX + eventId + TOKEN_EXPIRY_KEY_SUFFIX;
+  }
+
+  // token:event:{eventId}:deadline
+  private String tokenDeadlineKey(Long eventId) {
+    return TOKEN_KEY_PREFIX + eventId + TOKEN_DEADLINE_KEY_SUFFIX;
   }
 
   /**
    * 대기열 순번용 전역 카운터 증가
-   * INCR queue:seq:{eventId} - Redis 단일 스레드 보장으로 동시성 안전
+   * 단일 모드: INCR queue:seq:{eventId} - Redis 단일 스레드 보장으로 동시성 안전
+   * 샤딩 모드: INCR queue:seq:{eventId}:shard:{n} 결과를 전역 순번(로컬 순번 * K + n)으로 변환
+   * → 카운터도 샤드별로 분산되어 INCR hot key가 생기지 않는다.
    */
   @Override
-  public long nextScore(Long eventId) {
-    Long seq = redisTemplate.opsForValue()
-      .increment(seqKey(eventId));
-    return seq != null ? seq : 0L;
+  public long nextScore(Long eventId, Long memberId) {
+    if (!isSharded(eventId)) {
+      Long seq = redisTemplate.opsForValue()
+        .increment(seqKey(eventId));
+      return seq != null ? seq : 0L;
+    }
+
+    int shard = shardOf(memberId);
+    Long localSeq = redisTemplate.opsForValue()
+      .increment(shardSeqKey(eventId, shard));
+    return (localSeq != null ? localSeq : 0L) * shardCount + shard;
   }
 
   /**
    * 대기열 순번 카운터 key 삭제
-   * DEL queue:seq:{eventId}
+   * DEL queue:seq:{eventId} (샤딩 모드는 전체 서브 큐 카운터 key 삭제)
    * 이벤트 종료 시 cleanUpEndedQueue()에서 호출한다.
    * 삭제하지 않으면 동일 eventId 재오픈 시 이전 카운터 값을 이어받는다.
    */
   @Override
   public void deleteSeq(Long eventId) {
+    if (isSharded(eventId)) {
+      List<String> seqKeys = new ArrayList<>(shardCount);
+      for (int shard = 0; shard < shardCount; shard++) {
+        seqKeys.add(shardSeqKey(eventId, shard));
+      }
+      redisTemplate.delete(seqKeys);
+      return;
+    }
     redisTemplate.delete(seqKey(eventId));
   }
 
+  /**
+   * 대기열 크기 조회
+   * 단일 모드: ZCARD queue:event:{eventId}
+   * 샤딩 모드: 샤드별 ZCARD를 pipeline으로 조회 후 합산
+   */
+  @Override
+  public long getQueueSize(Long eventId) {
+    if (!isSharded(eventId)) {
+      Long size = redisTemplate.opsForZSet().zCard(queueKey(eventId));
+      return size != null ? size : 0L;
+    }
+
+    List<String> shardKeys = shardQueueKeys(eventId);
+    List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (String shardKey : shardKeys) {
+        connection.zSetCommands().zCard(rawKey(shardKey));
+      }
+      return null;
+    });
+
+    long total = 0L;
+    for (Object size : sizes) {
+      total += size != null ? ((Number) size).longValue() : 0L;
+    }
+    return total;
+  }
+
+  /**
+   * 누적 대기열 진입 수 증가
+   * HINCRBY queue:stats:{eventId} entered 1
+   */
+  @Override
+  public void incrementEnteredCount(Long eventId) {
+    redisTemplate.opsForHash().increment(statsKey(eventId), STATS_ENTERED, 1L);
+  }
+
+  /**
+   * 누적 대기열 진입 수 조회
+   * HGET queue:stats:{eventId} entered
+   */
+  @Override
+  public long getEnteredCount(Long eventId) {
+    Object entered = redisTemplate.opsForHash().get(statsKey(eventId), STATS_ENTERED);
+    return entered != null ? Long.parseLong(entered.toString()) : 0L;
+  }
+
+  /**
+   * 처리량 통계 조회
+   * HGETALL queue:stats:{eventId} - updatedAt 필드가 없으면 아직 tick 전이므로 empty
+   */
+  @Override
+  public Optional<QueueThroughputStats> findThroughputStats(Long eventId) {
+    Map<Object, Object> fields = redisTemplate.opsForHash().entries(statsKey(eventId));
+    if (fields.get(STATS_UPDATED_AT) == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new QueueThroughputStats(
+      Double.parseDouble(fields.get(STATS_ADMIT_RATE).toString()),
+      Double.parseDouble(fields.get(STATS_ADMIT_RATE_VAR).toString()),
+      Double.parseDouble(fields.get(STATS_DROP_RATE).toString()),
+      Long.parseLong(fields.get(STATS_SIZE).toString()),
+      Long.parseLong(fields.get(STATS_ENTERED_AT_TICK).toString()),
+      Long.parseLong(fields.get(STATS_UPDATED_AT).toString())
+    ));
+  }
+
+  /**
+   * 처리량 통계 저장
+   * HSET queue:stats:{eventId} - entered 필드는 HINCRBY 전용이므로 덮어쓰지 않는다.
+   */
+  @Override
+  public void saveThroughputStats(Long eventId, QueueThroughputStats stats) {
+    redisTemplate.opsForHash().putAll(statsKey(eventId), Map.of(
+      STATS_ADMIT_RATE, String.valueOf(stats.admitRate()),
+      STATS_ADMIT_RATE_VAR, String.valueOf(stats.admitRateVariance()),
+      STATS_DROP_RATE, String.valueOf(stats.dropRate()),
+      STATS_SIZE, String.valueOf(stats.queueSize()),
+      STATS_ENTERED_AT_TICK, String.valueOf(stats.enteredCount()),
+      STATS_UPDATED_AT, String.valueOf(stats.updatedAtMillis())
+    ));
+  }
+
+  /**
+   * 처리량 통계 key 삭제
+   * DEL queue:stats:{eventId}
+   */
+  @Override
+  public void deleteThroughputStats(Long eventId) {
+    redisTemplate.delete(statsKey(eventId));
+  }
+
+  // queue:stats:{eventId}
+  private String statsKey(Long eventId) {
+    return STATS_KEY_PREFIX + eventId;
+  }
+
   // queue:seq:{eventId}
   private String seqKey(Long eventId) {
     return QUEUE_SEQ_KEY_PREFIX + eventId;
   }
 
-  // queue:admitted:members:{eventId}
-  private String admittedMembersKey(Long eventId) {
-    return ADMITTED_MEMBERS_KEY_PREFIX + eventId;
+  // queue:seq:{eventId}:shard:{n}
+  private String shardSeqKey(Long eventId, int shard) {
+    return QUEUE_SEQ_KEY_PREFIX + eventId + SHARD_KEY_INFIX + shard;
+  }
+
+  // queue:event:{eventId}:shard:{n}
+  private String shardQueueKey(Long eventId, int shard) {
+    return QUEUE_KEY_PREFIX + eventId + SHARD_KEY_INFIX + shard;
+  }
+
+  // 샤딩 모드 이벤트의 전체 서브 큐 key 목록 (shard 0 ~ K-1)
+  private List<String> shardQueueKeys(Long eventId) {
+    List<String> keys = new ArrayList<>(shardCount);
+    for (int shard = 0; shard < shardCount; shard++) {
+      keys.add(shardQueueKey(eventId, shard));
+    }
+    return keys;
+  }
+
+  // memberId가 속한 대기열 key - 단일 모드는 queue:event:{eventId}, 샤딩 모드는 해당 서브 큐
+  private String memberQueueKey(Long eventId, Long memberId) {
+    return isSharded(eventId)
+      ? shardQueueKey(eventId, shardOf(memberId))
+      : queueKey(eventId);
+  }
+
+  // 이벤트별 대기열 모드 판단 - queue.shard.event-ids에 포함되고 K > 1일 때만 샤딩
+  private boolean isSharded(Long eventId) {
+    return shardCount > 1 && shardedEventIds.contains(eventId);
+  }
+
+  // memberId hash 기반 서브 큐 번호 (0 ~ K-1)
+  private int shardOf(Long memberId) {
+    return Math.floorMod(Long.hashCode(memberId), shardCount);
+  }
+
+  // pipeline 내부 RedisConnection 명령용 key 직렬화
+  private byte[] rawKey(String key) {
+    RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+    return serializer.serialize(key);
+  }
+
+  // queue:admitted:{eventId}:chunk:{n}
+  private String admittedChunkKey(Long eventId, long chunk) {
+    return ADMITTED_KEY_PREFIX + eventId + ADMITTED_CHUNK_KEY_INFIX + chunk;
+  }
+
+  // queue:admitted:{eventId}:chunk:{n}:sparse
+  private String admittedSparseKey(Long eventId, long chunk) {
+    return admittedChunkKey(eventId, chunk) + ADMITTED_SPARSE_KEY_SUFFIX;
+  }
+
+  // queue:admitted:{eventId}:chunks
+  private String admittedChunksKey(Long eventId) {
+    return ADMITTED_KEY_PREFIX + eventId + ADMITTED_CHUNKS_KEY_SUFFIX;
+  }
+
+  /**
+   * 샤딩 모드 순번 추정 스냅샷 - 샤드별 첫 / 마지막 score와 크기
+   */
+  private record ShardSnapshot(double[] headScores, double[] tailScores, long[] sizes) {
+
+    /**
+     * 회원이 스냅샷 이후 진입했는지 - 자기 샤드의 score는 진입 순으로 증가하므로 스냅샷 tail보다 크면 이후 진입이다
+     */
+    boolean enteredAfter(int ownShard, double score) {
+      return sizes[ownShard] == 0 || score > tailScores[ownShard];
+    }
+
+    /**
+     * shard에서 score보다 앞선 인원 추정
+     * - head 이하: 0
+     * - head ~ tail 사이: 크기를 score 구간에 비례 배분 (중간 이탈을 균등하다고 가정)
+     * - tail 초과: 스냅샷 시점에 있던 회원이면 크기 그대로 (샤드 크기가 불균형해도 스냅샷 시점에는 정확)
+     *   스냅샷 이후 진입한 회원이면 크기 + 그 사이 진입분(score 간격 K마다 1명)
+     */
+    long countAhead(int shard, double score, int shardCount, boolean enteredAfterSnapshot) {
+      long size = sizes[shard];
+      double head = headScores[shard];
+      double tail = tailScores[shard];
+      if (size == 0 || score <= head) {
+        return 0L;
+      }
+      if (score > tail) {
+        return enteredAfterSnapshot ? size + (long) Math.ceil((score - tail) / shardCount) - 1 : size;
+      }
+      long ahead = (long) Math.ceil((score - head) * (size - 1) / (tail - head));
+      return Math.max(1L, Math.min(ahead, size));
+    }
   }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.pil97.ticketing.payment.api;
 
+import com.pil97.ticketing.common.io.IoBudget;
 import com.pil97.ticketing.common.response.ApiResponse;
+import com.pil97.ticketing.infra.idempotency.IdempotencyFingerprintFilter;
 import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
 import com.pil97.ticketing.member.domain.Member;
 import com.pil97.ticketing.payment.api.dto.request.CreatePaymentRequest;
 import com.pil97.ticketing.payment.api.dto.response.PaymentResponse;
 import com.pil97.ticketing.payment.application.PaymentService;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,28 +30,52 @@ public class PaymentController {
    * - 결제 성공 시 예약 CONFIRMED, 좌석 RESERVED, HOLD CONFIRMED로 전환된다.
    * - 결제 실패 시 예약 FAILED, 좌석 AVAILABLE로 복구된다.
    * - forceFailure: true이면 강제 실패 처리 (실패 시나리오 재현용)
+   * - 비동기 결제 모드(payment.async.enabled)에서는 PENDING 결제를 접수하고 202 반환,
+   *   최종 결과는 GET /payments/{paymentId}로 확인한다 (작업 큐가 가득 차면 503, PAYMENT-008)
+   * - 게이트웨이 응답 시간 초과면 결제를 UNKNOWN으로 남기고 202 반환 - 상태 조회로 확정된 결과는 GET으로 확인
+   * - 같은 예약의 결제가 UNKNOWN이면 확정 전까지 409 (PAYMENT-010)
    * <p>
    * 멱등성 정책:
    * - Idempotency-Key 헤더 필수
    * - 동일 key + 동일 본문 재요청 시 기존 응답 반환 (HTTP 200)
-   * - 동일 key + 다른 본문 재요청 시 409 반환
-   * - 동시 신규 요청 시 SETNX lock으로 1건만 처리, 나머지 409 반환
+   * - 동일 key + 다른 본문 재요청 시 409 반환 (fingerprint는 IdempotencyFingerprintFilter가 원본 본문으로 계산)
+   * - 동시 신규 요청 시 SETNX lock으로 1건만 처리, 나머지 409 반환 (완료 대기 모드에서는 완료 후 저장된 결과 반환)
    * - Idempotency-Key 헤더 누락 시 400 에러 (IDEMPOTENCY-003)
    */
+  @IoBudget(sql = 12, redis = 10)
   @PostMapping("/payments")
   public ResponseEntity<ApiResponse<PaymentResponse>> pay(
     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+    @RequestAttribute(name = IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE, required = false) byte[] fingerprint,
     @RequestBody @Valid CreatePaymentRequest request) {
 
-    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, request);
+    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, fingerprint, request);
 
-    HttpStatus status = result.isReplayed() ? HttpStatus.OK : HttpStatus.CREATED;
+    HttpStatus status = result.isReplayed() ? HttpStatus.OK
+      : PaymentStatus.isUnsettled(result.getResponse().status()) ? HttpStatus.ACCEPTED
+      : HttpStatus.CREATED;
 
     return ResponseEntity
       .status(status)
       .body(ApiResponse.success(result.getResponse()));
   }
 
+  /**
+   * GET /payments/{paymentId}
+   * - 결제 상태를 조회한다. 비동기 결제 모드에서 202 응답 후 결과 폴링에 사용한다.
+   * - PENDING이면 아직 처리 중, UNKNOWN이면 게이트웨이 상태 조회로 확정 중, SUCCESS / FAIL이면 처리 완료
+   * - 본인 소유 결제가 아닌 경우 403 반환 (PAYMENT-007)
+   */
+  @IoBudget(sql = 3, redis = 2)
+  @GetMapping("/payments/{paymentId}")
+  public ResponseEntity<ApiResponse<PaymentResponse>> getPayment(
+    @PathVariable Long paymentId,
+    @AuthenticationPrincipal Member loginMember) {
+
+    PaymentResponse response = paymentService.getPayment(paymentId, loginMember);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
   /**
    * POST /payments/{paymentId}/refund
    * - 결제 성공(SUCCESS) 상태인 결제에 대해 환불을 처리한다.
@@ -56,6 +83,7 @@ public class PaymentController {
    * - SUCCESS 상태가 아닌 결제 환불 시도 시 409 반환 (PAYMENT-005)
    * - Controller는 요청/응답 변환만 담당 - 소유권/상태 검증은 Service에서 처리
    */
+  @IoBudget(sql = 7, redis = 8)
   @PostMapping("/payments/{paymentId}/refund")
   public ResponseEntity<ApiResponse<PaymentResponse>> refund(
     @PathVariable Long paymentId,
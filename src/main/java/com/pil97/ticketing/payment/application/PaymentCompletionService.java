@@ -0,0 +1,200 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.event.PaymentStatusChangedEvent;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.payment.error.PaymentErrorCode;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.reservation.error.ReservationErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비동기 결제 완료 처리
+ * <p>
+ * PaymentWorker가 결제 처리(게이트웨이 호출)를 DB 트랜잭션 밖에서 끝낸 뒤,
+ * 그 결과를 짧은 트랜잭션 하나로 반영한다 - 예약 비관적 락은 상태 전환 동안만 보유한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentCompletionService {
+
+  private final PaymentRepository paymentRepository;
+  private final ReservationRepository reservationRepository;
+  private final HoldRepository holdRepository;
+  private final QueueService queueService;
+  private final SeatInventoryService seatInventoryService;
+  private final DomainEventPublisher domainEventPublisher;
+
+  /**
+   * 결제 결과 반영
+   * - 예약 비관적 락 획득 후 결제가 아직 PENDING / UNKNOWN인 경우에만 반영 (중복 반영 방지)
+   * - 결제 처리 중 예약이 PENDING이 아니게 되었으면 거절은 결제를 FAIL로 종료하고,
+   *   승인은 이미 청구되었으므로 결제를 UNKNOWN으로 둔다 (PaymentConfirmationService가 승인 취소 후 FAIL로 확정)
+   * - 결제 기한 만료로 이미 FAIL 처리된 결제에 승인이 도착해도 같은 이유로 UNKNOWN으로 되돌린다
+   * - 승인: Payment SUCCESS, 예약 CONFIRMED, 좌석 RESERVED, HOLD CONFIRMED
+   * - 거절: Payment FAIL, 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE
+   * - REQUIRES_NEW: 작업 큐가 가득 차 접수 요청의 afterCommit 콜백에서 직접 실행되는 경우에도
+   *   이미 커밋된 접수 트랜잭션에 참여하지 않고 별도로 커밋한다
+   * - SQL: 결제 조회 1 + 예약 락 조회 1 + HOLD 그래프 조회 1 + UPDATE 4 (결제 / 예약 / HOLD / 좌석)
+   *
+   * @param paymentId 결제 ID
+   * @param approved  결제 승인 여부
+   * @return 반영 후 결제 상태 (승인됐지만 좌석을 줄 수 없으면 UNKNOWN)
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public PaymentStatus complete(Long paymentId, boolean approved) {
+    return apply(paymentId, approved).getStatus();
+  }
+
+  /**
+   * 결제 결과 반영 - 호출 측 트랜잭션 안에서 실행
+   * - 통합 결제(CheckoutService)가 결과 반영과 멱등성 결과 기록을 한 트랜잭션으로 묶을 때 사용한다
+   * - 반영 규칙은 complete()와 같다
+   *
+   * @param paymentId 결제 ID
+   * @param approved  결제 승인 여부
+   * @return 반영 후 결제 (예약 → HOLD → 좌석 그래프 적재됨)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Payment apply(Long paymentId, boolean approved) {
+    Payment payment = paymentRepository.findById(paymentId)
+      .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+    Reservation reservation = reservationRepository.findByIdWithLock(payment.getReservation().getId())
+      .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
+
+    PaymentStatus from = payment.getStatus();
+    // 결제 기한 만료(ReservationExpirationService)로 FAIL 처리된 뒤 승인이 도착한 경우 - 청구를 되돌려야 한다
+    if (approved && from == PaymentStatus.FAIL) {
+      return holdForCancellation(payment, reservation, from);
+    }
+    if (from != PaymentStatus.PENDING && from != PaymentStatus.UNKNOWN) {
+      log.warn("action=PAYMENT_COMPLETE_SKIPPED paymentId={} status={}", paymentId, from);
+      return payment;
+    }
+
+    if (reservation.getStatus() != ReservationStatus.PENDING) {
+      if (approved) {
+        return holdForCancellation(payment, reservation, from);
+      }
+      payment.fail();
+      domainEventPublisher.publish(new PaymentStatusChangedEvent(
+        paymentId, reservation.getId(), from, PaymentStatus.FAIL));
+      log.warn("action=PAYMENT_COMPLETE_RESERVATION_CHANGED paymentId={} reservationStatus={}",
+        paymentId, reservation.getStatus());
+      return payment;
+    }
+
+    // 상태 전환에 필요한 HOLD → 좌석 → 회차 → 이벤트를 1회 조회로 적재 (지연 로딩 방지)
+    holdRepository.findByIdWithSeat(reservation.getHold().getId());
+
+    if (approved) {
+      PaymentTransitions.applySuccess(payment, reservation, seatInventoryService, domainEventPublisher);
+      // 결제 완료 회원의 활성 사용자 윈도우 자리 반환
+      if (queueService.isActiveWindowEnabled()) {
+        queueService.releaseAdmissionAfterCommit(
+          reservation.getShowtime().getEvent().getId(), reservation.getMember().getId());
+      }
+    } else {
+      PaymentTransitions.applyFailure(payment, reservation, seatInventoryService, domainEventPublisher);
+    }
+
+    log.info("action=PAYMENT_COMPLETED paymentId={} status={}", paymentId, payment.getStatus());
+    return payment;
+  }
+
+  /**
+   * 승인됐지만 예약이 이미 종료되어 좌석을 줄 수 없는 결제 - UNKNOWN으로 두고 승인 취소를 확정 작업에 맡긴다
+   * - 게이트웨이 호출을 트랜잭션 안에서 하지 않기 위해 여기서는 상태만 바꾼다
+   * - PaymentConfirmationService가 상태 조회 → 승인 취소 → complete(false)로 FAIL 확정한다
+   */
+  private Payment holdForCancellation(Payment payment, Reservation reservation, PaymentStatus from) {
+    if (from != PaymentStatus.UNKNOWN) {
+      payment.markUnknown();
+      domainEventPublisher.publish(new PaymentStatusChangedEvent(
+        payment.getId(), reservation.getId(), from, PaymentStatus.UNKNOWN));
+    }
+    log.warn("action=PAYMENT_APPROVED_WITHOUT_RESERVATION paymentId={} paymentStatus={} reservationStatus={}",
+      payment.getId(), from, reservation.getStatus());
+    return payment;
+  }
+
+  /**
+   * 게이트웨이 호출 전 실패 반영 (오류 / circuit open / bulkhead 포화) - 호출 측 트랜잭션 안에서 실행
+   * - 동기 결제(PaymentService)에서 승인 요청이 게이트웨이에 도달하지 않은 결제를 닫을 때 사용한다
+   * - 결제만 FAIL로 바꾸고 예약 / HOLD / 좌석은 그대로 둔다 (청구되지 않았으므로 같은 key로 재결제할 수 있다)
+   * - SQL: 결제 조회 1 + 예약 락 조회 1 + UPDATE 1 (결제)
+   *
+   * @param paymentId 결제 ID
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyAbandoned(Long paymentId) {
+    Payment payment = paymentRepository.findById(paymentId)
+      .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+    Reservation reservation = reservationRepository.findByIdWithLock(payment.getReservation().getId())
+      .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
+
+    if (payment.getStatus() != PaymentStatus.PENDING) {
+      log.warn("action=PAYMENT_ABANDON_SKIPPED paymentId={} status={}", paymentId, payment.getStatus());
+      return;
+    }
+
+    payment.fail();
+    domainEventPublisher.publish(new PaymentStatusChangedEvent(
+      paymentId, reservation.getId(), PaymentStatus.PENDING, PaymentStatus.FAIL));
+    log.warn("action=PAYMENT_ABANDONED paymentId={} reservationId={}", paymentId, reservation.getId());
+  }
+
+  /**
+   * 승인 여부 미확정 반영 (게이트웨이 응답 시간 초과) - worker 스레드에서 호출
+   * - 반영 규칙은 applyUnknown()과 같다
+   *
+   * @param paymentId 결제 ID
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void markUnknown(Long paymentId) {
+    applyUnknown(paymentId);
+  }
+
+  /**
+   * 승인 여부 미확정 반영 - 호출 측 트랜잭션 안에서 실행
+   * - 예약 비관적 락 획득 후 결제가 아직 PENDING인 경우에만 UNKNOWN으로 전환
+   * - 예약 / HOLD / 좌석은 그대로 둔다 (게이트웨이에서 승인되었을 수 있으므로 좌석을 반환하지 않는다)
+   * - 확정은 PaymentConfirmationService가 게이트웨이 상태 조회 후 complete()로 반영한다
+   * - SQL: 결제 조회 1 + 예약 락 조회 1 + UPDATE 1 (결제)
+   *
+   * @param paymentId 결제 ID
+   * @return 반영 후 결제
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Payment applyUnknown(Long paymentId) {
+    Payment payment = paymentRepository.findById(paymentId)
+      .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+    Reservation reservation = reservationRepository.findByIdWithLock(payment.getReservation().getId())
+      .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
+
+    if (payment.getStatus() != PaymentStatus.PENDING) {
+      log.warn("action=PAYMENT_UNKNOWN_SKIPPED paymentId={} status={}", paymentId, payment.getStatus());
+      return payment;
+    }
+
+    PaymentTransitions.applyUnknown(payment, reservation, domainEventPublisher);
+    log.warn("action=PAYMENT_UNKNOWN paymentId={} reservationId={}", paymentId, reservation.getId());
+    return payment;
+  }
+}
@@ -0,0 +1,100 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 승인 여부 미확정(UNKNOWN) 결제 확정
+ * <p>
+ * 게이트웨이 응답 시간 초과로 UNKNOWN이 된 결제를 게이트웨이 상태 조회로 확정한다.
+ * - 상태 조회는 DB 트랜잭션 밖에서 하고, 결과 반영만 PaymentCompletionService.complete()의 짧은 트랜잭션으로 한다
+ * - 승인 기록이 있으면 SUCCESS, 거절 / 취소 기록이 있거나 기록이 없으면(요청이 도달하지 않음) FAIL로 반영한다
+ * - 승인됐지만 예약이 이미 종료되어 UNKNOWN으로 남으면(결제 기한 만료 후 승인 도착 등) 게이트웨이에 승인 취소를 요청하고 FAIL로 확정한다
+ *   취소 응답을 받지 못하면 UNKNOWN으로 두고 다음 주기에 다시 시도한다 (취소는 멱등)
+ * - 상태 조회도 실패하면 UNKNOWN으로 두고 다음 주기에 다시 본다 (확정 전까지 같은 예약의 재결제는 차단된다)
+ * - 게이트웨이가 아직 처리 중일 수 있으므로 마지막 변경 후 min-age-ms가 지난 결제만 조회한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmationService {
+
+  /**
+   * 상태 조회 대상 최소 경과 시간 (UNKNOWN 전환 후)
+   * application.yml: payment.confirmation.min-age-ms
+   */
+  @Value("${payment.confirmation.min-age-ms:10000}")
+  private long minAgeMs = 10_000;
+
+  /**
+   * 주기 1회당 최대 확정 건수
+   * application.yml: payment.confirmation.batch-size
+   */
+  @Value("${payment.confirmation.batch-size:100}")
+  private int batchSize = 100;
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentGateway paymentGateway;
+  private final PaymentCompletionService paymentCompletionService;
+
+  /**
+   * UNKNOWN 결제 확정 - 한 주기에 batch-size건까지 처리한다
+   *
+   * @param now 기준 시각
+   * @return 확정한 결제 수
+   */
+  public int confirmUnknownPayments(LocalDateTime now) {
+    List<Long> paymentIds = paymentRepository.findIdsByStatusAndUpdatedAtBefore(
+      PaymentStatus.UNKNOWN, now.minus(Duration.ofMillis(minAgeMs)), PageRequest.of(0, batchSize));
+
+    int confirmed = 0;
+    for (Long paymentId : paymentIds) {
+      Optional<PaymentGatewayResult> result;
+      try {
+        result = paymentGateway.inquire(paymentId);
+      } catch (PaymentGatewayException e) {
+        log.warn("action=PAYMENT_CONFIRM_DEFERRED paymentId={} reason={}", paymentId, e.getReason());
+        continue;
+      }
+
+      boolean approved = result.filter(r -> r == PaymentGatewayResult.APPROVED).isPresent();
+      PaymentStatus status = paymentCompletionService.complete(paymentId, approved);
+      if (approved && status == PaymentStatus.UNKNOWN && !cancel(paymentId)) {
+        continue;
+      }
+      log.info("action=PAYMENT_CONFIRMED paymentId={} gatewayResult={}", paymentId, result.orElse(null));
+      confirmed++;
+    }
+    return confirmed;
+  }
+
+  /**
+   * 좌석을 줄 수 없는 승인 결제의 승인 취소 후 FAIL 확정 - 게이트웨이 호출은 DB 트랜잭션 밖에서 한다
+   *
+   * @return 확정 여부 (취소 응답을 받지 못하면 false - UNKNOWN으로 남는다)
+   */
+  private boolean cancel(Long paymentId) {
+    try {
+      paymentGateway.cancel(paymentId);
+    } catch (PaymentGatewayException e) {
+      log.warn("action=PAYMENT_CANCEL_DEFERRED paymentId={} reason={}", paymentId, e.getReason());
+      return false;
+    }
+    paymentCompletionService.complete(paymentId, false);
+    log.warn("action=PAYMENT_CANCELLED paymentId={}", paymentId);
+    return true;
+  }
+}
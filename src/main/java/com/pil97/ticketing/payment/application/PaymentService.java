@@ -1,10 +1,10 @@
 package com.pil97.ticketing.payment.application;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.event.DomainEventPublisher;
 import com.pil97.ticketing.common.exception.BusinessException;
-import com.pil97.ticketing.infra.idempotency.IdempotencyFingerprintUtil;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
 import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
 import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
 import com.pil97.ticketing.member.domain.Member;
@@ -12,18 +12,30 @@ import com.pil97.ticketing.payment.api.dto.request.CreatePaymentRequest;
 import com.pil97.ticketing.payment.api.dto.response.PaymentResponse;
 import com.pil97.ticketing.payment.domain.Payment;
 import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.event.PaymentStatusChangedEvent;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayRequest;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
 import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
 import com.pil97.ticketing.payment.error.PaymentErrorCode;
 import com.pil97.ticketing.reservation.domain.Reservation;
 import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.event.ReservationStatusChangedEvent;
 import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
 import com.pil97.ticketing.reservation.error.ReservationErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 
@@ -38,32 +50,71 @@ public class PaymentService {
   // 결제 멱등성 결과 보관 TTL
   private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);
 
+  /**
+   * 비동기 결제 모드 사용 여부
+   * application.yml: payment.async.enabled
+   * true이면 요청 스레드에서는 PENDING 결제만 생성하고 202를 반환, 결제 처리는 PaymentWorker가 이어받는다.
+   */
+  @Value("${payment.async.enabled:false}")
+  private boolean asyncEnabled;
+
   private final PaymentRepository paymentRepository;
   private final ReservationRepository reservationRepository;
   private final IdempotencyRedisRepository idempotencyRedisRepository;
-  private final ObjectMapper objectMapper;
+  private final SeatInventoryService seatInventoryService;
+  private final PaymentWorker paymentWorker;
+  private final PaymentCompletionService paymentCompletionService;
+  private final PaymentGateway paymentGateway;
+  private final DomainEventPublisher domainEventPublisher;
+  private final PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
 
   /**
    * 결제 처리
    * - idempotency key 누락 시 예외 발생
+   * - 비동기 결제 모드에서는 PENDING 결제만 생성해 반환하고, 결제 처리는 커밋 후 worker에 위임
    * - 동일 key + 동일 본문 재요청 시 Redis 캐시 반환 (DB 처리 없음)
    * - 동일 key + 다른 본문 재요청 시 409 반환
    * - 동시 신규 요청 시 SETNX lock으로 1건만 처리
+   * - 멱등성 판정은 결제 트랜잭션을 열기 전에 한다 (DB 멱등성 저장소 사용 시 요청 1건이 커넥션 2개를 잡지 않게)
+   *
+   * @param idempotencyKey 클라이언트가 전달한 idempotency key
+   * @param fingerprint    요청(메서드 + URI + 본문)의 SHA-256 digest (IdempotencyFingerprintFilter에서 계산)
+   * @param request        결제 요청
    */
-  @Transactional
-  public IdempotencyResult<PaymentResponse> pay(String idempotencyKey, CreatePaymentRequest request) {
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public IdempotencyResult<PaymentResponse> pay(String idempotencyKey, byte[] fingerprint,
+                                                CreatePaymentRequest request) {
     if (idempotencyKey == null || idempotencyKey.isBlank()) {
       throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING);
     }
 
-    String fingerprint = computeFingerprint(request);
-
     return idempotencyRedisRepository
       .find(IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, PaymentResponse.class)
       .map(IdempotencyResult::ofReplayed)
-      .orElseGet(() -> IdempotencyResult.ofNew(
-        processPayment(idempotencyKey, fingerprint, request)
-      ));
+      .orElseGet(() -> IdempotencyResult.ofNew(process(idempotencyKey, fingerprint, request)));
+  }
+
+  /**
+   * 결제 상태 조회
+   * - 비동기 결제 모드에서 202 응답 후 결제 결과를 폴링하는 용도
+   * - 소유권 검증 후 현재 상태 반환 (PENDING이면 아직 처리 중)
+   */
+  public PaymentResponse getPayment(Long paymentId, Member loginMember) {
+    Payment payment = paymentRepository.findByIdWithReservation(paymentId)
+      .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+    if (!payment.getReservation().getMember().getId().equals(loginMember.getId())) {
+      throw new BusinessException(PaymentErrorCode.PAYMENT_ACCESS_FORBIDDEN);
+    }
+
+    return PaymentResponse.of(payment);
   }
 
   /**
@@ -73,10 +124,11 @@ public class PaymentService {
    * (상태 검증 먼저 시 타인의 결제 상태 정보가 노출될 수 있음)
    * - SUCCESS 상태인 경우만 환불 가능
    * - Payment REFUNDED, 예약 CANCELLED, HOLD REFUNDED, 좌석 AVAILABLE 전환
+   * - 결제 → 예약 → HOLD → 좌석 → 회차 → 이벤트를 fetch join 1회로 조회 (SELECT 1 + UPDATE 4)
    */
   @Transactional
   public PaymentResponse refund(Long paymentId, Member loginMember) {
-    Payment payment = paymentRepository.findById(paymentId)
+    Payment payment = paymentRepository.findByIdWithSeat(paymentId)
       .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_NOT_FOUND));
 
     // 소유권 검증 - 상태 검증보다 먼저 수행
@@ -91,7 +143,16 @@ public class PaymentService {
     Reservation reservation = payment.getReservation();
     reservation.cancelByRefund();
     reservation.getHold().refund();
-    reservation.getHold().getShowtimeSeat().markAvailable();
+    ShowtimeSeat showtimeSeat = reservation.getHold().getShowtimeSeat();
+    showtimeSeat.markAvailable();
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.RESERVED, ShowtimeSeatStatus.AVAILABLE);
+
+    domainEventPublisher.publish(new PaymentStatusChangedEvent(
+      payment.getId(), reservation.getId(), PaymentStatus.SUCCESS, PaymentStatus.REFUNDED));
+    domainEventPublisher.publish(new ReservationStatusChangedEvent(
+      reservation.getId(), ReservationStatus.CONFIRMED, ReservationStatus.CANCELLED));
+    domainEventPublisher.publish(new HoldStatusChangedEvent(
+      reservation.getHold().getId(), HoldStatus.CONFIRMED, HoldStatus.REFUNDED));
 
     return PaymentResponse.of(payment);
   }
@@ -109,50 +170,31 @@ public class PaymentService {
   }
 
   /**
-   * 실제 결제 처리 - 최초 요청에서만 실행
-   * - 비관적 락으로 예약을 조회하여 동시 중복 결제를 DB 레벨에서 차단
-   * - 처리 성공 시 트랜잭션 커밋 후 Redis에 결과 저장 (커밋 전 저장 시 DB/Redis 불일치 위험)
-   * - 처리 실패 또는 예외 발생 시 lock 해제하여 재시도 허용
-   * - forceFailure 경로: 결제 실패 응답 반환 후 캐시 저장 안 함 - 동일 key 재시도 시 재처리
+   * 최초 요청 처리 - 결제 트랜잭션 실행 후 멱등성 결과 저장 / lock 해제
+   * - 동기 결제는 PENDING 결제 생성 트랜잭션 → 트랜잭션 밖 게이트웨이 호출 → 결과 반영 트랜잭션 순서로 처리한다
+   *   (게이트웨이 지연 동안 예약 row 락과 DB 커넥션을 잡지 않는다 - CheckoutService와 같은 방식)
+   * - 결제는 transactionTemplate으로 커밋까지 마치고, 결과 저장과 lock 해제는 커밋 후 트랜잭션 밖에서 한다
+   *   (커밋 전 저장 시 롤백되면 DB에는 실패, 저장소에는 성공 응답이 남는 불일치 발생.
+   *    커밋 콜백에서 저장하면 DB 멱등성 저장소가 결제 커넥션을 쥔 채 커넥션을 하나 더 잡는다)
+   * - 결제 실패(FAIL) / 예외 / 롤백 시 결과 저장 없이 lock만 해제하여 재시도 허용
    */
-  private PaymentResponse processPayment(String idempotencyKey, String fingerprint,
-                                         CreatePaymentRequest request) {
+  private PaymentResponse process(String idempotencyKey, byte[] fingerprint, CreatePaymentRequest request) {
     boolean success = false;
     try {
-      Reservation reservation = reservationRepository.findByIdWithLock(request.getReservationId())
-        .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
+      PaymentResponse response = asyncEnabled
+        ? transactionTemplate.execute(status -> acceptPayment(idempotencyKey, fingerprint, request))
+        : completePayment(idempotencyKey, fingerprint,
+            transactionTemplate.execute(status -> createPendingPayment(request)), request);
 
-      validatePayable(reservation);
-
-      Payment payment = Payment.create(reservation, request.getAmount());
-      Payment savedPayment = paymentRepository.save(payment);
-
-      if (request.isForceFailure()) {
-        savedPayment.fail();
-        reservation.fail();
-        reservation.getHold().expire();
-        reservation.getHold().getShowtimeSeat().markAvailable();
-        // 결제 실패 - lock 해제하여 재시도 허용 (캐시 저장 안 함)
-        return PaymentResponse.of(savedPayment);
+      // 결제 실패 - 캐시 저장 안 함 (동일 key 재시도 시 재처리)
+      success = !PaymentStatus.FAIL.name().equals(response.status());
+      if (success) {
+        idempotencyRedisRepository.saveAfterCommit(
+          IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
       }
-
-      savedPayment.success();
-      reservation.confirm();
-      reservation.getHold().getShowtimeSeat().markReserved();
-      reservation.getHold().confirm();
-
-      PaymentResponse response = PaymentResponse.of(savedPayment);
-
-      // 트랜잭션 커밋 후 Redis 저장
-      // - 커밋 전 저장 시 롤백되면 DB에는 실패, Redis에는 성공 응답이 남는 불일치 발생
-      // - afterCommit 콜백에서 실행하여 DB 커밋 성공이 보장된 후 저장
-      registerAfterCommit(idempotencyKey, fingerprint, response);
-
-      success = true;
       return response;
 
     } finally {
-      // 성공 시에는 afterCommit에서 lock 해제, 실패 시에는 즉시 해제
       if (!success) {
         idempotencyRedisRepository.releaseLock(IDEMPOTENCY_PREFIX, idempotencyKey);
       }
@@ -160,56 +202,124 @@ public class PaymentService {
   }
 
   /**
-   * 트랜잭션 커밋 후 Redis 결과 저장 및 lock 해제 등록
-   * - afterCommit: 커밋 성공 시에만 실행
-   * - afterCompletion: 롤백 포함 모든 완료 시 실행 - lock 해제 보장
+   * 동기 결제의 PENDING 결제 생성 - 최초 요청에서만 실행 (짧은 트랜잭션 안)
+   * - 비관적 락으로 예약을 조회해 검증하고 PENDING 결제만 생성한다 (락 보유 시간은 INSERT 1건 수준)
+   * - 같은 예약에 처리 중(PENDING)인 결제가 있으면 다른 key의 중복 결제로 보고 차단한다
+   *   (게이트웨이 호출 동안 예약 락을 잡지 않으므로, 이 확인이 같은 예약의 이중 승인을 막는다)
+   * - SQL: 예약 락 조회 1 + 결제 확인 2 (UNKNOWN / PENDING) + 결제 INSERT 1
+   *
+   * @return 생성한 결제 ID
    */
-  private void registerAfterCommit(String idempotencyKey, String fingerprint,
-                                   PaymentResponse response) {
-    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-      throw new IllegalStateException("Transaction synchronization is not active");
+  private Long createPendingPayment(CreatePaymentRequest request) {
+    Reservation reservation = reservationRepository.findByIdWithLock(request.getReservationId())
+      .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
+
+    validatePayable(reservation);
+    if (paymentRepository.existsByReservationIdAndStatus(reservation.getId(), PaymentStatus.PENDING)) {
+      throw new BusinessException(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED);
     }
 
-    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+    Payment savedPayment = paymentRepository.save(Payment.create(reservation, request.getAmount()));
+    publishCreated(savedPayment, reservation);
+    return savedPayment.getId();
+  }
 
-      @Override
-      public void afterCommit() {
-        // DB 커밋 성공 후 Redis에 결과 저장 및 lock 해제
-        idempotencyRedisRepository.save(
-          IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
+  /**
+   * 동기 결제의 결제 승인 + 결과 반영 - PENDING 결제 커밋 후, 트랜잭션 밖에서 실행
+   * - 게이트웨이 호출 동안 DB 커넥션 / 예약 락을 잡지 않는다
+   * - 결과 반영은 짧은 트랜잭션 하나로 한다 (PaymentCompletionService.apply(), 성공 시 입장 토큰 자리 반환 포함)
+   * - 게이트웨이 거절(forceFailure 포함): 결제 실패 응답 반환 후 결과 기록 안 함 - 동일 key 재시도 시 재처리
+   * - 게이트웨이 응답 시간 초과: 승인되었을 수 있으므로 결제를 UNKNOWN으로 커밋하고 그 응답을 멱등성 결과로 기록한다
+   *   (같은 key 재요청은 UNKNOWN 응답을 재사용, 다른 key 재결제는 PAYMENT_CONFIRMATION_PENDING으로 차단 -
+   *    확정은 PaymentConfirmationService가 게이트웨이 상태 조회로 한다)
+   * - 게이트웨이 호출 전 실패(오류 / circuit open / bulkhead 포화): 결제만 FAIL로 닫고 PAYMENT_GATEWAY_UNAVAILABLE (503)
+   *   예약 / HOLD / 좌석은 그대로 두므로 동일 key 재시도 가능
+   * - SQL: 결제 조회 1 + 예약 락 조회 1 + HOLD 그래프 조회 1 + UPDATE 4 (결제 / 예약 / HOLD / 좌석)
+   */
+  private PaymentResponse completePayment(String idempotencyKey, byte[] fingerprint, Long paymentId,
+                                          CreatePaymentRequest request) {
+    PaymentGatewayResult gatewayResult;
+    try {
+      gatewayResult = paymentGateway.authorize(
+        new PaymentGatewayRequest(paymentId, request.getAmount(), request.isForceFailure()));
+    } catch (PaymentGatewayException e) {
+      if (e.getReason() == PaymentGatewayException.Reason.TIMEOUT) {
+        log.warn("action=PAYMENT_GATEWAY_TIMEOUT paymentId={}", paymentId);
+        gatewayResult = null;
+      } else {
+        log.warn("action=PAYMENT_GATEWAY_UNAVAILABLE paymentId={} reason={}", paymentId, e.getReason());
+        transactionTemplate.executeWithoutResult(status -> paymentCompletionService.applyAbandoned(paymentId));
+        throw new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
       }
+    }
+
+    PaymentGatewayResult result = gatewayResult;
+    return transactionTemplate.execute(status -> {
+      // 응답 시간 초과(result == null) - 승인 여부 미확정으로 UNKNOWN
+      Payment payment = result == null
+        ? paymentCompletionService.applyUnknown(paymentId)
+        : paymentCompletionService.apply(paymentId, result == PaymentGatewayResult.APPROVED);
+      PaymentResponse response = PaymentResponse.of(payment);
 
-      @Override
-      public void afterCompletion(int status) {
-        // 롤백 등 커밋 외 완료 시 lock만 해제 (afterCommit이 실행된 경우 save()에서 이미 해제됨)
-        if (status != STATUS_COMMITTED) {
-          idempotencyRedisRepository.releaseLock(IDEMPOTENCY_PREFIX, idempotencyKey);
-        }
+      // 결제 거절 - 결과 기록 안 함, 커밋 후 lock 해제하여 재시도 허용
+      if (payment.getStatus() != PaymentStatus.FAIL) {
+        idempotencyRedisRepository.recordInTransaction(
+          IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
       }
+      return response;
     });
   }
 
+  /**
+   * 비동기 결제 접수 - 최초 요청에서만 실행
+   * - worker 작업 큐가 가득 찼으면 접수하지 않고 PAYMENT_QUEUE_FULL (503) - 클라이언트는 같은 key로 재시도
+   * - 비관적 락으로 예약을 조회해 검증하고 PENDING 결제만 생성 (락 보유 시간은 INSERT 1건 수준)
+   * - 같은 예약에 처리 중(PENDING)인 결제가 있으면 다른 key의 중복 결제로 보고 차단
+   * - 커밋 후 PENDING 응답을 멱등성 결과로 저장하고, 결제 처리를 worker에 넘긴다
+   *   (같은 key 재요청은 PENDING 응답을 재사용하고, 최종 결과는 GET /payments/{paymentId}로 확인)
+   */
+  private PaymentResponse acceptPayment(String idempotencyKey, byte[] fingerprint,
+                                        CreatePaymentRequest request) {
+    paymentWorker.ensureCapacity();
+
+    Reservation reservation = reservationRepository.findByIdWithLock(request.getReservationId())
+      .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
+
+    validatePayable(reservation);
+    if (paymentRepository.existsByReservationIdAndStatus(reservation.getId(), PaymentStatus.PENDING)) {
+      throw new BusinessException(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED);
+    }
+
+    Payment savedPayment = paymentRepository.save(Payment.create(reservation, request.getAmount()));
+    publishCreated(savedPayment, reservation);
+    PaymentResponse response = PaymentResponse.of(savedPayment);
+
+    idempotencyRedisRepository.recordInTransaction(
+      IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
+    paymentWorker.submitAfterCommit(savedPayment.getId(), request.getAmount(), request.isForceFailure());
+    return response;
+  }
+
+  /**
+   * 결제 생성(PENDING) 도메인 이벤트 발행
+   */
+  private void publishCreated(Payment payment, Reservation reservation) {
+    domainEventPublisher.publish(
+      new PaymentStatusChangedEvent(payment.getId(), reservation.getId(), null, PaymentStatus.PENDING));
+  }
+
   /**
    * 결제 가능한 예약인지 검증
    * - PENDING 상태의 예약만 결제 가능
    * - 비관적 락 획득 후 재검증하여 선행 요청이 이미 처리한 경우 차단
+   * - 승인 여부 확인 중(UNKNOWN)인 결제가 있으면 확정 전까지 재결제 차단 (이미 청구되었을 수 있음)
    */
   private void validatePayable(Reservation reservation) {
     if (reservation.getStatus() != ReservationStatus.PENDING) {
       throw new BusinessException(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED);
     }
-  }
-
-  /**
-   * 요청 본문의 SHA-256 fingerprint 계산
-   * - 직렬화 실패 시 빈 문자열 hash로 대체 (처리는 계속 진행)
-   */
-  private String computeFingerprint(CreatePaymentRequest request) {
-    try {
-      return IdempotencyFingerprintUtil.hash(objectMapper.writeValueAsString(request));
-    } catch (JsonProcessingException e) {
-      log.warn("fingerprint 계산 실패 - 빈 문자열 hash로 대체");
-      return IdempotencyFingerprintUtil.hash("");
+    if (paymentRepository.existsByReservationIdAndStatus(reservation.getId(), PaymentStatus.UNKNOWN)) {
+      throw new BusinessException(PaymentErrorCode.PAYMENT_CONFIRMATION_PENDING);
     }
   }
-}
\ No newline at end of file
+}
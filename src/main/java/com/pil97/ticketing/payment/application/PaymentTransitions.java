@@ -0,0 +1,82 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.event.PaymentStatusChangedEvent;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.event.ReservationStatusChangedEvent;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+
+/**
+ * 결제 결과에 따른 상태 전환
+ * - 동기 결제(PaymentService), 비동기 결제 완료(PaymentCompletionService), 통합 결제(CheckoutService)가 같은 전환 규칙을 쓰도록 분리
+ * - 호출 측 트랜잭션 안에서, 예약 비관적 락을 잡은 상태로 호출해야 한다
+ * - 결제는 PENDING 또는 UNKNOWN(승인 여부 확인 후 확정)에서 전환된다
+ * - 전환마다 도메인 이벤트를 발행한다 (좌석 이벤트는 SeatInventoryService.recordTransition()에서 발행)
+ */
+public final class PaymentTransitions {
+
+  private PaymentTransitions() {
+  }
+
+  /**
+   * 결제 성공 - Payment SUCCESS, 예약 CONFIRMED, 좌석 RESERVED, HOLD CONFIRMED
+   */
+  public static void applySuccess(Payment payment, Reservation reservation, SeatInventoryService seatInventoryService,
+                                  DomainEventPublisher domainEventPublisher) {
+    PaymentStatus paymentFrom = payment.getStatus();
+    payment.success();
+    reservation.confirm();
+    ShowtimeSeat showtimeSeat = reservation.getHold().getShowtimeSeat();
+    showtimeSeat.markReserved();
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.RESERVED);
+    reservation.getHold().confirm();
+
+    domainEventPublisher.publish(new PaymentStatusChangedEvent(
+      payment.getId(), reservation.getId(), paymentFrom, PaymentStatus.SUCCESS));
+    domainEventPublisher.publish(new ReservationStatusChangedEvent(
+      reservation.getId(), ReservationStatus.PENDING, ReservationStatus.CONFIRMED));
+    domainEventPublisher.publish(new HoldStatusChangedEvent(
+      reservation.getHold().getId(), HoldStatus.ACTIVE, HoldStatus.CONFIRMED));
+  }
+
+  /**
+   * 결제 실패 - Payment FAIL, 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE
+   */
+  public static void applyFailure(Payment payment, Reservation reservation, SeatInventoryService seatInventoryService,
+                                  DomainEventPublisher domainEventPublisher) {
+    PaymentStatus paymentFrom = payment.getStatus();
+    payment.fail();
+    reservation.fail();
+    reservation.getHold().expire();
+    ShowtimeSeat showtimeSeat = reservation.getHold().getShowtimeSeat();
+    showtimeSeat.markAvailable();
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.AVAILABLE);
+
+    domainEventPublisher.publish(new PaymentStatusChangedEvent(
+      payment.getId(), reservation.getId(), paymentFrom, PaymentStatus.FAIL));
+    domainEventPublisher.publish(new ReservationStatusChangedEvent(
+      reservation.getId(), ReservationStatus.PENDING, ReservationStatus.FAILED));
+    domainEventPublisher.publish(new HoldStatusChangedEvent(
+      reservation.getHold().getId(), HoldStatus.ACTIVE, HoldStatus.EXPIRED));
+  }
+
+  /**
+   * 승인 여부 미확정 (게이트웨이 응답 시간 초과) - Payment UNKNOWN, 예약 / HOLD / 좌석은 그대로
+   * - 게이트웨이에서 승인되었을 수 있으므로 좌석을 돌려주지 않고, PaymentConfirmationService가 상태 조회로 확정한다
+   */
+  public static void applyUnknown(Payment payment, Reservation reservation,
+                                  DomainEventPublisher domainEventPublisher) {
+    PaymentStatus paymentFrom = payment.getStatus();
+    payment.markUnknown();
+
+    domainEventPublisher.publish(new PaymentStatusChangedEvent(
+      payment.getId(), reservation.getId(), paymentFrom, PaymentStatus.UNKNOWN));
+  }
+}
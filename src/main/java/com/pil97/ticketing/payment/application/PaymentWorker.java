@@ -0,0 +1,163 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayRequest;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import com.pil97.ticketing.payment.error.PaymentErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 결제 처리 worker (payment.async.enabled: true)
+ * <p>
+ * 요청 스레드는 PENDING 결제 생성까지만 처리하고 커밋 후 이 worker에 결제를 넘긴다.
+ * worker는 결제 게이트웨이 호출을 DB 트랜잭션·락 없이 실행한 뒤,
+ * PaymentCompletionService의 짧은 트랜잭션으로 결과를 반영한다.
+ * - 게이트웨이 지연 동안 Tomcat 스레드와 예약 row 락을 점유하지 않는다
+ * - 작업 큐 상한을 두고, 접수 전에 ensureCapacity()로 여유를 확인해 가득 차면 503으로 거절한다
+ * - 확인과 제출 사이에 큐가 가득 차면 CallerRunsPolicy로 제출 스레드가 직접 처리한다 (유실 없이 backpressure)
+ * - 게이트웨이 응답 시간 초과면 승인되었을 수 있으므로 결제를 UNKNOWN으로 남긴다 (PaymentConfirmationService가 확정)
+ * - 그 외 응답을 받지 못하면(오류 / circuit open / bulkhead 포화) 결제를 실패로 반영한다
+ * - 작업은 JVM 메모리에만 있으므로, 처리 전에 인스턴스가 종료되면 결제는 PENDING으로 남는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentWorker {
+
+  /**
+   * 결제 처리 worker 스레드 수
+   * application.yml: payment.async.pool-size
+   */
+  @Value("${payment.async.pool-size:16}")
+  private int poolSize = 16;
+
+  /**
+   * 결제 처리 대기 작업 상한
+   * application.yml: payment.async.queue-capacity
+   */
+  @Value("${payment.async.queue-capacity:1000}")
+  private int queueCapacity = 1000;
+
+  private final PaymentCompletionService paymentCompletionService;
+  private final PaymentGateway paymentGateway;
+
+  private ThreadPoolExecutor paymentExecutor;
+
+  @PostConstruct
+  void initExecutor() {
+    paymentExecutor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity),
+      new CustomizableThreadFactory("payment-worker-"),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+  }
+
+  /**
+   * 종료 시 제출된 결제를 최대 10초까지 마저 처리한다
+   */
+  @PreDestroy
+  void shutdownExecutor() throws InterruptedException {
+    paymentExecutor.shutdown();
+    if (!paymentExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("action=PAYMENT_WORKER_SHUTDOWN_TIMEOUT remaining={}", paymentExecutor.getQueue().size());
+    }
+  }
+
+  /**
+   * 결제 접수 가능 여부 확인 - 작업 큐가 가득 찼으면 PAYMENT_QUEUE_FULL (503)
+   */
+  public void ensureCapacity() {
+    if (paymentExecutor.getQueue().remainingCapacity() == 0) {
+      throw new BusinessException(PaymentErrorCode.PAYMENT_QUEUE_FULL);
+    }
+  }
+
+  /**
+   * 결제 처리 제출 - PENDING 결제 커밋 후 호출
+   *
+   * @param paymentId    결제 ID
+   * @param amount       결제 금액
+   * @param forceFailure 강제 실패 여부 (Mock 결제 실패 시나리오 재현용)
+   */
+  public void submit(Long paymentId, int amount, boolean forceFailure) {
+    paymentExecutor.execute(() -> process(new PaymentGatewayRequest(paymentId, amount, forceFailure)));
+  }
+
+  /**
+   * 트랜잭션 커밋 후 결제 처리 제출 등록 - PENDING 결제를 만든 트랜잭션 안에서 호출
+   * - 커밋 전에 제출하면 worker가 아직 커밋되지 않은 결제를 조회하지 못한다
+   *
+   * @param paymentId    결제 ID
+   * @param amount       결제 금액
+   * @param forceFailure 강제 실패 여부 (Mock 결제 실패 시나리오 재현용)
+   */
+  public void submitAfterCommit(Long paymentId, int amount, boolean forceFailure) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCommit() {
+        submit(paymentId, amount, forceFailure);
+      }
+    });
+  }
+
+  /**
+   * 결제 처리 - worker 스레드에서 실행
+   * - 결제 승인 판정은 트랜잭션 밖에서, 결과 반영만 트랜잭션 안에서 실행
+   * - 실패는 로그로 남기고 삼킨다 (결제는 PENDING으로 남아 상태 조회로 확인 가능)
+   */
+  private void process(PaymentGatewayRequest request) {
+    Long paymentId = request.paymentId();
+    long startNanos = System.nanoTime();
+    try {
+      Optional<Boolean> approved = authorize(request);
+      if (approved.isPresent()) {
+        paymentCompletionService.complete(paymentId, approved.get());
+      } else {
+        paymentCompletionService.markUnknown(paymentId);
+      }
+    } catch (Exception e) {
+      log.error("action=PAYMENT_PROCESS_FAILED paymentId={} message={}", paymentId, e.getMessage(), e);
+    } finally {
+      log.info("action=PAYMENT_PROCESSED paymentId={} durationMs={}",
+        paymentId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+  }
+
+  /**
+   * 결제 게이트웨이 승인 요청 - DB 트랜잭션 밖에서 실행
+   * - 응답 시간 초과면 승인 여부를 알 수 없으므로 빈 값을 반환한다 (게이트웨이에서 승인되었을 수 있음)
+   * - 그 외 응답을 받지 못하면 승인되지 않은 것으로 본다
+   */
+  private Optional<Boolean> authorize(PaymentGatewayRequest request) {
+    try {
+      return Optional.of(paymentGateway.authorize(request) == PaymentGatewayResult.APPROVED);
+    } catch (PaymentGatewayException e) {
+      if (e.getReason() == PaymentGatewayException.Reason.TIMEOUT) {
+        log.warn("action=PAYMENT_GATEWAY_TIMEOUT paymentId={}", request.paymentId());
+        return Optional.empty();
+      }
+      log.warn("action=PAYMENT_GATEWAY_UNAVAILABLE paymentId={} reason={}", request.paymentId(), e.getReason());
+      return Optional.of(false);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.pil97.ticketing.payment.application.scheduler;
+
+import com.pil97.ticketing.payment.application.PaymentConfirmationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmationScheduler {
+
+  private final PaymentConfirmationService paymentConfirmationService;
+
+  /**
+   * application.yml: payment.confirmation.interval-ms
+   */
+  @Scheduled(fixedDelayString = "${payment.confirmation.interval-ms:10000}")
+  public void confirmUnknownPayments() {
+    try {
+      paymentConfirmationService.confirmUnknownPayments(LocalDateTime.now());
+    } catch (Exception e) {
+      log.error("action=PAYMENT_CONFIRM_FAILED", e);
+    }
+  }
+}
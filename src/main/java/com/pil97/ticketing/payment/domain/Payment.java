@@ -26,7 +26,7 @@ public class Payment {
   @Column(nullable = false)
   private int amount;
 
-  // 결제 상태: PENDING -> SUCCESS 또는 FAIL
+  // 결제 상태: PENDING -> SUCCESS 또는 FAIL (게이트웨이 응답 시간 초과 시 UNKNOWN을 거쳐 확정)
   @Enumerated(EnumType.STRING)
   @Column(nullable = false, length = 20)
   private PaymentStatus status;
@@ -67,6 +67,11 @@ public class Payment {
     this.status = PaymentStatus.FAIL;
   }
 
+  // 승인 여부 미확정 처리 - 게이트웨이 응답 시간 초과 시 UNKNOWN으로 전환 (상태 조회로 SUCCESS / FAIL 확정)
+  public void markUnknown() {
+    this.status = PaymentStatus.UNKNOWN;
+  }
+
   // 환불 처리 - 상태를 REFUNDED로 전환하고 환불 시각 기록
   public void refund() {
     this.status = PaymentStatus.REFUNDED;
@@ -7,7 +7,18 @@ public enum PaymentStatus {
   SUCCESS,
   // 결제 실패
   FAIL,
+  // 게이트웨이 응답 시간 초과 - 승인 여부를 상태 조회로 확정하기 전 (확정 전까지 같은 예약의 재결제 차단)
+  UNKNOWN,
 
   // 환불 완료
-  REFUNDED
-}
\ No newline at end of file
+  REFUNDED;
+
+  /**
+   * 최종 결과가 아직 정해지지 않은 상태인지 (PENDING / UNKNOWN) - API 응답을 202 Accepted로 돌려줄지 판단
+   *
+   * @param status 응답 DTO의 결제 상태 이름
+   */
+  public static boolean isUnsettled(String status) {
+    return PENDING.name().equals(status) || UNKNOWN.name().equals(status);
+  }
+}
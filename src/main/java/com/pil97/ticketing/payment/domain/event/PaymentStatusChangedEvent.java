@@ -0,0 +1,19 @@
+package com.pil97.ticketing.payment.domain.event;
+
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+
+/**
+ * 결제 상태 전환 이벤트 (생성 / success / fail / refund)
+ *
+ * @param paymentId     결제 ID
+ * @param reservationId 예약 ID
+ * @param from          변경 전 상태 (생성 시 null)
+ * @param to            변경 후 상태
+ */
+public record PaymentStatusChangedEvent(
+  Long paymentId,
+  Long reservationId,
+  PaymentStatus from,
+  PaymentStatus to
+) {
+}
@@ -0,0 +1,41 @@
+package com.pil97.ticketing.payment.domain.gateway;
+
+import java.util.Optional;
+
+/**
+ * 결제 게이트웨이(PG) 추상화 인터페이스
+ * <p>
+ * PaymentService(동기 결제)와 PaymentWorker(비동기 결제)는 이 인터페이스로만 결제 승인을 요청한다.
+ * - 기본: ResilientPaymentGateway (bulkhead / timeout / circuit breaker 정책) → SimulatedPaymentGateway (프로세스 내 시뮬레이터)
+ * - 실 PG 연동 시 시뮬레이터 자리에 PG 어댑터를 두면 호출 측과 정책은 그대로 유지된다
+ */
+public interface PaymentGateway {
+
+  /**
+   * 결제 승인 요청
+   *
+   * @param request 승인 요청 (결제 ID, 금액)
+   * @return APPROVED / DECLINED
+   * @throws PaymentGatewayException 시간 초과, 게이트웨이 오류, circuit open, bulkhead 포화 등으로 결과를 받지 못한 경우
+   */
+  PaymentGatewayResult authorize(PaymentGatewayRequest request);
+
+  /**
+   * 결제 승인 결과 조회 - 승인 요청의 응답을 받지 못한(UNKNOWN) 결제를 확정할 때 사용
+   *
+   * @param paymentId 결제 ID
+   * @return 게이트웨이가 처리한 승인 결과, 승인 요청을 받은 기록이 없으면 empty (청구되지 않음)
+   * @throws PaymentGatewayException 조회 응답을 받지 못한 경우
+   */
+  Optional<PaymentGatewayResult> inquire(Long paymentId);
+
+  /**
+   * 승인 취소(void) 요청 - 승인됐지만 예약이 이미 종료되어 좌석을 줄 수 없는 결제의 청구를 되돌릴 때 사용
+   * - 멱등: 이미 취소됐거나 승인 기록이 없으면 아무것도 하지 않는다
+   * - 취소 후 inquire()는 CANCELLED를 반환한다
+   *
+   * @param paymentId 결제 ID
+   * @throws PaymentGatewayException 취소 응답을 받지 못한 경우 (호출 측은 다음 확정 주기에 다시 시도한다)
+   */
+  void cancel(Long paymentId);
+}
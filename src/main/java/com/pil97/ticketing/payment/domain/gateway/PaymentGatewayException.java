@@ -0,0 +1,33 @@
+package com.pil97.ticketing.payment.domain.gateway;
+
+import lombok.Getter;
+
+/**
+ * 결제 게이트웨이 호출 실패 - 승인 / 거절 응답을 받지 못한 경우
+ */
+@Getter
+public class PaymentGatewayException extends RuntimeException {
+
+  private final Reason reason;
+
+  public PaymentGatewayException(Reason reason, String message) {
+    super(message);
+    this.reason = reason;
+  }
+
+  public PaymentGatewayException(Reason reason, String message, Throwable cause) {
+    super(message, cause);
+    this.reason = reason;
+  }
+
+  public enum Reason {
+    // 응답 시간 초과 - 게이트웨이에서는 승인되었을 수 있다
+    TIMEOUT,
+    // 게이트웨이 오류 응답 / 네트워크 오류
+    ERROR,
+    // 연속 실패로 circuit이 열려 호출하지 않음
+    CIRCUIT_OPEN,
+    // 동시 호출 상한 초과로 호출하지 않음
+    BULKHEAD_FULL
+  }
+}
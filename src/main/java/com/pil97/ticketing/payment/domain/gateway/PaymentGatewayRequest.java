@@ -0,0 +1,11 @@
+package com.pil97.ticketing.payment.domain.gateway;
+
+/**
+ * 결제 승인 요청
+ *
+ * @param paymentId    결제 ID - PG측 멱등성 키로도 사용
+ * @param amount       결제 금액
+ * @param forceFailure 강제 거절 여부 - 시뮬레이터 전용 (Mock 결제 실패 시나리오 재현용, 실 PG 연동 시 제거 예정)
+ */
+public record PaymentGatewayRequest(Long paymentId, int amount, boolean forceFailure) {
+}
@@ -0,0 +1,13 @@
+package com.pil97.ticketing.payment.domain.gateway;
+
+/**
+ * 결제 승인 결과 - 게이트웨이가 응답한 경우에만 반환된다 (응답을 받지 못하면 PaymentGatewayException)
+ */
+public enum PaymentGatewayResult {
+  // 승인
+  APPROVED,
+  // 거절 (한도 초과, 카드 정지 등 게이트웨이의 정상 거절 응답)
+  DECLINED,
+  // 승인 후 취소됨 - 상태 조회(inquire)에서만 반환된다 (청구되지 않음)
+  CANCELLED
+}
@@ -1,12 +1,55 @@
 package com.pil97.ticketing.payment.domain.repository;
 
 import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
   // 예약 ID로 결제 조회 - TASK-036 멱등성 구현 시 중복 결제 여부 확인에 활용
   Optional<Payment> findByReservationId(Long reservationId);
+
+  // 예약에 특정 상태의 결제가 있는지 확인 - 처리 중(PENDING) / 승인 여부 확인 중(UNKNOWN) 결제가 있으면 재결제 차단
+  boolean existsByReservationIdAndStatus(Long reservationId, PaymentStatus status);
+
+  /**
+   * 상태와 마지막 변경 시각으로 결제 ID 조회 (ID 오름차순)
+   * - 승인 여부 확인(UNKNOWN) 대상 조회 - 게이트웨이가 아직 처리 중일 수 있는 최근 결제는 제외한다
+   * - (status, updated_at) 인덱스 범위 조회
+   */
+  @Query("select p.id from Payment p where p.status = :status and p.updatedAt < :before order by p.id")
+  List<Long> findIdsByStatusAndUpdatedAtBefore(@Param("status") PaymentStatus status,
+                                               @Param("before") LocalDateTime before,
+                                               Pageable pageable);
+
+  /**
+   * 예약을 함께 로드하는 결제 단건 조회
+   * - 결제 상태 조회 시 소유권 검증(Payment → Reservation → Member ID)을 지연 로딩 없이 처리
+   */
+  @EntityGraph(attributePaths = "reservation")
+  @Query("select p from Payment p where p.id = :id")
+  Optional<Payment> findByIdWithReservation(@Param("id") Long id);
+
+  /**
+   * fetch join을 이용한 결제 단건 조회
+   * - 환불 시 결제 → 예약 → HOLD → 좌석 → 회차 → 이벤트를 1회 조회로 로드 (지연 로딩 5회 → 1회)
+   */
+  @Query("""
+    select p from Payment p
+    join fetch p.reservation r
+    join fetch r.hold h
+    join fetch h.showtimeSeat ss
+    join fetch ss.showtime st
+    join fetch st.event
+    where p.id = :id
+    """)
+  Optional<Payment> findByIdWithSeat(@Param("id") Long id);
 }
\ No newline at end of file
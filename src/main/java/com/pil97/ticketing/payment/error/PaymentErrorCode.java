@@ -8,7 +8,7 @@ import com.pil97.ticketing.common.error.ErrorCode;
 
 /**
  * 결제 도메인 에러코드
- * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: PAYMENT-006)
+ * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: PAYMENT-010)
  * PAYMENT-004: IDEMPOTENCY_KEY_MISSING - TASK-052에서 IdempotencyErrorCode(IDEMPOTENCY-003)으로 이동
  * 이 파일은 결제 도메인에서 발생하는 비즈니스 예외를 정의하는 enum입니다.
  */
@@ -29,7 +29,20 @@ public enum PaymentErrorCode implements ErrorCode {
   REFUND_NOT_ALLOWED(HttpStatus.CONFLICT, "PAYMENT-005", "Refund is only allowed for successful payments"),
 
   // 본인 소유가 아닌 결제에 환불 시도 시
-  REFUND_FORBIDDEN(HttpStatus.FORBIDDEN, "PAYMENT-006", "You are not allowed to refund this payment");
+  REFUND_FORBIDDEN(HttpStatus.FORBIDDEN, "PAYMENT-006", "You are not allowed to refund this payment"),
+
+  // 본인 소유가 아닌 결제 상태 조회 시
+  PAYMENT_ACCESS_FORBIDDEN(HttpStatus.FORBIDDEN, "PAYMENT-007", "You are not allowed to access this payment"),
+
+  // 비동기 결제 모드에서 결제 처리 대기열이 가득 찬 경우 - 같은 Idempotency-Key로 재시도 가능
+  PAYMENT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT-008", "Payment queue is full, please retry later"),
+
+  // 결제 게이트웨이 응답을 받지 못한 경우 (오류 / circuit open / bulkhead 포화) - 결제는 반영되지 않으며 같은 Idempotency-Key로 재시도 가능
+  // (timeout은 승인되었을 수 있으므로 이 에러 대신 결제를 UNKNOWN으로 남긴다)
+  PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT-009", "Payment gateway is unavailable, please retry later"),
+
+  // 같은 예약의 이전 결제가 승인 여부 확인 중(UNKNOWN)인 경우 - 확정 전 재승인으로 인한 중복 청구 방지
+  PAYMENT_CONFIRMATION_PENDING(HttpStatus.CONFLICT, "PAYMENT-010", "Previous payment is being confirmed, please retry later");
 
 
   private final HttpStatus status;
@@ -1,5 +1,6 @@
 package com.pil97.ticketing.queue.api;
 
+import com.pil97.ticketing.common.io.IoBudget;
 import com.pil97.ticketing.common.response.ApiResponse;
 import com.pil97.ticketing.member.domain.Member;
 import com.pil97.ticketing.queue.api.dto.request.EnterQueueRequest;
@@ -39,6 +40,7 @@ public class QueueController {
    * 인증:
    * - JWT 필수, Security Filter에서 인증 처리 후 @AuthenticationPrincipal로 추출
    */
+  @IoBudget(sql = 3, redis = 12)
   @PostMapping("/enter")
   public ResponseEntity<ApiResponse<QueueEnterResponse>> enter(
     @AuthenticationPrincipal Member member,
@@ -62,6 +64,7 @@ public class QueueController {
    * 인증:
    * - JWT 필수, Security Filter에서 인증 처리 후 @AuthenticationPrincipal로 추출
    */
+  @IoBudget(sql = 3, redis = 10)
   @GetMapping("/status")
   public ResponseEntity<ApiResponse<QueueStatusResponse>> status(
     @AuthenticationPrincipal Member member,
@@ -1,5 +1,8 @@
 package com.pil97.ticketing.queue.api.dto.response;
 
+import com.pil97.ticketing.queue.application.dto.QueueWaitEstimate;
+import com.pil97.ticketing.showtimeseat.domain.SeatAvailability;
+
 /**
  * 대기 상태 조회 응답 DTO
  * <p>
@@ -7,40 +10,82 @@ package com.pil97.ticketing.queue.api.dto.response;
  * {
  * "rank": 3,
  * "estimatedWaitSeconds": 90,
+ * "estimatedWaitMinSeconds": 75,
+ * "estimatedWaitMaxSeconds": 120,
+ * "nextPollSeconds": 37,
  * "admitted": false,
- * "reEnterType": null
+ * "admissionToken": null,
+ * "reEnterType": null,
+ * "seatAvailability": null
  * }
  * <p>
  * 입장 가능 JSON 예시:
  * {
  * "rank": 0,
  * "estimatedWaitSeconds": 0,
+ * "estimatedWaitMinSeconds": 0,
+ * "estimatedWaitMaxSeconds": 0,
+ * "nextPollSeconds": 0,
  * "admitted": true,
- * "reEnterType": null
+ * "admissionToken": "eyJhbG...",
+ * "reEnterType": null,
+ * "seatAvailability": null
  * }
  * <p>
  * 최초 미진입 JSON 예시:
  * {
  * "rank": 0,
  * "estimatedWaitSeconds": 0,
+ * "estimatedWaitMinSeconds": 0,
+ * "estimatedWaitMaxSeconds": 0,
+ * "nextPollSeconds": 0,
  * "admitted": false,
- * "reEnterType": "NONE"
+ * "admissionToken": null,
+ * "reEnterType": "NONE",
+ * "seatAvailability": null
+ * }
+ * <p>
+ * 일시 매진 JSON 예시 (HOLD 만료 시 다시 열릴 수 있음):
+ * {
+ * "rank": 3,
+ * "estimatedWaitSeconds": 0,
+ * "estimatedWaitMinSeconds": 0,
+ * "estimatedWaitMaxSeconds": 0,
+ * "nextPollSeconds": 30,
+ * "admitted": false,
+ * "admissionToken": null,
+ * "reEnterType": null,
+ * "seatAvailability": "MAY_REOPEN"
  * }
  * <p>
  * 토큰 만료 재진입 JSON 예시:
  * {
  * "rank": 0,
  * "estimatedWaitSeconds": 0,
+ * "estimatedWaitMinSeconds": 0,
+ * "estimatedWaitMaxSeconds": 0,
+ * "nextPollSeconds": 0,
  * "admitted": false,
- * "reEnterType": "EXPIRED"
+ * "admissionToken": null,
+ * "reEnterType": "EXPIRED",
+ * "seatAvailability": null
  * }
  */
 public record QueueStatusResponse(
   long rank,
   long estimatedWaitSeconds,
+  // 예상 대기 시간 90% 신뢰구간 하한/상한 (초)
+  long estimatedWaitMinSeconds,
+  long estimatedWaitMaxSeconds,
+  // 서버 권장 다음 상태 조회 간격 (초) - 0이면 더 이상 폴링 불필요
+  long nextPollSeconds,
   boolean admitted,
+  // 서명된 입장 토큰 - 입장 허용 상태에서만 값이 있으며 HOLD 요청 시 X-Admission-Token 헤더로 전달
+  String admissionToken,
   // 재진입 타입 - null이면 정상 대기 중 또는 입장 허용 상태
-  ReEnterType reEnterType
+  ReEnterType reEnterType,
+  // 잔여 좌석 기준 판매 상태 - null이면 좌석이 남아 있음 (MAY_REOPEN: 일시 매진, SOLD_OUT: 매진)
+  SeatAvailability seatAvailability
 ) {
 
   /**
@@ -54,18 +99,34 @@ public record QueueStatusResponse(
   }
 
   // 대기 중 상태 생성 팩토리 메서드
-  public static QueueStatusResponse ofWaiting(long rank, long estimatedWaitSeconds) {
-    return new QueueStatusResponse(rank, estimatedWaitSeconds, false, null);
+  public static QueueStatusResponse ofWaiting(long rank, QueueWaitEstimate estimate) {
+    return new QueueStatusResponse(
+      rank,
+      estimate.estimatedWaitSeconds(),
+      estimate.estimatedWaitMinSeconds(),
+      estimate.estimatedWaitMaxSeconds(),
+      estimate.nextPollSeconds(),
+      false,
+      null,
+      null,
+      null
+    );
   }
 
   // 입장 가능 상태 생성 팩토리 메서드
-  public static QueueStatusResponse ofAdmitted() {
-    return new QueueStatusResponse(0, 0, true, null);
+  public static QueueStatusResponse ofAdmitted(String admissionToken) {
+    return new QueueStatusResponse(0, 0, 0, 0, 0, true, admissionToken, null, null);
   }
 
   // 재진입 필요 상태 생성 팩토리 메서드
   // reEnterType으로 최초 미진입(NONE)과 토큰 만료(EXPIRED)를 구분한다.
   public static QueueStatusResponse ofReEnterRequired(ReEnterType reEnterType) {
-    return new QueueStatusResponse(0, 0, false, reEnterType);
+    return new QueueStatusResponse(0, 0, 0, 0, 0, false, null, reEnterType, null);
+  }
+
+  // 매진 상태 대기 생성 팩토리 메서드
+  // 순번은 유지하되 예상 대기 시간은 내려주지 않는다. SOLD_OUT이면 nextPollSeconds=0으로 폴링 중단을 안내한다.
+  public static QueueStatusResponse ofSoldOut(long rank, SeatAvailability seatAvailability, long nextPollSeconds) {
+    return new QueueStatusResponse(rank, 0, 0, 0, nextPollSeconds, false, null, null, seatAvailability);
   }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.pil97.ticketing.queue.application;
+
+import com.pil97.ticketing.infra.outbox.OutboxEventHandler;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 입장 자리 반환 이벤트 전달 - 결제 완료 회원의 입장 토큰 삭제 (재전달되어도 결과 동일)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionReleaseHandler implements OutboxEventHandler<AdmissionReleaseHandler.Payload> {
+
+  private final QueueService queueService;
+
+  @Override
+  public OutboxEventType type() {
+    return OutboxEventType.ADMISSION_RELEASE;
+  }
+
+  @Override
+  public Class<Payload> payloadType() {
+    return Payload.class;
+  }
+
+  @Override
+  public void handle(Payload payload) {
+    queueService.releaseAdmission(payload.eventId(), payload.memberId());
+  }
+
+  public record Payload(Long eventId, Long memberId) {
+  }
+}
@@ -0,0 +1,112 @@
+package com.pil97.ticketing.queue.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.queue.error.QueueErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 입장 토큰 발급/검증 담당
+ * <p>
+ * 입장 토큰은 memberId, eventId, 만료 시각을 담은 HMAC(HS256) 서명 토큰이다.
+ * - 서명과 만료는 로컬에서 검증하므로 HOLD 경로에서 토큰 검증용 Redis 조회가 필요 없다.
+ * - eventId가 토큰에 포함되어 있어 다른 이벤트 회차에는 사용할 수 없다.
+ * - 로그인 JWT와 키를 분리해 AccessToken을 입장 토큰으로 재사용할 수 없게 한다.
+ */
+@Slf4j
+@Component
+public class AdmissionTokenProvider {
+
+  private static final String EVENT_ID_CLAIM = "eid";
+
+  private final SecretKey secretKey;
+  private final long ttlMs;
+
+  /**
+   * AdmissionTokenProvider 생성자
+   * - secret: 입장 토큰 서명 비밀키 (application.yml: queue.admission-token.secret)
+   * - ttlMs: 입장 토큰 유효 시간 (application.yml: queue.admission-token.ttl-ms)
+   */
+  public AdmissionTokenProvider(
+    @Value("${queue.admission-token.secret}") String secret,
+    @Value("${queue.admission-token.ttl-ms:1800000}") long ttlMs
+  ) {
+    this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.ttlMs = ttlMs;
+  }
+
+  /**
+   * 입장 토큰 발급
+   * admitTopMembers()에서 입장 허용 시 호출한다.
+   *
+   * @param memberId 회원 ID
+   * @param eventId  이벤트 ID
+   * @return 서명된 입장 토큰
+   */
+  public String issue(Long memberId, Long eventId) {
+    Date now = new Date();
+
+    return Jwts.builder()
+      .id(UUID.randomUUID().toString())
+      .subject(String.valueOf(memberId))
+      .claim(EVENT_ID_CLAIM, eventId)
+      .issuedAt(now)
+      .expiration(new Date(now.getTime() + ttlMs))
+      .signWith(secretKey)
+      .compact();
+  }
+
+  /**
+   * 입장 토큰 서명/만료 검증
+   * - 만료: QueueErrorCode.ADMISSION_TOKEN_EXPIRED
+   * - 위조/형식 오류: QueueErrorCode.ADMISSION_TOKEN_INVALID
+   *
+   * @param token 입장 토큰
+   * @return 검증된 토큰 내용
+   */
+  public AdmissionTokenClaims verify(String token) {
+    try {
+      return toClaims(parseClaims(token));
+    } catch (ExpiredJwtException e) {
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_EXPIRED);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.warn("action=ADMISSION_TOKEN_INVALID message={}", e.getMessage());
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_INVALID);
+    }
+  }
+
+  private Claims parseClaims(String token) {
+    return Jwts.parser()
+      .verifyWith(secretKey)
+      .build()
+      .parseSignedClaims(token)
+      .getPayload();
+  }
+
+  private AdmissionTokenClaims toClaims(Claims claims) {
+    Long eventId = claims.get(EVENT_ID_CLAIM, Long.class);
+    if (claims.getId() == null || eventId == null) {
+      throw new MalformedJwtException("admission token requires jti and eid claims");
+    }
+
+    return new AdmissionTokenClaims(
+      claims.getId(),
+      Long.parseLong(claims.getSubject()),
+      eventId,
+      claims.getExpiration().getTime()
+    );
+  }
+}
@@ -2,17 +2,33 @@ package com.pil97.ticketing.queue.application;
 
 import com.pil97.ticketing.common.exception.BusinessException;
 import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.infra.outbox.OutboxWriter;
 import com.pil97.ticketing.queue.api.dto.response.QueueEnterResponse;
 import com.pil97.ticketing.queue.api.dto.response.QueueStatusResponse;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.queue.application.dto.QueueWaitEstimate;
+import com.pil97.ticketing.queue.domain.AdmissionTokenEntry;
+import com.pil97.ticketing.queue.domain.AdmissionTokenMode;
 import com.pil97.ticketing.queue.domain.repository.QueueRepository;
 import com.pil97.ticketing.queue.error.QueueErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.SeatAvailability;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 대기열 비즈니스 로직 담당 서비스
@@ -22,12 +38,29 @@ import java.util.UUID;
  * 2. 유저가 GET /queue/status 호출 → 현재 순번 또는 입장 가능 여부 반환
  * 3. QueueScheduler가 주기적으로 상위 N명에게 입장 토큰 발급 후 대기열에서 제거
  * 4. 유저가 HOLD API 호출 시 입장 토큰 유효성 검사
+ * - SIGNED 모드: 서명/만료/회원/폐기 여부를 로컬에서 검증
+ * - OPAQUE 모드: Redis에 저장된 토큰과 비교, 양성 결과는 짧은 TTL로 로컬 캐시 (폐기 시 pub/sub으로 전 인스턴스 제거)
+ * 5. QueueScheduler가 tick마다 만료된 입장 토큰을 이벤트별로 일괄 정리
+ * <p>
+ * 활성 사용자 윈도우 모드 (queue.active-window.max-active-members > 0):
+ * - 이벤트별 동시 입장 인원을 상한으로 제한하고, 스케줄러는 빈 자리만큼만 입장 허용한다
+ * - 입장 토큰 만료 인덱스를 유휴 제한 시간으로 기록하고 HOLD / 예약 요청마다 연장한다
+ * - 결제 완료, HOLD 만료, 유휴 시간 초과 시 자리가 반환된다
+ * <p>
+ * 매진 단락:
+ * - 이벤트 잔여 좌석 카운터(SeatInventoryService)로 AVAILABLE 좌석이 없으면 대기열 진입을 O(1)로 거절한다
+ * - 대기 중인 회원에게는 일시 매진(MAY_REOPEN) / 매진(SOLD_OUT) 상태를 내려주고, 스케줄러는 입장 허용을 멈춘다
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QueueService {
 
+  private static final String OPAQUE_TOKEN_DELIMITER = ":";
+  private static final int ADMISSION_CACHE_MAX_SIZE = 100_000;
+  // 일시 매진 상태의 권장 폴링 간격(초) - HOLD 만료 주기(30초)보다 자주 조회할 필요가 없다
+  private static final long MAY_REOPEN_POLL_SECONDS = 30L;
+
   /**
    * 스케줄러 1회 실행 시 입장 허용할 최대 인원 수
    * application.yml: queue.scheduler.batch-size
@@ -36,15 +69,75 @@ public class QueueService {
   private int batchSize;
 
   /**
-   * 스케줄러 실행 주기 (ms)
-   * application.yml: queue.scheduler.fixed-delay-ms
-   * 예상 대기 시간 계산에 사용한다.
+   * 이벤트 단위 폐기 목록 로컬 갱신 주기 (ms)
+   * application.yml: queue.admission-token.revocation-refresh-ms
+   * 폐기는 pub/sub 알림(evictEventAdmissions)으로 즉시 반영되고, 이 주기는 알림 유실에 대비한 보조 갱신이다.
+   */
+  @Value("${queue.admission-token.revocation-refresh-ms:10000}")
+  private long revocationRefreshMs;
+
+  /**
+   * 입장 토큰 방식 (SIGNED / OPAQUE)
+   * application.yml: queue.admission-token.mode
+   */
+  @Value("${queue.admission-token.mode:SIGNED}")
+  private AdmissionTokenMode admissionTokenMode = AdmissionTokenMode.SIGNED;
+
+  /**
+   * OPAQUE 모드 입장 토큰 로컬 캐시 TTL (ms)
+   * application.yml: queue.admission-token.local-cache-ttl-ms
+   * 캐시 항목은 Redis 토큰의 남은 TTL을 넘지 않으므로 만료된 토큰이 캐시로 통과되지 않는다.
+   * 활성 사용자 윈도우의 유휴 시간 연장(touchAdmissionToken)도 회원별로 이 주기에 1회만 한다.
+   */
+  @Value("${queue.admission-token.local-cache-ttl-ms:5000}")
+  private long admissionCacheTtlMs;
+
+  /**
+   * 만료 입장 토큰 1회 정리 상한
+   * application.yml: queue.admission-token.sweep-batch-size
+   * tick마다 상한 단위로 반복 정리하므로 Redis 명령 1회가 길어지지 않는다.
+   */
+  @Value("${queue.admission-token.sweep-batch-size:1000}")
+  private int sweepBatchSize = 1000;
+
+  /**
+   * 입장 토큰 유효 시간 (ms)
+   * application.yml: queue.admission-token.ttl-ms
+   * 활성 사용자 윈도우 모드에서는 유휴 연장(touch)으로 늘릴 수 있는 세션 길이 상한으로도 쓴다.
    */
-  @Value("${queue.scheduler.fixed-delay-ms}")
-  private long fixedDelayMs;
+  @Value("${queue.admission-token.ttl-ms:1800000}")
+  private long admissionTokenTtlMs = 1800000L;
+
+  /**
+   * 이벤트별 동시 입장 인원 상한 - 0이면 활성 사용자 윈도우를 사용하지 않는다
+   * application.yml: queue.active-window.max-active-members
+   */
+  @Value("${queue.active-window.max-active-members:0}")
+  private long maxActiveMembers;
+
+  /**
+   * 활성 사용자 윈도우 유휴 제한 시간 (ms)
+   * application.yml: queue.active-window.idle-timeout-ms
+   * 이 시간 동안 HOLD / 예약 요청이 없으면 입장 토큰이 만료되어 자리가 반환된다.
+   */
+  @Value("${queue.active-window.idle-timeout-ms:300000}")
+  private long idleTimeoutMs = 300000L;
 
   private final QueueRepository queueRepository;
   private final EventRepository eventRepository;
+  private final QueueWaitEstimator queueWaitEstimator;
+  private final AdmissionTokenProvider admissionTokenProvider;
+  private final SeatInventoryService seatInventoryService;
+  private final OutboxWriter outboxWriter;
+
+  // 이벤트 단위 폐기 목록 로컬 스냅샷 - HOLD 경로에서 Redis를 조회하지 않도록 주기적으로만 갱신
+  private volatile RevokedEvents revokedEvents = new RevokedEvents(Map.of(), 0L);
+
+  // OPAQUE 모드 입장 토큰 양성 캐시 - memberId → (이벤트 ID, 토큰 값, 캐시 유효 시각)
+  private final Map<Long, CachedAdmission> admissionCache = new ConcurrentHashMap<>();
+
+  // 활성 사용자 윈도우 마지막 연장 시각 - memberId → (이벤트 ID, 연장 시각). 연장 Redis 호출을 캐시 TTL당 1회로 줄인다
+  private final Map<Long, TouchedAdmission> lastTouches = new ConcurrentHashMap<>();
 
   /**
    * 대기열 등록 및 재진입
@@ -52,6 +145,7 @@ public class QueueService {
    * 최초 등록: ZADD NX로 순번 발급
    * 재진입: ZREM → ZADD로 기존 순번 초기화 후 맨 뒤 재등록
    * 존재하지 않는 eventId 요청 시 QueueErrorCode.EVENT_NOT_FOUND 예외 발생
+   * AVAILABLE 좌석이 없으면 QueueErrorCode.SOLD_OUT / SOLD_OUT_MAY_REOPEN 예외 발생 (잔여 좌석 카운터 기준)
    *
    * @param eventId  이벤트 ID
    * @param memberId JWT에서 추출한 회원 ID
@@ -64,17 +158,30 @@ public class QueueService {
       throw new BusinessException(QueueErrorCode.EVENT_NOT_FOUND);
     }
 
-    // Redis INCR 기반 전역 카운터로 score 충돌 완전 방지
-    double score = queueRepository.nextScore(eventId);
+    // 매진 단락 - 남은 좌석이 없으면 대기열에 쌓지 않는다
+    SeatAvailability availability = seatInventoryService.getEventAvailability(eventId);
+    if (availability == SeatAvailability.SOLD_OUT) {
+      throw new BusinessException(QueueErrorCode.SOLD_OUT);
+    }
+    if (availability == SeatAvailability.MAY_REOPEN) {
+      throw new BusinessException(QueueErrorCode.SOLD_OUT_MAY_REOPEN);
+    }
+
+    // Redis INCR 기반 전역 카운터로 score 충돌 완전 방지 (샤딩 모드는 서브 큐별 카운터)
+    double score = queueRepository.nextScore(eventId, memberId);
     boolean isReEnter = queueRepository.hasAdmittedHistory(eventId, memberId);
 
     if (isReEnter) {
       // 재진입: 기존 순번 초기화 후 맨 뒤 재등록
       queueRepository.addOrReplace(eventId, memberId, score);
+      queueRepository.incrementEnteredCount(eventId);
       log.info("memberId={} action=QUEUE_REENTERED eventId={}", memberId, eventId);
     } else {
       // 최초 등록: 이미 대기열에 있으면 기존 순번 유지
-      queueRepository.addIfAbsent(eventId, memberId, score);
+      // 실제로 추가된 경우만 진입 수 집계 - 이탈률 추정에 사용
+      if (queueRepository.addIfAbsent(eventId, memberId, score)) {
+        queueRepository.incrementEnteredCount(eventId);
+      }
     }
 
     // 활성 대기열 이벤트 목록에 등록 - 스케줄러가 이 Set을 순회하며 처리
@@ -84,18 +191,19 @@ public class QueueService {
     Long rank = queueRepository.getRank(eventId, memberId);
     long rankOneBased = (rank != null ? rank : 0L) + 1;
 
-    long estimatedWaitSeconds = calculateEstimatedWait(rankOneBased);
+    QueueWaitEstimate estimate = queueWaitEstimator.estimate(eventId, rankOneBased);
 
     log.info("memberId={} action=QUEUE_ENTERED eventId={} rank={}", memberId, eventId, rankOneBased);
 
-    return new QueueEnterResponse(rankOneBased, estimatedWaitSeconds);
+    return new QueueEnterResponse(rankOneBased, estimate.estimatedWaitSeconds());
   }
 
   /**
    * 대기 상태 조회
    * <p>
-   * 케이스 1: 입장 토큰 존재 → admitted=true 반환
-   * 케이스 2: 대기열에 존재 → 현재 순번 + 예상 대기 시간 반환
+   * 케이스 1: 해당 이벤트의 입장 토큰 존재 → admitted=true + 입장 토큰 반환
+   * 케이스 2: 대기열에 존재 → 현재 순번 + 예상 대기 시간(신뢰구간) + 권장 폴링 간격 반환
+   * - AVAILABLE 좌석이 없으면 예상 대기 시간 대신 판매 상태 반환 (MAY_REOPEN: 계속 대기, SOLD_OUT: 폴링 중단)
    * 케이스 3: 대기열 미등록 + 입장 이력 없음 → reEnterType=NONE (최초 미진입)
    * 케이스 4: 대기열 미등록 + 입장 이력 있음 → reEnterType=EXPIRED (토큰 만료 재진입)
    *
@@ -105,9 +213,10 @@ public class QueueService {
    */
   public QueueStatusResponse getStatus(Long eventId, Long memberId) {
 
-    // 케이스 1: 입장 토큰이 있으면 이미 입장 허용된 유저
-    if (queueRepository.hasAdmissionToken(memberId)) {
-      return QueueStatusResponse.ofAdmitted();
+    // 케이스 1: 이 이벤트의 입장 토큰이 있으면 이미 입장 허용된 유저
+    Optional<String> admissionToken = queueRepository.findAdmissionToken(eventId, memberId);
+    if (admissionToken.isPresent()) {
+      return QueueStatusResponse.ofAdmitted(admissionToken.get());
     }
 
     // 대기열 순번 조회
@@ -129,39 +238,178 @@ public class QueueService {
 
     // 케이스 2: 대기열에 존재 → 순번 반환
     long rankOneBased = rank + 1;
-    long estimatedWaitSeconds = calculateEstimatedWait(rankOneBased);
 
-    return QueueStatusResponse.ofWaiting(rankOneBased, estimatedWaitSeconds);
+    SeatAvailability availability = seatInventoryService.getEventAvailability(eventId);
+    if (availability == SeatAvailability.MAY_REOPEN) {
+      return QueueStatusResponse.ofSoldOut(rankOneBased, availability, MAY_REOPEN_POLL_SECONDS);
+    }
+    if (availability == SeatAvailability.SOLD_OUT) {
+      return QueueStatusResponse.ofSoldOut(rankOneBased, availability, 0L);
+    }
+
+    QueueWaitEstimate estimate = queueWaitEstimator.estimate(eventId, rankOneBased);
+
+    return QueueStatusResponse.ofWaiting(rankOneBased, estimate);
   }
 
   /**
    * 입장 토큰 유효성 검사
    * HOLD API 호출 시 진입점에서 사용한다.
+   * SIGNED 모드: 서명/만료/회원 일치는 로컬에서 검증하고, 폐기 여부는 주기적으로 갱신되는 로컬 스냅샷으로 확인한다.
+   * 이벤트 일치 여부는 회차 조회 후 호출 측에서 반환된 eventId로 확인한다.
+   * OPAQUE 모드: 토큰 접두어의 eventId로 해당 이벤트에 저장된 회원의 토큰을 조회해 제시된 토큰과 비교한다.
+   * 두 모드 모두 반환된 eventId로 호출 측에서 이벤트 일치 여부를 확인한다.
+   * 활성 사용자 윈도우 모드에서는 검증 후 입장 토큰 만료 시각을 연장하고(회원별 캐시 TTL당 1회), 자리를 잃은 회원은 ADMISSION_TOKEN_EXPIRED로 차단한다.
    *
-   * @param memberId JWT에서 추출한 회원 ID
+   * @param admissionToken X-Admission-Token 헤더로 전달된 입장 토큰
+   * @param memberId       요청 회원 ID
+   * @return 검증된 토큰 내용
    */
-  public void validateAdmissionToken(Long memberId) {
-    if (!queueRepository.hasAdmissionToken(memberId)) {
+  public AdmissionTokenClaims validateAdmissionToken(String admissionToken, Long memberId) {
+    if (admissionToken == null || admissionToken.isBlank()) {
       throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_NOT_FOUND);
     }
+
+    AdmissionTokenClaims claims = admissionTokenMode == AdmissionTokenMode.OPAQUE
+      ? validateOpaqueAdmission(admissionToken, memberId)
+      : validateSignedAdmission(admissionToken, memberId);
+
+    // 활성 사용자 윈도우 - 유휴 시간 초과 또는 결제 완료로 자리를 반환한 회원은 토큰이 남아 있어도 차단
+    if (isActiveWindowEnabled() && !touchThrottled(claims.eventId(), memberId)) {
+      forgetAdmission(memberId);
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_EXPIRED);
+    }
+
+    return claims;
+  }
+
+  /**
+   * 활성 사용자 윈도우 활동 기록
+   * 예약 요청 시 호출해 유휴 제한 시간을 다시 시작한다. 윈도우를 사용하지 않으면 아무것도 하지 않는다.
+   *
+   * @param eventId  이벤트 ID
+   * @param memberId 회원 ID
+   */
+  public void touchAdmission(Long eventId, Long memberId) {
+    if (isActiveWindowEnabled()) {
+      touchThrottled(eventId, memberId);
+    }
+  }
+
+  /**
+   * 활성 사용자 윈도우 자리 반환
+   * 결제 완료 / HOLD 만료 시 호출한다. 입장 토큰을 삭제해 다음 스케줄러 tick에서 대기자가 입장할 수 있게 한다.
+   * 윈도우를 사용하지 않으면 아무것도 하지 않는다. (기존처럼 토큰 만료까지 추가 HOLD 가능)
+   *
+   * @param eventId  이벤트 ID
+   * @param memberId 회원 ID
+   */
+  public void releaseAdmission(Long eventId, Long memberId) {
+    if (!isActiveWindowEnabled()) {
+      return;
+    }
+    queueRepository.deleteAdmissionToken(eventId, memberId);
+    queueRepository.publishAdmissionRevoked(memberId);
+    forgetAdmission(memberId);
+    log.info("memberId={} action=ACTIVE_WINDOW_RELEASED eventId={}", memberId, eventId);
+  }
+
+  /**
+   * 트랜잭션 커밋 후 활성 사용자 윈도우 자리 반환 등록 - 결제 완료 / HOLD·예약 만료를 반영하는 트랜잭션 안에서 호출
+   * 결제 완료 / 만료된 회원의 입장 토큰을 삭제해 다음 대기자가 입장할 수 있게 한다. 윈도우를 사용하지 않으면 등록하지 않는다.
+   * outbox 모드에서는 트랜잭션에 outbox 이벤트로 기록하고 OutboxRelay가 반환한다 (AdmissionReleaseHandler)
+   *
+   * @param eventId  이벤트 ID
+   * @param memberId 회원 ID
+   */
+  public void releaseAdmissionAfterCommit(Long eventId, Long memberId) {
+    if (!isActiveWindowEnabled()) {
+      return;
+    }
+
+    if (outboxWriter.isEnabled()) {
+      outboxWriter.append(OutboxEventType.ADMISSION_RELEASE, "admission:" + eventId + ":" + memberId,
+        new AdmissionReleaseHandler.Payload(eventId, memberId));
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCommit() {
+        releaseAdmission(eventId, memberId);
+      }
+    });
+  }
+
+  /**
+   * 활성 사용자 윈도우 사용 여부
+   * 호출 측에서 윈도우를 쓰지 않을 때 eventId 조회 등 부가 작업을 건너뛰는 데 사용한다.
+   *
+   * @return queue.active-window.max-active-members > 0 이면 true
+   */
+  public boolean isActiveWindowEnabled() {
+    return maxActiveMembers > 0;
+  }
+
+  /**
+   * OPAQUE 모드 입장 토큰 로컬 캐시 / 윈도우 연장 기록 제거
+   * 다른 인스턴스에서 토큰이 폐기되면 pub/sub 수신 측에서 호출한다.
+   *
+   * @param memberId 회원 ID
+   */
+  public void evictAdmissionCache(Long memberId) {
+    forgetAdmission(memberId);
+  }
+
+  /**
+   * 이벤트 입장 토큰 일괄 폐기 반영
+   * 이벤트의 로컬 캐시 / 윈도우 연장 기록을 제거하고, 다음 검증에서 폐기 목록을 다시 조회하도록 스냅샷을 비운다.
+   * 다른 인스턴스에서 이벤트가 정리되면 pub/sub 수신 측에서 호출한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  public void evictEventAdmissions(Long eventId) {
+    admissionCache.values().removeIf(entry -> entry.eventId().equals(eventId));
+    lastTouches.values().removeIf(entry -> entry.eventId().equals(eventId));
+    revokedEvents = new RevokedEvents(Map.of(), 0L);
   }
 
   /**
    * 특정 이벤트 대기열에서 상위 N명 입장 허용
    * QueueScheduler에서 이벤트별로 호출한다.
    * 입장 토큰 발급 시 입장 허용 이력을 함께 저장한다.
+   * 활성 사용자 윈도우 모드에서는 min(배치 사이즈, 상한 - 현재 활성 인원)명만 입장 허용한다.
+   * AVAILABLE 좌석이 없으면 입장 허용을 멈춘다. (HOLD 만료로 좌석이 다시 열리면 재개)
+   * 처리 후 실제 입장 허용 인원을 처리량 통계에 반영한다.
    *
    * @param eventId 이벤트 ID
    */
   public void admitTopMembers(Long eventId) {
-    Set<String> topMembers = queueRepository.getTopMembers(eventId, batchSize);
+    SeatAvailability availability = seatInventoryService.getEventAvailability(eventId);
+    if (availability == SeatAvailability.MAY_REOPEN || availability == SeatAvailability.SOLD_OUT) {
+      log.debug("action=QUEUE_ADMISSION_PAUSED eventId={} availability={}", eventId, availability);
+      return;
+    }
+
+    int admitLimit = admitLimit(eventId);
+    if (admitLimit <= 0) {
+      // 빈 자리 없음 - 처리량 0으로 기록해 예상 대기 시간에 반영
+      log.debug("action=ACTIVE_WINDOW_FULL eventId={} maxActiveMembers={}", eventId, maxActiveMembers);
+      queueWaitEstimator.recordAdmissions(eventId, 0);
+      return;
+    }
+
+    Set<String> topMembers = queueRepository.getTopMembers(eventId, admitLimit);
+    long tokenTtlMs = isActiveWindowEnabled() ? Math.min(idleTimeoutMs, admissionTokenTtlMs) : admissionTokenTtlMs;
 
     for (String memberIdStr : topMembers) {
       Long memberId = Long.parseLong(memberIdStr);
-      String token = UUID.randomUUID().toString();
+      String token = issueAdmissionToken(memberId, eventId);
 
-      // 입장 토큰 발급 (TTL 30분)
-      queueRepository.saveAdmissionToken(memberId, token);
+      // 입장 토큰 발급 - getStatus()에서 클라이언트에 전달 (윈도우 모드에서는 유휴 제한 시간 후 만료)
+      // 활동으로 연장해도 입장 토큰 유효 시간(ttl-ms)이 세션 길이 상한 - 윈도우 자리를 무기한 점유하지 못한다
+      queueRepository.saveAdmissionToken(eventId, memberId, token, tokenTtlMs, admissionTokenTtlMs);
 
       // 입장 허용 이력 저장 - getStatus()에서 토큰 만료 케이스 구분에 사용
       queueRepository.saveAdmittedHistory(eventId, memberId);
@@ -171,20 +419,82 @@ public class QueueService {
 
       log.info("memberId={} action=QUEUE_ADMITTED eventId={}", memberId, eventId);
     }
+
+    queueWaitEstimator.recordAdmissions(eventId, topMembers.size());
+  }
+
+  /**
+   * 대기열 순번 추정 스냅샷 갱신
+   * QueueScheduler에서 이벤트별로 입장 허용 후 호출한다.
+   * 샤딩 모드 이벤트의 순번 조회가 다른 샤드를 직접 읽지 않도록 tick당 1회 샤드별 head / 크기를 갱신한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  public void refreshRankSnapshot(Long eventId) {
+    queueRepository.refreshRankSnapshot(eventId);
+  }
+
+  /**
+   * 만료된 입장 토큰 정리
+   * QueueScheduler에서 이벤트별로 입장 허용 전에 호출한다.
+   * 상한(sweep-batch-size) 단위로 만료 토큰이 남지 않을 때까지 반복한다.
+   *
+   * @param eventId 이벤트 ID
+   * @return 정리된 토큰 수
+   */
+  public int sweepExpiredAdmissions(Long eventId) {
+    int total = 0;
+    List<Long> removed;
+    do {
+      removed = queueRepository.removeExpiredAdmissionTokens(eventId, sweepBatchSize);
+      removed.forEach(this::forgetAdmission);
+      total += removed.size();
+    } while (removed.size() >= sweepBatchSize);
+
+    if (total > 0) {
+      log.info("action=ADMISSION_TOKEN_SWEPT eventId={} count={}", eventId, total);
+    }
+    return total;
+  }
+
+  /**
+   * 현재 입장 토큰을 보유한 인원 수
+   * sweepExpiredAdmissions() 직후 호출하면 활성 입장 인원과 같다. (O(1))
+   *
+   * @param eventId 이벤트 ID
+   * @return 활성 입장 인원 수
+   */
+  public long countActiveAdmissions(Long eventId) {
+    return queueRepository.countAdmissionTokens(eventId);
+  }
+
+  // 이번 tick 입장 허용 인원 - 윈도우 모드에서는 빈 자리 수로 제한 (sweepExpiredAdmissions() 직후 호출 전제)
+  private int admitLimit(Long eventId) {
+    if (!isActiveWindowEnabled()) {
+      return batchSize;
+    }
+    long freeSlots = maxActiveMembers - countActiveAdmissions(eventId);
+    return (int) Math.max(0L, Math.min(batchSize, freeSlots));
   }
 
   /**
    * 종료된 이벤트 대기열 정리
    * QueueScheduler에서 호출한다.
-   * queue:event:{eventId} 삭제 + queue:active:events 제거 + 입장 허용 이력 삭제 + 순번 카운터 삭제
+   * 입장 토큰 폐기 + queue:event:{eventId} 삭제 + queue:active:events 제거 + 입장 허용 이력 삭제
+   * + 순번 카운터 삭제 + 처리량 통계 삭제
    *
    * @param eventId 이벤트 ID
    */
   public void cleanUpEndedQueue(Long eventId) {
+    // 대기열 정리 전에 아직 유효한 입장 토큰부터 폐기
+    revokeAdmissionTokens(eventId);
     queueRepository.deleteQueue(eventId);
     queueRepository.removeActiveEvent(eventId);
     queueRepository.deleteAdmittedHistory(eventId);
     queueRepository.deleteSeq(eventId);
+    queueRepository.deleteThroughputStats(eventId);
+    queueWaitEstimator.evict(eventId);
+    seatInventoryService.evict(eventId);
     log.info("action=QUEUE_CLEANED_UP eventId={}", eventId);
   }
 
@@ -199,14 +509,160 @@ public class QueueService {
   }
 
   /**
-   * 예상 대기 시간 계산
-   * 공식: rank * (스케줄러 주기(초) / 배치 사이즈)
+   * 이벤트의 입장 허용 회원에게 발급된 입장 토큰 일괄 폐기
+   * - 토큰을 하나씩 순회하지 않고 이벤트 단위로 1건만 기록 / 발행한다.
+   * - 서명 토큰은 만료 전까지 스스로 유효하므로 (이벤트 ID, 지금 + 토큰 유효 시간)을 폐기 목록에 등록한다.
+   *   이 시각 이전에 만료되는 토큰은 모두 지금까지 발급된 토큰이므로 eid / 만료 시각만으로 HOLD를 차단한다.
+   * - 토큰 key를 일괄 삭제하고 폐기 채널에 1회 발행해 전 인스턴스의 로컬 캐시 / 스냅샷에 반영한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  private void revokeAdmissionTokens(Long eventId) {
+    if (admissionTokenMode == AdmissionTokenMode.SIGNED) {
+      queueRepository.revokeEventAdmissions(eventId, System.currentTimeMillis() + admissionTokenTtlMs);
+    }
+    queueRepository.deleteAdmissionTokens(eventId);
+    queueRepository.publishEventAdmissionsRevoked(eventId);
+    evictEventAdmissions(eventId);
+    log.info("action=ADMISSION_TOKENS_REVOKED eventId={}", eventId);
+  }
+
+  // SIGNED 모드 입장 토큰 검증 - 서명/만료/회원 일치/폐기 여부를 로컬에서 확인
+  private AdmissionTokenClaims validateSignedAdmission(String admissionToken, Long memberId) {
+    AdmissionTokenClaims claims = admissionTokenProvider.verify(admissionToken);
+
+    // 다른 회원에게 발급된 토큰 재사용 차단
+    if (!claims.memberId().equals(memberId)) {
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_INVALID);
+    }
+
+    // 이벤트 정리 시점까지 발급된 토큰(폐기 기준 시각 이전 만료) 차단
+    if (claims.eventId() != null) {
+      Long revokedUntil = eventRevocations().get(claims.eventId());
+      if (revokedUntil != null && claims.expiresAtMillis() <= revokedUntil) {
+        throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_REVOKED);
+      }
+    }
+
+    return claims;
+  }
+
+  /**
+   * OPAQUE 모드 입장 토큰 검증
+   * - 토큰 접두어({eventId}:)로 대상 이벤트를 결정한다
+   * - 캐시 hit: Redis 조회 없이 캐시된 토큰과 상수 시간 비교 후 통과
+   * - 캐시 miss: HGET + ZSCORE 1회 왕복으로 저장된 토큰과 만료 시각을 조회하고, 제시된 토큰과 상수 시간 비교
+   *   (회원 ID만 맞고 토큰 값이 다른 요청이 통과하지 않게, 비교 시간으로 토큰 값이 드러나지 않게)
+   * - 일치한 양성 결과만 min(캐시 TTL, 남은 TTL) 동안 캐시
    *
-   * @param rank 1-based 순번
-   * @return 예상 대기 시간(초)
+   * @param admissionToken {eventId}:{UUID} 형식의 입장 토큰
+   * @param memberId       회원 ID
+   * @return 토큰 ID 없이 memberId, eventId, 캐시 만료 시각만 담은 토큰 내용
    */
-  private long calculateEstimatedWait(long rank) {
-    long schedulerIntervalSeconds = fixedDelayMs / 1000;
-    return rank * (schedulerIntervalSeconds / batchSize);
+  private AdmissionTokenClaims validateOpaqueAdmission(String admissionToken, Long memberId) {
+    Long eventId = opaqueTokenEventId(admissionToken);
+    long now = System.currentTimeMillis();
+    byte[] presented = admissionToken.getBytes(StandardCharsets.UTF_8);
+    CachedAdmission cached = admissionCache.get(memberId);
+    if (cached != null && cached.eventId().equals(eventId) && cached.validUntilMillis() > now
+      && MessageDigest.isEqual(cached.token(), presented)) {
+      return new AdmissionTokenClaims(null, memberId, eventId, cached.validUntilMillis());
+    }
+
+    AdmissionTokenEntry stored = queueRepository.findAdmissionTokenEntry(eventId, memberId).orElse(null);
+    if (stored == null) {
+      admissionCache.remove(memberId);
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_NOT_FOUND);
+    }
+    byte[] storedToken = stored.token().getBytes(StandardCharsets.UTF_8);
+    if (!MessageDigest.isEqual(storedToken, presented)) {
+      // 캐시는 그대로 둔다 - 틀린 토큰 요청으로 정상 회원의 캐시가 지워지지 않게
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_INVALID);
+    }
+
+    long remainingMs = Math.max(0L, stored.expiresAtMillis() - now);
+    long validUntil = now + Math.min(remainingMs, admissionCacheTtlMs);
+    if (admissionCache.size() >= ADMISSION_CACHE_MAX_SIZE) {
+      // 만료된 항목 정리 - 입장 허용 인원만큼만 커지므로 상한 도달 시에만 수행
+      admissionCache.values().removeIf(entry -> entry.validUntilMillis() <= now);
+    }
+    admissionCache.put(memberId, new CachedAdmission(eventId, storedToken, validUntil));
+    return new AdmissionTokenClaims(null, memberId, eventId, validUntil);
+  }
+
+  // 모드별 입장 토큰 발급 - OPAQUE 토큰은 검증 시 대상 이벤트를 알 수 있도록 eventId를 접두어로 둔다
+  private String issueAdmissionToken(Long memberId, Long eventId) {
+    if (admissionTokenMode == AdmissionTokenMode.OPAQUE) {
+      return eventId + OPAQUE_TOKEN_DELIMITER + UUID.randomUUID();
+    }
+    return admissionTokenProvider.issue(memberId, eventId);
+  }
+
+  // OPAQUE 토큰 접두어에서 eventId 추출 - 형식이 맞지 않으면 ADMISSION_TOKEN_INVALID
+  private Long opaqueTokenEventId(String admissionToken) {
+    int delimiter = admissionToken.indexOf(OPAQUE_TOKEN_DELIMITER);
+    if (delimiter <= 0) {
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_INVALID);
+    }
+    try {
+      return Long.parseLong(admissionToken.substring(0, delimiter));
+    } catch (NumberFormatException e) {
+      throw new BusinessException(QueueErrorCode.ADMISSION_TOKEN_INVALID);
+    }
+  }
+
+  // 이벤트 단위 폐기 목록 조회 - 갱신 주기 내에는 로컬 스냅샷 사용 (정리된 이벤트 수만큼만 크다)
+  private Map<Long, Long> eventRevocations() {
+    long now = System.currentTimeMillis();
+    RevokedEvents snapshot = revokedEvents;
+    if (now - snapshot.loadedAtMillis() >= revocationRefreshMs) {
+      snapshot = new RevokedEvents(queueRepository.getEventAdmissionRevocations(), now);
+      revokedEvents = snapshot;
+    }
+    return snapshot.revokedUntilByEvent();
+  }
+
+  /**
+   * 활성 사용자 윈도우 유휴 시간 연장 - 회원별로 캐시 TTL(local-cache-ttl-ms)에 1회만 Redis를 호출한다
+   * - 유휴 제한 시간(분 단위)에 비해 캐시 TTL(초 단위)이 짧으므로 연장을 건너뛰어도 자리를 잃지 않는다
+   * - 건너뛴 동안 다른 인스턴스에서 반환된 자리는 폐기 알림(evictAdmissionCache)으로 기록을 지워 다음 요청에서 확인한다
+   *
+   * @return 연장 성공 여부 (건너뛴 경우 직전 연장 결과인 true)
+   */
+  private boolean touchThrottled(Long eventId, Long memberId) {
+    long now = System.currentTimeMillis();
+    TouchedAdmission last = lastTouches.get(memberId);
+    if (last != null && last.eventId().equals(eventId) && now - last.touchedAtMillis() < admissionCacheTtlMs) {
+      return true;
+    }
+
+    if (!queueRepository.touchAdmissionToken(eventId, memberId, idleTimeoutMs)) {
+      lastTouches.remove(memberId);
+      return false;
+    }
+    if (lastTouches.size() >= ADMISSION_CACHE_MAX_SIZE) {
+      // 오래된 기록 정리 - 입장 허용 인원만큼만 커지므로 상한 도달 시에만 수행
+      lastTouches.values().removeIf(entry -> now - entry.touchedAtMillis() >= admissionCacheTtlMs);
+    }
+    lastTouches.put(memberId, new TouchedAdmission(eventId, now));
+    return true;
+  }
+
+  // 입장 토큰 로컬 캐시 / 윈도우 연장 기록 제거 - 토큰 폐기 / 자리 반환 / 만료 정리 시
+  private void forgetAdmission(Long memberId) {
+    admissionCache.remove(memberId);
+    lastTouches.remove(memberId);
+  }
+
+  // 이벤트 단위 폐기 목록 로컬 스냅샷 - eventId → 폐기 기준 만료 시각
+  private record RevokedEvents(Map<Long, Long> revokedUntilByEvent, long loadedAtMillis) {
+  }
+
+  // OPAQUE 모드 입장 토큰 로컬 캐시 항목 - 캐시 hit에서도 제시된 토큰과 비교하도록 저장된 토큰 값을 함께 둔다
+  private record CachedAdmission(Long eventId, byte[] token, long validUntilMillis) {
+  }
+
+  // 활성 사용자 윈도우 마지막 연장 기록
+  private record TouchedAdmission(Long eventId, long touchedAtMillis) {
   }
-}
\ No newline at end of file
+}
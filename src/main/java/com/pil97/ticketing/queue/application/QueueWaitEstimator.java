@@ -0,0 +1,182 @@
+package com.pil97.ticketing.queue.application;
+
+import com.pil97.ticketing.queue.application.dto.QueueWaitEstimate;
+import com.pil97.ticketing.queue.domain.QueueThroughputStats;
+import com.pil97.ticketing.queue.domain.repository.QueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 측정된 입장 처리량 기반 예상 대기 시간 계산기
+ * <p>
+ * 기존 방식(rank * (주기(초) / 배치 사이즈))은 정수 나눗셈으로 배치 사이즈가 주기(초)보다 크면 0초가 되고,
+ * 스케줄러 처리 시간·실제 이탈을 반영하지 못했다.
+ * <p>
+ * 동작 방식:
+ * 1. 스케줄러 tick마다 실제 입장 허용 인원 / 경과 시간으로 초당 처리량을 측정해 시간 기반 EWMA로 누적
+ * 2. 진입 수 - 입장 허용 수 - 대기열 증가분으로 이탈 인원을 추정해 이탈률 EWMA로 누적
+ * 3. 예상 대기 시간 = 순번 / (처리량 + 내 앞 구간 이탈률), 처리량 표준편차로 90% 신뢰구간 계산
+ * 4. 신뢰구간 하한의 절반을 다음 폴링 간격으로 권장 → 앞쪽은 자주, 뒤쪽은 드물게 폴링
+ * <p>
+ * 통계는 Redis(queue:stats:{eventId})에 저장하고, 상태 조회 경로에서는 1초간 로컬 캐시해 Redis 왕복을 줄인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueWaitEstimator {
+
+  // 90% 신뢰구간 z값
+  private static final double Z_90 = 1.645;
+  // 신뢰구간 상한 계산 시 처리량 하한 (평균 처리량 대비 비율) - 0 나눗셈 방지
+  private static final double MIN_RATE_RATIO = 0.1;
+  // 상태 조회 경로 로컬 통계 캐시 TTL - 통계는 스케줄러 tick마다만 바뀐다
+  private static final long STATS_CACHE_TTL_MS = 1000L;
+
+  /**
+   * 스케줄러 1회 실행 시 입장 허용할 최대 인원 수
+   * 측정값이 없을 때 명목 처리량 계산에 사용한다.
+   */
+  @Value("${queue.scheduler.batch-size}")
+  private int batchSize;
+
+  /**
+   * 스케줄러 실행 주기 (ms)
+   * 측정값이 없을 때 명목 처리량 계산에 사용한다.
+   */
+  @Value("${queue.scheduler.fixed-delay-ms}")
+  private long fixedDelayMs;
+
+  /**
+   * EWMA 시간 창(초) - 이 시간보다 오래된 측정값의 가중치는 1/e 이하로 감소한다.
+   * application.yml: queue.estimator.window-seconds
+   */
+  @Value("${queue.estimator.window-seconds:60}")
+  private double windowSeconds;
+
+  // 권장 폴링 간격 하한/상한(초)
+  @Value("${queue.estimator.min-poll-seconds:2}")
+  private long minPollSeconds;
+
+  @Value("${queue.estimator.max-poll-seconds:60}")
+  private long maxPollSeconds;
+
+  private final QueueRepository queueRepository;
+
+  private final Map<Long, CachedStats> statsCache = new ConcurrentHashMap<>();
+
+  /**
+   * 스케줄러 tick 결과 반영
+   * admitTopMembers()에서 이벤트별 입장 허용 처리 직후 호출한다.
+   * - 입장 후에도 대기열이 남아 있을 때만 처리량을 갱신한다 (대기열 소진 시 처리량이 과소 측정되므로 제외)
+   *
+   * @param eventId       이벤트 ID
+   * @param admittedCount 이번 tick에 입장 허용된 인원 수
+   */
+  public void recordAdmissions(Long eventId, int admittedCount) {
+    long now = System.currentTimeMillis();
+    long queueSize = queueRepository.getQueueSize(eventId);
+    long enteredCount = queueRepository.getEnteredCount(eventId);
+    QueueThroughputStats previous = queueRepository.findThroughputStats(eventId).orElse(null);
+
+    QueueThroughputStats next;
+    if (previous == null) {
+      // 최초 tick - 명목 처리량으로 시작하고 이후 측정값으로 보정
+      next = new QueueThroughputStats(nominalRate(), 0.0, 0.0, queueSize, enteredCount, now);
+    } else {
+      double elapsedSeconds = Math.max((now - previous.updatedAtMillis()) / 1000.0, 0.001);
+      // 시간 기반 EWMA 가중치 - tick 간격이 불규칙해도 일정한 시간 창을 유지
+      double alpha = 1 - Math.exp(-elapsedSeconds / windowSeconds);
+
+      double admitRate = previous.admitRate();
+      double variance = previous.admitRateVariance();
+      if (queueSize > 0) {
+        double diff = admittedCount / elapsedSeconds - admitRate;
+        admitRate += alpha * diff;
+        variance = (1 - alpha) * (variance + alpha * diff * diff);
+      }
+
+      // 이탈 인원 = 신규 진입 - 입장 허용 - 대기열 증가분
+      long departed = Math.max(0L,
+        (enteredCount - previous.enteredCount()) - admittedCount - (queueSize - previous.queueSize()));
+      double dropRate = previous.dropRate() + alpha * (departed / elapsedSeconds - previous.dropRate());
+
+      next = new QueueThroughputStats(admitRate, variance, dropRate, queueSize, enteredCount, now);
+    }
+
+    queueRepository.saveThroughputStats(eventId, next);
+    statsCache.put(eventId, new CachedStats(next, now));
+
+    log.debug("action=QUEUE_THROUGHPUT_UPDATED eventId={} admitRate={} dropRate={} queueSize={}",
+      eventId, next.admitRate(), next.dropRate(), queueSize);
+  }
+
+  /**
+   * 예상 대기 시간 및 권장 폴링 간격 계산
+   *
+   * @param eventId 이벤트 ID
+   * @param rank    1-based 순번
+   * @return 예상 대기 시간(초), 90% 신뢰구간, 권장 폴링 간격(초)
+   */
+  public QueueWaitEstimate estimate(Long eventId, long rank) {
+    QueueThroughputStats stats = cachedStats(eventId);
+
+    double admitRate = stats != null && stats.admitRate() > 0 ? stats.admitRate() : nominalRate();
+    double stdDev = stats != null ? Math.sqrt(stats.admitRateVariance()) : 0.0;
+
+    // 내 앞 구간의 이탈만 대기 시간을 줄이므로 전체 이탈률을 앞 구간 비율만큼만 반영
+    double dropAhead = 0.0;
+    if (stats != null && stats.queueSize() > 0) {
+      dropAhead = stats.dropRate() * Math.min(1.0, (double) rank / stats.queueSize());
+    }
+
+    double expected = rank / (admitRate + dropAhead);
+    double optimistic = rank / (admitRate + Z_90 * stdDev + dropAhead);
+    double pessimistic = rank / Math.max(admitRate - Z_90 * stdDev + dropAhead, admitRate * MIN_RATE_RATIO);
+
+    long nextPollSeconds = Math.min(maxPollSeconds, Math.max(minPollSeconds, (long) Math.ceil(optimistic / 2)));
+
+    return new QueueWaitEstimate(
+      (long) Math.ceil(expected),
+      (long) Math.ceil(optimistic),
+      (long) Math.ceil(pessimistic),
+      nextPollSeconds
+    );
+  }
+
+  /**
+   * 로컬 통계 캐시 제거
+   * 이벤트 종료 시 cleanUpEndedQueue()에서 호출한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  public void evict(Long eventId) {
+    statsCache.remove(eventId);
+  }
+
+  // 측정값이 없을 때 사용하는 명목 처리량 (초당 입장 인원) - 실수 나눗셈으로 계산
+  private double nominalRate() {
+    return batchSize * 1000.0 / fixedDelayMs;
+  }
+
+  // 상태 조회 경로용 통계 조회 - TTL 내에는 Redis를 조회하지 않는다
+  private QueueThroughputStats cachedStats(Long eventId) {
+    long now = System.currentTimeMillis();
+    CachedStats cached = statsCache.get(eventId);
+    if (cached != null && now - cached.loadedAtMillis() < STATS_CACHE_TTL_MS) {
+      return cached.stats();
+    }
+
+    QueueThroughputStats stats = queueRepository.findThroughputStats(eventId).orElse(null);
+    statsCache.put(eventId, new CachedStats(stats, now));
+    return stats;
+  }
+
+  // 로컬 캐시 항목 - 통계가 아직 없는 이벤트는 stats=null로 캐시
+  private record CachedStats(QueueThroughputStats stats, long loadedAtMillis) {
+  }
+}
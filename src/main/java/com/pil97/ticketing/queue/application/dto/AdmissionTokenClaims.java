@@ -0,0 +1,18 @@
+package com.pil97.ticketing.queue.application.dto;
+
+/**
+ * 검증된 입장 토큰 내용
+ * OPAQUE 모드에서는 토큰에 정보가 없으므로 tokenId, eventId가 null이다.
+ *
+ * @param tokenId         토큰 고유 ID (jti)
+ * @param memberId        입장 허용된 회원 ID
+ * @param eventId         입장 허용된 이벤트 ID - 다른 이벤트 회차에는 사용 불가 (null이면 이벤트 범위 미검증)
+ * @param expiresAtMillis 만료 시각 (epoch ms)
+ */
+public record AdmissionTokenClaims(
+  String tokenId,
+  Long memberId,
+  Long eventId,
+  long expiresAtMillis
+) {
+}
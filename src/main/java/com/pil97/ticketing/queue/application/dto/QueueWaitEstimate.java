@@ -0,0 +1,17 @@
+package com.pil97.ticketing.queue.application.dto;
+
+/**
+ * 예상 대기 시간 계산 결과
+ *
+ * @param estimatedWaitSeconds    측정 처리량 기준 예상 대기 시간(초)
+ * @param estimatedWaitMinSeconds 신뢰구간(90%) 하한(초)
+ * @param estimatedWaitMaxSeconds 신뢰구간(90%) 상한(초)
+ * @param nextPollSeconds         서버 권장 다음 상태 조회 간격(초)
+ */
+public record QueueWaitEstimate(
+  long estimatedWaitSeconds,
+  long estimatedWaitMinSeconds,
+  long estimatedWaitMaxSeconds,
+  long nextPollSeconds
+) {
+}
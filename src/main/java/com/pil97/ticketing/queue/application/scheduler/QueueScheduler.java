@@ -3,12 +3,27 @@ package com.pil97.ticketing.queue.application.scheduler;
 import com.pil97.ticketing.event.domain.Event;
 import com.pil97.ticketing.event.domain.repository.EventRepository;
 import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 대기열 입장 허용 스케줄러
@@ -18,22 +33,74 @@ import java.util.Set;
  * <p>
  * 실행 흐름:
  * 1. queue:active:events Set에서 활성 이벤트 ID 목록 조회
- * 2. 종료된 이벤트는 대기열 정리 후 active:events에서 제거
- * 3. 활성 이벤트별로 상위 N명 입장 허용
+ * 2. 캐시에 없거나 TTL이 지난 이벤트만 findAllById 1회로 일괄 조회 (매 tick DB 조회 제거)
+ * 3. 이벤트별 처리를 bounded executor에서 병렬 실행
+ * - 종료된 이벤트는 대기열 정리 후 active:events에서 제거
+ * - 활성 이벤트는 잔여 좌석 카운터를 보정하고 만료된 입장 토큰을 정리한 뒤 상위 N명 입장 허용,
+ *   이어서 샤딩 모드 순번 추정 스냅샷 갱신
+ * 4. 모든 이벤트 처리가 끝난 뒤 tick 종료 - fixedDelay 특성상 tick이 겹치지 않는다
+ * <p>
+ * 이벤트별 처리 시간은 tick마다 DEBUG로만 남기고, 운영 지표는 이벤트별 평균 / 최대 값을 주기적으로 로그로 남긴다 (action=QUEUE_EVENT_TICK_STATS)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class QueueScheduler {
 
+  /**
+   * 이벤트별 처리 병렬도 (worker 스레드 수)
+   * application.yml: queue.scheduler.pool-size
+   */
+  @Value("${queue.scheduler.pool-size:8}")
+  private int poolSize;
+
+  /**
+   * 이벤트 종료 시각 캐시 TTL (ms)
+   * application.yml: queue.scheduler.end-time-cache-ttl-ms
+   * end_time 변경이 스케줄러에 반영되기까지 최대 이 시간만큼 지연될 수 있다.
+   */
+  @Value("${queue.scheduler.end-time-cache-ttl-ms:60000}")
+  private long endTimeCacheTtlMs;
+
   private final QueueService queueService;
   private final EventRepository eventRepository;
+  private final SeatInventoryService seatInventoryService;
+
+  // eventId → 캐시된 이벤트 (DB에 없는 이벤트는 event=null로 캐시)
+  private final Map<Long, CachedEvent> eventCache = new ConcurrentHashMap<>();
+
+  // eventId → 마지막 지표 로그 이후 이벤트별 처리 시간 누적
+  private final Map<Long, EventTickStats> tickStatsByEvent = new ConcurrentHashMap<>();
+
+  private ThreadPoolExecutor admissionExecutor;
+
+  /**
+   * 이벤트별 처리용 bounded executor 생성
+   * - 작업 큐 상한을 두고, 가득 차면 CallerRunsPolicy로 스케줄러 스레드가 직접 처리 (유실 없이 backpressure)
+   */
+  @PostConstruct
+  void initExecutor() {
+    admissionExecutor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(poolSize * 64),
+      new CustomizableThreadFactory("queue-admit-"),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+  }
+
+  @PreDestroy
+  void shutdownExecutor() {
+    admissionExecutor.shutdown();
+  }
 
   /**
    * 입장 허용 스케줄러
    * <p>
    * 실행 주기: application.yml queue.scheduler.fixed-delay-ms
-   * active:events Set을 순회하며 이벤트별로 처리한다.
+   * active:events Set의 이벤트를 병렬로 처리한다.
    * 종료된 이벤트는 대기열을 정리하고, 활성 이벤트는 상위 N명 입장 허용한다.
    */
   @Scheduled(fixedDelayString = "${queue.scheduler.fixed-delay-ms}")
@@ -42,31 +109,147 @@ public class QueueScheduler {
     Set<String> activeEventIds = queueService.getActiveEventIds();
 
     if (activeEventIds.isEmpty()) {
+      eventCache.clear();
       return;
     }
 
+    long tickStartNanos = System.nanoTime();
     log.info("action=QUEUE_SCHEDULER_START activeEventCount={}", activeEventIds.size());
 
-    for (String eventIdStr : activeEventIds) {
-      Long eventId = Long.parseLong(eventIdStr);
+    List<Long> eventIds = activeEventIds.stream()
+      .map(Long::parseLong)
+      .toList();
+
+    // 더 이상 활성 대기열이 아닌 이벤트는 캐시에서 제거
+    eventCache.keySet().retainAll(eventIds);
+    refreshEventCache(eventIds);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>(eventIds.size());
+    for (Long eventId : eventIds) {
+      futures.add(CompletableFuture.runAsync(() -> processEvent(eventId), admissionExecutor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    log.info("action=QUEUE_SCHEDULER_END activeEventCount={} durationMs={}",
+      eventIds.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tickStartNanos));
+  }
+
+  /**
+   * 이벤트 단건 처리 - worker 스레드에서 실행
+   * - 한 이벤트의 실패가 다른 이벤트 처리에 영향을 주지 않도록 예외를 로그로 남기고 삼킨다
+   * - 이벤트별 처리 시간을 기록한다
+   */
+  private void processEvent(Long eventId) {
+    long startNanos = System.nanoTime();
+    try {
+      CachedEvent cached = eventCache.get(eventId);
+      Event event = cached != null ? cached.event() : null;
 
-      // 이벤트 종료 여부 확인 - end_time 기준
-      Event event = eventRepository.findById(eventId).orElse(null);
       if (event == null) {
         // 이벤트가 DB에 없으면 대기열 정리
         queueService.cleanUpEndedQueue(eventId);
-        continue;
+        eventCache.remove(eventId);
+        return;
       }
 
+      // 이벤트 종료 여부 확인 - end_time 기준
       if (event.isEnded()) {
         // 종료된 이벤트 대기열 정리
         queueService.cleanUpEndedQueue(eventId);
+        eventCache.remove(eventId);
         log.info("action=QUEUE_EXPIRED eventId={}", eventId);
-        continue;
+        return;
       }
 
-      // 활성 이벤트 - 상위 N명 입장 허용
+      // 활성 이벤트 - 잔여 좌석 카운터 보정(주기 도래 시), 만료 입장 토큰 정리 후 상위 N명 입장 허용,
+      // 입장 허용으로 바뀐 샤드별 head를 순번 추정 스냅샷에 반영
+      seatInventoryService.reconcileIfStale(eventId);
+      queueService.sweepExpiredAdmissions(eventId);
       queueService.admitTopMembers(eventId);
+      queueService.refreshRankSnapshot(eventId);
+
+    } catch (Exception e) {
+      log.error("action=QUEUE_EVENT_TICK_FAILED eventId={} message={}", eventId, e.getMessage(), e);
+    } finally {
+      long durationNanos = System.nanoTime() - startNanos;
+      tickStatsByEvent.computeIfAbsent(eventId, key -> new EventTickStats()).record(durationNanos);
+      log.debug("action=QUEUE_EVENT_TICK eventId={} durationMs={}",
+        eventId, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+  }
+
+  /**
+   * 이벤트별 처리 시간 지표 로그 - 마지막 로그 이후 처리된 이벤트만 남기고 초기화한다
+   * 그 사이 한 번도 처리되지 않은 이벤트(대기열 종료)는 항목을 제거한다
+   * application.yml: queue.scheduler.stats-log-interval-ms
+   */
+  @Scheduled(fixedDelayString = "${queue.scheduler.stats-log-interval-ms:60000}")
+  void logStats() {
+    tickStatsByEvent.entrySet().removeIf(entry -> !entry.getValue().logAndReset(entry.getKey()));
+  }
+
+  /**
+   * 캐시에 없거나 TTL이 지난 이벤트만 findAllById로 일괄 조회해 캐시를 갱신한다.
+   * - 활성 이벤트 수와 무관하게 tick당 최대 1회의 DB 조회
+   * - 조회 결과에 없는 eventId는 event=null로 캐시 → processEvent에서 대기열 정리
+   */
+  private void refreshEventCache(List<Long> eventIds) {
+    long now = System.currentTimeMillis();
+
+    List<Long> staleIds = eventIds.stream()
+      .filter(eventId -> {
+        CachedEvent cached = eventCache.get(eventId);
+        return cached == null || now - cached.loadedAtMillis() >= endTimeCacheTtlMs;
+      })
+      .toList();
+
+    if (staleIds.isEmpty()) {
+      return;
+    }
+
+    for (Long eventId : staleIds) {
+      eventCache.put(eventId, new CachedEvent(null, now));
+    }
+    for (Event event : eventRepository.findAllById(staleIds)) {
+      eventCache.put(event.getId(), new CachedEvent(event, now));
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * 이벤트 1개의 누적 처리 시간 (마지막 로그 이후)
+   */
+  private static final class EventTickStats {
+
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void record(long durationNanos) {
+      ticks.increment();
+      totalNanos.add(durationNanos);
+      maxNanos.accumulateAndGet(durationNanos, Math::max);
+    }
+
+    /**
+     * @return 로그를 남겼으면 true, 마지막 로그 이후 처리가 없었으면 false
+     */
+    boolean logAndReset(Long eventId) {
+      long count = ticks.sumThenReset();
+      if (count == 0) {
+        return false;
+      }
+      log.info("action=QUEUE_EVENT_TICK_STATS eventId={} ticks={} avgMs={} maxMs={}",
+        eventId, count,
+        String.format("%.1f", (double) TimeUnit.NANOSECONDS.toMicros(totalNanos.sumThenReset()) / 1000 / count),
+        TimeUnit.NANOSECONDS.toMillis(maxNanos.getAndSet(0)));
+      return true;
+    }
+  }
+
+  /**
+   * 스케줄러 내부 이벤트 캐시 항목
+   * - Event는 연관관계 없이 end_time 판단에 필요한 컬럼만 가지므로 detached 상태로 보관해도 안전하다
+   */
+  private record CachedEvent(Event event, long loadedAtMillis) {
+  }
+}
@@ -0,0 +1,11 @@
+package com.pil97.ticketing.queue.domain;
+
+/**
+ * 저장된 입장 토큰 값과 만료 시각
+ * - OPAQUE 모드 캐시 miss 시 제시된 토큰과 저장된 값을 비교하고, 남은 TTL로 로컬 캐시 유효 시간을 정할 때 사용한다
+ *
+ * @param token           저장된 입장 토큰 값
+ * @param expiresAtMillis 만료 인덱스에 기록된 만료 시각 (epoch ms)
+ */
+public record AdmissionTokenEntry(String token, long expiresAtMillis) {
+}
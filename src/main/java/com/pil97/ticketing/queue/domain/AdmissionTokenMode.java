@@ -0,0 +1,12 @@
+package com.pil97.ticketing.queue.domain;
+
+/**
+ * 입장 토큰 방식
+ * <p>
+ * SIGNED: memberId/eventId/만료 시각을 담은 HMAC 서명 토큰 - HOLD 경로에서 로컬 검증
+ * OPAQUE: "{eventId}:{UUID}" 형태의 불투명 토큰 - Redis에 저장된 값과 상수 시간 비교로 검증, 양성 결과만 짧게 로컬 캐시
+ */
+public enum AdmissionTokenMode {
+  SIGNED,
+  OPAQUE
+}
@@ -0,0 +1,24 @@
+package com.pil97.ticketing.queue.domain;
+
+/**
+ * 이벤트별 대기열 처리량 통계 스냅샷
+ * <p>
+ * Redis Hash(queue:stats:{eventId})에 저장되며, 스케줄러 tick마다 QueueWaitEstimator가 갱신한다.
+ * 여러 인스턴스가 같은 통계를 공유하도록 JVM 메모리가 아닌 Redis에 보관한다.
+ *
+ * @param admitRate         초당 입장 허용 인원 EWMA
+ * @param admitRateVariance 초당 입장 허용 인원의 지수가중 분산 (신뢰구간 계산용)
+ * @param dropRate          초당 이탈 인원 EWMA (입장 허용 없이 대기열에서 빠진 인원)
+ * @param queueSize         마지막 tick 직후 대기열 크기
+ * @param enteredCount      마지막 tick 시점의 누적 대기열 진입 수
+ * @param updatedAtMillis   마지막 갱신 시각 (epoch ms)
+ */
+public record QueueThroughputStats(
+  double admitRate,
+  double admitRateVariance,
+  double dropRate,
+  long queueSize,
+  long enteredCount,
+  long updatedAtMillis
+) {
+}
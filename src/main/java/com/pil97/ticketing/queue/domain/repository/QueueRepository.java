@@ -1,12 +1,20 @@
 package com.pil97.ticketing.queue.domain.repository;
 
+import com.pil97.ticketing.queue.domain.AdmissionTokenEntry;
+import com.pil97.ticketing.queue.domain.QueueThroughputStats;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongConsumer;
 
 /**
  * 대기열 Redis 연산 추상화 인터페이스
  * <p>
  * 대기열은 JPA가 아닌 Redis Sorted Set 기반이므로 JpaRepository를 상속하지 않는다.
  * Service는 이 인터페이스에만 의존하며, 실제 Redis 구현체는 infra 패키지에 위치한다.
+ * 단일 Sorted Set / 샤딩 서브 큐 모드 선택은 구현체가 이벤트별로 결정하므로 Service는 모드를 알 필요가 없다.
  */
 public interface QueueRepository {
 
@@ -42,6 +50,16 @@ public interface QueueRepository {
    */
   Long getRank(Long eventId, Long memberId);
 
+  /**
+   * 순번 추정 스냅샷 갱신
+   * 샤딩 모드 이벤트의 getRank()가 다른 샤드의 앞선 인원을 추정하는 데 쓰는 샤드별 head / tail score와 크기를 갱신한다.
+   * 스케줄러 tick마다 호출한다. 순번을 정확히 계산하는 구현체(단일 모드 등)는 아무것도 하지 않는다.
+   * 첫 tick 전에는 getRank()가 처음 호출될 때 같은 방식으로 채운다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  void refreshRankSnapshot(Long eventId);
+
   /**
    * 상위 N명 memberId 조회 (score 오름차순)
    *
@@ -61,20 +79,130 @@ public interface QueueRepository {
 
   /**
    * 입장 토큰 저장
-   * TTL 30분 적용
+   * HSET token:event:{eventId} {memberId} {token} + ZADD token:event:{eventId}:expiry {만료 시각} {memberId}
+   * 회원별 key 대신 이벤트별 Hash 1개 + 만료 시각 Sorted Set 1개에 저장한다.
+   * touch 연장 상한(발급 시각 + maxTtlMillis)은 token:event:{eventId}:deadline Sorted Set에 함께 기록한다.
+   *
+   * @param eventId      이벤트 ID
+   * @param memberId     회원 ID
+   * @param token        입장 토큰 값
+   * @param ttlMillis    만료 인덱스에 기록할 유효 시간(ms) - 활성 사용자 윈도우 모드에서는 유휴 제한 시간
+   * @param maxTtlMillis touch로 연장할 수 있는 최대 유효 시간(ms) - 발급 시각부터 센 세션 길이 상한
+   */
+  void saveAdmissionToken(Long eventId, Long memberId, String token, long ttlMillis, long maxTtlMillis);
+
+  /**
+   * 입장 토큰 만료 시각 연장 (활동 기록)
+   * ZSCORE로 유효한 토큰이 있는 경우에만 ZADD token:event:{eventId}:expiry {now + ttl} {memberId} (Lua로 원자 실행)
+   * 활성 사용자 윈도우 모드에서 HOLD / 예약 요청마다 호출해 유휴 제한 시간을 다시 시작한다.
+   * 연장 시각은 발급 시 정한 세션 상한(발급 시각 + maxTtlMillis)을 넘지 않는다 - 계속 활동해도 세션은 상한에서 끝난다.
+   *
+   * @param eventId   이벤트 ID
+   * @param memberId  회원 ID
+   * @param ttlMillis 현재 시각부터 연장할 유효 시간(ms)
+   * @return 연장 성공 여부, 토큰이 없거나 이미 만료되었으면 false
+   */
+  boolean touchAdmissionToken(Long eventId, Long memberId, long ttlMillis);
+
+  /**
+   * 입장 토큰 조회
+   * HGET token:event:{eventId} {memberId} + ZSCORE token:event:{eventId}:expiry {memberId}
+   * getStatus()에서 입장 허용된 유저에게 토큰 값을 내려줄 때 사용한다.
+   * sweeper가 아직 정리하지 않은 만료 토큰은 없는 것으로 본다.
+   *
+   * @param eventId  이벤트 ID
+   * @param memberId 회원 ID
+   * @return 입장 토큰, 없거나 만료되면 empty
+   */
+  Optional<String> findAdmissionToken(Long eventId, Long memberId);
+
+  /**
+   * 입장 토큰 값과 만료 시각 조회
+   * HGET token:event:{eventId} {memberId} + ZSCORE token:event:{eventId}:expiry {memberId}
+   * OPAQUE 모드에서 제시된 토큰 비교와 로컬 캐시 유효 시간 계산을 1회 왕복으로 함께 할 때 사용한다.
+   *
+   * @param eventId  이벤트 ID
+   * @param memberId 회원 ID
+   * @return 저장된 토큰 값과 만료 시각, 없거나 만료되면 empty
+   */
+  Optional<AdmissionTokenEntry> findAdmissionTokenEntry(Long eventId, Long memberId);
+
+  /**
+   * 입장 토큰 삭제
+   * HDEL token:event:{eventId} {memberId} + ZREM token:event:{eventId}:expiry {memberId}
    *
+   * @param eventId  이벤트 ID
    * @param memberId 회원 ID
-   * @param token    입장 토큰 값
    */
-  void saveAdmissionToken(Long memberId, String token);
+  void deleteAdmissionToken(Long eventId, Long memberId);
+
+  /**
+   * 이벤트의 입장 토큰 전체 삭제
+   * DEL token:event:{eventId} token:event:{eventId}:expiry
+   *
+   * @param eventId 이벤트 ID
+   */
+  void deleteAdmissionTokens(Long eventId);
+
+  /**
+   * 만료된 입장 토큰 일괄 정리
+   * ZRANGEBYSCORE token:event:{eventId}:expiry -inf {now} LIMIT 0 {limit} 후 ZREM + HDEL (Lua로 원자 실행)
+   * 스케줄러 tick마다 호출해 Hash / Sorted Set에 만료 토큰이 쌓이지 않게 한다.
+   *
+   * @param eventId 이벤트 ID
+   * @param limit   1회 정리할 최대 토큰 수
+   * @return 정리된 memberId 목록
+   */
+  List<Long> removeExpiredAdmissionTokens(Long eventId, int limit);
 
   /**
-   * 입장 토큰 존재 여부 확인
+   * 입장 토큰 보유 인원 수 조회
+   * ZCARD token:event:{eventId}:expiry - O(1)
+   * removeExpiredAdmissionTokens() 직후 호출하면 현재 활성 입장 인원과 같다.
+   *
+   * @param eventId 이벤트 ID
+   * @return 입장 토큰 보유 인원 수
+   */
+  long countAdmissionTokens(Long eventId);
+
+  /**
+   * 입장 토큰 폐기 알림 발행
+   * PUBLISH queue:admission:revoked {memberId}
+   * 모든 인스턴스가 수신해 입장 토큰 로컬 캐시에서 해당 회원을 제거한다.
    *
    * @param memberId 회원 ID
-   * @return 토큰이 유효하면 true, 없거나 만료되면 false
    */
-  boolean hasAdmissionToken(Long memberId);
+  void publishAdmissionRevoked(Long memberId);
+
+  /**
+   * 이벤트 입장 토큰 일괄 폐기 알림 발행
+   * PUBLISH queue:admission:revoked:event {eventId}
+   * 이벤트 종료 시 회원 수와 무관하게 1회만 발행한다. 모든 인스턴스가 수신해 해당 이벤트의 로컬 캐시를 비우고
+   * 폐기 목록 스냅샷을 다시 읽는다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  void publishEventAdmissionsRevoked(Long eventId);
+
+  /**
+   * 이벤트 입장 토큰 일괄 폐기 등록
+   * ZADD token:revoked:events {revokedUntilMillis} {eventId}
+   * 토큰 ID별이 아닌 이벤트별 1건 - 서명 토큰의 eventId가 이 이벤트이고 만료 시각이 revokedUntilMillis 이하면
+   * (폐기 시점까지 발급된 토큰) 폐기된 것으로 본다. 이미 지난 항목은 함께 정리해 목록을 작게 유지한다.
+   *
+   * @param eventId            이벤트 ID
+   * @param revokedUntilMillis 폐기 시각 + 토큰 유효 시간 - 이 시각 이후에는 대상 토큰이 모두 만료되어 목록에서 제거된다
+   */
+  void revokeEventAdmissions(Long eventId, long revokedUntilMillis);
+
+  /**
+   * 유효한 이벤트 단위 폐기 목록 조회
+   * ZRANGEBYSCORE token:revoked:events {now} +inf WITHSCORES
+   * 최근 토큰 유효 시간 안에 종료된 이벤트 수만큼만 반환하므로 주기적으로 다시 읽어도 작다.
+   *
+   * @return eventId → 폐기 기준 만료 시각 (revokedUntilMillis)
+   */
+  Map<Long, Long> getEventAdmissionRevocations();
 
   /**
    * 활성 대기열 이벤트 등록
@@ -114,7 +242,8 @@ public interface QueueRepository {
 
   /**
    * 입장 허용 이력 저장
-   * SADD queue:admitted:members:{eventId} {memberId}
+   * memberId 65,536개 구간(chunk)별로 나눠 저장하고, 회원이 없는 구간은 메모리를 쓰지 않는다.
+   * 회원이 적은 chunk는 offset Set(SADD, 회원당 2byte), 많아지면 bitmap(SETBIT, 회원당 1bit, 최대 8KB)으로 전환한다.
    * admitTopMembers() 에서 입장 토큰 발급 시 함께 호출한다.
    *
    * @param eventId  이벤트 ID
@@ -124,7 +253,7 @@ public interface QueueRepository {
 
   /**
    * 입장 허용 이력 존재 여부 확인
-   * SISMEMBER queue:admitted:members:{eventId} {memberId}
+   * GETBIT queue:admitted:{eventId}:chunk:{n} + SISMEMBER queue:admitted:{eventId}:chunk:{n}:sparse (pipeline 1회 왕복)
    * getStatus()에서 최초 미진입 vs 토큰 만료 구분에 사용한다.
    *
    * @param eventId  이벤트 ID
@@ -134,18 +263,19 @@ public interface QueueRepository {
   boolean hasAdmittedHistory(Long eventId, Long memberId);
 
   /**
-   * 입장 허용 이력 Set 전체 조회
-   * SMEMBERS queue:admitted:members:{eventId}
-   * 이벤트 종료 시 cleanUpEndedQueue()에서 이력 key 일괄 삭제에 사용한다.
+   * 입장 허용 회원 순회
+   * chunk를 하나씩(bitmap 최대 8KB 또는 offset Set 최대 512개) 조회해 memberId로 변환하며 전달한다.
+   * 전체 회원 목록을 한 번에 메모리에 올리지 않으므로 입장 인원이 많은 이벤트에서도 안전하다.
+   * 이벤트 종료 시 cleanUpEndedQueue()에서 입장 토큰 폐기에 사용한다.
    *
    * @param eventId 이벤트 ID
-   * @return 입장 허용된 memberId 문자열 Set
+   * @param action  memberId별 처리 - chunk 오름차순, chunk 내 memberId 오름차순으로 호출된다
    */
-  Set<String> getAdmittedMembers(Long eventId);
+  void forEachAdmittedMember(Long eventId, LongConsumer action);
 
   /**
    * 입장 허용 이력 key 삭제
-   * DEL queue:admitted:members:{eventId}
+   * DEL queue:admitted:{eventId}:chunk:* queue:admitted:{eventId}:chunks
    * 이벤트 종료 시 cleanUpEndedQueue()에서 호출한다.
    *
    * @param eventId 이벤트 ID
@@ -156,11 +286,13 @@ public interface QueueRepository {
    * 대기열 순번용 전역 카운터 증가 및 반환
    * INCR queue:seq:{eventId}
    * 동시 요청 시 score 충돌 없이 고유한 순번을 보장한다.
+   * 샤딩 모드 이벤트는 memberId가 속한 서브 큐의 카운터를 증가시키고 전역 순번으로 변환해 반환한다.
    *
-   * @param eventId 이벤트 ID
+   * @param eventId  이벤트 ID
+   * @param memberId 회원 ID (샤딩 모드에서 서브 큐 결정에 사용)
    * @return 증가된 카운터 값 (고유 score로 사용)
    */
-  long nextScore(Long eventId);
+  long nextScore(Long eventId, Long memberId);
 
   /**
    * 대기열 순번 카운터 key 삭제
@@ -171,4 +303,59 @@ public interface QueueRepository {
    * @param eventId 이벤트 ID
    */
   void deleteSeq(Long eventId);
-}
\ No newline at end of file
+
+  /**
+   * 대기열 크기 조회
+   * ZCARD queue:event:{eventId} (샤딩 모드는 전체 서브 큐 ZCARD 합산)
+   * 처리량 통계 갱신 시 이탈 인원 추정에 사용한다.
+   *
+   * @param eventId 이벤트 ID
+   * @return 현재 대기 인원 수
+   */
+  long getQueueSize(Long eventId);
+
+  /**
+   * 누적 대기열 진입 수 증가
+   * HINCRBY queue:stats:{eventId} entered 1
+   * 대기열에 실제로 추가된 경우에만 enter()에서 호출한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  void incrementEnteredCount(Long eventId);
+
+  /**
+   * 누적 대기열 진입 수 조회
+   * HGET queue:stats:{eventId} entered
+   *
+   * @param eventId 이벤트 ID
+   * @return 누적 진입 수, 없으면 0
+   */
+  long getEnteredCount(Long eventId);
+
+  /**
+   * 처리량 통계 조회
+   * HGETALL queue:stats:{eventId}
+   *
+   * @param eventId 이벤트 ID
+   * @return 처리량 통계, 아직 스케줄러 tick이 없었으면 empty
+   */
+  Optional<QueueThroughputStats> findThroughputStats(Long eventId);
+
+  /**
+   * 처리량 통계 저장
+   * HSET queue:stats:{eventId} - 누적 진입 수(entered) 필드는 건드리지 않는다.
+   *
+   * @param eventId 이벤트 ID
+   * @param stats   갱신된 처리량 통계
+   */
+  void saveThroughputStats(Long eventId, QueueThroughputStats stats);
+
+  /**
+   * 처리량 통계 key 삭제
+   * DEL queue:stats:{eventId}
+   * 이벤트 종료 시 cleanUpEndedQueue()에서 호출한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  void deleteThroughputStats(Long eventId);
+}
@@ -8,7 +8,7 @@ import org.springframework.http.HttpStatus;
 /**
  * 대기열 도메인 에러코드
  * <p>
- * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: QUEUE-004)
+ * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: QUEUE-009)
  * 이 파일은 대기열 도메인의 에러를 정의하는 enum입니다.
  * 대기열 미등록, 입장 토큰 없음/만료, 이벤트 없음 등 대기열 관련 비즈니스 예외를 담당합니다.
  */
@@ -26,7 +26,22 @@ public enum QueueErrorCode implements ErrorCode {
   ADMISSION_TOKEN_EXPIRED(HttpStatus.FORBIDDEN, "QUEUE-003", "Admission token has expired"),
 
   // 대상 이벤트 없음 - 존재하지 않는 eventId로 대기열 등록 시도
-  EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "QUEUE-004", "Event not found");
+  EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "QUEUE-004", "Event not found"),
+
+  // 입장 토큰 위조/형식 오류 - 서명 검증 실패 또는 요청 회원과 토큰 회원 불일치
+  ADMISSION_TOKEN_INVALID(HttpStatus.FORBIDDEN, "QUEUE-005", "Admission token is invalid"),
+
+  // 다른 이벤트의 입장 토큰 - 토큰의 eventId와 HOLD 대상 회차의 이벤트가 다른 경우
+  ADMISSION_TOKEN_EVENT_MISMATCH(HttpStatus.FORBIDDEN, "QUEUE-006", "Admission token is not valid for this event"),
+
+  // 폐기된 입장 토큰 - 이벤트 종료 등으로 만료 전에 폐기된 경우
+  ADMISSION_TOKEN_REVOKED(HttpStatus.FORBIDDEN, "QUEUE-007", "Admission token has been revoked"),
+
+  // 매진 - 이벤트의 모든 좌석이 RESERVED 상태여서 대기열 진입 불가
+  SOLD_OUT(HttpStatus.CONFLICT, "QUEUE-008", "Event is sold out"),
+
+  // 일시 매진 - AVAILABLE 좌석은 없지만 HELD 좌석이 있어 HOLD 만료 시 다시 열릴 수 있음
+  SOLD_OUT_MAY_REOPEN(HttpStatus.CONFLICT, "QUEUE-009", "No seats are available now, held seats may be released");
 
   private final HttpStatus status;
   private final String code;
@@ -1,16 +1,21 @@
 package com.pil97.ticketing.reservation.api;
 
+import com.pil97.ticketing.common.io.IoBudget;
 import com.pil97.ticketing.common.response.ApiResponse;
+import com.pil97.ticketing.infra.idempotency.IdempotencyFingerprintFilter;
 import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.reservation.api.dto.response.MemberReservationPageResponse;
 import com.pil97.ticketing.reservation.api.dto.response.ReservationResponse;
 import com.pil97.ticketing.reservation.application.ReservationService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-@Tag(name = "6. Reservation", description = "예약 API - 예약 확정 / 예약 취소")
+@Tag(name = "6. Reservation", description = "예약 API - 예약 확정 / 예약 취소 / 내 예약 목록")
 @RestController
 @RequiredArgsConstructor
 public class ReservationController {
@@ -30,15 +35,17 @@ public class ReservationController {
    * 멱등성 정책:
    * - Idempotency-Key 헤더 필수
    * - 동일 key + 동일 본문 재요청 시 기존 응답 반환 (HTTP 200)
-   * - 동일 key + 다른 본문 재요청 시 409 반환
-   * - 동시 신규 요청 시 SETNX lock으로 1건만 처리, 나머지 409 반환
+   * - 동일 key + 다른 본문 재요청 시 409 반환 (fingerprint는 IdempotencyFingerprintFilter가 원본 본문으로 계산)
+   * - 동시 신규 요청 시 SETNX lock으로 1건만 처리, 나머지 409 반환 (완료 대기 모드에서는 완료 후 저장된 결과 반환)
    */
+  @IoBudget(sql = 6, redis = 8)
   @PostMapping("/holds/{holdId}/reserve")
   public ResponseEntity<ApiResponse<ReservationResponse>> reserve(
     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+    @RequestAttribute(name = IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE, required = false) byte[] fingerprint,
     @PathVariable Long holdId) {
 
-    IdempotencyResult<ReservationResponse> result = reservationService.reserve(idempotencyKey, holdId);
+    IdempotencyResult<ReservationResponse> result = reservationService.reserve(idempotencyKey, fingerprint, holdId);
 
     HttpStatus status = result.isReplayed() ? HttpStatus.OK : HttpStatus.CREATED;
 
@@ -53,9 +60,28 @@ public class ReservationController {
    * - 성공 시 좌석 상태 AVAILABLE로 복구, 예약 상태 CANCELLED로 변경
    * - 204 No Content
    */
+  @IoBudget(sql = 5, redis = 6)
   @DeleteMapping("/reservations/{reservationId}")
   public ResponseEntity<Void> cancel(@PathVariable Long reservationId) {
     reservationService.cancel(reservationId);
     return ResponseEntity.noContent().build();
   }
-}
\ No newline at end of file
+
+  /**
+   * GET /members/me/reservations?cursor={nextCursor}&size=20
+   * - 로그인 회원의 예약 목록을 최신순으로 조회한다 (회차 / 좌석 / 최근 결제 요약 포함)
+   * - 커서 페이징: 첫 페이지는 cursor 생략, 이후 응답의 nextCursor를 그대로 전달
+   * - size 범위(1 ~ 100) 밖이면 400 (COMMON-003)
+   * - 200 OK
+   */
+  @IoBudget(sql = 2, redis = 1)
+  @GetMapping("/members/me/reservations")
+  public ResponseEntity<ApiResponse<MemberReservationPageResponse>> getMyReservations(
+    @AuthenticationPrincipal Member member,
+    @RequestParam(required = false) Long cursor,
+    @RequestParam(defaultValue = "20") int size) {
+
+    MemberReservationPageResponse response = reservationService.getMemberReservations(member.getId(), cursor, size);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+}
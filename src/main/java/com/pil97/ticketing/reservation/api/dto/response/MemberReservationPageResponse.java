@@ -0,0 +1,22 @@
+package com.pil97.ticketing.reservation.api.dto.response;
+
+import java.util.List;
+
+/**
+ * 내 예약 목록 조회(커서 페이징) 응답 DTO
+ * <p>
+ * JSON 예시:
+ * {
+ * "items": [ { "reservationId": 12, ... }, { "reservationId": 9, ... } ],
+ * "nextCursor": 9,
+ * "hasNext": true
+ * }
+ * - 다음 페이지는 cursor=nextCursor로 요청한다 (hasNext=false이면 nextCursor는 null)
+ * - 전체 건수(totalElements)는 내려주지 않는다. count 쿼리 비용이 이력 길이에 비례하기 때문
+ */
+public record MemberReservationPageResponse(
+  List<MemberReservationResponse> items,
+  Long nextCursor,
+  boolean hasNext
+) {
+}
@@ -0,0 +1,72 @@
+package com.pil97.ticketing.reservation.api.dto.response;
+
+import com.pil97.ticketing.reservation.application.dto.MemberReservationQueryResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 예약 목록의 예약 1건 응답 DTO
+ * <p>
+ * JSON 예시:
+ * {
+ * "reservationId": 12,
+ * "status": "CONFIRMED",
+ * "reservedAt": "2026-03-01T10:00:00",
+ * "eventId": 1,
+ * "eventName": "콘서트",
+ * "showtimeId": 1,
+ * "showAt": "2026-04-01T19:00:00",
+ * "seatId": 3,
+ * "seatNumber": "A-3",
+ * "grade": "VIP",
+ * "payment": { "paymentId": 7, "status": "SUCCESS", "amount": 150000, "paidAt": "2026-03-01T10:01:00" }
+ * }
+ * - 결제 이력이 없으면 payment는 null
+ */
+public record MemberReservationResponse(
+  Long reservationId,
+  String status,
+  LocalDateTime reservedAt,
+  Long eventId,
+  String eventName,
+  Long showtimeId,
+  LocalDateTime showAt,
+  Long seatId,
+  String seatNumber,
+  String grade,
+  PaymentSummary payment
+) {
+
+  public static MemberReservationResponse from(MemberReservationQueryResult result) {
+    PaymentSummary payment = result.paymentId() == null ? null : new PaymentSummary(
+      result.paymentId(),
+      result.paymentStatus().name(),
+      result.amount(),
+      result.paidAt()
+    );
+    return new MemberReservationResponse(
+      result.reservationId(),
+      result.status().name(),
+      result.reservedAt(),
+      result.eventId(),
+      result.eventName(),
+      result.showtimeId(),
+      result.showAt(),
+      result.seatId(),
+      result.seatNumber(),
+      result.grade().name(),
+      payment
+    );
+  }
+
+  /**
+   * 예약의 최근 결제 요약
+   */
+  public record PaymentSummary(
+    Long paymentId,
+    String status,
+    Integer amount,
+    LocalDateTime paidAt
+  ) {
+  }
+}
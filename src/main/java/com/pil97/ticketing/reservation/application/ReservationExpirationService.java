@@ -0,0 +1,217 @@
+package com.pil97.ticketing.reservation.application;
+
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.event.PaymentStatusChangedEvent;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.event.ReservationStatusChangedEvent;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatRef;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 기한이 지난 PENDING 예약 일괄 만료
+ * <p>
+ * 예약 생성 후 payment-deadline-ms 안에 결제되지 않은 예약을 FAILED로 바꾸고, HOLD를 EXPIRED로, 좌석을 AVAILABLE로 되돌린다.
+ * - PENDING 예약이 있는 HOLD는 HoldExpirationService가 건드리지 않는다. 결제 대기 중인 좌석의 반환 시점은 이 결제 기한이 정한다
+ * - chunk-size건씩 트랜잭션을 나눠 처리한다. 청크마다 (status, created_at) 인덱스 범위 조회 1회 + 테이블별 IN 목록 UPDATE 1회로 반영한다
+ * - 대상 예약 / HOLD 행은 FOR UPDATE SKIP LOCKED로 잠근다. 결제 / 취소가 처리 중인 예약은 건너뛰고 다음 주기에 다시 본다
+ *   (여러 인스턴스가 동시에 실행해도 같은 예약을 두 번 처리하지 않는다)
+ * - 결제 기한 안에 시작된 PENDING 결제(비동기 결제 처리 중)가 있는 예약은 그 결제도 기한이 지날 때까지 만료하지 않는다
+ * - 기한이 지나도 PENDING으로 남은 결제(워커 유실 등)는 예약과 함께 FAIL로 정리한다
+ * - 승인 여부 확인 중(UNKNOWN)인 결제가 있는 예약은 만료하지 않는다 (이미 청구되었을 수 있음 - PaymentConfirmationService가 확정)
+ * - 엔티티를 로드하지 않으므로 도메인 이벤트 / 잔여 좌석 카운터는 조회한 ID로 직접 반영한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationExpirationService {
+
+  private static final String SELECT_EXPIRED_SQL =
+    "SELECT r.id, r.hold_id, r.showtime_id, r.member_id, h.status AS hold_status, h.showtime_seat_id "
+      + "FROM reservations r JOIN holds h ON h.id = r.hold_id "
+      + "WHERE r.status = 'PENDING' AND r.created_at < :cutoff "
+      + "AND NOT EXISTS (SELECT 1 FROM payment p WHERE p.reservation_id = r.id "
+      + "AND (p.status = 'UNKNOWN' OR (p.status = 'PENDING' AND p.created_at >= :cutoff))) "
+      + "ORDER BY r.created_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+  private static final String SELECT_PENDING_PAYMENTS_SQL =
+    "SELECT id, reservation_id FROM payment WHERE reservation_id IN (:reservationIds) AND status = 'PENDING'";
+
+  private static final String SELECT_SHOWTIME_EVENTS_SQL =
+    "SELECT id, event_id FROM showtime WHERE id IN (:showtimeIds)";
+
+  private static final String FAIL_RESERVATIONS_SQL =
+    "UPDATE reservations SET status = 'FAILED' WHERE id IN (:ids) AND status = 'PENDING'";
+
+  private static final String EXPIRE_HOLDS_SQL =
+    "UPDATE holds SET status = 'EXPIRED' WHERE id IN (:ids) AND status = 'ACTIVE'";
+
+  private static final String RELEASE_SEATS_SQL =
+    "UPDATE showtime_seat SET status = 'AVAILABLE' WHERE id IN (:ids) AND status = 'HELD'";
+
+  private static final String FAIL_PAYMENTS_SQL =
+    "UPDATE payment SET status = 'FAIL' WHERE id IN (:ids) AND status = 'PENDING'";
+
+  /**
+   * 예약 생성부터 결제 완료까지 허용 시간 (ms)
+   * application.yml: reservation.payment-deadline-ms
+   */
+  @Value("${reservation.payment-deadline-ms:300000}")
+  private long paymentDeadlineMs = 300000L;
+
+  /**
+   * 트랜잭션 1회당 최대 만료 예약 수
+   * application.yml: reservation.expiration.chunk-size
+   */
+  @Value("${reservation.expiration.chunk-size:500}")
+  private int chunkSize = 500;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final QueueService queueService;
+  private final SeatInventoryService seatInventoryService;
+  private final DomainEventPublisher domainEventPublisher;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 결제 기한이 지난 PENDING 예약 만료 - 청크가 가득 차는 동안 이어서 처리한다
+   *
+   * @param now 기준 시각 (now - payment-deadline-ms 이전에 생성된 예약이 대상)
+   * @return 만료 처리한 예약 수
+   */
+  public int expirePendingReservations(LocalDateTime now) {
+    LocalDateTime cutoff = now.minus(Duration.ofMillis(paymentDeadlineMs));
+    int total = 0;
+    int expired;
+    do {
+      Integer chunk = transactionTemplate.execute(status -> expireChunk(cutoff));
+      expired = chunk == null ? 0 : chunk;
+      total += expired;
+    } while (expired == chunkSize);
+
+    if (total > 0) {
+      log.info("action=RESERVATION_PAYMENT_DEADLINE_EXPIRED count={} cutoff={}", total, cutoff);
+    }
+    return total;
+  }
+
+  /**
+   * 청크 1개 만료 - 호출 측 트랜잭션 안에서 실행
+   *
+   * @return 만료 처리한 예약 수
+   */
+  private int expireChunk(LocalDateTime cutoff) {
+    List<ExpiredReservation> targets = jdbcTemplate.query(SELECT_EXPIRED_SQL,
+      new MapSqlParameterSource("cutoff", cutoff).addValue("limit", chunkSize),
+      (rs, rowNum) -> new ExpiredReservation(
+        rs.getLong("id"),
+        rs.getLong("hold_id"),
+        rs.getLong("showtime_id"),
+        rs.getLong("member_id"),
+        HoldStatus.ACTIVE.name().equals(rs.getString("hold_status")),
+        rs.getLong("showtime_seat_id")
+      ));
+    if (targets.isEmpty()) {
+      return 0;
+    }
+
+    List<Long> reservationIds = targets.stream().map(ExpiredReservation::reservationId).toList();
+    // HOLD가 아직 ACTIVE인 예약만 좌석을 잡고 있다 (이미 만료된 HOLD의 좌석은 다른 회원이 다시 선점했을 수 있다)
+    List<ExpiredReservation> holding = targets.stream().filter(ExpiredReservation::holdActive).toList();
+
+    Map<Long, Long> reservationIdsByPaymentId = new HashMap<>();
+    jdbcTemplate.query(SELECT_PENDING_PAYMENTS_SQL, new MapSqlParameterSource("reservationIds", reservationIds),
+      rs -> {
+        reservationIdsByPaymentId.put(rs.getLong("id"), rs.getLong("reservation_id"));
+      });
+
+    jdbcTemplate.update(FAIL_RESERVATIONS_SQL, new MapSqlParameterSource("ids", reservationIds));
+    if (!holding.isEmpty()) {
+      jdbcTemplate.update(EXPIRE_HOLDS_SQL,
+        new MapSqlParameterSource("ids", holding.stream().map(ExpiredReservation::holdId).toList()));
+      jdbcTemplate.update(RELEASE_SEATS_SQL,
+        new MapSqlParameterSource("ids", holding.stream().map(ExpiredReservation::showtimeSeatId).toList()));
+    }
+    if (!reservationIdsByPaymentId.isEmpty()) {
+      jdbcTemplate.update(FAIL_PAYMENTS_SQL, new MapSqlParameterSource("ids", reservationIdsByPaymentId.keySet()));
+    }
+
+    publishTransitions(targets, holding, reservationIdsByPaymentId);
+    return targets.size();
+  }
+
+  /**
+   * 도메인 이벤트 발행 / 잔여 좌석 카운터 반영(커밋 후) / 활성 사용자 윈도우 자리 반환
+   */
+  private void publishTransitions(List<ExpiredReservation> targets, List<ExpiredReservation> holding,
+                                  Map<Long, Long> reservationIdsByPaymentId) {
+    reservationIdsByPaymentId.forEach((paymentId, reservationId) -> domainEventPublisher.publish(
+      new PaymentStatusChangedEvent(paymentId, reservationId, PaymentStatus.PENDING, PaymentStatus.FAIL)));
+    for (ExpiredReservation target : targets) {
+      domainEventPublisher.publish(new ReservationStatusChangedEvent(
+        target.reservationId(), ReservationStatus.PENDING, ReservationStatus.FAILED));
+    }
+    if (holding.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Long> eventIdsByShowtimeId = new HashMap<>();
+    jdbcTemplate.query(SELECT_SHOWTIME_EVENTS_SQL,
+      new MapSqlParameterSource("showtimeIds", holding.stream().map(ExpiredReservation::showtimeId).distinct().toList()),
+      rs -> {
+        eventIdsByShowtimeId.put(rs.getLong("id"), rs.getLong("event_id"));
+      });
+
+    for (ExpiredReservation target : holding) {
+      domainEventPublisher.publish(new HoldStatusChangedEvent(target.holdId(), HoldStatus.ACTIVE, HoldStatus.EXPIRED));
+    }
+    seatInventoryService.recordTransitions(
+      holding.stream()
+        .map(target -> new ShowtimeSeatRef(
+          target.showtimeSeatId(), target.showtimeId(), eventIdsByShowtimeId.get(target.showtimeId())))
+        .toList(),
+      ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.AVAILABLE);
+
+    // 활성 사용자 윈도우 - 결제하지 않고 떠난 회원의 자리 반환 (커밋 이후 - 롤백된 chunk로 자리를 먼저 잃지 않게 한다)
+    if (queueService.isActiveWindowEnabled()) {
+      for (ExpiredReservation target : holding) {
+        queueService.releaseAdmissionAfterCommit(eventIdsByShowtimeId.get(target.showtimeId()), target.memberId());
+      }
+    }
+  }
+
+  private record ExpiredReservation(
+    long reservationId,
+    long holdId,
+    long showtimeId,
+    long memberId,
+    boolean holdActive,
+    long showtimeSeatId
+  ) {
+  }
+}
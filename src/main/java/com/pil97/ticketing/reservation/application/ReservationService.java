@@ -1,33 +1,43 @@
 package com.pil97.ticketing.reservation.application;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pil97.ticketing.common.error.CommonErrorCode;
 import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.event.DomainEventPublisher;
 import com.pil97.ticketing.common.exception.BusinessException;
 import com.pil97.ticketing.hold.domain.Hold;
 import com.pil97.ticketing.hold.domain.HoldStatus;
 import com.pil97.ticketing.hold.domain.repository.HoldRepository;
 import com.pil97.ticketing.hold.error.HoldErrorCode;
-import com.pil97.ticketing.infra.idempotency.IdempotencyFingerprintUtil;
 import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
 import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.reservation.api.dto.response.MemberReservationPageResponse;
+import com.pil97.ticketing.reservation.api.dto.response.MemberReservationResponse;
 import com.pil97.ticketing.reservation.api.dto.response.ReservationResponse;
+import com.pil97.ticketing.reservation.application.dto.MemberReservationQueryResult;
 import com.pil97.ticketing.reservation.domain.Reservation;
 import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.event.ReservationStatusChangedEvent;
 import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
 import com.pil97.ticketing.reservation.error.ReservationErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
 import com.pil97.ticketing.showtimeseat.error.ShowtimeSeatErrorCode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -39,11 +49,24 @@ public class ReservationService {
   private static final String IDEMPOTENCY_PREFIX = "idempotency:reservation";
   // 예약 멱등성 결과 보관 TTL
   private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);
+  // 내 예약 목록 최대 페이지 크기
+  private static final int MAX_PAGE_SIZE = 100;
 
   private final HoldRepository holdRepository;
   private final ReservationRepository reservationRepository;
+  private final ShowtimeSeatRepository showtimeSeatRepository;
   private final IdempotencyRedisRepository idempotencyRedisRepository;
-  private final ObjectMapper objectMapper;
+  private final QueueService queueService;
+  private final SeatInventoryService seatInventoryService;
+  private final DomainEventPublisher domainEventPublisher;
+  private final PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
 
   /**
    * 예약 생성 처리 (결제 대기 상태)
@@ -52,27 +75,28 @@ public class ReservationService {
    * - 동일 key + 다른 본문 재요청 시 409 반환
    * - 동시 신규 요청 시 SETNX lock으로 1건만 처리
    * - 예약 성공 후 좌석/HOLD 상태 변경은 결제 완료(PaymentService) 시점에 처리
+   * - 멱등성 판정은 예약 트랜잭션을 열기 전에 한다 (DB 멱등성 저장소 사용 시 요청 1건이 커넥션 2개를 잡지 않게)
    *
    * @param idempotencyKey 클라이언트가 전달한 idempotency key
+   * @param fingerprint    요청(메서드 + URI + 본문)의 SHA-256 digest (IdempotencyFingerprintFilter에서 계산)
    * @param holdId         예약 대상 HOLD ID
    * @return 예약 생성 결과 응답
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public IdempotencyResult<ReservationResponse> reserve(
     String idempotencyKey,
+    byte[] fingerprint,
     Long holdId
   ) {
     if (idempotencyKey == null || idempotencyKey.isBlank()) {
       throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING);
     }
 
-    String fingerprint = computeFingerprint(holdId);
-
     return idempotencyRedisRepository
       .find(IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, ReservationResponse.class)
       .map(IdempotencyResult::ofReplayed)
       .orElseGet(() -> IdempotencyResult.ofNew(
-        processReserve(idempotencyKey, fingerprint, holdId)
+        process(idempotencyKey, fingerprint, holdId)
       ));
   }
 
@@ -81,68 +105,77 @@ public class ReservationService {
    * - PENDING: 결제 전 취소 - 좌석 HELD -> AVAILABLE 복구, 예약 CANCELLED 처리
    * - CONFIRMED: 직접 취소 불가 - 환불 API 경로 사용
    * - HOLD 상태는 별도 변경하지 않는다
+   * - 예약 → HOLD → 좌석 → 회차 → 이벤트를 fetch join 1회로 조회 (SELECT 1 + UPDATE 2)
    *
    * @param reservationId 취소 대상 예약 ID
    */
   @Transactional
   public void cancel(Long reservationId) {
-    Reservation reservation = reservationRepository.findById(reservationId)
+    Reservation reservation = reservationRepository.findByIdWithSeat(reservationId)
       .orElseThrow(() -> new BusinessException(ReservationErrorCode.NOT_FOUND));
 
     validateCancellable(reservation);
 
-    reservation.getHold().getShowtimeSeat().markAvailable();
+    ShowtimeSeat showtimeSeat = reservation.getHold().getShowtimeSeat();
+    showtimeSeat.markAvailable();
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.AVAILABLE);
     reservation.cancel();
+    domainEventPublisher.publish(new ReservationStatusChangedEvent(
+      reservation.getId(), ReservationStatus.PENDING, ReservationStatus.CANCELLED));
   }
 
   /**
-   * 실제 예약 처리 - 최초 요청에서만 실행
-   * - 처리 성공 시 트랜잭션 커밋 후 Redis에 결과 저장 (커밋 전 저장 시 DB/Redis 불일치 위험)
-   * - 처리 실패 또는 예외 발생 시 lock 해제하여 재시도 허용
+   * 내 예약 목록 조회 (커서 페이징, 최신순)
+   * - cursor: 이전 페이지의 nextCursor (첫 페이지는 null)
+   * - size + 1건을 조회해 다음 페이지 존재 여부를 판단한다 (count 쿼리 없음)
+   * - 깊은 페이지도 (member_id, id) 인덱스에서 cursor 위치로 바로 이동하므로 조회 비용이 일정하다
+   *
+   * @param memberId 로그인 회원 ID
+   * @param cursor   이 ID보다 작은 예약부터 조회
+   * @param size     페이지 크기 (1 ~ MAX_PAGE_SIZE)
+   * @return 예약 목록 + 다음 커서
    */
-  private ReservationResponse processReserve(
+  public MemberReservationPageResponse getMemberReservations(Long memberId, Long cursor, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new BusinessException(CommonErrorCode.INVALID_REQUEST);
+    }
+
+    List<MemberReservationQueryResult> rows = reservationRepository.findMemberReservationsBefore(
+      memberId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.ofSize(size + 1));
+
+    boolean hasNext = rows.size() > size;
+    List<MemberReservationResponse> items = rows.stream()
+      .limit(size)
+      .map(MemberReservationResponse::from)
+      .toList();
+    Long nextCursor = hasNext ? items.get(items.size() - 1).reservationId() : null;
+
+    return new MemberReservationPageResponse(items, nextCursor, hasNext);
+  }
+
+  /**
+   * 최초 요청 처리 - 예약 트랜잭션 실행 후 멱등성 결과 저장 / lock 해제
+   * - 예약은 transactionTemplate으로 커밋까지 마치고, 결과 저장과 lock 해제는 커밋 후 트랜잭션 밖에서 한다
+   *   (커밋 전 저장 시 롤백되면 DB에는 실패, 저장소에는 성공 응답이 남는 불일치 발생.
+   *    커밋 콜백에서 저장하면 DB 멱등성 저장소가 예약 커넥션을 쥔 채 커넥션을 하나 더 잡는다)
+   * - 처리 실패 또는 예외 / 롤백 시 lock 해제하여 재시도 허용
+   */
+  private ReservationResponse process(
     String idempotencyKey,
-    String fingerprint,
+    byte[] fingerprint,
     Long holdId
   ) {
     boolean success = false;
     try {
-      Hold hold = holdRepository.findByIdWithLock(holdId)
-        .orElseThrow(() -> new BusinessException(HoldErrorCode.NOT_FOUND));
-
-      validateReservableHold(hold);
-
-      ShowtimeSeat showtimeSeat = hold.getShowtimeSeat();
-
-      Reservation reservation = Reservation.create(
-        hold,
-        showtimeSeat.getShowtime(),
-        showtimeSeat.getSeat(),
-        hold.getMember()
-      );
-
-      Reservation savedReservation = reservationRepository.save(reservation);
-
-      ReservationResponse response = new ReservationResponse(
-        savedReservation.getId(),
-        hold.getId(),
-        showtimeSeat.getShowtime().getId(),
-        showtimeSeat.getSeat().getId(),
-        hold.getMember().getId(),
-        showtimeSeat.getStatus().name(),
-        hold.getStatus().name()
-      );
-
-      // 트랜잭션 커밋 후 Redis 저장
-      // - 커밋 전 저장 시 롤백되면 DB에는 실패, Redis에는 성공 응답이 남는 불일치 발생
-      // - afterCommit 콜백에서 실행하여 DB 커밋 성공이 보장된 후 저장
-      registerAfterCommit(idempotencyKey, fingerprint, response);
+      ReservationResponse response = transactionTemplate.execute(status ->
+        processReserve(idempotencyKey, fingerprint, holdId));
 
       success = true;
+      idempotencyRedisRepository.saveAfterCommit(
+        IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
       return response;
 
     } finally {
-      // 성공 시에는 afterCommit에서 lock 해제, 실패 시에는 즉시 해제
       if (!success) {
         idempotencyRedisRepository.releaseLock(IDEMPOTENCY_PREFIX, idempotencyKey);
       }
@@ -150,36 +183,53 @@ public class ReservationService {
   }
 
   /**
-   * 트랜잭션 커밋 후 Redis 결과 저장 및 lock 해제 등록
-   * - afterCommit: 커밋 성공 시에만 실행
-   * - afterCompletion: 롤백 포함 모든 완료 시 실행 - lock 해제 보장
+   * 실제 예약 처리 - 최초 요청에서만 실행 (예약 트랜잭션 안)
+   * - SQL: HOLD 락 조회 1 + 좌석 그래프 조회 1 + 예약 INSERT 1
    */
-  private void registerAfterCommit(
+  private ReservationResponse processReserve(
     String idempotencyKey,
-    String fingerprint,
-    ReservationResponse response
+    byte[] fingerprint,
+    Long holdId
   ) {
-    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-      throw new IllegalStateException("Transaction synchronization is not active");
-    }
+    Hold hold = holdRepository.findByIdWithLock(holdId)
+      .orElseThrow(() -> new BusinessException(HoldErrorCode.NOT_FOUND));
 
-    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+    // 검증과 예약 생성에 필요한 좌석 → 회차 → 이벤트를 1회 조회로 적재 (지연 로딩 방지)
+    showtimeSeatRepository.findByHoldIdWithShowtime(holdId);
 
-      @Override
-      public void afterCommit() {
-        // DB 커밋 성공 후 Redis에 결과 저장 및 lock 해제
-        idempotencyRedisRepository.save(
-          IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
-      }
+    validateReservableHold(hold);
 
-      @Override
-      public void afterCompletion(int status) {
-        // 롤백 등 커밋 외 완료 시 lock만 해제 (afterCommit이 실행된 경우 save()에서 이미 해제됨)
-        if (status != STATUS_COMMITTED) {
-          idempotencyRedisRepository.releaseLock(IDEMPOTENCY_PREFIX, idempotencyKey);
-        }
-      }
-    });
+    ShowtimeSeat showtimeSeat = hold.getShowtimeSeat();
+
+    // 활성 사용자 윈도우 활동 기록 - 예약 진행 중인 회원의 유휴 제한 시간 연장
+    if (queueService.isActiveWindowEnabled()) {
+      queueService.touchAdmission(showtimeSeat.getShowtime().getEvent().getId(), hold.getMember().getId());
+    }
+
+    Reservation reservation = Reservation.create(
+      hold,
+      showtimeSeat.getShowtime(),
+      showtimeSeat.getSeat(),
+      hold.getMember()
+    );
+
+    Reservation savedReservation = reservationRepository.save(reservation);
+    domainEventPublisher.publish(
+      new ReservationStatusChangedEvent(savedReservation.getId(), null, ReservationStatus.PENDING));
+
+    ReservationResponse response = new ReservationResponse(
+      savedReservation.getId(),
+      hold.getId(),
+      showtimeSeat.getShowtime().getId(),
+      showtimeSeat.getSeat().getId(),
+      hold.getMember().getId(),
+      showtimeSeat.getStatus().name(),
+      hold.getStatus().name()
+    );
+
+    idempotencyRedisRepository.recordInTransaction(
+      IDEMPOTENCY_PREFIX, idempotencyKey, fingerprint, response, IDEMPOTENCY_TTL);
+    return response;
   }
 
   /**
@@ -235,17 +285,4 @@ public class ReservationService {
       throw new BusinessException(ReservationErrorCode.RESERVATION_CANCEL_NOT_ALLOWED);
     }
   }
-
-  /**
-   * holdId 기반 fingerprint 계산
-   * - 예약 요청의 유일한 식별자는 holdId이므로 holdId를 직렬화하여 hash 계산
-   */
-  private String computeFingerprint(Long holdId) {
-    try {
-      return IdempotencyFingerprintUtil.hash(objectMapper.writeValueAsString(holdId));
-    } catch (JsonProcessingException e) {
-      log.warn("fingerprint 계산 실패 - 빈 문자열 hash로 대체");
-      return IdempotencyFingerprintUtil.hash("");
-    }
-  }
-}
\ No newline at end of file
+}
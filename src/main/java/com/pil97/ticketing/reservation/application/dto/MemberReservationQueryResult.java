@@ -0,0 +1,29 @@
+package com.pil97.ticketing.reservation.application.dto;
+
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.seat.domain.SeatGrade;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 예약 목록 조회 projection
+ * - 결제 이력이 없는 예약은 payment* 필드가 null
+ */
+public record MemberReservationQueryResult(
+    Long reservationId,
+    ReservationStatus status,
+    LocalDateTime reservedAt,
+    Long eventId,
+    String eventName,
+    Long showtimeId,
+    LocalDateTime showAt,
+    Long seatId,
+    String seatNumber,
+    SeatGrade grade,
+    Long paymentId,
+    PaymentStatus paymentStatus,
+    Integer amount,
+    LocalDateTime paidAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.pil97.ticketing.reservation.application.scheduler;
+
+import com.pil97.ticketing.reservation.application.ReservationExpirationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationExpirationScheduler {
+
+  private final ReservationExpirationService reservationExpirationService;
+
+  /**
+   * application.yml: reservation.expiration.interval-ms
+   */
+  @Scheduled(fixedDelayString = "${reservation.expiration.interval-ms:30000}")
+  public void expirePendingReservations() {
+    reservationExpirationService.expirePendingReservations(LocalDateTime.now());
+  }
+}
@@ -0,0 +1,18 @@
+package com.pil97.ticketing.reservation.domain.event;
+
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+
+/**
+ * 예약 상태 전환 이벤트 (생성 / confirm / fail / cancel / cancelByRefund)
+ * 회원·좌석 등 연관 정보가 필요한 리스너는 reservationId로 조회한다.
+ *
+ * @param reservationId 예약 ID
+ * @param from          변경 전 상태 (생성 시 null)
+ * @param to            변경 후 상태
+ */
+public record ReservationStatusChangedEvent(
+  Long reservationId,
+  ReservationStatus from,
+  ReservationStatus to
+) {
+}
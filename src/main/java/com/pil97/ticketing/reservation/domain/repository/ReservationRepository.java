@@ -1,12 +1,15 @@
 package com.pil97.ticketing.reservation.domain.repository;
 
+import com.pil97.ticketing.reservation.application.dto.MemberReservationQueryResult;
 import com.pil97.ticketing.reservation.domain.Reservation;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -19,4 +22,49 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("SELECT r FROM Reservation r WHERE r.id = :id")
   Optional<Reservation> findByIdWithLock(@Param("id") Long id);
-}
\ No newline at end of file
+
+  /**
+   * fetch join을 이용한 예약 단건 조회
+   * - 예약 취소 시 예약 → HOLD → 좌석 → 회차 → 이벤트를 1회 조회로 로드 (지연 로딩 4회 → 1회)
+   */
+  @Query("""
+    select r from Reservation r
+    join fetch r.hold h
+    join fetch h.showtimeSeat ss
+    join fetch ss.showtime st
+    join fetch st.event
+    where r.id = :id
+    """)
+  Optional<Reservation> findByIdWithSeat(@Param("id") Long id);
+
+  /**
+   * 회원의 예약 목록 keyset 조회 (최신순)
+   * - (member_id, id) 커버링 인덱스 범위 스캔으로 id < :cursor 인 행부터 limit건만 읽는다 (OFFSET 없음 → 이력 길이와 무관한 페이지 비용)
+   * - 회차 / 공연 / 좌석 / 최근 결제를 1회 조회로 projection (결제는 예약별 최대 id 1건, 없으면 null)
+   * - limit은 Pageable 크기로 전달한다 (정렬은 쿼리에 고정)
+   */
+  @Query("""
+    select new com.pil97.ticketing.reservation.application.dto.MemberReservationQueryResult(
+      r.id, r.status, r.createdAt,
+      e.id, e.name,
+      st.id, st.showAt,
+      s.id, s.seatNumber, s.grade,
+      p.id, p.status, p.amount, p.paidAt
+    )
+    from Reservation r
+    join r.showtime st
+    join st.event e
+    join r.seat s
+    left join Payment p
+      on p.reservation = r
+      and p.id = (select max(p2.id) from Payment p2 where p2.reservation = r)
+    where r.member.id = :memberId
+      and r.id < :cursor
+    order by r.id desc
+    """)
+  List<MemberReservationQueryResult> findMemberReservationsBefore(
+    @Param("memberId") Long memberId,
+    @Param("cursor") Long cursor,
+    Pageable pageable
+  );
+}
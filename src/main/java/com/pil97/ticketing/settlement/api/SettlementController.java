@@ -0,0 +1,78 @@
+package com.pil97.ticketing.settlement.api;
+
+import com.pil97.ticketing.common.io.IoBudget;
+import com.pil97.ticketing.common.response.ApiResponse;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.settlement.api.dto.response.ReconciliationResponse;
+import com.pil97.ticketing.settlement.application.ReconciliationService;
+import com.pil97.ticketing.settlement.application.SettlementExportFormat;
+import com.pil97.ticketing.settlement.application.SettlementExportService;
+import com.pil97.ticketing.settlement.application.SettlementOperatorPolicy;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "8. Settlement", description = "정산 API - 공연별 예약 / 결제 export / 결제 대사")
+@RestController
+@RequestMapping("/settlements")
+@RequiredArgsConstructor
+public class SettlementController {
+
+  private final SettlementOperatorPolicy settlementOperatorPolicy;
+  private final SettlementExportService settlementExportService;
+  private final ReconciliationService reconciliationService;
+
+  /**
+   * GET /settlements/events/{eventId}/export?format=csv|jsonl
+   * <p>
+   * 이 API의 목적:
+   * - 공연의 모든 예약 / 결제를 정산용 파일로 내려준다 (첨부 파일 응답)
+   * - 결과를 메모리에 모으지 않고 DB 커서에서 읽는 대로 응답 본문에 쓴다 (StreamingResponseBody)
+   * <p>
+   * 상태코드 정책:
+   * - 200 OK (본문은 ApiResponse로 감싸지 않는다)
+   * - 운영자가 아니면 403, 공연이 없으면 404, format 오류는 400 - 모두 스트리밍 시작 전에 판단한다
+   * - 스트리밍 도중 오류가 나면 응답이 잘린 채 끝난다
+   */
+  @IoBudget(sql = 2, redis = 1)
+  @GetMapping("/events/{eventId}/export")
+  public ResponseEntity<StreamingResponseBody> export(
+    @AuthenticationPrincipal Member member,
+    @PathVariable Long eventId,
+    @RequestParam(defaultValue = "csv") String format) {
+
+    settlementOperatorPolicy.validate(member.getId());
+    SettlementExportFormat exportFormat = SettlementExportFormat.from(format);
+    settlementExportService.validateExportable(eventId);
+
+    StreamingResponseBody body = out -> settlementExportService.export(eventId, exportFormat, out);
+
+    return ResponseEntity.ok()
+      .contentType(exportFormat.getMediaType())
+      .header(HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment().filename(exportFormat.fileName(eventId)).build().toString())
+      .body(body);
+  }
+
+  /**
+   * POST /settlements/events/{eventId}/reconcile
+   * - 공연의 결제 상태를 예약 / HOLD 상태와 대사하고 회차별 집계와 불일치 샘플을 반환한다
+   * - 조회만 하며 데이터를 고치지 않는다
+   * - 200 OK
+   */
+  @IoBudget(sql = 3, redis = 1)
+  @PostMapping("/events/{eventId}/reconcile")
+  public ResponseEntity<ApiResponse<ReconciliationResponse>> reconcile(
+    @AuthenticationPrincipal Member member,
+    @PathVariable Long eventId) {
+
+    settlementOperatorPolicy.validate(member.getId());
+    ReconciliationResponse response = reconciliationService.reconcile(eventId);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+}
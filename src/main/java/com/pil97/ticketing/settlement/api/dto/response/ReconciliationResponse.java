@@ -0,0 +1,36 @@
+package com.pil97.ticketing.settlement.api.dto.response;
+
+import com.pil97.ticketing.settlement.domain.ReconciliationMismatchType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연 단위 결제 대사 결과 응답 DTO
+ * <p>
+ * JSON 예시:
+ * {
+ * "eventId": 1,
+ * "reservationCount": 1200,
+ * "paymentCount": 1180,
+ * "capturedAmount": 150000000,
+ * "refundedAmount": 3000000,
+ * "mismatchCount": 1,
+ * "mismatches": { "SUCCESS_PAYMENT_STATE_MISMATCH": 1 },
+ * "showtimes": [ { "showtimeId": 1, ... } ],
+ * "durationMs": 840
+ * }
+ * - capturedAmount: SUCCESS 결제 금액 합계 / refundedAmount: REFUNDED 결제 금액 합계
+ */
+public record ReconciliationResponse(
+  Long eventId,
+  long reservationCount,
+  long paymentCount,
+  long capturedAmount,
+  long refundedAmount,
+  long mismatchCount,
+  Map<ReconciliationMismatchType, Long> mismatches,
+  List<ShowtimeReconciliationResponse> showtimes,
+  long durationMs
+) {
+}
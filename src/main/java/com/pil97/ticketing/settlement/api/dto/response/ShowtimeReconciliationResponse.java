@@ -0,0 +1,34 @@
+package com.pil97.ticketing.settlement.api.dto.response;
+
+import com.pil97.ticketing.settlement.domain.ReconciliationMismatchType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회차 단위 결제 대사 결과
+ * - samples: 불일치 예시 (최대 settlement.reconciliation.sample-limit건)
+ */
+public record ShowtimeReconciliationResponse(
+  Long showtimeId,
+  long reservationCount,
+  long paymentCount,
+  long capturedAmount,
+  long refundedAmount,
+  Map<ReconciliationMismatchType, Long> mismatches,
+  List<MismatchSample> samples
+) {
+
+  /**
+   * 불일치 1건 - 결제 없이 판단한 유형(CONFIRMED_WITHOUT_PAYMENT 등)은 paymentId / paymentStatus가 null
+   */
+  public record MismatchSample(
+    ReconciliationMismatchType type,
+    Long reservationId,
+    String reservationStatus,
+    String holdStatus,
+    Long paymentId,
+    String paymentStatus
+  ) {
+  }
+}
@@ -0,0 +1,273 @@
+package com.pil97.ticketing.settlement.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.event.error.EventErrorCode;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.settlement.api.dto.response.ReconciliationResponse;
+import com.pil97.ticketing.settlement.api.dto.response.ShowtimeReconciliationResponse;
+import com.pil97.ticketing.settlement.api.dto.response.ShowtimeReconciliationResponse.MismatchSample;
+import com.pil97.ticketing.settlement.domain.ReconciliationMismatchType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공연 단위 결제 대사 (payment.status ↔ reservations.status / holds.status)
+ * <p>
+ * 회차별로 나눠 bounded executor에서 병렬 실행한다.
+ * - 회차마다 forward-only 커서 1개로 예약 → 결제 순으로 읽으며, 현재 예약 1건의 상태만 들고 판정한다 (행 수와 무관한 메모리)
+ * - 회차별 집계(예약 / 결제 수, 승인 / 환불 금액, 유형별 불일치 수)를 합쳐 공연 결과를 만든다
+ * - 조회만 하고 상태를 고치지 않는다. 불일치는 로그(action=SETTLEMENT_RECONCILE_MISMATCH)와 응답 샘플로 남긴다
+ * - 회차 worker마다 커넥션 1개를 쓰므로 pool-size는 커넥션 풀 크기보다 작게 둔다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+  private static final String SELECT_SHOWTIME_IDS_SQL =
+    "SELECT id FROM showtime WHERE event_id = ? ORDER BY id";
+
+  private static final String RECONCILE_SQL =
+    "SELECT r.id AS reservation_id, r.status AS reservation_status, h.status AS hold_status, "
+      + "p.id AS payment_id, p.status AS payment_status, p.amount "
+      + "FROM reservations r "
+      + "JOIN holds h ON h.id = r.hold_id "
+      + "LEFT JOIN payment p ON p.reservation_id = r.id "
+      + "WHERE r.showtime_id = ? "
+      + "ORDER BY r.id, p.id";
+
+  /**
+   * 회차별 대사 병렬도 (worker 스레드 수)
+   * application.yml: settlement.reconciliation.pool-size
+   */
+  @Value("${settlement.reconciliation.pool-size:4}")
+  private int poolSize = 4;
+
+  /**
+   * 회차별로 남기는 불일치 샘플 수
+   * application.yml: settlement.reconciliation.sample-limit
+   */
+  @Value("${settlement.reconciliation.sample-limit:20}")
+  private int sampleLimit = 20;
+
+  /**
+   * 커서가 DB에서 한 번에 가져오는 행 수
+   * application.yml: settlement.export.fetch-size
+   */
+  @Value("${settlement.export.fetch-size:1000}")
+  private int fetchSize = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EventRepository eventRepository;
+
+  private ThreadPoolExecutor reconcileExecutor;
+
+  /**
+   * 회차별 대사용 bounded executor 생성
+   * - 작업 큐가 가득 차면 CallerRunsPolicy로 호출 스레드가 직접 처리
+   */
+  @PostConstruct
+  void initExecutor() {
+    reconcileExecutor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(poolSize * 64),
+      new CustomizableThreadFactory("settlement-reconcile-"),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+  }
+
+  @PreDestroy
+  void shutdownExecutor() {
+    reconcileExecutor.shutdown();
+  }
+
+  /**
+   * 공연 1건 대사
+   *
+   * @param eventId 공연 ID
+   * @return 공연 / 회차별 집계와 불일치 샘플
+   */
+  public ReconciliationResponse reconcile(Long eventId) {
+    if (!eventRepository.existsById(eventId)) {
+      throw new BusinessException(EventErrorCode.NOT_FOUND);
+    }
+    long startNanos = System.nanoTime();
+    List<Long> showtimeIds = jdbcTemplate.queryForList(SELECT_SHOWTIME_IDS_SQL, Long.class, eventId);
+
+    List<CompletableFuture<ShowtimeReconciliationResponse>> futures = new ArrayList<>(showtimeIds.size());
+    for (Long showtimeId : showtimeIds) {
+      futures.add(CompletableFuture.supplyAsync(() -> reconcileShowtime(showtimeId), reconcileExecutor));
+    }
+    List<ShowtimeReconciliationResponse> showtimes = futures.stream().map(CompletableFuture::join).toList();
+
+    long reservationCount = 0;
+    long paymentCount = 0;
+    long capturedAmount = 0;
+    long refundedAmount = 0;
+    Map<ReconciliationMismatchType, Long> mismatches = new EnumMap<>(ReconciliationMismatchType.class);
+    for (ShowtimeReconciliationResponse showtime : showtimes) {
+      reservationCount += showtime.reservationCount();
+      paymentCount += showtime.paymentCount();
+      capturedAmount += showtime.capturedAmount();
+      refundedAmount += showtime.refundedAmount();
+      showtime.mismatches().forEach((type, count) -> mismatches.merge(type, count, Long::sum));
+    }
+    long mismatchCount = mismatches.values().stream().mapToLong(Long::longValue).sum();
+    long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    log.info("action=SETTLEMENT_RECONCILE_DONE eventId={} showtimes={} reservations={} payments={} "
+        + "capturedAmount={} refundedAmount={} mismatches={} durationMs={}",
+      eventId, showtimes.size(), reservationCount, paymentCount, capturedAmount, refundedAmount, mismatchCount,
+      durationMs);
+
+    return new ReconciliationResponse(eventId, reservationCount, paymentCount, capturedAmount, refundedAmount,
+      mismatchCount, mismatches, showtimes, durationMs);
+  }
+
+  /**
+   * 회차 1건 대사 - worker 스레드에서 실행
+   */
+  private ShowtimeReconciliationResponse reconcileShowtime(Long showtimeId) {
+    ShowtimeReconciler reconciler = new ShowtimeReconciler(showtimeId, sampleLimit);
+    jdbcTemplate.query(
+      con -> {
+        PreparedStatement ps = con.prepareStatement(RECONCILE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(fetchSize);
+        ps.setLong(1, showtimeId);
+        return ps;
+      },
+      reconciler::accept);
+    ShowtimeReconciliationResponse result = reconciler.finish();
+
+    result.mismatches().forEach((type, count) ->
+      log.warn("action=SETTLEMENT_RECONCILE_MISMATCH showtimeId={} type={} count={}", showtimeId, type, count));
+    return result;
+  }
+
+  /**
+   * 회차 1건의 대사 상태 - 예약 ID 순으로 정렬된 행을 차례로 받는다
+   * - 결제 행 단위 판정(결제 상태 ↔ 예약 / HOLD 상태)은 행을 받을 때
+   * - 예약 단위 판정(승인 결제 수)은 다음 예약 행이 오거나 끝날 때
+   */
+  private static final class ShowtimeReconciler {
+
+    private final Long showtimeId;
+    private final int sampleLimit;
+    private final Map<ReconciliationMismatchType, Long> mismatches = new EnumMap<>(ReconciliationMismatchType.class);
+    private final List<MismatchSample> samples = new ArrayList<>();
+
+    private long reservationCount;
+    private long paymentCount;
+    private long capturedAmount;
+    private long refundedAmount;
+
+    // 현재 예약
+    private long reservationId = -1;
+    private ReservationStatus reservationStatus;
+    private HoldStatus holdStatus;
+    private int successPayments;
+    private int capturedPayments;
+
+    private ShowtimeReconciler(Long showtimeId, int sampleLimit) {
+      this.showtimeId = showtimeId;
+      this.sampleLimit = sampleLimit;
+    }
+
+    void accept(ResultSet rs) throws SQLException {
+      long rowReservationId = rs.getLong("reservation_id");
+      if (rowReservationId != reservationId) {
+        closeReservation();
+        reservationId = rowReservationId;
+        reservationStatus = ReservationStatus.valueOf(rs.getString("reservation_status"));
+        holdStatus = HoldStatus.valueOf(rs.getString("hold_status"));
+        successPayments = 0;
+        capturedPayments = 0;
+        reservationCount++;
+      }
+
+      long paymentId = rs.getLong("payment_id");
+      if (rs.wasNull()) {
+        return;
+      }
+      paymentCount++;
+      PaymentStatus paymentStatus = PaymentStatus.valueOf(rs.getString("payment_status"));
+      long amount = rs.getLong("amount");
+
+      switch (paymentStatus) {
+        case SUCCESS -> {
+          capturedAmount += amount;
+          successPayments++;
+          capturedPayments++;
+          if (reservationStatus != ReservationStatus.CONFIRMED || holdStatus != HoldStatus.CONFIRMED) {
+            mismatch(ReconciliationMismatchType.SUCCESS_PAYMENT_STATE_MISMATCH, paymentId, paymentStatus);
+          }
+        }
+        case REFUNDED -> {
+          refundedAmount += amount;
+          capturedPayments++;
+          if (reservationStatus != ReservationStatus.CANCELLED || holdStatus != HoldStatus.REFUNDED) {
+            mismatch(ReconciliationMismatchType.REFUNDED_PAYMENT_STATE_MISMATCH, paymentId, paymentStatus);
+          }
+        }
+        case PENDING, UNKNOWN -> {
+          if (reservationStatus != ReservationStatus.PENDING) {
+            mismatch(ReconciliationMismatchType.PENDING_PAYMENT_STATE_MISMATCH, paymentId, paymentStatus);
+          }
+        }
+        case FAIL -> {
+          // 실패 결제는 예약 상태와 무관하다 (같은 예약으로 재결제 가능)
+        }
+      }
+    }
+
+    ShowtimeReconciliationResponse finish() {
+      closeReservation();
+      return new ShowtimeReconciliationResponse(showtimeId, reservationCount, paymentCount, capturedAmount,
+        refundedAmount, mismatches, samples);
+    }
+
+    private void closeReservation() {
+      if (reservationId < 0) {
+        return;
+      }
+      if (reservationStatus == ReservationStatus.CONFIRMED && successPayments == 0) {
+        mismatch(ReconciliationMismatchType.CONFIRMED_WITHOUT_PAYMENT, null, null);
+      }
+      if (capturedPayments > 1) {
+        mismatch(ReconciliationMismatchType.DUPLICATE_CAPTURE, null, null);
+      }
+    }
+
+    private void mismatch(ReconciliationMismatchType type, Long paymentId, PaymentStatus paymentStatus) {
+      mismatches.merge(type, 1L, Long::sum);
+      if (samples.size() < sampleLimit) {
+        samples.add(new MismatchSample(type, reservationId, reservationStatus.name(), holdStatus.name(),
+          paymentId, paymentStatus == null ? null : paymentStatus.name()));
+      }
+    }
+  }
+}
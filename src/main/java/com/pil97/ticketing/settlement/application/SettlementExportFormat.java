@@ -0,0 +1,42 @@
+package com.pil97.ticketing.settlement.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.settlement.error.SettlementErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 정산 export 출력 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SettlementExportFormat {
+
+  // 헤더 1줄 + 행마다 쉼표 구분 (RFC 4180 quoting)
+  CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+
+  // 행마다 JSON 객체 1개 + 줄바꿈
+  JSONL("jsonl", new MediaType("application", "x-ndjson", StandardCharsets.UTF_8));
+
+  private final String extension;
+  private final MediaType mediaType;
+
+  /**
+   * format 요청 파라미터 → 출력 형식 (대소문자 무시)
+   */
+  public static SettlementExportFormat from(String format) {
+    for (SettlementExportFormat value : values()) {
+      if (value.extension.equalsIgnoreCase(format)) {
+        return value;
+      }
+    }
+    throw new BusinessException(SettlementErrorCode.UNSUPPORTED_EXPORT_FORMAT);
+  }
+
+  public String fileName(Long eventId) {
+    return "event-" + eventId + "-settlement." + extension;
+  }
+}
@@ -0,0 +1,253 @@
+package com.pil97.ticketing.settlement.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.event.error.EventErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공연 단위 예약 / 결제 정산 export
+ * <p>
+ * 공연의 모든 예약을 회차 → 예약 → 결제 순으로 1행씩 내보낸다 (결제가 여러 건이면 결제마다 1행, 결제가 없으면 payment_* 빈 값).
+ * - forward-only / read-only 커서에 fetch-size를 지정해 드라이버가 행을 나눠 가져오게 한다 (결과 전체를 메모리에 올리지 않는다)
+ * - 엔티티 / DTO로 변환하지 않고 ResultSet 값을 바로 출력 스트림에 쓴다 → 행 수와 무관하게 메모리 사용량이 일정하다
+ * - 스트리밍 동안 커넥션 1개를 점유한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementExportService {
+
+  private static final String EXPORT_SQL =
+    "SELECT r.showtime_id, st.show_at, r.id AS reservation_id, r.status AS reservation_status, "
+      + "r.created_at AS reserved_at, r.member_id, r.seat_id, s.seat_number, s.grade, h.status AS hold_status, "
+      + "p.id AS payment_id, p.status AS payment_status, p.amount, p.paid_at, p.refunded_at "
+      + "FROM showtime st "
+      + "JOIN reservations r ON r.showtime_id = st.id "
+      + "JOIN seat s ON s.id = r.seat_id "
+      + "JOIN holds h ON h.id = r.hold_id "
+      + "LEFT JOIN payment p ON p.reservation_id = r.id "
+      + "WHERE st.event_id = ? "
+      + "ORDER BY r.showtime_id, r.id, p.id";
+
+  // 출력 컬럼 (EXPORT_SQL select 순서와 동일)
+  private static final String[] COLUMNS = {
+    "showtime_id", "show_at", "reservation_id", "reservation_status", "reserved_at", "member_id", "seat_id",
+    "seat_number", "grade", "hold_status", "payment_id", "payment_status", "amount", "paid_at", "refunded_at"
+  };
+
+  // JSONL에서 숫자로 쓰는 컬럼 / 일시로 읽는 컬럼의 인덱스 (0부터)
+  private static final boolean[] NUMERIC = columnFlags("showtime_id", "reservation_id", "member_id", "seat_id",
+    "payment_id", "amount");
+  private static final boolean[] DATETIME = columnFlags("show_at", "reserved_at", "paid_at", "refunded_at");
+
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * 커서가 DB에서 한 번에 가져오는 행 수
+   * application.yml: settlement.export.fetch-size
+   */
+  @Value("${settlement.export.fetch-size:1000}")
+  private int fetchSize = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EventRepository eventRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * export 대상 공연 존재 확인 - 응답 헤더가 나가기 전(스트리밍 시작 전)에 호출한다
+   */
+  public void validateExportable(Long eventId) {
+    if (!eventRepository.existsById(eventId)) {
+      throw new BusinessException(EventErrorCode.NOT_FOUND);
+    }
+  }
+
+  /**
+   * 공연의 예약 / 결제 행을 지정 형식으로 출력 스트림에 쓴다
+   *
+   * @param eventId 공연 ID
+   * @param format  출력 형식
+   * @param out     응답 출력 스트림 (닫지 않는다)
+   * @return 출력한 행 수
+   */
+  public long export(Long eventId, SettlementExportFormat format, OutputStream out) throws IOException {
+    long startNanos = System.nanoTime();
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    RowWriter rowWriter = format == SettlementExportFormat.CSV ? new CsvRowWriter(writer) : new JsonLinesRowWriter(writer);
+    long[] rows = new long[1];
+
+    try {
+      rowWriter.begin();
+      jdbcTemplate.query(
+        con -> {
+          PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          ps.setFetchSize(fetchSize);
+          ps.setLong(1, eventId);
+          return ps;
+        },
+        rs -> {
+          try {
+            rowWriter.write(rs);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          rows[0]++;
+        });
+      rowWriter.end();
+      writer.flush();
+    } catch (UncheckedIOException e) {
+      // 클라이언트 연결 종료 등 - 커서를 닫고 중단한다
+      log.warn("action=SETTLEMENT_EXPORT_ABORTED eventId={} format={} rows={} reason={}",
+        eventId, format, rows[0], e.getCause().getMessage());
+      throw e.getCause();
+    }
+
+    log.info("action=SETTLEMENT_EXPORT_DONE eventId={} format={} rows={} durationMs={}",
+      eventId, format, rows[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    return rows[0];
+  }
+
+  /**
+   * 컬럼 값을 문자열로 읽는다 (NULL이면 null, 일시는 ISO-8601)
+   */
+  private static String value(ResultSet rs, int index) throws SQLException {
+    if (DATETIME[index]) {
+      LocalDateTime dateTime = rs.getObject(index + 1, LocalDateTime.class);
+      return dateTime == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+    return rs.getString(index + 1);
+  }
+
+  private static boolean[] columnFlags(String... names) {
+    boolean[] flags = new boolean[COLUMNS.length];
+    for (String name : names) {
+      for (int i = 0; i < COLUMNS.length; i++) {
+        if (COLUMNS[i].equals(name)) {
+          flags[i] = true;
+        }
+      }
+    }
+    return flags;
+  }
+
+  private interface RowWriter {
+
+    void begin() throws IOException;
+
+    void write(ResultSet rs) throws SQLException, IOException;
+
+    void end() throws IOException;
+  }
+
+  /**
+   * CSV - 헤더 1줄 + 행마다 1줄, 쉼표 / 따옴표 / 줄바꿈이 있는 값만 따옴표로 감싼다
+   */
+  private static final class CsvRowWriter implements RowWriter {
+
+    private final Writer writer;
+
+    private CsvRowWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void begin() throws IOException {
+      writer.write(String.join(",", COLUMNS));
+      writer.write('\n');
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+      for (int i = 0; i < COLUMNS.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        String value = value(rs, i);
+        if (value != null) {
+          writer.write(escape(value));
+        }
+      }
+      writer.write('\n');
+    }
+
+    @Override
+    public void end() {
+    }
+
+    private static String escape(String value) {
+      if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+        return value;
+      }
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+  }
+
+  /**
+   * JSONL - 행마다 JSON 객체 1개 + 줄바꿈 (NULL 컬럼은 null)
+   */
+  private final class JsonLinesRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private boolean empty = true;
+
+    private JsonLinesRowWriter(Writer writer) throws IOException {
+      this.generator = objectMapper.getFactory().createGenerator(writer);
+      // 루트 객체 사이 구분자를 줄바꿈으로 (기본값은 공백)
+      this.generator.setRootValueSeparator(new SerializedString("\n"));
+      // 응답 스트림은 컨테이너가 닫는다
+      this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void begin() {
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+      generator.writeStartObject();
+      for (int i = 0; i < COLUMNS.length; i++) {
+        String value = value(rs, i);
+        if (value == null) {
+          generator.writeNullField(COLUMNS[i]);
+        } else if (NUMERIC[i]) {
+          generator.writeFieldName(COLUMNS[i]);
+          generator.writeNumber(value);
+        } else {
+          generator.writeStringField(COLUMNS[i], value);
+        }
+      }
+      generator.writeEndObject();
+      empty = false;
+    }
+
+    @Override
+    public void end() throws IOException {
+      if (!empty) {
+        generator.writeRaw('\n');
+      }
+      generator.flush();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.pil97.ticketing.settlement.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.settlement.error.SettlementErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 정산 API 접근 제어
+ * - 회원 권한(Role) 모델이 없으므로 설정에 등록된 운영자 회원 ID만 허용한다
+ * - 목록이 비어 있으면 모든 요청을 거부한다
+ */
+@Component
+public class SettlementOperatorPolicy {
+
+  /**
+   * 정산 export / 대사 API 호출 허용 회원 ID
+   * application.yml: settlement.operator-member-ids
+   */
+  @Value("${settlement.operator-member-ids:}")
+  private Set<Long> operatorMemberIds = Set.of();
+
+  public void validate(Long memberId) {
+    if (!operatorMemberIds.contains(memberId)) {
+      throw new BusinessException(SettlementErrorCode.OPERATOR_ONLY);
+    }
+  }
+}
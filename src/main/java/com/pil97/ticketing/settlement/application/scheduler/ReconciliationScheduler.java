@@ -0,0 +1,46 @@
+package com.pil97.ticketing.settlement.application.scheduler;
+
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.settlement.application.ReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정산 대사 스케줄러
+ * - 최근 lookback-hours 안에 종료된 공연을 차례로 대사한다 (공연 안에서는 회차별 병렬)
+ * - 한 공연의 실패가 다른 공연 대사를 막지 않도록 예외를 로그로 남기고 넘어간다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReconciliationScheduler {
+
+  /**
+   * 대사 대상 공연의 종료 시각 범위 (현재 기준 과거 N시간)
+   * application.yml: settlement.reconciliation.lookback-hours
+   */
+  @Value("${settlement.reconciliation.lookback-hours:24}")
+  private long lookbackHours = 24;
+
+  private final EventRepository eventRepository;
+  private final ReconciliationService reconciliationService;
+
+  @Scheduled(cron = "${settlement.reconciliation.cron:0 0 4 * * *}")
+  public void reconcileEndedEvents() {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> eventIds = eventRepository.findIdsEndedBetween(now.minusHours(lookbackHours), now);
+    for (Long eventId : eventIds) {
+      try {
+        reconciliationService.reconcile(eventId);
+      } catch (Exception e) {
+        log.error("action=SETTLEMENT_RECONCILE_FAILED eventId={}", eventId, e);
+      }
+    }
+  }
+}
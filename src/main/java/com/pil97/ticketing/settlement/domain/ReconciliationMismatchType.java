@@ -0,0 +1,17 @@
+package com.pil97.ticketing.settlement.domain;
+
+/**
+ * 결제 상태 ↔ 예약 / HOLD 상태 대사 불일치 유형
+ */
+public enum ReconciliationMismatchType {
+  // SUCCESS 결제인데 예약이 CONFIRMED가 아니거나 HOLD가 CONFIRMED가 아님
+  SUCCESS_PAYMENT_STATE_MISMATCH,
+  // REFUNDED 결제인데 예약이 CANCELLED가 아니거나 HOLD가 REFUNDED가 아님
+  REFUNDED_PAYMENT_STATE_MISMATCH,
+  // PENDING 결제인데 예약이 PENDING이 아님 (결제 워커 유실 등으로 종결되지 않은 결제)
+  PENDING_PAYMENT_STATE_MISMATCH,
+  // CONFIRMED 예약에 SUCCESS 결제가 없음
+  CONFIRMED_WITHOUT_PAYMENT,
+  // 예약 1건에 승인(SUCCESS / REFUNDED)된 결제가 2건 이상 - 중복 청구
+  DUPLICATE_CAPTURE
+}
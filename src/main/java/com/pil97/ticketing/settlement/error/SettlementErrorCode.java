@@ -0,0 +1,27 @@
+package com.pil97.ticketing.settlement.error;
+
+import com.pil97.ticketing.common.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 정산 도메인 에러코드
+ * <p>
+ * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: SETTLEMENT-002)
+ * 이 파일은 정산(예약 / 결제 export, 대사) API의 에러를 정의하는 enum입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SettlementErrorCode implements ErrorCode {
+
+  // settlement.operator-member-ids에 없는 회원이 정산 API 호출 시
+  OPERATOR_ONLY(HttpStatus.FORBIDDEN, "SETTLEMENT-001", "Only settlement operators can access this resource"),
+
+  // export format 파라미터가 csv / jsonl이 아닌 경우
+  UNSUPPORTED_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "SETTLEMENT-002", "Unsupported export format");
+
+  private final HttpStatus status;
+  private final String code;
+  private final String message;
+}
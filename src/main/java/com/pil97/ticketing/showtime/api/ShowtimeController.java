@@ -1,5 +1,6 @@
 package com.pil97.ticketing.showtime.api;
 
+import com.pil97.ticketing.common.io.IoBudget;
 import com.pil97.ticketing.common.response.ApiResponse;
 import com.pil97.ticketing.showtime.api.dto.response.ShowtimeSeatResponse;
 import com.pil97.ticketing.showtime.application.ShowtimeService;
@@ -33,6 +34,7 @@ public class ShowtimeController {
    * 응답 정책:
    * - 표준 응답 포맷(ApiResponse)로 감싸서 반환
    */
+  @IoBudget(sql = 3, redis = 1)
   @GetMapping("/{showtimeId}/seats")
   public ResponseEntity<ApiResponse<List<ShowtimeSeatResponse>>> getSeats(
     @PathVariable Long showtimeId
@@ -0,0 +1,326 @@
+package com.pil97.ticketing.showtimeseat.application;
+
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.infra.outbox.OutboxWriter;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatRef;
+import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatStatusCount;
+import com.pil97.ticketing.showtimeseat.domain.SeatAvailability;
+import com.pil97.ticketing.showtimeseat.domain.SeatInventory;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.event.ShowtimeSeatStatusChangedEvent;
+import com.pil97.ticketing.showtimeseat.domain.repository.SeatInventoryRepository;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import com.pil97.ticketing.showtimeseat.error.ShowtimeSeatErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잔여 좌석 카운터 관리 서비스
+ * <p>
+ * 매진 이후에도 대기열 진입과 HOLD 요청이 계속 들어와 분산락 + DB 조회 4회를 거친 뒤에야 실패하던 문제를
+ * 이벤트 / 회차별 잔여 좌석 카운터로 O(1) 단락 처리한다.
+ * <p>
+ * 동작 방식:
+ * 1. 대기열 진입 시 카운터가 없으면 DB group by 1회로 회차별 / 상태별 좌석 수를 집계해 초기화
+ * 2. ShowtimeSeat 상태 전이(HOLD, 만료, 결제, 취소, 환불)마다 트랜잭션 커밋 후 카운터 증감
+ * 3. 보정 주기마다 판매 중인 이벤트 전체(대기열 유무와 무관)의 카운터를 DB 집계로 덮어써 누락 / 중복 반영을 바로잡는다
+ *    - 집계 전에 읽은 카운터 버전이 그대로일 때만 덮어쓴다 (집계 중 반영된 증감을 지우지 않게)
+ * <p>
+ * 카운터는 단락용 힌트다. 카운터가 없으면 단락하지 않고, 카운터가 0이면 매진 판정 전에 DB 집계로 확인한다.
+ * 실제 선점 가능 여부는 여전히 DB 좌석 상태로 판단한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatInventoryService {
+
+  /**
+   * 카운터 보정 주기 (ms)
+   * application.yml: seat-inventory.reconcile-interval-ms
+   * 커밋 후 반영 누락 등으로 생긴 오차는 최대 이 시간 동안 유지될 수 있다.
+   */
+  @Value("${seat-inventory.reconcile-interval-ms:60000}")
+  private long reconcileIntervalMs = 60000L;
+
+  /**
+   * 카운터 key 유효 시간 (ms)
+   * application.yml: seat-inventory.counter-ttl-ms
+   * 보정될 때마다 갱신되므로 활성 대기열이 없는 이벤트의 카운터만 만료된다.
+   */
+  @Value("${seat-inventory.counter-ttl-ms:3600000}")
+  private long counterTtlMs = 3600000L;
+
+  /**
+   * DB로 확인한 매진 판정 재사용 시간 (ms)
+   * application.yml: seat-inventory.sold-out-recheck-ms
+   * 매진 회차로 몰리는 요청이 모두 DB 집계를 하지 않도록, 확인 결과를 이 시간 동안 인스턴스 로컬에서 재사용한다.
+   */
+  @Value("${seat-inventory.sold-out-recheck-ms:1000}")
+  private long soldOutRecheckMs = 1000L;
+
+  private final SeatInventoryRepository seatInventoryRepository;
+  private final ShowtimeSeatRepository showtimeSeatRepository;
+  private final EventRepository eventRepository;
+  private final OutboxWriter outboxWriter;
+  private final DomainEventPublisher domainEventPublisher;
+
+  // eventId → 이 인스턴스의 마지막 보정 시각 - 스케줄러 tick마다 DB 집계를 하지 않도록 제한
+  private final Map<Long, Long> lastReconciledAt = new ConcurrentHashMap<>();
+
+  // showtimeId → DB로 확인한 매진 판정 - 카운터 0인 회차만 담긴다
+  private final Map<Long, ConfirmedSoldOut> confirmedSoldOuts = new ConcurrentHashMap<>();
+
+  /**
+   * 이벤트 판매 상태 조회
+   * 대기열 진입 / 상태 조회 / 입장 허용 시 호출한다. 카운터가 없으면 DB 집계로 초기화한다.
+   *
+   * @param eventId 이벤트 ID
+   * @return 이벤트 전체 잔여 좌석 기준 판매 상태
+   */
+  public SeatAvailability getEventAvailability(Long eventId) {
+    return seatInventoryRepository.findEventInventory(eventId)
+      .orElseGet(() -> reconcile(eventId))
+      .availability();
+  }
+
+  /**
+   * 회차 선점 가능 여부 검증
+   * HOLD 진입점에서 분산락 획득 전에 호출한다.
+   * - 카운터가 없거나 AVAILABLE 좌석이 있으면 단락하지 않는다 (DB 검증에 맡김)
+   * - 카운터가 0이면 증가 반영 누락일 수 있으므로 회차 DB 집계(락 없음)로 확인한 뒤
+   *   HELD 좌석 유무에 따라 SOLD_OUT_MAY_REOPEN / SOLD_OUT 예외 발생
+   *
+   * @param showtimeId 회차 ID
+   */
+  public void validateShowtimeAvailable(Long showtimeId) {
+    SeatAvailability availability = seatInventoryRepository.findShowtimeInventory(showtimeId)
+      .map(SeatInventory::availability)
+      .orElse(SeatAvailability.AVAILABLE);
+    if (availability != SeatAvailability.AVAILABLE) {
+      availability = confirmSoldOut(showtimeId);
+    }
+
+    if (availability == SeatAvailability.MAY_REOPEN) {
+      throw new BusinessException(ShowtimeSeatErrorCode.SOLD_OUT_MAY_REOPEN);
+    }
+    if (availability == SeatAvailability.SOLD_OUT) {
+      throw new BusinessException(ShowtimeSeatErrorCode.SOLD_OUT);
+    }
+  }
+
+  /**
+   * 좌석 상태 전이 기록
+   * ShowtimeSeat 상태 변경 직후 호출한다. 트랜잭션 커밋 후에만 카운터에 반영한다.
+   * (커밋 전 반영 시 롤백되면 카운터만 변경된 채 남는다)
+   * outbox 모드에서는 트랜잭션에 outbox 이벤트로 기록하고 OutboxRelay가 반영한다 (SeatInventoryTransitionHandler)
+   * 좌석 상태 전환 도메인 이벤트(ShowtimeSeatStatusChangedEvent)도 여기서 발행한다 - 커밋 후 리스너에 전달
+   *
+   * @param showtimeSeat 상태가 변경된 회차 좌석
+   * @param from         변경 전 상태
+   * @param to           변경 후 상태
+   */
+  public void recordTransition(ShowtimeSeat showtimeSeat, ShowtimeSeatStatus from, ShowtimeSeatStatus to) {
+    Showtime showtime = showtimeSeat.getShowtime();
+    Long showtimeId = showtime.getId();
+    Long eventId = showtime.getEvent().getId();
+    long availableDelta = delta(ShowtimeSeatStatus.AVAILABLE, from, to);
+    long heldDelta = delta(ShowtimeSeatStatus.HELD, from, to);
+
+    domainEventPublisher.publish(
+      new ShowtimeSeatStatusChangedEvent(showtimeSeat.getId(), showtimeId, eventId, from, to));
+
+    applyTransition(eventId, showtimeId, availableDelta, heldDelta);
+  }
+
+  /**
+   * 일괄 좌석 상태 전이 기록
+   * 벌크 UPDATE로 좌석 상태를 바꾼 뒤 호출한다. 좌석마다 도메인 이벤트를 발행하고,
+   * 카운터는 회차별로 합산해 회차당 1회만 반영한다 (반영 시점 / 경로는 recordTransition()과 같다)
+   *
+   * @param showtimeSeats 상태가 변경된 회차 좌석
+   * @param from          변경 전 상태
+   * @param to            변경 후 상태
+   */
+  public void recordTransitions(List<ShowtimeSeatRef> showtimeSeats, ShowtimeSeatStatus from, ShowtimeSeatStatus to) {
+    Map<Long, ShowtimeSeatRef> showtimeRefs = new HashMap<>();
+    Map<Long, Long> countsByShowtime = new HashMap<>();
+    for (ShowtimeSeatRef showtimeSeat : showtimeSeats) {
+      domainEventPublisher.publish(new ShowtimeSeatStatusChangedEvent(
+        showtimeSeat.showtimeSeatId(), showtimeSeat.showtimeId(), showtimeSeat.eventId(), from, to));
+      showtimeRefs.putIfAbsent(showtimeSeat.showtimeId(), showtimeSeat);
+      countsByShowtime.merge(showtimeSeat.showtimeId(), 1L, Long::sum);
+    }
+
+    long availableDelta = delta(ShowtimeSeatStatus.AVAILABLE, from, to);
+    long heldDelta = delta(ShowtimeSeatStatus.HELD, from, to);
+    countsByShowtime.forEach((showtimeId, count) -> applyTransition(
+      showtimeRefs.get(showtimeId).eventId(), showtimeId, availableDelta * count, heldDelta * count));
+  }
+
+  /**
+   * 보정 주기가 지난 경우에만 카운터 보정
+   * QueueScheduler(활성 이벤트별 입장 허용 전)와 reconcileOnSaleEvents()에서 호출한다 - 보정 주기당 1회만 집계한다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  public void reconcileIfStale(Long eventId) {
+    long now = System.currentTimeMillis();
+    Long last = lastReconciledAt.get(eventId);
+    if (last == null || now - last >= reconcileIntervalMs) {
+      reconcile(eventId);
+    }
+  }
+
+  /**
+   * 판매 중인 이벤트 전체 카운터 보정
+   * SeatInventoryReconcileScheduler에서 보정 주기마다 호출한다. 대기열이 없는 이벤트도 HOLD 단락에 카운터를 쓰므로 함께 보정한다.
+   *
+   * @param now 기준 시각 - 이 시각 이전에 종료된 이벤트는 제외
+   */
+  public void reconcileOnSaleEvents(LocalDateTime now) {
+    for (Long eventId : eventRepository.findIdsByStatusNotEnded(EventStatus.ON_SALE, now)) {
+      try {
+        reconcileIfStale(eventId);
+      } catch (Exception e) {
+        // 한 이벤트 보정 실패가 나머지 이벤트 보정을 막지 않게
+        log.warn("action=SEAT_INVENTORY_RECONCILE_FAILED eventId={} message={}", eventId, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 로컬 보정 시각 제거
+   * 이벤트 종료 시 cleanUpEndedQueue()에서 호출한다. 카운터 key는 TTL로 만료된다.
+   *
+   * @param eventId 이벤트 ID
+   */
+  public void evict(Long eventId) {
+    lastReconciledAt.remove(eventId);
+  }
+
+  /**
+   * DB 집계로 카운터 초기화 / 보정
+   * - 회차별 / 상태별 좌석 수를 group by 1회로 조회해 이벤트 / 회차 카운터를 덮어쓴다
+   *
+   * @param eventId 이벤트 ID
+   * @return 이벤트 전체 잔여 좌석
+   */
+  private SeatInventory reconcile(Long eventId) {
+    // 집계 전 버전 - 집계 중 상태 전이가 반영되면 덮어쓰지 않는다
+    long version = seatInventoryRepository.findInventoryVersion(eventId);
+    List<ShowtimeSeatStatusCount> counts = showtimeSeatRepository.countByEventIdGroupByShowtimeAndStatus(eventId);
+
+    Map<Long, long[]> perShowtime = new HashMap<>();
+    long available = 0L;
+    long held = 0L;
+    for (ShowtimeSeatStatusCount count : counts) {
+      long[] showtimeCounts = perShowtime.computeIfAbsent(count.showtimeId(), id -> new long[2]);
+      if (count.status() == ShowtimeSeatStatus.AVAILABLE) {
+        showtimeCounts[0] += count.count();
+        available += count.count();
+      } else if (count.status() == ShowtimeSeatStatus.HELD) {
+        showtimeCounts[1] += count.count();
+        held += count.count();
+      }
+    }
+
+    Map<Long, SeatInventory> showtimeInventories = new HashMap<>();
+    perShowtime.forEach((showtimeId, showtimeCounts) ->
+      showtimeInventories.put(showtimeId, new SeatInventory(showtimeCounts[0], showtimeCounts[1])));
+
+    SeatInventory eventInventory = new SeatInventory(available, held);
+    if (!seatInventoryRepository.saveInventory(eventId, version, eventInventory, showtimeInventories, counterTtlMs)) {
+      // 보정 시각을 남기지 않아 다음 스케줄러 tick에 다시 시도한다 - 그동안 카운터는 증감 반영으로 유지된다
+      log.debug("action=SEAT_INVENTORY_RECONCILE_CONFLICT eventId={} version={}", eventId, version);
+      return eventInventory;
+    }
+    lastReconciledAt.put(eventId, System.currentTimeMillis());
+
+    log.debug("action=SEAT_INVENTORY_RECONCILED eventId={} available={} held={} showtimeCount={}",
+      eventId, available, held, showtimeInventories.size());
+    return eventInventory;
+  }
+
+  /**
+   * 카운터 0인 회차의 매진 여부를 DB 집계로 확인
+   * - 확인한 매진 판정은 soldOutRecheckMs 동안 재사용한다 (매진 회차로 몰리는 요청마다 집계하지 않게)
+   * - DB에 AVAILABLE 좌석이 있으면 카운터 오차이므로 단락하지 않는다 (다음 보정에서 카운터가 바로잡힌다)
+   *
+   * @return DB 기준 판매 상태
+   */
+  private SeatAvailability confirmSoldOut(Long showtimeId) {
+    long now = System.currentTimeMillis();
+    ConfirmedSoldOut confirmed = confirmedSoldOuts.get(showtimeId);
+    if (confirmed != null && now - confirmed.confirmedAtMillis() < soldOutRecheckMs) {
+      return confirmed.availability();
+    }
+
+    long available = 0L;
+    long held = 0L;
+    for (ShowtimeSeatStatusCount count : showtimeSeatRepository.countByShowtimeIdGroupByStatus(showtimeId)) {
+      if (count.status() == ShowtimeSeatStatus.AVAILABLE) {
+        available += count.count();
+      } else if (count.status() == ShowtimeSeatStatus.HELD) {
+        held += count.count();
+      }
+    }
+
+    SeatAvailability availability = new SeatInventory(available, held).availability();
+    if (availability == SeatAvailability.AVAILABLE) {
+      confirmedSoldOuts.remove(showtimeId);
+      log.info("action=SEAT_INVENTORY_DRIFT showtimeId={} available={} held={}", showtimeId, available, held);
+    } else {
+      confirmedSoldOuts.put(showtimeId, new ConfirmedSoldOut(availability, now));
+    }
+    return availability;
+  }
+
+  /**
+   * 카운터 증감 반영 - 트랜잭션 밖이면 즉시, outbox 모드면 outbox 이벤트로, 그 외에는 커밋 후 반영
+   */
+  private void applyTransition(Long eventId, Long showtimeId, long availableDelta, long heldDelta) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      seatInventoryRepository.applyTransition(eventId, showtimeId, availableDelta, heldDelta);
+      return;
+    }
+
+    if (outboxWriter.isEnabled()) {
+      outboxWriter.append(OutboxEventType.SEAT_INVENTORY_TRANSITION, "showtime:" + showtimeId,
+        new SeatInventoryTransitionHandler.Payload(eventId, showtimeId, availableDelta, heldDelta));
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCommit() {
+        seatInventoryRepository.applyTransition(eventId, showtimeId, availableDelta, heldDelta);
+      }
+    });
+  }
+
+  // 상태 전이에 따른 특정 상태 좌석 수 증감 (-1, 0, +1)
+  private long delta(ShowtimeSeatStatus target, ShowtimeSeatStatus from, ShowtimeSeatStatus to) {
+    return (to == target ? 1L : 0L) - (from == target ? 1L : 0L);
+  }
+
+  // DB로 확인한 회차 매진 판정
+  private record ConfirmedSoldOut(SeatAvailability availability, long confirmedAtMillis) {
+  }
+}
@@ -0,0 +1,51 @@
+package com.pil97.ticketing.showtimeseat.application;
+
+import com.pil97.ticketing.infra.outbox.OutboxEventHandler;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.showtimeseat.domain.repository.SeatInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 좌석 상태 전이 이벤트 전달 - 잔여 좌석 카운터 증감
+ * - 증감은 재실행하면 결과가 달라지므로 outbox id를 claim(SET NX + TTL)한 경우에만 반영한다 (claim과 증감은 원자적)
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryTransitionHandler implements OutboxEventHandler<SeatInventoryTransitionHandler.Payload> {
+
+  /**
+   * outbox id claim 보관 시간 (ms) - 이 시간 안에 재전달된 이벤트는 반영하지 않는다
+   * application.yml: outbox.relay.claim-ttl-ms
+   */
+  @Value("${outbox.relay.claim-ttl-ms:3600000}")
+  private long claimTtlMs = 3600000L;
+
+  private final SeatInventoryRepository seatInventoryRepository;
+
+  @Override
+  public OutboxEventType type() {
+    return OutboxEventType.SEAT_INVENTORY_TRANSITION;
+  }
+
+  @Override
+  public Class<Payload> payloadType() {
+    return Payload.class;
+  }
+
+  @Override
+  public void handle(Payload payload) {
+    seatInventoryRepository.applyTransition(
+      payload.eventId(), payload.showtimeId(), payload.availableDelta(), payload.heldDelta());
+  }
+
+  @Override
+  public void handle(long outboxId, Payload payload) {
+    seatInventoryRepository.applyTransitionOnce("outbox:" + outboxId,
+      payload.eventId(), payload.showtimeId(), payload.availableDelta(), payload.heldDelta(), claimTtlMs);
+  }
+
+  public record Payload(Long eventId, Long showtimeId, long availableDelta, long heldDelta) {
+  }
+}
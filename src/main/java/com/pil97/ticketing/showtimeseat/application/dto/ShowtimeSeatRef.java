@@ -0,0 +1,11 @@
+package com.pil97.ticketing.showtimeseat.application.dto;
+
+/**
+ * 엔티티를 로드하지 않은 일괄 상태 전이 대상 좌석 (잔여 좌석 카운터 / 도메인 이벤트 반영용)
+ */
+public record ShowtimeSeatRef(
+    Long showtimeSeatId,
+    Long showtimeId,
+    Long eventId
+) {
+}
@@ -0,0 +1,10 @@
+package com.pil97.ticketing.showtimeseat.application.dto;
+
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+
+public record ShowtimeSeatStatusCount(
+    Long showtimeId,
+    ShowtimeSeatStatus status,
+    long count
+) {
+}
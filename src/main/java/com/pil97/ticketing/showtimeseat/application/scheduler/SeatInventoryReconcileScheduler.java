@@ -0,0 +1,30 @@
+package com.pil97.ticketing.showtimeseat.application.scheduler;
+
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryReconcileScheduler {
+
+  private final SeatInventoryService seatInventoryService;
+
+  /**
+   * application.yml: seat-inventory.reconcile-interval-ms
+   * 대기열이 없는 판매 중 이벤트도 보정한다 - 대기열 이벤트는 QueueScheduler와 보정 주기를 공유해 중복 집계하지 않는다
+   */
+  @Scheduled(fixedDelayString = "${seat-inventory.reconcile-interval-ms:60000}")
+  public void reconcileOnSaleEvents() {
+    try {
+      seatInventoryService.reconcileOnSaleEvents(LocalDateTime.now());
+    } catch (Exception e) {
+      log.error("action=SEAT_INVENTORY_RECONCILE_TICK_FAILED", e);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.pil97.ticketing.showtimeseat.domain;
+
+/**
+ * 잔여 좌석 기준 판매 상태
+ * <p>
+ * AVAILABLE: AVAILABLE 좌석이 1석 이상 남아 있음
+ * MAY_REOPEN: AVAILABLE 좌석은 없지만 HELD 좌석이 있어 HOLD 만료 / 결제 실패 / 취소 시 다시 열릴 수 있음
+ * SOLD_OUT: 모든 좌석이 RESERVED - 환불 외에는 다시 열리지 않음
+ */
+public enum SeatAvailability {
+  AVAILABLE,
+  MAY_REOPEN,
+  SOLD_OUT
+}
@@ -0,0 +1,24 @@
+package com.pil97.ticketing.showtimeseat.domain;
+
+/**
+ * 회차 / 이벤트 단위 잔여 좌석 카운터 스냅샷
+ * <p>
+ * Redis Hash(inventory:event:{eventId}, inventory:showtime:{showtimeId})에 저장되며,
+ * ShowtimeSeat 상태 전이가 커밋될 때마다 증감된다.
+ *
+ * @param available AVAILABLE 좌석 수
+ * @param held      HELD 좌석 수
+ */
+public record SeatInventory(
+  long available,
+  long held
+) {
+
+  // 잔여 좌석 기준 판매 상태
+  public SeatAvailability availability() {
+    if (available > 0) {
+      return SeatAvailability.AVAILABLE;
+    }
+    return held > 0 ? SeatAvailability.MAY_REOPEN : SeatAvailability.SOLD_OUT;
+  }
+}
@@ -0,0 +1,22 @@
+package com.pil97.ticketing.showtimeseat.domain.event;
+
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+
+/**
+ * 회차 좌석 상태 전환 이벤트 (markHeld / markReserved / markAvailable)
+ * SeatInventoryService.recordTransition()에서 발행한다.
+ *
+ * @param showtimeSeatId 회차 좌석 ID
+ * @param showtimeId     회차 ID
+ * @param eventId        이벤트(공연) ID
+ * @param from           변경 전 상태
+ * @param to             변경 후 상태
+ */
+public record ShowtimeSeatStatusChangedEvent(
+  Long showtimeSeatId,
+  Long showtimeId,
+  Long eventId,
+  ShowtimeSeatStatus from,
+  ShowtimeSeatStatus to
+) {
+}
@@ -0,0 +1,89 @@
+package com.pil97.ticketing.showtimeseat.domain.repository;
+
+import com.pil97.ticketing.showtimeseat.domain.SeatInventory;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 잔여 좌석 카운터 저장소 추상화
+ * <p>
+ * 구현체:
+ * - SeatInventoryRedisRepository: Redis Hash 기반 (기본)
+ * - InMemorySeatInventoryRepository: JVM 내부 자료구조 기반 (standalone 프로파일)
+ * <p>
+ * 카운터는 HOLD / 대기열 진입 단락(short-circuit)용 힌트다. 실제 선점 가능 여부는 여전히 DB 좌석 상태로 판단한다.
+ */
+public interface SeatInventoryRepository {
+
+  /**
+   * 이벤트 전체 잔여 좌석 조회
+   * HMGET inventory:event:{eventId} available held - O(1)
+   *
+   * @param eventId 이벤트 ID
+   * @return 잔여 좌석, 아직 집계되지 않았으면 empty
+   */
+  Optional<SeatInventory> findEventInventory(Long eventId);
+
+  /**
+   * 회차 잔여 좌석 조회
+   * HMGET inventory:showtime:{showtimeId} available held - O(1)
+   *
+   * @param showtimeId 회차 ID
+   * @return 잔여 좌석, 아직 집계되지 않았으면 empty
+   */
+  Optional<SeatInventory> findShowtimeInventory(Long showtimeId);
+
+  /**
+   * 이벤트 카운터 버전 조회
+   * HGET inventory:event:{eventId} version - 상태 전이가 반영될 때마다 1씩 증가한다
+   *
+   * @param eventId 이벤트 ID
+   * @return 현재 버전, 카운터가 없으면 0
+   */
+  long findInventoryVersion(Long eventId);
+
+  /**
+   * 이벤트 / 회차 잔여 좌석 덮어쓰기 (compare-and-set)
+   * DB 집계 결과로 카운터를 초기화하거나 보정할 때 사용한다.
+   * 집계 전에 읽은 버전과 현재 버전이 다르면(집계 중 상태 전이가 반영됨) 덮어쓰지 않는다.
+   * (집계 이후 반영된 증감을 오래된 집계 값으로 지우지 않게)
+   *
+   * @param eventId             이벤트 ID
+   * @param expectedVersion     집계 전에 읽은 버전 (findInventoryVersion)
+   * @param eventInventory      이벤트 전체 잔여 좌석
+   * @param showtimeInventories 회차 ID → 회차 잔여 좌석
+   * @param ttlMillis           카운터 key 유효 시간(ms) - 보정이 멈춘 이벤트의 key가 남지 않게 한다
+   * @return 덮어썼으면 true, 버전이 달라 건너뛰었으면 false
+   */
+  boolean saveInventory(Long eventId, long expectedVersion, SeatInventory eventInventory,
+                        Map<Long, SeatInventory> showtimeInventories, long ttlMillis);
+
+  /**
+   * 좌석 상태 전이 반영
+   * 이벤트 / 회차 카운터를 함께 증감하고 이벤트 카운터 버전을 올린다. 아직 집계되지 않은 카운터는 만들지 않는다.
+   * (없는 key를 0부터 증감하면 실제 잔여 좌석과 무관한 값이 남는다)
+   *
+   * @param eventId        이벤트 ID
+   * @param showtimeId     회차 ID
+   * @param availableDelta AVAILABLE 좌석 수 증감
+   * @param heldDelta      HELD 좌석 수 증감
+   */
+  void applyTransition(Long eventId, Long showtimeId, long availableDelta, long heldDelta);
+
+  /**
+   * 좌석 상태 전이 1회 반영
+   * 전이 ID를 claim(SET NX + TTL)한 경우에만 applyTransition()과 같이 반영한다. claim과 증감은 원자적이다.
+   * 같은 전이가 재전달(outbox at-least-once)되어도 카운터에 한 번만 반영하기 위해 사용한다.
+   *
+   * @param transitionId   전이 ID (예: outbox:{outboxId})
+   * @param eventId        이벤트 ID
+   * @param showtimeId     회차 ID
+   * @param availableDelta AVAILABLE 좌석 수 증감
+   * @param heldDelta      HELD 좌석 수 증감
+   * @param claimTtlMillis claim 보관 시간(ms) - 이 시간 안의 재전달은 반영하지 않는다
+   * @return 이번 호출에서 반영했으면 true, 이미 claim된 전이면 false
+   */
+  boolean applyTransitionOnce(String transitionId, Long eventId, Long showtimeId,
+                              long availableDelta, long heldDelta, long claimTtlMillis);
+}
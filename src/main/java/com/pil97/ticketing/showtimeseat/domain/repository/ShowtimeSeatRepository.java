@@ -2,11 +2,13 @@ package com.pil97.ticketing.showtimeseat.domain.repository;
 
 
 import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatQueryResult;
+import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatStatusCount;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +35,40 @@ public interface ShowtimeSeatRepository extends JpaRepository<ShowtimeSeat, Long
 
   Optional<ShowtimeSeat> findByShowtimeIdAndSeatId(Long showtimeId, Long seatId);
 
+  /**
+   * 이벤트의 회차별 / 상태별 좌석 수 집계
+   * - 잔여 좌석 카운터 초기화 및 주기 보정에 사용 (SeatInventoryService)
+   * - 좌석 엔티티를 로드하지 않고 group by 1회로 집계
+   */
+  @Query("""
+    select new com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatStatusCount(
+        ss.showtime.id,
+        ss.status,
+        count(ss)
+    )
+    from ShowtimeSeat ss
+    where ss.showtime.event.id = :eventId
+    group by ss.showtime.id, ss.status
+    """)
+  List<ShowtimeSeatStatusCount> countByEventIdGroupByShowtimeAndStatus(Long eventId);
+
+  /**
+   * 회차의 상태별 좌석 수 집계
+   * - 잔여 좌석 카운터가 0일 때 매진 여부를 DB로 확인 (SeatInventoryService)
+   * - (showtime_id, status) 인덱스만으로 집계하며 락을 잡지 않는다
+   */
+  @Query("""
+    select new com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatStatusCount(
+        ss.showtime.id,
+        ss.status,
+        count(ss)
+    )
+    from ShowtimeSeat ss
+    where ss.showtime.id = :showtimeId
+    group by ss.showtime.id, ss.status
+    """)
+  List<ShowtimeSeatStatusCount> countByShowtimeIdGroupByStatus(Long showtimeId);
+
   /**
    * ✅ 비관적 락(Pessimistic Write)을 이용한 좌석 조회
    * - HOLD 생성 트랜잭션 내에서 사용
@@ -43,4 +79,34 @@ public interface ShowtimeSeatRepository extends JpaRepository<ShowtimeSeat, Long
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select ss from ShowtimeSeat ss where ss.showtime.id = :showtimeId and ss.seat.id = :seatId")
   Optional<ShowtimeSeat> findByShowtimeIdAndSeatIdWithLock(Long showtimeId, Long seatId);
+
+  /**
+   * fetch join을 이용한 HOLD 대상 회차 좌석 조회 (락 없음)
+   * - 예약 생성 시 HOLD를 락으로 조회한 뒤, 좌석 상태 검증과 예약 생성에 필요한
+   * 좌석 → 회차 → 이벤트를 1회 조회로 영속성 컨텍스트에 적재 (지연 로딩 2회 → 1회)
+   * - 회차 / 이벤트 row는 여러 요청이 공유하므로 HOLD 락 조회에 join하지 않는다
+   * (MariaDB의 FOR UPDATE는 join한 모든 row를 잠근다)
+   */
+  @Query("""
+    select ss from Hold h
+    join h.showtimeSeat ss
+    join fetch ss.showtime st
+    join fetch st.event
+    where h.id = :holdId
+    """)
+  Optional<ShowtimeSeat> findByHoldIdWithShowtime(@Param("holdId") Long holdId);
+
+  /**
+   * fetch join을 이용한 통합 결제 대상 회차 좌석 조회 (락 없음)
+   * - 좌석 분산락 안에서 좌석 상태 검증과 HOLD / 예약 / 결제 생성에 필요한
+   * 좌석 → 회차 → 이벤트를 1회 조회로 영속성 컨텍스트에 적재 (회차 / 좌석 / 회차 좌석 개별 조회 3회 → 1회)
+   */
+  @Query("""
+    select ss from ShowtimeSeat ss
+    join fetch ss.showtime st
+    join fetch st.event
+    where st.id = :showtimeId and ss.seat.id = :seatId
+    """)
+  Optional<ShowtimeSeat> findByShowtimeIdAndSeatIdWithShowtime(@Param("showtimeId") Long showtimeId,
+                                                              @Param("seatId") Long seatId);
 }
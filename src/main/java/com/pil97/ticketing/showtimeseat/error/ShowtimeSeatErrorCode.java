@@ -8,7 +8,7 @@ import org.springframework.http.HttpStatus;
 /**
  * 회차별 좌석 도메인 에러코드
  * <p>
- * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: SHOWTIME-SEAT-003)
+ * 새 항목 추가 시 다음 순번으로 추가할 것 (현재 마지막: SHOWTIME-SEAT-005)
  * 이 파일은 회차별 좌석(ShowtimeSeat) 도메인의 에러를 정의하는 enum입니다.
  */
 @Getter
@@ -23,7 +23,14 @@ public enum ShowtimeSeatErrorCode implements ErrorCode {
 
   // 허용되지 않는 상태 전이 - HELD 또는 RESERVED 상태에서만 AVAILABLE 전환 가능
   INVALID_STATUS_TRANSITION(HttpStatus.CONFLICT, "SHOWTIME-SEAT-003",
-    "Invalid seat status transition");
+    "Invalid seat status transition"),
+
+  // 매진 - 회차의 모든 좌석이 RESERVED 상태 (HOLD 요청 시 분산락 획득 전에 단락)
+  SOLD_OUT(HttpStatus.CONFLICT, "SHOWTIME-SEAT-004", "Showtime is sold out"),
+
+  // 일시 매진 - AVAILABLE 좌석은 없지만 HELD 좌석이 있어 HOLD 만료 시 다시 열릴 수 있음
+  SOLD_OUT_MAY_REOPEN(HttpStatus.CONFLICT, "SHOWTIME-SEAT-005",
+    "No seats are available now, held seats may be released");
 
   private final HttpStatus status;
   private final String code;
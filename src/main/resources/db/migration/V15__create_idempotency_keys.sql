@@ -0,0 +1,21 @@
+-- idempotency_keys 테이블 생성
+-- idempotency.store: db / tiered 모드의 멱등성 저장소 (Redis 유실 시에도 처리 결과 보존)
+-- 상태: IN_PROGRESS(처리 중 lock, key = {prefix}:lock:{idempotencyKey}), COMPLETED(처리 결과, key = {prefix}:{idempotencyKey})
+-- expires_at: lock 만료 시각 / 결과 보관 만료 시각 - 지난 행은 없는 것으로 보고 purge 스케줄러가 chunk 단위로 삭제
+CREATE TABLE idempotency_keys
+(
+  id              BIGINT       NOT NULL AUTO_INCREMENT,
+  idempotency_key VARCHAR(255) NOT NULL,
+  status          VARCHAR(20)  NOT NULL,
+  fingerprint     BINARY(32) NULL,
+  response_body   MEDIUMBLOB NULL,
+  expires_at      DATETIME(3)  NOT NULL,
+  created_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_idempotency_keys_key UNIQUE (idempotency_key)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 만료 행 purge 최적화
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,21 @@
+-- outbox_events 테이블 생성
+-- outbox.enabled: true 모드에서 커밋 후 부수 효과(좌석 카운터 반영, 입장 토큰 반환, 멱등성 결과 저장)를
+-- 업무 트랜잭션과 같은 트랜잭션으로 기록하고, OutboxRelay가 배치로 전달한 뒤 삭제한다
+-- partition_no: aggregate_key 해시 파티션 - 같은 aggregate의 이벤트는 같은 파티션에서 id 순서로 전달
+-- attempts: 전달 실패 횟수 - outbox.relay.max-attempts에 도달한 행은 전달 대상에서 빠지고 테이블에 남는다
+CREATE TABLE outbox_events
+(
+  id            BIGINT       NOT NULL AUTO_INCREMENT,
+  partition_no  INT          NOT NULL,
+  aggregate_key VARCHAR(255) NOT NULL,
+  event_type    VARCHAR(50)  NOT NULL,
+  payload       MEDIUMTEXT   NOT NULL,
+  attempts      INT          NOT NULL DEFAULT 0,
+  last_error    VARCHAR(500) NULL,
+  created_at    DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 파티션별 id 순서 배치 조회 최적화
+CREATE INDEX idx_outbox_events_partition_id ON outbox_events (partition_no, id);
@@ -0,0 +1,4 @@
+-- 결제 기한 만료 대상 조회 최적화
+-- ReservationExpirationService: status = 'PENDING' AND created_at < ? ORDER BY created_at LIMIT ?
+CREATE INDEX idx_reservations_status_created_at
+  ON reservations (status, created_at);
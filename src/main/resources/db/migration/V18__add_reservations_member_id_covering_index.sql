@@ -0,0 +1,8 @@
+-- 내 예약 목록 keyset 조회 최적화
+-- ReservationRepository.findMemberReservationsBefore: member_id = ? AND id < ? ORDER BY id DESC LIMIT ?
+-- 목록에 필요한 예약 컬럼을 모두 포함해 테이블 행 조회 없이 인덱스 범위 스캔만으로 페이지를 읽는다
+CREATE INDEX idx_reservations_member_id_id
+  ON reservations (member_id, id, status, showtime_id, seat_id, created_at);
+
+-- FK 생성 시 자동으로 만들어진 member_id 단일 인덱스 제거 (위 인덱스가 FK 조회를 대신한다)
+DROP INDEX IF EXISTS fk_reservations_member ON reservations;
@@ -0,0 +1,4 @@
+-- 승인 여부 미확정 결제 확정 대상 조회 최적화
+-- PaymentConfirmationService: status = 'UNKNOWN' AND updated_at < ? ORDER BY id LIMIT ?
+CREATE INDEX idx_payment_status_updated_at
+  ON payment (status, updated_at);
@@ -0,0 +1,250 @@
+package com.pil97.ticketing;
+
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.member.domain.repository.MemberRepository;
+import com.pil97.ticketing.payment.api.dto.request.CreatePaymentRequest;
+import com.pil97.ticketing.payment.application.PaymentCompletionService;
+import com.pil97.ticketing.payment.application.PaymentService;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.reservation.application.ReservationService;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.domain.SeatGrade;
+import com.pil97.ticketing.seat.domain.repository.SeatRepository;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtime.domain.repository.ShowtimeRepository;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 유스케이스별 SQL 문 수 고정 검증
+ * <p>
+ * 유스케이스마다 필요한 연관 엔티티를 fetch join으로 한 번에 조회하므로, 실행되는 SQL 문 수는 데이터와 무관하게 고정이다.
+ * 지연 로딩이 다시 섞이면(N+1) 문 수가 늘어나 이 테스트가 실패한다.
+ * Hibernate가 준비한 JDBC statement 수를 센다 (Redis 명령, JdbcTemplate 쿼리는 포함하지 않는다).
+ * 실제 DB / Redis가 필요하므로 일반 테스트에서 제외하고 ./gradlew statementCount 로 별도 실행한다.
+ */
+@Tag("statement-count")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+  "spring.jpa.properties.hibernate.generate_statistics=true",
+  "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+class WriteUseCaseStatementCountTest {
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private ReservationService reservationService;
+
+  @Autowired
+  private PaymentService paymentService;
+
+  @Autowired
+  private PaymentCompletionService paymentCompletionService;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private ReservationRepository reservationRepository;
+
+  @Autowired
+  private HoldRepository holdRepository;
+
+  @Autowired
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Autowired
+  private ShowtimeRepository showtimeRepository;
+
+  @Autowired
+  private SeatRepository seatRepository;
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @MockitoBean
+  private IdempotencyRedisRepository idempotencyRedisRepository;
+
+  private Statistics statistics;
+
+  private Long paymentId;
+  private Long reservationId;
+  private Long holdId;
+  private Long showtimeSeatId;
+  private Long showtimeId;
+  private Long seatId;
+  private Long eventId;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    createHeldSeat();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (paymentId != null) paymentRepository.deleteById(paymentId);
+    if (reservationId != null) reservationRepository.deleteById(reservationId);
+    if (holdId != null) holdRepository.deleteById(holdId);
+    if (showtimeSeatId != null) showtimeSeatRepository.deleteById(showtimeSeatId);
+    if (showtimeId != null) showtimeRepository.deleteById(showtimeId);
+    if (seatId != null) seatRepository.deleteById(seatId);
+    if (eventId != null) eventRepository.deleteById(eventId);
+    if (member != null) memberRepository.deleteById(member.getId());
+  }
+
+  @Test
+  @DisplayName("예약 생성: HOLD 락 조회 1 + 좌석 그래프 조회 1 + 예약 INSERT 1")
+  void reserve() {
+    long count = countStatements(() ->
+      reservationId = reservationService.reserve("count-reserve-" + holdId, new byte[32], holdId)
+        .getResponse().reservationId());
+
+    assertThat(count).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("예약 취소: 예약 그래프 조회 1 + UPDATE 2 (좌석 / 예약)")
+  void cancel() {
+    createPendingReservation();
+
+    long count = countStatements(() -> reservationService.cancel(reservationId));
+
+    assertThat(count).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("동기 결제: 예약 락 조회 1 + 결제 INSERT 1 + HOLD 그래프 조회 1 + UPDATE 4")
+  void pay() {
+    createPendingReservation();
+
+    long count = countStatements(this::payReservation);
+
+    assertThat(count).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("비동기 결제 완료 반영: 결제 조회 1 + 예약 락 조회 1 + HOLD 그래프 조회 1 + UPDATE 4")
+  void complete() {
+    Reservation reservation = createPendingReservation();
+    paymentId = paymentRepository.save(Payment.create(reservation, 150000)).getId();
+
+    long count = countStatements(() -> paymentCompletionService.complete(paymentId, true));
+
+    assertThat(count).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("환불: 결제 그래프 조회 1 + UPDATE 4 (결제 / 예약 / HOLD / 좌석)")
+  void refund() {
+    createPendingReservation();
+    payReservation();
+
+    long count = countStatements(() -> paymentService.refund(paymentId, member));
+
+    assertThat(count).isEqualTo(5);
+  }
+
+  private long countStatements(Runnable useCase) {
+    statistics.clear();
+    useCase.run();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private void payReservation() {
+    CreatePaymentRequest request = new CreatePaymentRequest();
+    ReflectionTestUtils.setField(request, "reservationId", reservationId);
+    ReflectionTestUtils.setField(request, "amount", 150000);
+    ReflectionTestUtils.setField(request, "forceFailure", false);
+
+    paymentId = paymentService.pay("count-pay-" + reservationId, new byte[32], request).getResponse().paymentId();
+  }
+
+  private Reservation createPendingReservation() {
+    Hold hold = holdRepository.findById(holdId).orElseThrow();
+    ShowtimeSeat showtimeSeat = showtimeSeatRepository.findById(showtimeSeatId).orElseThrow();
+    Reservation reservation = reservationRepository.save(
+      Reservation.create(hold, showtimeSeat.getShowtime(), showtimeSeat.getSeat(), member));
+    reservationId = reservation.getId();
+    return reservation;
+  }
+
+  private void createHeldSeat() {
+    LocalDateTime now = LocalDateTime.now();
+
+    member = memberRepository.save(new Member("count-test-" + System.nanoTime() + "@test.com", "tester", "encoded-password"));
+
+    Event event = BeanUtils.instantiateClass(Event.class);
+    ReflectionTestUtils.setField(event, "name", "테스트 이벤트");
+    ReflectionTestUtils.setField(event, "venue", "테스트 공연장");
+    ReflectionTestUtils.setField(event, "status", EventStatus.ON_SALE);
+    ReflectionTestUtils.setField(event, "endTime", now.plusDays(1));
+    ReflectionTestUtils.setField(event, "createdAt", now);
+    ReflectionTestUtils.setField(event, "updatedAt", now);
+    event = eventRepository.save(event);
+    eventId = event.getId();
+
+    Seat seat = BeanUtils.instantiateClass(Seat.class);
+    ReflectionTestUtils.setField(seat, "seatNumber", "A-1");
+    ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
+    ReflectionTestUtils.setField(seat, "rowLabel", "A");
+    ReflectionTestUtils.setField(seat, "seatNo", 1);
+    ReflectionTestUtils.setField(seat, "createdAt", now);
+    ReflectionTestUtils.setField(seat, "updatedAt", now);
+    seat = seatRepository.save(seat);
+    seatId = seat.getId();
+
+    Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
+    ReflectionTestUtils.setField(showtime, "event", event);
+    ReflectionTestUtils.setField(showtime, "showAt", now.plusHours(2));
+    ReflectionTestUtils.setField(showtime, "createdAt", now);
+    ReflectionTestUtils.setField(showtime, "updatedAt", now);
+    showtime = showtimeRepository.save(showtime);
+    showtimeId = showtime.getId();
+
+    ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
+    ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
+    ReflectionTestUtils.setField(showtimeSeat, "seat", seat);
+    ReflectionTestUtils.setField(showtimeSeat, "status", ShowtimeSeatStatus.HELD);
+    ReflectionTestUtils.setField(showtimeSeat, "createdAt", now);
+    ReflectionTestUtils.setField(showtimeSeat, "updatedAt", now);
+    showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
+    showtimeSeatId = showtimeSeat.getId();
+
+    holdId = holdRepository.save(Hold.create(showtimeSeat, member, now.plusMinutes(5))).getId();
+  }
+}
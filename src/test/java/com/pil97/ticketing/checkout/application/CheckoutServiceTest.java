@@ -0,0 +1,403 @@
+package com.pil97.ticketing.checkout.application;
+
+import com.pil97.ticketing.checkout.api.dto.request.CheckoutRequest;
+import com.pil97.ticketing.checkout.api.dto.response.CheckoutResponse;
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.common.lock.DistributedLockService;
+import com.pil97.ticketing.common.lock.LockAcquisitionFailedException;
+import com.pil97.ticketing.common.lock.LockTask;
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
+import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.payment.application.PaymentCompletionService;
+import com.pil97.ticketing.payment.application.PaymentTransitions;
+import com.pil97.ticketing.payment.application.PaymentWorker;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.payment.error.PaymentErrorCode;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.error.SeatErrorCode;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckoutServiceTest {
+
+  // IdempotencyFingerprintFilter가 계산해 전달하는 요청 digest
+  private static final byte[] FINGERPRINT = new byte[32];
+  private static final String ADMISSION_TOKEN = "admission-token";
+  private static final Long EVENT_ID = 1L;
+  private static final Long SHOWTIME_ID = 10L;
+  private static final Long SEAT_ID = 3L;
+
+  @Mock
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Mock
+  private HoldRepository holdRepository;
+
+  @Mock
+  private ReservationRepository reservationRepository;
+
+  @Mock
+  private PaymentRepository paymentRepository;
+
+  @Mock
+  private IdempotencyRedisRepository idempotencyRedisRepository;
+
+  @Mock
+  private DistributedLockService distributedLockService;
+
+  @Mock
+  private QueueService queueService;
+
+  @Mock
+  private SeatInventoryService seatInventoryService;
+
+  @Mock
+  private PaymentGateway paymentGateway;
+
+  @Mock
+  private PaymentWorker paymentWorker;
+
+  @Mock
+  private PaymentCompletionService paymentCompletionService;
+
+  @Mock
+  private DomainEventPublisher domainEventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @InjectMocks
+  private CheckoutService checkoutService;
+
+  private Member member;
+
+  // 좌석 분산락 작업 실행 중 여부 - 게이트웨이 호출이 락 밖에서 일어나는지 확인
+  private final AtomicBoolean seatLocked = new AtomicBoolean();
+
+  @BeforeEach
+  void setUp() {
+    checkoutService.init();
+    // 트랜잭션 synchronization 등록이 가능하도록 초기화
+    TransactionSynchronizationManager.initSynchronization();
+
+    member = mock(Member.class);
+    when(member.getId()).thenReturn(7L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  /**
+   * afterCommit 콜백을 수동으로 실행하는 헬퍼
+   * - 단위 테스트에서는 실제 트랜잭션 커밋이 발생하지 않으므로
+   * 등록된 synchronization을 직접 꺼내 afterCommit()을 호출한다
+   */
+  private void triggerTransactionCommit() {
+    TransactionSynchronizationManager.getSynchronizations()
+      .forEach(sync -> {
+        sync.afterCommit();
+        sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+      });
+  }
+
+  @Test
+  @DisplayName("checkout: 결제 승인 시 HOLD CONFIRMED, 예약 CONFIRMED, 좌석 RESERVED로 반영되고 커밋 후 결과가 저장된다")
+  void checkout_approved_savesAfterCommit() {
+    // given
+    String idempotencyKey = "checkout-key-001";
+    ShowtimeSeat showtimeSeat = showtimeSeat(ShowtimeSeatStatus.AVAILABLE);
+    givenNewRequestWithSeat(idempotencyKey, showtimeSeat);
+    ArgumentCaptor<Payment> payment = givenEntitySaves();
+    givenGatewayOutsideSeatLock(PaymentGatewayResult.APPROVED);
+    givenPaymentApplied(payment, true);
+
+    // when
+    IdempotencyResult<CheckoutResponse> result =
+      checkoutService.checkout(idempotencyKey, FINGERPRINT, ADMISSION_TOKEN, member, request(false));
+    triggerTransactionCommit();
+
+    // then
+    assertThat(result.isReplayed()).isFalse();
+    assertThat(result.getResponse().paymentStatus()).isEqualTo("SUCCESS");
+    assertThat(result.getResponse().reservationStatus()).isEqualTo("CONFIRMED");
+    assertThat(result.getResponse().seatStatus()).isEqualTo("RESERVED");
+
+    ArgumentCaptor<Hold> hold = ArgumentCaptor.forClass(Hold.class);
+    verify(holdRepository).save(hold.capture());
+    assertThat(hold.getValue().getStatus()).isEqualTo(HoldStatus.CONFIRMED);
+    assertThat(hold.getValue().getMember()).isSameAs(member);
+
+    verify(seatInventoryService).recordTransition(showtimeSeat, ShowtimeSeatStatus.AVAILABLE, ShowtimeSeatStatus.HELD);
+    verify(seatInventoryService).recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.RESERVED);
+    // 생성 트랜잭션 커밋 → 게이트웨이 승인 → 반영 트랜잭션 안 기록 → 커밋 후 결과 저장
+    InOrder inOrder = inOrder(transactionManager, paymentGateway, idempotencyRedisRepository);
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(paymentGateway).authorize(any());
+    inOrder.verify(idempotencyRedisRepository)
+      .recordInTransaction(anyString(), eq(idempotencyKey), any(byte[].class), any(CheckoutResponse.class), any());
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(idempotencyRedisRepository)
+      .saveAfterCommit(anyString(), eq(idempotencyKey), any(byte[].class), any(CheckoutResponse.class), any());
+    verify(idempotencyRedisRepository, never()).releaseLock(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("checkout: 게이트웨이 거절 시 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE로 커밋되고 lock이 해제된다")
+  void checkout_declined_releasesLock() {
+    // given
+    String idempotencyKey = "checkout-key-002";
+    ShowtimeSeat showtimeSeat = showtimeSeat(ShowtimeSeatStatus.AVAILABLE);
+    givenNewRequestWithSeat(idempotencyKey, showtimeSeat);
+    ArgumentCaptor<Payment> payment = givenEntitySaves();
+    givenGatewayOutsideSeatLock(PaymentGatewayResult.DECLINED);
+    givenPaymentApplied(payment, false);
+
+    // when
+    IdempotencyResult<CheckoutResponse> result =
+      checkoutService.checkout(idempotencyKey, FINGERPRINT, ADMISSION_TOKEN, member, request(true));
+
+    // then
+    assertThat(result.getResponse().paymentStatus()).isEqualTo("FAIL");
+    assertThat(result.getResponse().reservationStatus()).isEqualTo("FAILED");
+    assertThat(result.getResponse().seatStatus()).isEqualTo("AVAILABLE");
+
+    ArgumentCaptor<Hold> hold = ArgumentCaptor.forClass(Hold.class);
+    verify(holdRepository).save(hold.capture());
+    assertThat(hold.getValue().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+
+    // 결제 실패 시 캐시 저장 안 함 + lock 즉시 해제 - 재시도 허용
+    verify(idempotencyRedisRepository, never()).recordInTransaction(anyString(), anyString(), any(), any(), any());
+    verify(idempotencyRedisRepository, never()).saveAfterCommit(anyString(), anyString(), any(), any(), any());
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("checkout: 게이트웨이 오류 시 좌석을 반환하는 결과를 커밋한 뒤 PAYMENT_GATEWAY_UNAVAILABLE을 던지고 lock을 해제한다")
+  void checkout_gatewayError_releasesSeatAndLock() {
+    // given
+    String idempotencyKey = "checkout-key-005";
+    givenNewRequestWithSeat(idempotencyKey, showtimeSeat(ShowtimeSeatStatus.AVAILABLE));
+    ArgumentCaptor<Payment> payment = givenEntitySaves();
+    when(paymentGateway.authorize(any()))
+      .thenThrow(new PaymentGatewayException(PaymentGatewayException.Reason.ERROR, "error"));
+    givenPaymentApplied(payment, false);
+
+    // when & then
+    assertThatThrownBy(() ->
+      checkoutService.checkout(idempotencyKey, FINGERPRINT, ADMISSION_TOKEN, member, request(false)))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+
+    verify(paymentCompletionService).apply(any(), eq(false));
+    verify(idempotencyRedisRepository, never()).recordInTransaction(anyString(), anyString(), any(), any(), any());
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("checkout: 게이트웨이 응답 시간 초과면 좌석을 반환하지 않고 결제 UNKNOWN 응답을 기록한다")
+  void checkout_gatewayTimeout_keepsPaymentUnknown() {
+    // given
+    String idempotencyKey = "checkout-key-006";
+    givenNewRequestWithSeat(idempotencyKey, showtimeSeat(ShowtimeSeatStatus.AVAILABLE));
+    ArgumentCaptor<Payment> payment = givenEntitySaves();
+    when(paymentGateway.authorize(any()))
+      .thenThrow(new PaymentGatewayException(PaymentGatewayException.Reason.TIMEOUT, "timeout"));
+    when(paymentCompletionService.applyUnknown(any())).thenAnswer(invocation -> {
+      Payment saved = payment.getValue();
+      PaymentTransitions.applyUnknown(saved, saved.getReservation(), domainEventPublisher);
+      return saved;
+    });
+
+    // when
+    IdempotencyResult<CheckoutResponse> result =
+      checkoutService.checkout(idempotencyKey, FINGERPRINT, ADMISSION_TOKEN, member, request(false));
+
+    // then - 승인되었을 수 있으므로 좌석은 HELD, 같은 key 재시도는 기록된 UNKNOWN 응답을 재사용한다
+    assertThat(result.getResponse().paymentStatus()).isEqualTo("UNKNOWN");
+    assertThat(result.getResponse().seatStatus()).isEqualTo("HELD");
+    verify(paymentCompletionService, never()).apply(any(), anyBoolean());
+    verify(idempotencyRedisRepository)
+      .recordInTransaction(anyString(), eq(idempotencyKey), any(byte[].class), any(CheckoutResponse.class), any());
+    verify(idempotencyRedisRepository, never()).releaseLock(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("checkout: 좌석이 AVAILABLE이 아니면 HOLD / 예약 / 결제 생성과 게이트웨이 호출 없이 NOT_AVAILABLE_FOR_HOLD를 던진다")
+  void checkout_seatNotAvailable_shortCircuits() {
+    // given
+    String idempotencyKey = "checkout-key-003";
+    givenNewRequestWithSeat(idempotencyKey, showtimeSeat(ShowtimeSeatStatus.HELD));
+
+    // when & then
+    assertThatThrownBy(() ->
+      checkoutService.checkout(idempotencyKey, FINGERPRINT, ADMISSION_TOKEN, member, request(false)))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(SeatErrorCode.NOT_AVAILABLE_FOR_HOLD));
+
+    verify(holdRepository, never()).save(any());
+    verify(reservationRepository, never()).save(any());
+    verify(paymentRepository, never()).save(any());
+    verifyNoInteractions(paymentGateway);
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("checkout: 같은 좌석의 결제가 진행 중(좌석 락 획득 실패)이면 DB 조회 없이 NOT_AVAILABLE_FOR_HOLD를 던진다")
+  void checkout_seatLockBusy_shortCircuits() {
+    // given
+    String idempotencyKey = "checkout-key-004";
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(CheckoutResponse.class)))
+      .thenReturn(Optional.empty());
+    when(queueService.validateAdmissionToken(ADMISSION_TOKEN, 7L))
+      .thenReturn(new AdmissionTokenClaims("jti", 7L, EVENT_ID, Long.MAX_VALUE));
+    when(distributedLockService.executeWithLock(anyString(), anyLong(), anyLong(), any()))
+      .thenThrow(new LockAcquisitionFailedException("hold:seat:" + SHOWTIME_ID + ":" + SEAT_ID));
+
+    // when & then
+    assertThatThrownBy(() ->
+      checkoutService.checkout(idempotencyKey, FINGERPRINT, ADMISSION_TOKEN, member, request(false)))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(SeatErrorCode.NOT_AVAILABLE_FOR_HOLD));
+
+    verifyNoInteractions(showtimeSeatRepository, paymentGateway);
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  /**
+   * 신규 요청 + 입장 토큰 검증 통과 + 좌석 락 획득 (락 작업을 바로 실행) + 회차 좌석 조회
+   */
+  @SuppressWarnings("unchecked")
+  private void givenNewRequestWithSeat(String idempotencyKey, ShowtimeSeat showtimeSeat) {
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(CheckoutResponse.class)))
+      .thenReturn(Optional.empty());
+    when(queueService.validateAdmissionToken(ADMISSION_TOKEN, 7L))
+      .thenReturn(new AdmissionTokenClaims("jti", 7L, EVENT_ID, Long.MAX_VALUE));
+    when(distributedLockService.executeWithLock(eq("hold:seat:" + SHOWTIME_ID + ":" + SEAT_ID), eq(0L), eq(5L), any()))
+      .thenAnswer(invocation -> {
+        seatLocked.set(true);
+        try {
+          return ((LockTask<CheckoutResponse>) invocation.getArgument(3)).execute();
+        } finally {
+          seatLocked.set(false);
+        }
+      });
+    when(showtimeSeatRepository.findByShowtimeIdAndSeatIdWithShowtime(SHOWTIME_ID, SEAT_ID))
+      .thenReturn(Optional.of(showtimeSeat));
+  }
+
+  /**
+   * HOLD / 예약 / 결제 저장 시 전달된 엔티티를 그대로 반환 (상태 전이를 실제 엔티티로 검증)
+   *
+   * @return 저장된 결제 captor (결과 반영 스텁에서 사용)
+   */
+  private ArgumentCaptor<Payment> givenEntitySaves() {
+    ArgumentCaptor<Payment> payment = ArgumentCaptor.forClass(Payment.class);
+    when(holdRepository.save(any(Hold.class))).then(returnsFirstArg());
+    when(reservationRepository.save(any(Reservation.class))).then(returnsFirstArg());
+    when(paymentRepository.save(payment.capture())).then(returnsFirstArg());
+    return payment;
+  }
+
+  /**
+   * 게이트웨이 승인 결과 - 좌석 분산락 밖에서 호출되었는지 함께 확인
+   */
+  private void givenGatewayOutsideSeatLock(PaymentGatewayResult result) {
+    when(paymentGateway.authorize(any())).thenAnswer(invocation -> {
+      assertThat(seatLocked).isFalse();
+      return result;
+    });
+  }
+
+  /**
+   * 결제 결과 반영 - PaymentCompletionService.apply()가 하는 상태 전이를 저장된 엔티티에 그대로 적용
+   */
+  private void givenPaymentApplied(ArgumentCaptor<Payment> payment, boolean approved) {
+    when(paymentCompletionService.apply(any(), eq(approved))).thenAnswer(invocation -> {
+      Payment saved = payment.getValue();
+      if (approved) {
+        PaymentTransitions.applySuccess(saved, saved.getReservation(), seatInventoryService, domainEventPublisher);
+      } else {
+        PaymentTransitions.applyFailure(saved, saved.getReservation(), seatInventoryService, domainEventPublisher);
+      }
+      return saved;
+    });
+  }
+
+  private CheckoutRequest request(boolean forceFailure) {
+    CheckoutRequest request = new CheckoutRequest();
+    ReflectionTestUtils.setField(request, "showtimeId", SHOWTIME_ID);
+    ReflectionTestUtils.setField(request, "seatId", SEAT_ID);
+    ReflectionTestUtils.setField(request, "amount", 150000);
+    ReflectionTestUtils.setField(request, "forceFailure", forceFailure);
+    return request;
+  }
+
+  private ShowtimeSeat showtimeSeat(ShowtimeSeatStatus status) {
+    Event event = BeanUtils.instantiateClass(Event.class);
+    ReflectionTestUtils.setField(event, "id", EVENT_ID);
+
+    Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
+    ReflectionTestUtils.setField(showtime, "id", SHOWTIME_ID);
+    ReflectionTestUtils.setField(showtime, "event", event);
+
+    Seat seat = BeanUtils.instantiateClass(Seat.class);
+    ReflectionTestUtils.setField(seat, "id", SEAT_ID);
+
+    ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
+    ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
+    ReflectionTestUtils.setField(showtimeSeat, "seat", seat);
+    ReflectionTestUtils.setField(showtimeSeat, "status", status);
+    return showtimeSeat;
+  }
+}
@@ -0,0 +1,164 @@
+package com.pil97.ticketing.common.event;
+
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.event.HoldStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class DomainEventPublisherTest {
+
+  private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+  private final DomainEventPublisher domainEventPublisher = new DomainEventPublisher(applicationEventPublisher);
+
+  private final HoldStatusChangedEvent created = new HoldStatusChangedEvent(1L, null, HoldStatus.ACTIVE);
+  private final HoldStatusChangedEvent expired = new HoldStatusChangedEvent(1L, HoldStatus.ACTIVE, HoldStatus.EXPIRED);
+
+  @BeforeEach
+  void setUp() {
+    domainEventPublisher.initExecutor();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    domainEventPublisher.shutdownExecutor();
+  }
+
+  @Test
+  @DisplayName("publish: 트랜잭션 밖에서는 바로 전용 executor에서 리스너에 전달한다")
+  void publish_withoutTransaction_deliversImmediately() {
+    // when
+    domainEventPublisher.publish(created);
+
+    // then
+    verify(applicationEventPublisher, timeout(1000)).publishEvent(created);
+  }
+
+  @Test
+  @DisplayName("publish: 트랜잭션 안에서는 커밋 후 발행 순서대로 전달한다")
+  void publish_inTransaction_deliversAfterCommitInOrder() throws InterruptedException {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    domainEventPublisher.publish(created);
+    domainEventPublisher.publish(expired);
+
+    // then - 커밋 전에는 전달하지 않고, 트랜잭션당 synchronization은 1개만 등록
+    assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    Thread.sleep(100);
+    verifyNoInteractions(applicationEventPublisher);
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+    InOrder inOrder = inOrder(applicationEventPublisher);
+    inOrder.verify(applicationEventPublisher, timeout(1000)).publishEvent(created);
+    inOrder.verify(applicationEventPublisher, timeout(1000)).publishEvent(expired);
+  }
+
+  @Test
+  @DisplayName("publish: 롤백된 트랜잭션의 이벤트는 전달하지 않는다")
+  void publish_rolledBack_discards() throws InterruptedException {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    domainEventPublisher.publish(created);
+
+    // when - 롤백은 afterCommit 없이 afterCompletion만 호출된다
+    TransactionSynchronizationManager.getSynchronizations()
+      .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // then
+    Thread.sleep(100);
+    verifyNoInteractions(applicationEventPublisher);
+    assertThat(domainEventPublisher.getStats().delivered()).isZero();
+  }
+
+  @Test
+  @DisplayName("publish: 리스너 예외는 실패 수로만 남기고 다음 이벤트 전달을 계속한다")
+  void publish_listenerFailure_countsAndContinues() throws InterruptedException {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    doThrow(new IllegalStateException("listener failed")).when(applicationEventPublisher).publishEvent(created);
+    domainEventPublisher.publish(created);
+    domainEventPublisher.publish(expired);
+
+    // when
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+    // then - 종료 대기로 전달 작업이 끝난 뒤 지표 확인
+    domainEventPublisher.shutdownExecutor();
+    verify(applicationEventPublisher).publishEvent(expired);
+    DomainEventStats stats = domainEventPublisher.getStats();
+    assertThat(stats.published()).isEqualTo(2);
+    assertThat(stats.failed()).isEqualTo(1);
+    assertThat(stats.delivered()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("publish: 이벤트 타입을 받는 리스너가 없으면 synchronization을 등록하지 않고 버린다")
+  void publish_withoutListener_skips() throws InterruptedException {
+    // given - @EventListener가 없는 컨텍스트
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+      context.refresh();
+      DomainEventPublisher publisher = new DomainEventPublisher(context);
+      publisher.initExecutor();
+      TransactionSynchronizationManager.initSynchronization();
+
+      // when
+      publisher.publish(created);
+
+      // then
+      assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+      publisher.shutdownExecutor();
+      DomainEventStats stats = publisher.getStats();
+      assertThat(stats.skipped()).isEqualTo(1);
+      assertThat(stats.delivered()).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("publish: 이벤트 타입을 받는 @EventListener가 있으면 커밋 후 전달한다")
+  void publish_withListener_delivers() throws InterruptedException {
+    // given
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(HoldListener.class)) {
+      DomainEventPublisher publisher = new DomainEventPublisher(context);
+      publisher.initExecutor();
+      TransactionSynchronizationManager.initSynchronization();
+
+      // when
+      publisher.publish(created);
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+      // then
+      publisher.shutdownExecutor();
+      assertThat(context.getBean(HoldListener.class).received).containsExactly(created);
+      assertThat(publisher.getStats().skipped()).isZero();
+    }
+  }
+
+  static class HoldListener {
+
+    private final List<Object> received = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    void on(HoldStatusChangedEvent event) {
+      received.add(event);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.pil97.ticketing.common.io;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IoAccountingDataSourceTest {
+
+  private final DataSource target = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final PreparedStatement statement = mock(PreparedStatement.class);
+
+  @AfterEach
+  void tearDown() {
+    IoAccounting.end();
+  }
+
+  @Test
+  @DisplayName("execute* 호출만 SQL 1건으로 기록하고 나머지 호출은 그대로 위임한다")
+  void preparedStatement_countsExecuteCallsOnly() throws Exception {
+    // given
+    when(target.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement("select 1")).thenReturn(statement);
+    IoUsage usage = IoAccounting.begin();
+
+    // when
+    try (Connection wrapped = new IoAccountingDataSource(target).getConnection()) {
+      PreparedStatement prepared = wrapped.prepareStatement("select 1");
+      prepared.setLong(1, 1L);
+      prepared.executeQuery();
+      prepared.executeUpdate();
+    }
+
+    // then
+    assertThat(usage.getSqlCount()).isEqualTo(2);
+    verify(statement).setLong(1, 1L);
+    verify(connection).close();
+  }
+
+  @Test
+  @DisplayName("요청 밖(집계 미시작)에서 실행된 SQL은 기록하지 않는다")
+  void withoutScope_recordsNothing() throws Exception {
+    // given
+    when(target.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement("select 1")).thenReturn(statement);
+
+    // when
+    try (Connection wrapped = new IoAccountingDataSource(target).getConnection()) {
+      wrapped.prepareStatement("select 1").executeQuery();
+    }
+
+    // then
+    assertThat(IoAccounting.current()).isNull();
+    verify(statement).executeQuery();
+  }
+}
@@ -0,0 +1,96 @@
+package com.pil97.ticketing.common.io;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IoAccountingFilterTest {
+
+  private final IoAccountingFilter filter = new IoAccountingFilter();
+
+  @Test
+  @DisplayName("doFilter: response-headers=true이면 요청 중 기록된 SQL / Redis 수를 응답 헤더로 붙인다")
+  void doFilter_responseHeaders_writesCounts() throws Exception {
+    // given
+    ReflectionTestUtils.setField(filter, "responseHeaders", true);
+    MockHttpServletRequest request = request("budgeted");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    filter.doFilter(request, response, io(2, 3));
+
+    // then
+    assertThat(response.getHeader(IoAccountingFilter.SQL_COUNT_HEADER)).isEqualTo("2");
+    assertThat(response.getHeader(IoAccountingFilter.REDIS_COUNT_HEADER)).isEqualTo("3");
+    assertThat(response.getContentAsString()).isEqualTo("ok");
+    assertThat(IoAccounting.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("doFilter: @IoBudget 초과 + fail-on-budget-exceeded=true이면 예외를 던진다")
+  void doFilter_budgetExceeded_throws() {
+    // given
+    ReflectionTestUtils.setField(filter, "failOnBudgetExceeded", true);
+
+    // when & then
+    assertThatThrownBy(() -> filter.doFilter(request("budgeted"), new MockHttpServletResponse(), io(3, 0)))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("action=IO_BUDGET_EXCEEDED")
+      .hasMessageContaining("sql=3/2");
+  }
+
+  @Test
+  @DisplayName("doFilter: 상한 이내이거나 @IoBudget이 없는 엔드포인트는 통과한다")
+  void doFilter_withinBudgetOrUnbudgeted_passes() throws Exception {
+    // given
+    ReflectionTestUtils.setField(filter, "failOnBudgetExceeded", true);
+
+    // when
+    filter.doFilter(request("budgeted"), new MockHttpServletResponse(), io(2, 1));
+    filter.doFilter(request("unbudgeted"), new MockHttpServletResponse(), io(100, 100));
+
+    // then
+    assertThat(IoAccounting.current()).isNull();
+  }
+
+  private MockHttpServletRequest request(String handlerMethodName) throws NoSuchMethodException {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/test");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/test");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+      new HandlerMethod(new TestHandler(), TestHandler.class.getMethod(handlerMethodName)));
+    return request;
+  }
+
+  /**
+   * SQL / Redis를 지정한 횟수만큼 기록하고 본문을 쓰는 필터 체인
+   */
+  private FilterChain io(int sqlCount, int redisCount) {
+    return (request, response) -> {
+      for (int i = 0; i < sqlCount; i++) {
+        IoAccounting.recordSql(1_000_000);
+      }
+      for (int i = 0; i < redisCount; i++) {
+        IoAccounting.recordRedis(1_000_000);
+      }
+      response.getWriter().write("ok");
+    };
+  }
+
+  static class TestHandler {
+
+    @IoBudget(sql = 2, redis = 1)
+    public void budgeted() {
+    }
+
+    public void unbudgeted() {
+    }
+  }
+}
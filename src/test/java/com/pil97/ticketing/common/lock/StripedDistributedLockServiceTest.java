@@ -0,0 +1,73 @@
+package com.pil97.ticketing.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedDistributedLockServiceTest {
+
+  private final StripedDistributedLockService lockService = new StripedDistributedLockService(1024);
+
+  @Test
+  @DisplayName("executeWithLock: 같은 키의 작업은 직렬화되어 동시에 실행되지 않는다")
+  void sameKey_serialized() throws InterruptedException {
+    // given
+    int threadCount = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < threadCount; i++) {
+      executor.submit(() -> {
+        try {
+          lockService.executeWithLock("hold:seat:1:1", 5L, 3L, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            running.decrementAndGet();
+            return null;
+          });
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+    executor.shutdown();
+
+    // then
+    assertThat(maxRunning.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("executeWithLock: 대기 시간 안에 락을 얻지 못하면 LockAcquisitionFailedException")
+  void waitTimeout_throws() throws InterruptedException {
+    // given - 다른 스레드가 락을 잡고 있는 상태
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread holder = new Thread(() -> lockService.executeWithLock("hold:seat:1:1", 1L, 3L, () -> {
+      locked.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }));
+    holder.start();
+    locked.await();
+
+    // when & then
+    try {
+      assertThatThrownBy(() -> lockService.executeWithLock("hold:seat:1:1", 0L, 3L, () -> "ok"))
+        .isInstanceOf(LockAcquisitionFailedException.class);
+    } finally {
+      release.countDown();
+      holder.join();
+    }
+  }
+}
@@ -7,7 +7,7 @@ import com.pil97.ticketing.hold.api.dto.request.HoldCreateRequest;
 import com.pil97.ticketing.hold.domain.repository.HoldRepository;
 import com.pil97.ticketing.member.domain.Member;
 import com.pil97.ticketing.member.domain.repository.MemberRepository;
-import com.pil97.ticketing.queue.domain.repository.QueueRepository;
+import com.pil97.ticketing.queue.application.AdmissionTokenProvider;
 import com.pil97.ticketing.seat.domain.Seat;
 import com.pil97.ticketing.seat.domain.SeatGrade;
 import com.pil97.ticketing.seat.domain.repository.SeatRepository;
@@ -71,7 +71,7 @@ class HoldConcurrencyTest {
   private MemberRepository memberRepository;
 
   @Autowired
-  private QueueRepository queueRepository;
+  private AdmissionTokenProvider admissionTokenProvider;
 
   @Autowired
   private JdbcTemplate jdbcTemplate;
@@ -81,6 +81,7 @@ class HoldConcurrencyTest {
   private Long memberId;
   private Long showtimeSeatId;
   private Long eventId;
+  private String admissionToken;
 
   @BeforeEach
   void setUp() {
@@ -128,8 +129,8 @@ class HoldConcurrencyTest {
     showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
     showtimeSeatId = showtimeSeat.getId();
 
-    // 동시성 테스트에서는 입장 토큰 검증 우회
-    queueRepository.saveAdmissionToken(memberId, "test-token-" + System.nanoTime());
+    // 동시성 테스트에서는 대기열을 거치지 않고 입장 토큰을 직접 발급 (HOLD 검증은 서명만 확인)
+    admissionToken = admissionTokenProvider.issue(memberId, eventId);
   }
 
   @AfterEach
@@ -168,7 +169,7 @@ class HoldConcurrencyTest {
         ready.countDown();
         try {
           start.await();
-          holdService.hold(showtimeId, request);
+          holdService.hold(showtimeId, request, admissionToken);
           successCount.incrementAndGet();
         } catch (Exception e) {
           failCount.incrementAndGet();
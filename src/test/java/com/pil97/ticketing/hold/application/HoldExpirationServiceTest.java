@@ -5,6 +5,7 @@ import com.pil97.ticketing.hold.domain.HoldStatus;
 import com.pil97.ticketing.hold.domain.repository.HoldRepository;
 import com.pil97.ticketing.member.domain.Member;
 import com.pil97.ticketing.member.domain.repository.MemberRepository;
+import com.pil97.ticketing.queue.application.QueueService;
 import com.pil97.ticketing.seat.domain.Seat;
 import com.pil97.ticketing.seat.domain.SeatGrade;
 import com.pil97.ticketing.seat.domain.repository.SeatRepository;
@@ -23,11 +24,18 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ActiveProfiles("test")
 @SpringBootTest(properties = "spring.task.scheduling.enabled=false")
@@ -54,20 +62,22 @@ class HoldExpirationServiceTest {
   @Autowired
   private MemberRepository memberRepository;
 
-  private Long holdId;
-  private Long showtimeSeatId;
+  @MockitoBean
+  private QueueService queueService;
+
+  private final List<Long> holdIds = new ArrayList<>();
+  private final List<Long> showtimeSeatIds = new ArrayList<>();
+  private final List<Long> seatIds = new ArrayList<>();
   private Long showtimeId;
-  private Long seatId;
   private Long eventId;
   private Long memberId;
 
   @AfterEach
   void tearDown() {
-    if (holdId != null) holdRepository.deleteById(holdId);
-    if (showtimeSeatId != null)
-      showtimeSeatRepository.deleteById(showtimeSeatId);
+    holdIds.forEach(holdRepository::deleteById);
+    showtimeSeatIds.forEach(showtimeSeatRepository::deleteById);
     if (showtimeId != null) showtimeRepository.deleteById(showtimeId);
-    if (seatId != null) seatRepository.deleteById(seatId);
+    seatIds.forEach(seatRepository::deleteById);
     if (eventId != null) eventRepository.deleteById(eventId);
     if (memberId != null) memberRepository.deleteById(memberId);
   }
@@ -77,7 +87,53 @@ class HoldExpirationServiceTest {
   void expireExpiredActiveHoldsAndReleaseSeats() {
     // given
     LocalDateTime now = LocalDateTime.now();
+    Showtime showtime = saveShowtime(now);
+    Member member = memberRepository.findById(memberId).orElseThrow();
+
+    // 만료 대상: ACTIVE 상태 + expiresAt < now
+    ShowtimeSeat showtimeSeat = saveHeldSeat(showtime, "A-99", 99, now);
+    Long holdId = saveHold(showtimeSeat, member, now.minusMinutes(10));
+
+    // when
+    holdExpirationService.expireHolds(now);
+
+    // then
+    Hold result = holdRepository.findById(holdId).orElseThrow();
+    ShowtimeSeat resultSeat = showtimeSeatRepository.findById(showtimeSeat.getId()).orElseThrow();
+
+    assertThat(result.getStatus()).isEqualTo(HoldStatus.EXPIRED);
+    assertThat(resultSeat.getStatus()).isEqualTo(ShowtimeSeatStatus.AVAILABLE);
+  }
+
+  @Test
+  @DisplayName("활성 사용자 윈도우: 같은 이벤트에 ACTIVE HOLD가 남은 회원은 자리를 반환하지 않고, 없으면 커밋 후 반환을 등록한다")
+  void expireHolds_releasesAdmissionOnlyWithoutRemainingHold() {
+    // given
+    when(queueService.isActiveWindowEnabled()).thenReturn(true);
+    LocalDateTime now = LocalDateTime.now();
+    Showtime showtime = saveShowtime(now);
+    Member member = memberRepository.findById(memberId).orElseThrow();
+
+    saveHold(saveHeldSeat(showtime, "A-97", 97, now), member, now.minusMinutes(10));
+    Long remainingHoldId = saveHold(saveHeldSeat(showtime, "A-98", 98, now), member, now.plusMinutes(10));
+
+    // when - 다른 좌석을 아직 선점 중
+    holdExpirationService.expireHolds(now);
+
+    // then
+    verify(queueService, never()).releaseAdmission(anyLong(), anyLong());
+    verify(queueService, never()).releaseAdmissionAfterCommit(anyLong(), anyLong());
+
+    // when - 남은 HOLD도 만료되면 자리를 반환한다
+    holdExpirationService.expireHolds(now.plusMinutes(20));
+
+    // then
+    assertThat(holdRepository.findById(remainingHoldId).orElseThrow().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+    verify(queueService).releaseAdmissionAfterCommit(eventId, memberId);
+    verify(queueService, never()).releaseAdmission(anyLong(), anyLong());
+  }
 
+  private Showtime saveShowtime(LocalDateTime now) {
     Member member = memberRepository.save(
       new Member("expiration-test-" + System.nanoTime() + "@test.com", "tester", "encoded-pw")
     );
@@ -93,16 +149,6 @@ class HoldExpirationServiceTest {
     event = eventRepository.save(event);
     eventId = event.getId();
 
-    Seat seat = BeanUtils.instantiateClass(Seat.class);
-    ReflectionTestUtils.setField(seat, "seatNumber", "A-99");
-    ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
-    ReflectionTestUtils.setField(seat, "rowLabel", "A");
-    ReflectionTestUtils.setField(seat, "seatNo", 99);
-    ReflectionTestUtils.setField(seat, "createdAt", now);
-    ReflectionTestUtils.setField(seat, "updatedAt", now);
-    seat = seatRepository.save(seat);
-    seatId = seat.getId();
-
     Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
     ReflectionTestUtils.setField(showtime, "event", event);
     ReflectionTestUtils.setField(showtime, "showAt", now.plusHours(2));
@@ -110,6 +156,19 @@ class HoldExpirationServiceTest {
     ReflectionTestUtils.setField(showtime, "updatedAt", now);
     showtime = showtimeRepository.save(showtime);
     showtimeId = showtime.getId();
+    return showtime;
+  }
+
+  private ShowtimeSeat saveHeldSeat(Showtime showtime, String seatNumber, int seatNo, LocalDateTime now) {
+    Seat seat = BeanUtils.instantiateClass(Seat.class);
+    ReflectionTestUtils.setField(seat, "seatNumber", seatNumber);
+    ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
+    ReflectionTestUtils.setField(seat, "rowLabel", "A");
+    ReflectionTestUtils.setField(seat, "seatNo", seatNo);
+    ReflectionTestUtils.setField(seat, "createdAt", now);
+    ReflectionTestUtils.setField(seat, "updatedAt", now);
+    seat = seatRepository.save(seat);
+    seatIds.add(seat.getId());
 
     ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
     ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
@@ -118,21 +177,13 @@ class HoldExpirationServiceTest {
     ReflectionTestUtils.setField(showtimeSeat, "createdAt", now);
     ReflectionTestUtils.setField(showtimeSeat, "updatedAt", now);
     showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
-    showtimeSeatId = showtimeSeat.getId();
-
-    // 만료 대상: ACTIVE 상태 + expiresAt < now
-    Hold hold = Hold.create(showtimeSeat, member, now.minusMinutes(10));
-    hold = holdRepository.save(hold);
-    holdId = hold.getId();
-
-    // when
-    holdExpirationService.expireHolds(now);
-
-    // then
-    Hold result = holdRepository.findById(holdId).orElseThrow();
-    ShowtimeSeat resultSeat = showtimeSeatRepository.findById(showtimeSeatId).orElseThrow();
+    showtimeSeatIds.add(showtimeSeat.getId());
+    return showtimeSeat;
+  }
 
-    assertThat(result.getStatus()).isEqualTo(HoldStatus.EXPIRED);
-    assertThat(resultSeat.getStatus()).isEqualTo(ShowtimeSeatStatus.AVAILABLE);
+  private Long saveHold(ShowtimeSeat showtimeSeat, Member member, LocalDateTime expiresAt) {
+    Hold hold = holdRepository.save(Hold.create(showtimeSeat, member, expiresAt));
+    holdIds.add(hold.getId());
+    return hold.getId();
   }
-}
\ No newline at end of file
+}
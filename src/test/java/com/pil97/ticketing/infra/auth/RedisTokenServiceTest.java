@@ -1,4 +1,4 @@
-package com.pil97.ticketing.auth.application;
+package com.pil97.ticketing.infra.auth;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +16,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-class TokenServiceTest {
+class RedisTokenServiceTest {
 
   @Mock
   private StringRedisTemplate redisTemplate;
@@ -25,7 +25,7 @@ class TokenServiceTest {
   private ValueOperations<String, String> valueOperations;
 
   @InjectMocks
-  private TokenService tokenService;
+  private RedisTokenService tokenService;
 
   // ────────────────────────────────────────────────
   // RefreshToken
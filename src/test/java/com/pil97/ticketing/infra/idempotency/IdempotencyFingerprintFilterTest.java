@@ -0,0 +1,132 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyFingerprintFilterTest {
+
+  private final IdempotencyFingerprintFilter filter = new IdempotencyFingerprintFilter(new ObjectMapper().findAndRegisterModules());
+
+  @Test
+  @DisplayName("Idempotency-Key 헤더가 있으면 원본 본문으로 fingerprint를 계산하고 본문은 다시 읽을 수 있다")
+  void withKey_computesFingerprintAndKeepsBody() throws Exception {
+    // given
+    byte[] body = "{\"reservationId\":1}".getBytes(StandardCharsets.UTF_8);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/payments");
+    request.addHeader(IdempotencyFingerprintFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+    request.setContent(body);
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // then
+    assertThat((byte[]) request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE))
+      .isEqualTo(IdempotencyFingerprintUtil.hash("POST", "/payments", body));
+    assertThat(chain.getRequest().getInputStream().readAllBytes()).isEqualTo(body);
+  }
+
+  @Test
+  @DisplayName("같은 본문이라도 URI가 다르면 다른 fingerprint를 갖는다")
+  void differentUri_differentFingerprint() {
+    // when
+    byte[] first = IdempotencyFingerprintUtil.hash("POST", "/holds/1/reserve", new byte[0]);
+    byte[] second = IdempotencyFingerprintUtil.hash("POST", "/holds/2/reserve", new byte[0]);
+
+    // then
+    assertThat(first).hasSize(32).isNotEqualTo(second);
+  }
+
+  @Test
+  @DisplayName("Idempotency-Key 헤더가 없으면 본문을 읽지 않고 통과한다")
+  void withoutKey_skips() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/payments");
+    request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // then
+    assertThat(request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE)).isNull();
+    assertThat(chain.getRequest()).isSameAs(request);
+  }
+
+  @Test
+  @DisplayName("멱등성 API가 아닌 경로는 Idempotency-Key 헤더가 있어도 본문을 읽지 않고 통과한다")
+  void nonIdempotentPath_skips() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/events");
+    request.addHeader(IdempotencyFingerprintFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+    request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // then
+    assertThat(request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE)).isNull();
+    assertThat(chain.getRequest()).isSameAs(request);
+  }
+
+  @Test
+  @DisplayName("경로 변수가 있는 멱등성 API도 fingerprint를 계산한다")
+  void pathVariableEndpoint_computesFingerprint() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/holds/7/reserve");
+    request.addHeader(IdempotencyFingerprintFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // then
+    assertThat((byte[]) request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE))
+      .isEqualTo(IdempotencyFingerprintUtil.hash("POST", "/holds/7/reserve", new byte[0]));
+  }
+
+  @Test
+  @DisplayName("본문이 상한을 넘으면 413(IDEMPOTENCY-004)으로 응답하고 필터 체인을 진행하지 않는다")
+  void bodyOverLimit_rejected() throws Exception {
+    // given
+    ReflectionTestUtils.setField(filter, "maxBodyBytes", 8);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/checkout");
+    request.addHeader(IdempotencyFingerprintFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+    request.setContent("{\"seatId\":12345}".getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(request, response, chain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(413);
+    assertThat(response.getContentAsString()).contains("IDEMPOTENCY-004");
+    assertThat(chain.getRequest()).isNull();
+  }
+
+  @Test
+  @DisplayName("다시 제공하는 본문 스트림은 비동기 읽기를 지원하지 않는다")
+  void cachedBody_setReadListener_throwsIllegalState() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/payments");
+    request.addHeader(IdempotencyFingerprintFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // when & then
+    assertThatThrownBy(() -> chain.getRequest().getInputStream().setReadListener(null))
+      .isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,246 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.infra.outbox.OutboxWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 조회·검증·선점 판정 / 완료 대기 흐름 검증 - Redis 없이 동일한 원자성을 갖는 InMemoryIdempotencyStore로 실행
+ */
+class IdempotencyRedisRepositoryTest {
+
+  private static final String PREFIX = "idempotency:test";
+  private static final String KEY = "key-1";
+  private static final byte[] FP = IdempotencyFingerprintUtil.hash("POST", "/payments", "{\"reservationId\":1}".getBytes());
+  private static final byte[] OTHER_FP = IdempotencyFingerprintUtil.hash("POST", "/payments", "{\"reservationId\":2}".getBytes());
+
+  private InMemoryIdempotencyStore idempotencyStore;
+  private IdempotencyReplayCache replayCache;
+  private OutboxWriter outboxWriter;
+  private IdempotencyRedisRepository idempotencyRedisRepository;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    idempotencyStore = spy(new InMemoryIdempotencyStore());
+    replayCache = new IdempotencyReplayCache();
+    outboxWriter = mock(OutboxWriter.class);
+    idempotencyRedisRepository = new IdempotencyRedisRepository(idempotencyStore, objectMapper, replayCache, outboxWriter);
+  }
+
+  @Test
+  @DisplayName("find: 결과가 없으면 lock을 선점하고 empty를 반환한다")
+  void find_noResult_acquiresLock() {
+    // when
+    Optional<SampleResponse> result = idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("find: lock 보유 중 같은 key로 재요청하면 IN_PROGRESS 예외를 던진다")
+  void find_locked_throwsInProgress() {
+    // given
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // when & then
+    assertThatThrownBy(() -> idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
+  }
+
+  @Test
+  @DisplayName("find: 저장 후 같은 fingerprint면 기존 응답을, 다른 fingerprint면 MISMATCH 예외를 반환한다")
+  void find_saved_replaysOrRejectsMismatch() {
+    // given
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+    idempotencyRedisRepository.save(PREFIX, KEY, FP, new SampleResponse(1L, "CONFIRMED"), Duration.ofMinutes(1));
+
+    // when
+    Optional<SampleResponse> replayed = idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // then
+    assertThat(replayed).contains(new SampleResponse(1L, "CONFIRMED"));
+    assertThatThrownBy(() -> idempotencyRedisRepository.find(PREFIX, KEY, OTHER_FP, SampleResponse.class))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH));
+  }
+
+  @Test
+  @DisplayName("find: 저장 직후 재요청은 로컬 캐시에서 응답하고 저장소를 호출하지 않는다")
+  void find_saved_servedFromReplayCache() {
+    // given
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+    SampleResponse saved = new SampleResponse(1L, "CONFIRMED");
+    idempotencyRedisRepository.save(PREFIX, KEY, FP, saved, Duration.ofMinutes(1));
+
+    // when
+    Optional<SampleResponse> replayed = idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // then - 최초 선점 1회 외에는 저장소 판정 호출 없음
+    assertThat(replayed).containsSame(saved);
+    verify(idempotencyStore).checkAndLock(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("find: 로컬 캐시가 꺼져 있으면 저장소에서 결과를 재사용한다")
+  void find_replayCacheDisabled_usesStore() {
+    // given
+    ReflectionTestUtils.setField(replayCache, "maxEntries", 0);
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+    idempotencyRedisRepository.save(PREFIX, KEY, FP, new SampleResponse(1L, "CONFIRMED"), Duration.ofMinutes(1));
+
+    // when
+    Optional<SampleResponse> replayed = idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // then
+    assertThat(replayed).contains(new SampleResponse(1L, "CONFIRMED"));
+    verify(idempotencyStore, times(2)).checkAndLock(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("releaseLock: 처리 실패로 lock을 해제하면 같은 key로 재시도할 수 있다")
+  void releaseLock_allowsRetry() {
+    // given
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+    idempotencyRedisRepository.releaseLock(PREFIX, KEY);
+
+    // when & then
+    assertThat(idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("find: 완료 대기 모드에서는 처리 중인 요청이 결과를 저장하면 409 대신 저장된 응답을 반환한다")
+  void find_waitForCompletion_returnsSavedResult() throws Exception {
+    // given
+    enableWaitForCompletion(3000L);
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // when - 선행 요청이 200ms 후 결과 저장
+    CompletableFuture<Optional<SampleResponse>> duplicate = CompletableFuture.supplyAsync(
+      () -> idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class));
+    Thread.sleep(200L);
+    idempotencyRedisRepository.save(PREFIX, KEY, FP, new SampleResponse(1L, "CONFIRMED"), Duration.ofMinutes(1));
+
+    // then
+    assertThat(duplicate.get(2, TimeUnit.SECONDS)).contains(new SampleResponse(1L, "CONFIRMED"));
+  }
+
+  @Test
+  @DisplayName("find: 완료 대기 모드에서 선행 요청이 실패해 lock만 해제되면 대기 중이던 요청이 신규 처리를 이어받는다")
+  void find_waitForCompletion_takesOverAfterRelease() throws Exception {
+    // given
+    enableWaitForCompletion(3000L);
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // when
+    CompletableFuture<Optional<SampleResponse>> duplicate = CompletableFuture.supplyAsync(
+      () -> idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class));
+    Thread.sleep(200L);
+    idempotencyRedisRepository.releaseLock(PREFIX, KEY);
+
+    // then - lock 선점 성공 (empty)
+    assertThat(duplicate.get(2, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("find: 완료 대기 시간을 넘기면 IN_PROGRESS 예외를 던진다")
+  void find_waitForCompletion_timeout_throwsInProgress() {
+    // given
+    enableWaitForCompletion(300L);
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+
+    // when & then
+    assertThatThrownBy(() -> idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
+  }
+
+  @Test
+  @DisplayName("find: 활성 트랜잭션 안에서는 완료 대기 모드여도 기다리지 않고 IN_PROGRESS 예외를 던진다")
+  void find_waitForCompletion_inTransaction_failsFast() {
+    // given - 대기 시간을 길게 두어 대기했다면 테스트가 느려지도록
+    enableWaitForCompletion(10000L);
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    try {
+      // when & then
+      assertThatThrownBy(() -> idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+          .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+    verify(idempotencyStore, never()).awaitRelease(any());
+  }
+
+  @Test
+  @DisplayName("saveThroughOutbox: 결과를 outbox 이벤트로 기록하고, 커밋 후 로컬 캐시로 재사용하며, relay 전달 시 저장소에 반영된다")
+  void saveThroughOutbox_recordsEventAndCachesAfterCommit() {
+    // given
+    idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class);
+    SampleResponse saved = new SampleResponse(1L, "CONFIRMED");
+    TransactionSynchronizationManager.initSynchronization();
+    ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+
+    try {
+      // when
+      idempotencyRedisRepository.saveThroughOutbox(PREFIX, KEY, FP, saved, Duration.ofMinutes(1));
+      TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+        sync.afterCommit();
+        sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+      });
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then - 요청 스레드에서는 저장소에 쓰지 않고, 같은 인스턴스 재요청은 로컬 캐시로 응답
+    verify(outboxWriter).append(eq(OutboxEventType.IDEMPOTENCY_RESULT), eq(PREFIX + ":" + KEY), payload.capture());
+    verify(idempotencyStore, never()).saveAndUnlock(any(), any(), any(), any(), any());
+    assertThat(idempotencyRedisRepository.find(PREFIX, KEY, FP, SampleResponse.class)).contains(saved);
+
+    // relay 전달 후에는 로컬 캐시가 없는 인스턴스도 저장소 결과를 재사용
+    new IdempotencyResultHandler(idempotencyStore).handle((IdempotencyResultHandler.Payload) payload.getValue());
+    IdempotencyRedisRepository otherInstance = new IdempotencyRedisRepository(
+      idempotencyStore, new ObjectMapper(), new IdempotencyReplayCache(), outboxWriter);
+    assertThat(otherInstance.find(PREFIX, KEY, FP, SampleResponse.class)).contains(saved);
+  }
+
+  private void enableWaitForCompletion(long timeoutMs) {
+    ReflectionTestUtils.setField(idempotencyRedisRepository, "waitForCompletion", true);
+    ReflectionTestUtils.setField(idempotencyRedisRepository, "waitTimeoutMs", timeoutMs);
+  }
+
+  record SampleResponse(Long id, String status) {
+  }
+}
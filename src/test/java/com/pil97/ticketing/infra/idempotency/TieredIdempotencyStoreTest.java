@@ -0,0 +1,116 @@
+package com.pil97.ticketing.infra.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredIdempotencyStoreTest {
+
+  private static final String RESULT_KEY = "idempotency:payment:key-1";
+  private static final String LOCK_KEY = "idempotency:payment:lock:key-1";
+  private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+  private static final Duration RESULT_TTL = Duration.ofHours(24);
+  private static final byte[] FP = IdempotencyFingerprintUtil.hash("POST", "/payments", "{\"reservationId\":1}".getBytes());
+  private static final byte[] OTHER_FP = IdempotencyFingerprintUtil.hash("POST", "/payments", "{\"reservationId\":2}".getBytes());
+  private static final byte[] BODY = "{\"paymentId\":1}".getBytes();
+
+  @Mock
+  private RedisIdempotencyStore redisStore;
+
+  @Mock
+  private JdbcIdempotencyStore jdbcStore;
+
+  @InjectMocks
+  private TieredIdempotencyStore tieredStore;
+
+  private JdbcIdempotencyStore.StoredResult storedResult() {
+    return new JdbcIdempotencyStore.StoredResult(FP, BODY, System.currentTimeMillis() + RESULT_TTL.toMillis());
+  }
+
+  @Test
+  @DisplayName("checkAndLock: Redis에 결과가 있으면 DB를 조회하지 않고 그대로 반환한다")
+  void checkAndLock_redisReplay_skipsDb() {
+    // given
+    when(redisStore.checkAndLock(RESULT_KEY, LOCK_KEY, FP, LOCK_TTL)).thenReturn(IdempotencyLookup.replay(BODY));
+
+    // when
+    IdempotencyLookup lookup = tieredStore.checkAndLock(RESULT_KEY, LOCK_KEY, FP, LOCK_TTL);
+
+    // then
+    assertThat(lookup.status()).isEqualTo(IdempotencyLookup.Status.REPLAY);
+    verifyNoInteractions(jdbcStore);
+  }
+
+  @Test
+  @DisplayName("checkAndLock: Redis에서 유실된 결과가 DB에 있으면 Redis에 다시 채우고 REPLAY를 반환한다")
+  void checkAndLock_redisLost_restoresFromDb() {
+    // given
+    when(redisStore.checkAndLock(RESULT_KEY, LOCK_KEY, FP, LOCK_TTL))
+      .thenReturn(IdempotencyLookup.of(IdempotencyLookup.Status.LOCK_ACQUIRED));
+    when(jdbcStore.findResult(RESULT_KEY)).thenReturn(Optional.of(storedResult()));
+
+    // when
+    IdempotencyLookup lookup = tieredStore.checkAndLock(RESULT_KEY, LOCK_KEY, FP, LOCK_TTL);
+
+    // then
+    assertThat(lookup.status()).isEqualTo(IdempotencyLookup.Status.REPLAY);
+    assertThat(lookup.responseBody()).isEqualTo(BODY);
+    verify(redisStore).saveAndUnlock(eq(RESULT_KEY), eq(LOCK_KEY), eq(FP), eq(BODY), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("checkAndLock: DB 결과와 fingerprint가 다르면 MISMATCH를 반환한다")
+  void checkAndLock_dbResultMismatch_returnsMismatch() {
+    // given
+    when(redisStore.checkAndLock(RESULT_KEY, LOCK_KEY, OTHER_FP, LOCK_TTL))
+      .thenReturn(IdempotencyLookup.of(IdempotencyLookup.Status.LOCK_ACQUIRED));
+    when(jdbcStore.findResult(RESULT_KEY)).thenReturn(Optional.of(storedResult()));
+
+    // when
+    IdempotencyLookup lookup = tieredStore.checkAndLock(RESULT_KEY, LOCK_KEY, OTHER_FP, LOCK_TTL);
+
+    // then
+    assertThat(lookup.status()).isEqualTo(IdempotencyLookup.Status.MISMATCH);
+    verify(redisStore).saveAndUnlock(eq(RESULT_KEY), eq(LOCK_KEY), eq(FP), eq(BODY), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("checkAndLock: 신규 요청이면 Redis lock을 유지하고 LOCK_ACQUIRED를 반환한다")
+  void checkAndLock_newRequest_keepsLock() {
+    // given
+    when(redisStore.checkAndLock(RESULT_KEY, LOCK_KEY, FP, LOCK_TTL))
+      .thenReturn(IdempotencyLookup.of(IdempotencyLookup.Status.LOCK_ACQUIRED));
+    when(jdbcStore.findResult(RESULT_KEY)).thenReturn(Optional.empty());
+
+    // when
+    IdempotencyLookup lookup = tieredStore.checkAndLock(RESULT_KEY, LOCK_KEY, FP, LOCK_TTL);
+
+    // then
+    assertThat(lookup.status()).isEqualTo(IdempotencyLookup.Status.LOCK_ACQUIRED);
+    verify(redisStore, never()).saveAndUnlock(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("saveAndUnlock: Redis에 즉시 저장하고 DB는 배치 저장 버퍼에만 넘긴다")
+  void saveAndUnlock_enqueuesDbWrite() {
+    // when
+    tieredStore.saveAndUnlock(RESULT_KEY, LOCK_KEY, FP, BODY, RESULT_TTL);
+
+    // then
+    verify(redisStore).saveAndUnlock(RESULT_KEY, LOCK_KEY, FP, BODY, RESULT_TTL);
+    verify(jdbcStore).enqueueResult(RESULT_KEY, FP, BODY, RESULT_TTL);
+    verifyNoMoreInteractions(jdbcStore);
+  }
+}
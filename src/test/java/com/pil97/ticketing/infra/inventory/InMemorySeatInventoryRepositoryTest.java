@@ -0,0 +1,53 @@
+package com.pil97.ticketing.infra.inventory;
+
+import com.pil97.ticketing.showtimeseat.domain.SeatInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySeatInventoryRepositoryTest {
+
+  private static final Long EVENT_ID = 1L;
+  private static final Long SHOWTIME_ID = 10L;
+
+  private final InMemorySeatInventoryRepository repository = new InMemorySeatInventoryRepository();
+
+  @Test
+  @DisplayName("applyTransitionOnce: 같은 전이 ID는 재전달되어도 한 번만 반영한다")
+  void applyTransitionOnce_redelivered_appliesOnce() {
+    // given
+    repository.saveInventory(EVENT_ID, 0L, new SeatInventory(5L, 0L),
+      Map.of(SHOWTIME_ID, new SeatInventory(5L, 0L)), 60000L);
+
+    // when
+    boolean first = repository.applyTransitionOnce("outbox:1", EVENT_ID, SHOWTIME_ID, -1L, 1L, 60000L);
+    boolean redelivered = repository.applyTransitionOnce("outbox:1", EVENT_ID, SHOWTIME_ID, -1L, 1L, 60000L);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(redelivered).isFalse();
+    assertThat(repository.findEventInventory(EVENT_ID)).contains(new SeatInventory(4L, 1L));
+    assertThat(repository.findShowtimeInventory(SHOWTIME_ID)).contains(new SeatInventory(4L, 1L));
+  }
+
+  @Test
+  @DisplayName("saveInventory: 집계 전에 읽은 버전 이후 상태 전이가 반영되었으면 덮어쓰지 않는다")
+  void saveInventory_versionChanged_skips() {
+    // given
+    repository.saveInventory(EVENT_ID, 0L, new SeatInventory(5L, 0L),
+      Map.of(SHOWTIME_ID, new SeatInventory(5L, 0L)), 60000L);
+    long version = repository.findInventoryVersion(EVENT_ID);
+    repository.applyTransition(EVENT_ID, SHOWTIME_ID, -1L, 1L);
+
+    // when
+    boolean saved = repository.saveInventory(EVENT_ID, version, new SeatInventory(5L, 0L),
+      Map.of(SHOWTIME_ID, new SeatInventory(5L, 0L)), 60000L);
+
+    // then
+    assertThat(saved).isFalse();
+    assertThat(repository.findEventInventory(EVENT_ID)).contains(new SeatInventory(4L, 1L));
+  }
+}
@@ -0,0 +1,108 @@
+package com.pil97.ticketing.infra.payment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong(0L);
+
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    // 최근 10건 중 최소 4건 이상, 실패율 50% 이상이면 1초 동안 open
+    circuitBreaker = new CircuitBreaker(10, 4, 0.5, 1000L, now::get);
+  }
+
+  private void call(boolean failed) {
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    if (failed) {
+      circuitBreaker.onFailure();
+    } else {
+      circuitBreaker.onSuccess();
+    }
+  }
+
+  @Test
+  @DisplayName("최소 호출 수 전에는 실패율이 높아도 열리지 않는다")
+  void belowMinCalls_staysClosed() {
+    call(true);
+    call(true);
+    call(true);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("실패율이 임계치 이상이면 열리고, open 시간 동안 호출을 거절한다")
+  void failureRateExceeded_opensAndRejects() {
+    call(false);
+    call(false);
+    call(true);
+    call(true);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    now.set(999L);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  @DisplayName("open 시간 경과 후 시험 호출 1건만 허용하고, 성공하면 닫힌다")
+  void halfOpen_singleTrial_closesOnSuccess() {
+    call(true);
+    call(true);
+    call(true);
+    call(true);
+    now.set(1000L);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    circuitBreaker.onSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    // 기록이 초기화되어 이전 실패가 실패율에 남지 않는다
+    call(true);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("시험 호출이 실패하면 다시 열린다")
+  void halfOpen_trialFails_reopens() {
+    call(true);
+    call(true);
+    call(true);
+    call(true);
+    now.set(1000L);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    now.set(1999L);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  @DisplayName("오래된 결과는 window에서 밀려나 실패율에서 빠진다")
+  void slidingWindow_evictsOldResults() {
+    call(true);
+    call(true);
+    call(true);
+    for (int i = 0; i < 10; i++) {
+      call(false);
+    }
+    call(true);
+    call(true);
+    call(true);
+    call(true);
+
+    // 최근 10건: 성공 6 + 실패 4 → 40%
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+}
@@ -0,0 +1,247 @@
+package com.pil97.ticketing.infra.queue;
+
+import com.pil97.ticketing.queue.domain.QueueThroughputStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemoryQueueRepository 단위 테스트
+ * QueueRedisRepository와 같은 Sorted Set / TTL 의미를 갖는지 검증한다.
+ */
+class InMemoryQueueRepositoryTest {
+
+  private static final long TOKEN_TTL_MS = 1800000L;
+  private static final Long EVENT_ID = 1L;
+
+  private final InMemoryQueueRepository repository = new InMemoryQueueRepository();
+
+  // enter() 흐름과 동일하게 nextScore → addIfAbsent 순서로 등록
+  private boolean enter(Long memberId) {
+    long score = repository.nextScore(EVENT_ID, memberId);
+    return repository.addIfAbsent(EVENT_ID, memberId, score);
+  }
+
+  @Test
+  @DisplayName("addIfAbsent: 이미 등록된 회원은 순번이 바뀌지 않는다")
+  void addIfAbsent_duplicate_keepsRank() {
+    // given
+    enter(10L);
+    enter(20L);
+
+    // when
+    boolean added = enter(10L);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(repository.getRank(EVENT_ID, 10L)).isEqualTo(0L);
+    assertThat(repository.getRank(EVENT_ID, 20L)).isEqualTo(1L);
+    assertThat(repository.getQueueSize(EVENT_ID)).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("addOrReplace: 재진입 시 맨 뒤로 이동한다")
+  void addOrReplace_movesToBack() {
+    // given
+    enter(10L);
+    enter(20L);
+
+    // when
+    repository.addOrReplace(EVENT_ID, 10L, repository.nextScore(EVENT_ID, 10L));
+
+    // then
+    assertThat(repository.getRank(EVENT_ID, 20L)).isEqualTo(0L);
+    assertThat(repository.getRank(EVENT_ID, 10L)).isEqualTo(1L);
+    assertThat(repository.getQueueSize(EVENT_ID)).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("getRank: 순번 index 배열을 넘어 등록되고 앞 대기자가 빠져도 앞선 대기자 수를 반환한다")
+  void getRank_afterGrowthAndRemoval_countsPrecedingMembers() {
+    // given - 초기 index 크기(1024)를 넘겨 재구성되도록 3000명 등록 후 앞 1000명 제거
+    for (long memberId = 1; memberId <= 3000; memberId++) {
+      enter(memberId);
+    }
+    for (long memberId = 1; memberId <= 1000; memberId++) {
+      repository.remove(EVENT_ID, memberId);
+    }
+
+    // when & then
+    assertThat(repository.getRank(EVENT_ID, 1001L)).isEqualTo(0L);
+    assertThat(repository.getRank(EVENT_ID, 3000L)).isEqualTo(1999L);
+    assertThat(repository.getRank(EVENT_ID, 1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("getRank: 순번이 아닌 score로 등록되어도 score 기준 순번을 반환한다")
+  void getRank_nonSequenceScore_fallsBack() {
+    // given
+    repository.addIfAbsent(EVENT_ID, 10L, 2.5);
+    repository.addIfAbsent(EVENT_ID, 20L, 1.0);
+
+    // when & then
+    assertThat(repository.getRank(EVENT_ID, 20L)).isEqualTo(0L);
+    assertThat(repository.getRank(EVENT_ID, 10L)).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("getTopMembers / remove: score 오름차순으로 상위 N명을 반환하고 제거 후 순번이 당겨진다")
+  void getTopMembers_thenRemove_shiftsRank() {
+    // given
+    for (long memberId = 1; memberId <= 5; memberId++) {
+      enter(memberId);
+    }
+
+    // when
+    Set<String> top = repository.getTopMembers(EVENT_ID, 3);
+    top.forEach(memberId -> repository.remove(EVENT_ID, Long.parseLong(memberId)));
+
+    // then
+    assertThat(top).containsExactly("1", "2", "3");
+    assertThat(repository.getRank(EVENT_ID, 4L)).isEqualTo(0L);
+    assertThat(repository.getRank(EVENT_ID, 1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("동시 진입: 100명이 동시에 등록해도 중복 없이 0~99 순번을 받는다")
+  void concurrentEnter_uniqueRanks() throws InterruptedException {
+    // given
+    int threadCount = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+
+    // when
+    for (long memberId = 1; memberId <= threadCount; memberId++) {
+      long id = memberId;
+      executor.submit(() -> {
+        try {
+          enter(id);
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+    executor.shutdown();
+
+    // then
+    assertThat(repository.getQueueSize(EVENT_ID)).isEqualTo(threadCount);
+    Set<Long> ranks = new HashSet<>();
+    for (long memberId = 1; memberId <= threadCount; memberId++) {
+      ranks.add(repository.getRank(EVENT_ID, memberId));
+    }
+    assertThat(ranks).hasSize(threadCount).allMatch(rank -> rank >= 0 && rank < threadCount);
+  }
+
+  @Test
+  @DisplayName("입장 토큰: 이벤트별로 저장되어 다른 이벤트에서는 조회되지 않고, 삭제하면 TTL이 0이 된다")
+  void admissionToken_saveFindDelete() {
+    // given
+    repository.saveAdmissionToken(EVENT_ID, 10L, "token", TOKEN_TTL_MS, TOKEN_TTL_MS);
+
+    // when & then
+    assertThat(repository.findAdmissionToken(EVENT_ID, 10L)).hasValue("token");
+    assertThat(repository.findAdmissionToken(2L, 10L)).isEmpty();
+    assertThat(repository.findAdmissionTokenEntry(EVENT_ID, 10L))
+      .hasValueSatisfying(entry -> assertThat(entry.token()).isEqualTo("token"));
+    assertThat(repository.countAdmissionTokens(EVENT_ID)).isEqualTo(1L);
+
+    repository.deleteAdmissionToken(EVENT_ID, 10L);
+    assertThat(repository.findAdmissionToken(EVENT_ID, 10L)).isEmpty();
+    assertThat(repository.findAdmissionTokenEntry(EVENT_ID, 10L)).isEmpty();
+    assertThat(repository.countAdmissionTokens(EVENT_ID)).isZero();
+  }
+
+  @Test
+  @DisplayName("touchAdmissionToken: 유효한 토큰만 만료 시각을 연장하고, 없거나 만료된 토큰은 되살리지 않는다")
+  void touchAdmissionToken_extendsOnlyLiveTokens() {
+    // given
+    repository.saveAdmissionToken(EVENT_ID, 10L, "live", 1000L, TOKEN_TTL_MS);
+    repository.saveAdmissionToken(EVENT_ID, 11L, "expired", -1L, -1L);
+
+    // when & then
+    assertThat(repository.touchAdmissionToken(EVENT_ID, 10L, TOKEN_TTL_MS)).isTrue();
+    assertThat(repository.findAdmissionTokenEntry(EVENT_ID, 10L).orElseThrow().expiresAtMillis())
+      .isGreaterThan(System.currentTimeMillis() + 1000L);
+    assertThat(repository.touchAdmissionToken(EVENT_ID, 11L, TOKEN_TTL_MS)).isFalse();
+    assertThat(repository.findAdmissionToken(EVENT_ID, 11L)).isEmpty();
+    assertThat(repository.touchAdmissionToken(EVENT_ID, 12L, TOKEN_TTL_MS)).isFalse();
+  }
+
+  @Test
+  @DisplayName("touchAdmissionToken: 연장해도 발급 시 정한 세션 상한을 넘기지 않는다")
+  void touchAdmissionToken_cappedAtSessionDeadline() {
+    // given - 유휴 1초, 세션 상한 2초
+    long before = System.currentTimeMillis();
+    repository.saveAdmissionToken(EVENT_ID, 10L, "live", 1000L, 2000L);
+
+    // when
+    boolean touched = repository.touchAdmissionToken(EVENT_ID, 10L, TOKEN_TTL_MS);
+
+    // then
+    assertThat(touched).isTrue();
+    assertThat(repository.findAdmissionTokenEntry(EVENT_ID, 10L).orElseThrow().expiresAtMillis())
+      .isBetween(before + 1000L, System.currentTimeMillis() + 2000L);
+  }
+
+  @Test
+  @DisplayName("getEventAdmissionRevocations: 폐기 기준 시각이 지난 이벤트는 제외한다")
+  void getEventAdmissionRevocations_excludesExpired() {
+    // given
+    long now = System.currentTimeMillis();
+    repository.revokeEventAdmissions(1L, now - 1000L);
+    repository.revokeEventAdmissions(2L, now + 60000L);
+
+    // when & then
+    assertThat(repository.getEventAdmissionRevocations()).containsExactly(Map.entry(2L, now + 60000L));
+  }
+
+  @Test
+  @DisplayName("처리량 통계: 통계 저장이 누적 진입 수를 덮어쓰지 않고, 삭제 시 함께 제거된다")
+  void throughputStats_keepsEnteredCount() {
+    // given
+    repository.incrementEnteredCount(EVENT_ID);
+    repository.incrementEnteredCount(EVENT_ID);
+
+    // when
+    repository.saveThroughputStats(EVENT_ID, new QueueThroughputStats(1.0, 0.0, 0.0, 2L, 2L, 1L));
+
+    // then
+    assertThat(repository.getEnteredCount(EVENT_ID)).isEqualTo(2L);
+    assertThat(repository.findThroughputStats(EVENT_ID)).isPresent();
+
+    repository.deleteThroughputStats(EVENT_ID);
+    assertThat(repository.getEnteredCount(EVENT_ID)).isZero();
+    assertThat(repository.findThroughputStats(EVENT_ID)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("입장 허용 이력: chunk·memberId 오름차순으로 순회되고 삭제 후에는 이력이 없다")
+  void admittedHistory_streamsInOrder() {
+    // given
+    for (Long memberId : List.of(1_000_000L, 7L, 65_536L, 1L)) {
+      repository.saveAdmittedHistory(EVENT_ID, memberId);
+    }
+
+    // when
+    List<Long> visited = new ArrayList<>();
+    repository.forEachAdmittedMember(EVENT_ID, visited::add);
+
+    // then
+    assertThat(visited).containsExactly(1L, 7L, 65_536L, 1_000_000L);
+    assertThat(repository.hasAdmittedHistory(EVENT_ID, 7L)).isTrue();
+
+    repository.deleteAdmittedHistory(EVENT_ID);
+    assertThat(repository.hasAdmittedHistory(EVENT_ID, 7L)).isFalse();
+  }
+}
@@ -6,7 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,19 +31,42 @@ class QueueRedisRepositoryTest {
   @Autowired
   private StringRedisTemplate redisTemplate;
 
+  private static final long TOKEN_TTL_MS = 1800000L;
   private static final Long EVENT_ID = 999L;
+  private static final Long SHARDED_EVENT_ID = 998L;
+  private static final int SHARD_COUNT = 4;
 
   @AfterEach
   void tearDown() {
     // 테스트 후 잔여 key 정리
     redisTemplate.delete("queue:seq:" + EVENT_ID);
+    queueRedisRepository.deleteAdmittedHistory(EVENT_ID);
+    queueRedisRepository.deleteAdmissionTokens(EVENT_ID);
+    for (int shard = 0; shard < SHARD_COUNT; shard++) {
+      redisTemplate.delete("queue:event:" + SHARDED_EVENT_ID + ":shard:" + shard);
+      redisTemplate.delete("queue:seq:" + SHARDED_EVENT_ID + ":shard:" + shard);
+    }
+  }
+
+  // 샤딩 모드 설정을 주입한 별도 인스턴스 - 공용 빈 설정을 변경하지 않기 위해 직접 생성
+  private QueueRedisRepository shardedRepository() {
+    QueueRedisRepository repository = new QueueRedisRepository(redisTemplate);
+    ReflectionTestUtils.setField(repository, "shardCount", SHARD_COUNT);
+    ReflectionTestUtils.setField(repository, "shardedEventIds", Set.of(SHARDED_EVENT_ID));
+    return repository;
+  }
+
+  // enter() 흐름과 동일하게 nextScore → addIfAbsent 순서로 등록
+  private void enter(QueueRedisRepository repository, Long memberId) {
+    long score = repository.nextScore(SHARDED_EVENT_ID, memberId);
+    repository.addIfAbsent(SHARDED_EVENT_ID, memberId, score);
   }
 
   @Test
   @DisplayName("deleteSeq: queue:seq:{eventId} key가 실제로 삭제된다")
   void deleteSeq_removesKeyFromRedis() {
     // given - nextScore() 호출로 queue:seq:{eventId} key 생성
-    queueRedisRepository.nextScore(EVENT_ID);
+    queueRedisRepository.nextScore(EVENT_ID, 1L);
     assertThat(redisTemplate.hasKey("queue:seq:" + EVENT_ID)).isTrue();
 
     // when
@@ -46,4 +75,287 @@ class QueueRedisRepositoryTest {
     // then
     assertThat(redisTemplate.hasKey("queue:seq:" + EVENT_ID)).isFalse();
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("샤딩 모드: 대기열이 서브 큐로 분산되고 단일 queue:event:{eventId} key는 생성되지 않는다")
+  void sharded_enter_distributesAcrossSubQueues() {
+    // given
+    QueueRedisRepository repository = shardedRepository();
+
+    // when - memberId 1~8 등록 (샤드당 2명)
+    for (long memberId = 1; memberId <= 8; memberId++) {
+      enter(repository, memberId);
+    }
+
+    // then
+    assertThat(redisTemplate.hasKey("queue:event:" + SHARDED_EVENT_ID)).isFalse();
+    for (int shard = 0; shard < SHARD_COUNT; shard++) {
+      assertThat(redisTemplate.opsForZSet().size("queue:event:" + SHARDED_EVENT_ID + ":shard:" + shard))
+        .isEqualTo(2L);
+    }
+  }
+
+  @Test
+  @DisplayName("샤딩 모드: 상위 N명은 전역 순번 기준이고, 순번은 자기 샤드 + 스케줄러 스냅샷으로 계산된다")
+  void sharded_rankAndTopMembers_followGlobalSequence() {
+    // given
+    QueueRedisRepository repository = shardedRepository();
+    for (long memberId = 1; memberId <= 8; memberId++) {
+      enter(repository, memberId);
+    }
+    repository.refreshRankSnapshot(SHARDED_EVENT_ID);
+
+    // when
+    List<String> top = new ArrayList<>(repository.getTopMembers(SHARDED_EVENT_ID, 5));
+
+    // then - 전역 순번(로컬 순번 * K + shard) 오름차순으로 샤드 간 인터리빙
+    assertThat(top).hasSize(5);
+    for (int i = 0; i < top.size(); i++) {
+      Long rank = repository.getRank(SHARDED_EVENT_ID, Long.parseLong(top.get(i)));
+      assertThat(rank).isEqualTo((long) i);
+    }
+
+    // 대기열에서 제거하면 다음 스냅샷 갱신(스케줄러 tick) 후 뒤 순번이 앞으로 당겨진다
+    repository.remove(SHARDED_EVENT_ID, Long.parseLong(top.get(0)));
+    repository.refreshRankSnapshot(SHARDED_EVENT_ID);
+    assertThat(repository.getRank(SHARDED_EVENT_ID, Long.parseLong(top.get(1)))).isEqualTo(0L);
+    assertThat(repository.getRank(SHARDED_EVENT_ID, Long.parseLong(top.get(0)))).isNull();
+  }
+
+  @Test
+  @DisplayName("샤딩 모드: 스냅샷 이후 진입한 회원은 다른 샤드의 스냅샷 인원 + 이후 진입분 뒤로 추정된다")
+  void sharded_rank_estimatesEntriesAfterSnapshot() {
+    // given - memberId 1~8 등록 후 스냅샷, 이어서 9~12 등록 (샤드당 1명씩 추가)
+    QueueRedisRepository repository = shardedRepository();
+    for (long memberId = 1; memberId <= 8; memberId++) {
+      enter(repository, memberId);
+    }
+    repository.refreshRankSnapshot(SHARDED_EVENT_ID);
+    for (long memberId = 9; memberId <= 12; memberId++) {
+      enter(repository, memberId);
+    }
+
+    // when & then - 11(전역 순번 15)은 다른 샤드의 스냅샷 인원과 스냅샷 이후 진입분(12, 9, 10)을 앞선 인원으로 센다
+    assertThat(repository.getRank(SHARDED_EVENT_ID, 11L)).isEqualTo(11L);
+  }
+
+  @Test
+  @DisplayName("샤딩 모드: 스케줄러 tick 전에도 샤드가 불균형하면 첫 조회에서 스냅샷을 채워 오차 한도(중간 이탈 인원) 안의 순번을 반환한다")
+  void sharded_rank_beforeFirstTick_staysWithinBound() {
+    // given - memberId % 4 = 샤드: 샤드 0에 10명, 샤드 1에 1명, 샤드 2에 2명, 샤드 3은 비어 있음
+    QueueRedisRepository repository = shardedRepository();
+    List<Long> memberIds = new ArrayList<>();
+    for (long memberId = 4; memberId <= 40; memberId += 4) {
+      memberIds.add(memberId);
+    }
+    memberIds.addAll(List.of(1L, 2L, 6L));
+    memberIds.forEach(memberId -> enter(repository, memberId));
+
+    // when & then - 이탈이 없으면 refreshRankSnapshot() 호출 없이도 정확하다
+    for (Long memberId : memberIds) {
+      assertThat(repository.getRank(SHARDED_EVENT_ID, memberId)).isEqualTo(exactShardedRank(memberId));
+    }
+
+    // given - 샤드 0 중간에서 2명 이탈 후 새로 기동한 인스턴스 (스냅샷 없음)
+    repository.remove(SHARDED_EVENT_ID, 16L);
+    repository.remove(SHARDED_EVENT_ID, 24L);
+    QueueRedisRepository restarted = shardedRepository();
+
+    // when & then - 오차는 다른 샤드의 중간 이탈 인원(2명) 이하
+    for (Long memberId : memberIds) {
+      Long exact = exactShardedRank(memberId);
+      if (exact == null) {
+        assertThat(restarted.getRank(SHARDED_EVENT_ID, memberId)).isNull();
+        continue;
+      }
+      assertThat(restarted.getRank(SHARDED_EVENT_ID, memberId)).isBetween(exact - 2, exact + 2);
+    }
+  }
+
+  // 전 샤드의 score를 모아 구한 정확한 전역 순번
+  private Long exactShardedRank(Long memberId) {
+    Double own = null;
+    List<Double> scores = new ArrayList<>();
+    for (int shard = 0; shard < SHARD_COUNT; shard++) {
+      String key = "queue:event:" + SHARDED_EVENT_ID + ":shard:" + shard;
+      Double score = redisTemplate.opsForZSet().score(key, String.valueOf(memberId));
+      if (score != null) {
+        own = score;
+      }
+      Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
+      if (tuples != null) {
+        tuples.forEach(tuple -> scores.add(tuple.getScore()));
+      }
+    }
+    if (own == null) {
+      return null;
+    }
+    double ownScore = own;
+    return scores.stream().filter(score -> score < ownScore).count();
+  }
+
+  @Test
+  @DisplayName("샤딩 모드: deleteQueue/deleteSeq는 모든 서브 큐와 서브 큐 카운터를 삭제한다")
+  void sharded_delete_removesAllShardKeys() {
+    // given
+    QueueRedisRepository repository = shardedRepository();
+    for (long memberId = 1; memberId <= 8; memberId++) {
+      enter(repository, memberId);
+    }
+
+    // when
+    repository.deleteQueue(SHARDED_EVENT_ID);
+    repository.deleteSeq(SHARDED_EVENT_ID);
+
+    // then
+    for (int shard = 0; shard < SHARD_COUNT; shard++) {
+      assertThat(redisTemplate.hasKey("queue:event:" + SHARDED_EVENT_ID + ":shard:" + shard)).isFalse();
+      assertThat(redisTemplate.hasKey("queue:seq:" + SHARDED_EVENT_ID + ":shard:" + shard)).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("입장 허용 이력: memberId 구간별 희소 Set에 저장되고 chunk·memberId 오름차순으로 순회된다")
+  void admittedHistory_sparseChunks_streamsInOrder() {
+    // given - 서로 다른 chunk(2^16 구간)에 걸친 회원
+    List<Long> memberIds = List.of(1L, 7L, 65_535L, 65_536L, 1_000_000L);
+    for (Long memberId : List.of(1_000_000L, 7L, 65_536L, 1L, 65_535L)) {
+      queueRedisRepository.saveAdmittedHistory(EVENT_ID, memberId);
+    }
+
+    // when
+    List<Long> visited = new ArrayList<>();
+    queueRedisRepository.forEachAdmittedMember(EVENT_ID, visited::add);
+
+    // then
+    assertThat(visited).containsExactlyElementsOf(memberIds);
+    assertThat(queueRedisRepository.hasAdmittedHistory(EVENT_ID, 65_536L)).isTrue();
+    assertThat(queueRedisRepository.hasAdmittedHistory(EVENT_ID, 2L)).isFalse();
+    // 회원이 있는 chunk만 생성되고, 회원이 적은 chunk는 bitmap 없이 offset Set만 쓴다
+    assertThat(redisTemplate.opsForSet().members("queue:admitted:" + EVENT_ID + ":chunks"))
+      .containsExactlyInAnyOrder("0", "1", "15");
+    assertThat(redisTemplate.opsForSet().members("queue:admitted:" + EVENT_ID + ":chunk:0:sparse"))
+      .containsExactlyInAnyOrder("1", "7", "65535");
+    assertThat(redisTemplate.hasKey("queue:admitted:" + EVENT_ID + ":chunk:0")).isFalse();
+  }
+
+  @Test
+  @DisplayName("입장 허용 이력: chunk 회원이 512명을 넘으면 bitmap으로 전환하고 이후 저장 / 조회 / 순회도 bitmap을 쓴다")
+  void admittedHistory_denseChunk_promotesToBitmap() {
+    // given - chunk 0에 513명 (offset 0, 100, 200, ...)
+    List<Long> memberIds = new ArrayList<>();
+    for (long i = 0; i <= 512; i++) {
+      memberIds.add(i * 100);
+      queueRedisRepository.saveAdmittedHistory(EVENT_ID, i * 100);
+    }
+
+    // when - 전환 후 저장
+    queueRedisRepository.saveAdmittedHistory(EVENT_ID, 1L);
+    memberIds.add(1, 1L);
+
+    // then
+    assertThat(redisTemplate.hasKey("queue:admitted:" + EVENT_ID + ":chunk:0:sparse")).isFalse();
+    assertThat(redisTemplate.opsForValue().size("queue:admitted:" + EVENT_ID + ":chunk:0")).isEqualTo(6401L);
+    assertThat(queueRedisRepository.hasAdmittedHistory(EVENT_ID, 51_200L)).isTrue();
+    assertThat(queueRedisRepository.hasAdmittedHistory(EVENT_ID, 1L)).isTrue();
+    assertThat(queueRedisRepository.hasAdmittedHistory(EVENT_ID, 2L)).isFalse();
+
+    List<Long> visited = new ArrayList<>();
+    queueRedisRepository.forEachAdmittedMember(EVENT_ID, visited::add);
+    assertThat(visited).containsExactlyElementsOf(memberIds);
+  }
+
+  @Test
+  @DisplayName("deleteAdmittedHistory: 모든 chunk key와 chunk 목록 key가 삭제된다")
+  void deleteAdmittedHistory_removesAllChunkKeys() {
+    // given
+    queueRedisRepository.saveAdmittedHistory(EVENT_ID, 1L);
+    queueRedisRepository.saveAdmittedHistory(EVENT_ID, 1_000_000L);
+
+    // when
+    queueRedisRepository.deleteAdmittedHistory(EVENT_ID);
+
+    // then
+    assertThat(redisTemplate.hasKey("queue:admitted:" + EVENT_ID + ":chunk:0:sparse")).isFalse();
+    assertThat(redisTemplate.hasKey("queue:admitted:" + EVENT_ID + ":chunk:15:sparse")).isFalse();
+    assertThat(redisTemplate.hasKey("queue:admitted:" + EVENT_ID + ":chunks")).isFalse();
+    assertThat(queueRedisRepository.hasAdmittedHistory(EVENT_ID, 1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("입장 토큰: 이벤트별 Hash와 만료 Sorted Set 2개 key에 저장되고 인원 수를 ZCARD로 조회한다")
+  void admissionToken_storedInPerEventHash() {
+    // given
+    queueRedisRepository.saveAdmissionToken(EVENT_ID, 1L, "token-1", TOKEN_TTL_MS, TOKEN_TTL_MS);
+    queueRedisRepository.saveAdmissionToken(EVENT_ID, 2L, "token-2", TOKEN_TTL_MS, TOKEN_TTL_MS);
+
+    // when & then
+    assertThat(queueRedisRepository.findAdmissionToken(EVENT_ID, 1L)).hasValue("token-1");
+    assertThat(queueRedisRepository.findAdmissionTokenEntry(EVENT_ID, 2L))
+      .hasValueSatisfying(entry -> assertThat(entry.token()).isEqualTo("token-2"));
+    assertThat(queueRedisRepository.countAdmissionTokens(EVENT_ID)).isEqualTo(2L);
+    assertThat(redisTemplate.opsForHash().size("token:event:" + EVENT_ID)).isEqualTo(2L);
+    assertThat(redisTemplate.hasKey("token:user:1")).isFalse();
+
+    queueRedisRepository.deleteAdmissionToken(EVENT_ID, 1L);
+    assertThat(queueRedisRepository.findAdmissionToken(EVENT_ID, 1L)).isEmpty();
+    assertThat(queueRedisRepository.countAdmissionTokens(EVENT_ID)).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("removeExpiredAdmissionTokens: 만료 시각이 지난 토큰만 상한 개수까지 Hash와 Sorted Set에서 함께 제거한다")
+  void removeExpiredAdmissionTokens_removesOnlyExpired() {
+    // given - 만료 시각을 과거로 조작한 토큰 3개 + 유효 토큰 1개
+    for (long memberId = 1; memberId <= 4; memberId++) {
+      queueRedisRepository.saveAdmissionToken(EVENT_ID, memberId, "token-" + memberId, TOKEN_TTL_MS, TOKEN_TTL_MS);
+    }
+    for (long memberId = 1; memberId <= 3; memberId++) {
+      redisTemplate.opsForZSet().add("token:event:" + EVENT_ID + ":expiry", String.valueOf(memberId), 1000);
+    }
+
+    // when
+    List<Long> firstBatch = queueRedisRepository.removeExpiredAdmissionTokens(EVENT_ID, 2);
+    List<Long> secondBatch = queueRedisRepository.removeExpiredAdmissionTokens(EVENT_ID, 2);
+
+    // then
+    assertThat(firstBatch).hasSize(2);
+    assertThat(secondBatch).hasSize(1);
+    assertThat(queueRedisRepository.countAdmissionTokens(EVENT_ID)).isEqualTo(1L);
+    assertThat(redisTemplate.opsForHash().keys("token:event:" + EVENT_ID)).containsExactly("4");
+    assertThat(redisTemplate.opsForZSet().zCard("token:event:" + EVENT_ID + ":deadline")).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("touchAdmissionToken: 유효한 토큰의 만료 시각만 연장하고, 만료된 토큰은 되살리지 않는다")
+  void touchAdmissionToken_extendsOnlyLiveTokens() {
+    // given - 1번은 유효, 2번은 만료 시각을 과거로 조작
+    queueRedisRepository.saveAdmissionToken(EVENT_ID, 1L, "token-1", 1000L, TOKEN_TTL_MS);
+    queueRedisRepository.saveAdmissionToken(EVENT_ID, 2L, "token-2", 1000L, TOKEN_TTL_MS);
+    redisTemplate.opsForZSet().add("token:event:" + EVENT_ID + ":expiry", "2", 1000);
+
+    // when & then
+    assertThat(queueRedisRepository.touchAdmissionToken(EVENT_ID, 1L, TOKEN_TTL_MS)).isTrue();
+    assertThat(queueRedisRepository.findAdmissionTokenEntry(EVENT_ID, 1L).orElseThrow().expiresAtMillis())
+      .isGreaterThan(System.currentTimeMillis() + 1000L);
+    assertThat(redisTemplate.getExpire("token:event:" + EVENT_ID)).isGreaterThan(1L);
+    assertThat(queueRedisRepository.touchAdmissionToken(EVENT_ID, 2L, TOKEN_TTL_MS)).isFalse();
+    assertThat(queueRedisRepository.findAdmissionToken(EVENT_ID, 2L)).isEmpty();
+    assertThat(queueRedisRepository.touchAdmissionToken(EVENT_ID, 3L, TOKEN_TTL_MS)).isFalse();
+  }
+
+  @Test
+  @DisplayName("touchAdmissionToken: 연장해도 발급 시 기록한 세션 상한(deadline)을 넘기지 않는다")
+  void touchAdmissionToken_cappedAtSessionDeadline() {
+    // given - 유휴 1초, 세션 상한 2초
+    long before = System.currentTimeMillis();
+    queueRedisRepository.saveAdmissionToken(EVENT_ID, 1L, "token-1", 1000L, 2000L);
+
+    // when
+    boolean touched = queueRedisRepository.touchAdmissionToken(EVENT_ID, 1L, TOKEN_TTL_MS);
+
+    // then
+    assertThat(touched).isTrue();
+    assertThat(queueRedisRepository.findAdmissionTokenEntry(EVENT_ID, 1L).orElseThrow().expiresAtMillis())
+      .isBetween(before + 1000L, System.currentTimeMillis() + 2000L);
+  }
+}
@@ -0,0 +1,110 @@
+package com.pil97.ticketing.infra.queue;
+
+import com.pil97.ticketing.queue.domain.repository.QueueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 hot path 지연 시간 비교 - Redis 구현체 vs JVM 내부 구현체(standalone 프로파일)
+ * <p>
+ * 측정 대상 (요청 1건당 저장소 호출 기준):
+ * - enter: nextScore + addIfAbsent + incrementEnteredCount
+ * - status: getRank
+ * - validate: findAdmissionTokenEntry (OPAQUE 모드 캐시 miss 경로)
+ * <p>
+ * 결과는 p50 / p99(μs)를 표준 출력으로 남긴다. 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * 실제 Redis가 필요하므로 test 프로파일 환경(Redis, DB)에서 실행한다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+class QueueRepositoryBenchmarkTest {
+
+  private static final long TOKEN_TTL_MS = 1800000L;
+  private static final Long EVENT_ID = 997L;
+  private static final int WARMUP = 2_000;
+  private static final int MEMBERS = 10_000;
+
+  @Autowired
+  private QueueRedisRepository queueRedisRepository;
+
+  @AfterEach
+  void tearDown() {
+    queueRedisRepository.deleteQueue(EVENT_ID);
+    queueRedisRepository.deleteSeq(EVENT_ID);
+    queueRedisRepository.deleteThroughputStats(EVENT_ID);
+    queueRedisRepository.deleteAdmissionTokens(EVENT_ID);
+  }
+
+  @Test
+  @DisplayName("benchmark: 대기열 진입/순번 조회/입장 토큰 확인 지연 시간 비교")
+  void compareLatency() {
+    run("redis", queueRedisRepository);
+    tearDown();
+    run("standalone", new InMemoryQueueRepository());
+  }
+
+  private void run(String name, QueueRepository repository) {
+    // JIT / 커넥션 풀 워밍업 - 측정 대상과 겹치지 않는 memberId 사용
+    for (long memberId = 1; memberId <= WARMUP; memberId++) {
+      long warmupMemberId = -memberId;
+      repository.addIfAbsent(EVENT_ID + 1, warmupMemberId, repository.nextScore(EVENT_ID + 1, warmupMemberId));
+      repository.getRank(EVENT_ID + 1, warmupMemberId);
+    }
+    repository.deleteQueue(EVENT_ID + 1);
+    repository.deleteSeq(EVENT_ID + 1);
+
+    long[] enter = new long[MEMBERS];
+    long[] status = new long[MEMBERS];
+    long[] validate = new long[MEMBERS];
+
+    for (int i = 0; i < MEMBERS; i++) {
+      long memberId = i + 1;
+      long start = System.nanoTime();
+      if (repository.addIfAbsent(EVENT_ID, memberId, repository.nextScore(EVENT_ID, memberId))) {
+        repository.incrementEnteredCount(EVENT_ID);
+      }
+      enter[i] = System.nanoTime() - start;
+    }
+
+    for (int i = 0; i < MEMBERS; i++) {
+      long start = System.nanoTime();
+      repository.getRank(EVENT_ID, (long) i + 1);
+      status[i] = System.nanoTime() - start;
+    }
+
+    for (int i = 0; i < MEMBERS; i++) {
+      repository.saveAdmissionToken(EVENT_ID, (long) i + 1, EVENT_ID + ":token", TOKEN_TTL_MS, TOKEN_TTL_MS);
+    }
+    for (int i = 0; i < MEMBERS; i++) {
+      long start = System.nanoTime();
+      repository.findAdmissionTokenEntry(EVENT_ID, (long) i + 1);
+      validate[i] = System.nanoTime() - start;
+    }
+
+    print(name, "enter", enter);
+    print(name, "status", status);
+    print(name, "validate", validate);
+  }
+
+  private void print(String name, String operation, long[] samples) {
+    long[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    System.out.printf("[benchmark] %-10s %-8s n=%d p50=%dus p99=%dus%n",
+      name, operation, sorted.length,
+      TimeUnit.NANOSECONDS.toMicros(percentile(sorted, 0.50)),
+      TimeUnit.NANOSECONDS.toMicros(percentile(sorted, 0.99)));
+  }
+
+  private long percentile(long[] sorted, double percentile) {
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+  }
+}
@@ -30,6 +30,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -77,7 +78,7 @@ class PaymentControllerTest {
   void pay_success() throws Exception {
     // given
     PaymentResponse response = new PaymentResponse(1L, "SUCCESS", LocalDateTime.of(2026, 4, 6, 10, 0, 0), null);
-    when(paymentService.pay(any(), any()))
+    when(paymentService.pay(any(), any(), any()))
       .thenReturn(IdempotencyResult.ofNew(response));
 
     // when & then
@@ -103,7 +104,7 @@ class PaymentControllerTest {
   void pay_forceFailure() throws Exception {
     // given
     PaymentResponse response = new PaymentResponse(2L, "FAIL", null, null);
-    when(paymentService.pay(any(), any()))
+    when(paymentService.pay(any(), any(), any()))
       .thenReturn(IdempotencyResult.ofNew(response));
 
     // when & then
@@ -124,11 +125,55 @@ class PaymentControllerTest {
       .andExpect(jsonPath("$.data.refundedAt").doesNotExist());
   }
 
+  @Test
+  @DisplayName("POST /payments: 비동기 결제 접수 → 202 + PENDING 반환")
+  void pay_async_returns202() throws Exception {
+    // given
+    PaymentResponse response = new PaymentResponse(3L, "PENDING", null, null);
+    when(paymentService.pay(any(), any(), any()))
+      .thenReturn(IdempotencyResult.ofNew(response));
+
+    // when & then
+    mockMvc.perform(post("/payments")
+        .header("Idempotency-Key", "test-key-003")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+          {
+            "reservationId": 1,
+            "amount": 150000
+          }
+          """))
+      .andExpect(status().isAccepted())
+      .andExpect(jsonPath("$.data.paymentId").value(3))
+      .andExpect(jsonPath("$.data.status").value("PENDING"));
+  }
+
+  @Test
+  @DisplayName("POST /payments: 비동기 결제 작업 큐 포화 → 503 + PAYMENT-008 반환")
+  void pay_async_queueFull_returns503() throws Exception {
+    // given
+    when(paymentService.pay(any(), any(), any()))
+      .thenThrow(new BusinessException(PaymentErrorCode.PAYMENT_QUEUE_FULL));
+
+    // when & then
+    mockMvc.perform(post("/payments")
+        .header("Idempotency-Key", "test-key-004")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+          {
+            "reservationId": 1,
+            "amount": 150000
+          }
+          """))
+      .andExpect(status().isServiceUnavailable())
+      .andExpect(jsonPath("$.error.code").value(PaymentErrorCode.PAYMENT_QUEUE_FULL.getCode()));
+  }
+
   @Test
   @DisplayName("POST /payments: Idempotency-Key 헤더 누락 → 400 + IDEMPOTENCY-003 반환")
   void pay_missingIdempotencyKey_returns400() throws Exception {
     // given
-    when(paymentService.pay(eq(null), any()))
+    when(paymentService.pay(eq(null), any(), any()))
       .thenThrow(new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING));
 
     // when & then
@@ -152,7 +197,7 @@ class PaymentControllerTest {
     // given
     PaymentResponse cachedResponse = new PaymentResponse(1L, "SUCCESS", LocalDateTime.of(2026, 4, 6, 10, 0, 0), null);
     // 재요청 시 ofReplayed로 반환 - 컨트롤러에서 200으로 분기
-    when(paymentService.pay(eq("duplicate-key-001"), any()))
+    when(paymentService.pay(eq("duplicate-key-001"), any(), any()))
       .thenReturn(IdempotencyResult.ofReplayed(cachedResponse));
 
     // when & then
@@ -207,7 +252,7 @@ class PaymentControllerTest {
   @Test
   @DisplayName("POST /payments: 존재하지 않는 reservationId → 404")
   void pay_reservationNotFound_returns404() throws Exception {
-    when(paymentService.pay(any(), any()))
+    when(paymentService.pay(any(), any(), any()))
       .thenThrow(new BusinessException(ReservationErrorCode.NOT_FOUND));
 
     // when & then
@@ -228,7 +273,7 @@ class PaymentControllerTest {
   @Test
   @DisplayName("POST /payments: 이미 처리된 예약 → 409")
   void pay_alreadyProcessed_returns409() throws Exception {
-    when(paymentService.pay(any(), any()))
+    when(paymentService.pay(any(), any(), any()))
       .thenThrow(new BusinessException(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED));
 
     // when & then
@@ -250,6 +295,34 @@ class PaymentControllerTest {
   // POST /payments/{paymentId}/refund
   // ────────────────────────────────────────────────
 
+  @Test
+  @DisplayName("GET /payments/{paymentId}: 결제 상태 조회 → 200 + 현재 상태 반환")
+  void getPayment_success() throws Exception {
+    // given
+    setAuthentication(1L);
+    when(paymentService.getPayment(eq(1L), any(Member.class)))
+      .thenReturn(new PaymentResponse(1L, "SUCCESS", LocalDateTime.of(2026, 4, 6, 10, 0, 0), null));
+
+    // when & then
+    mockMvc.perform(get("/payments/1"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.data.status").value("SUCCESS"));
+  }
+
+  @Test
+  @DisplayName("GET /payments/{paymentId}: 타인 결제 조회 → 403 + PAYMENT-007 반환")
+  void getPayment_notOwner_returns403() throws Exception {
+    // given
+    setAuthentication(2L);
+    when(paymentService.getPayment(eq(1L), any(Member.class)))
+      .thenThrow(new BusinessException(PaymentErrorCode.PAYMENT_ACCESS_FORBIDDEN));
+
+    // when & then
+    mockMvc.perform(get("/payments/1"))
+      .andExpect(status().isForbidden())
+      .andExpect(jsonPath("$.error.code").value(PaymentErrorCode.PAYMENT_ACCESS_FORBIDDEN.getCode()));
+  }
+
   @Test
   @DisplayName("POST /payments/{paymentId}/refund: 환불 성공 → 200 + REFUNDED 반환")
   void refund_success() throws Exception {
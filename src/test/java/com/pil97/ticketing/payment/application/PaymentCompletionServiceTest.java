@@ -0,0 +1,240 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.event.PaymentStatusChangedEvent;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.event.ReservationStatusChangedEvent;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCompletionServiceTest {
+
+  @Mock
+  private PaymentRepository paymentRepository;
+
+  @Mock
+  private ReservationRepository reservationRepository;
+
+  @Mock
+  private HoldRepository holdRepository;
+
+  @Mock
+  private QueueService queueService;
+
+  @Mock
+  private SeatInventoryService seatInventoryService;
+
+  @Mock
+  private DomainEventPublisher domainEventPublisher;
+
+  @InjectMocks
+  private PaymentCompletionService paymentCompletionService;
+
+  private Payment payment;
+  private Reservation reservation;
+  private Hold hold;
+  private ShowtimeSeat showtimeSeat;
+
+  @BeforeEach
+  void setUp() {
+    showtimeSeat = mock(ShowtimeSeat.class);
+    hold = mock(Hold.class);
+    reservation = mock(Reservation.class);
+    payment = mock(Payment.class);
+
+    when(reservation.getId()).thenReturn(1L);
+    when(payment.getReservation()).thenReturn(reservation);
+    when(paymentRepository.findById(10L)).thenReturn(Optional.of(payment));
+    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+  }
+
+  private void givenPendingReservation() {
+    when(payment.getStatus()).thenReturn(PaymentStatus.PENDING);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    when(reservation.getHold()).thenReturn(hold);
+    when(hold.getShowtimeSeat()).thenReturn(showtimeSeat);
+  }
+
+  @Test
+  @DisplayName("complete: 승인 시 Payment SUCCESS, 예약 CONFIRMED, 좌석 RESERVED, HOLD CONFIRMED로 전환된다")
+  void complete_approved_confirms() {
+    // given
+    givenPendingReservation();
+    when(queueService.isActiveWindowEnabled()).thenReturn(false);
+
+    // when
+    paymentCompletionService.complete(10L, true);
+
+    // then
+    verify(payment).success();
+    verify(reservation).confirm();
+    verify(showtimeSeat).markReserved();
+    verify(hold).confirm();
+    verify(seatInventoryService).recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.RESERVED);
+    verify(domainEventPublisher).publish(
+      new PaymentStatusChangedEvent(null, 1L, PaymentStatus.PENDING, PaymentStatus.SUCCESS));
+    verify(domainEventPublisher).publish(
+      new ReservationStatusChangedEvent(1L, ReservationStatus.PENDING, ReservationStatus.CONFIRMED));
+  }
+
+  @Test
+  @DisplayName("complete: 거절 시 Payment FAIL, 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE로 복구된다")
+  void complete_rejected_releasesSeat() {
+    // given
+    givenPendingReservation();
+
+    // when
+    paymentCompletionService.complete(10L, false);
+
+    // then
+    verify(payment).fail();
+    verify(reservation).fail();
+    verify(hold).expire();
+    verify(showtimeSeat).markAvailable();
+    verify(seatInventoryService).recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.AVAILABLE);
+  }
+
+  @Test
+  @DisplayName("complete: 이미 반영된 결제는 다시 반영하지 않는다")
+  void complete_alreadyCompleted_skips() {
+    // given
+    when(payment.getStatus()).thenReturn(PaymentStatus.SUCCESS);
+
+    // when
+    paymentCompletionService.complete(10L, true);
+
+    // then
+    verify(payment, never()).success();
+    verify(reservation, never()).confirm();
+    verifyNoInteractions(seatInventoryService);
+    verifyNoInteractions(domainEventPublisher);
+  }
+
+  @Test
+  @DisplayName("complete: 처리 중 예약이 PENDING이 아니게 되었으면 거절 결과는 결제를 FAIL로 종료한다")
+  void complete_reservationChanged_rejected_failsPayment() {
+    // given
+    when(payment.getStatus()).thenReturn(PaymentStatus.PENDING);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.FAILED);
+
+    // when
+    paymentCompletionService.complete(10L, false);
+
+    // then
+    verify(payment).fail();
+    verify(reservation, never()).fail();
+    verify(seatInventoryService, never()).recordTransition(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("complete: 처리 중 예약이 PENDING이 아니게 되었는데 승인되면 결제를 UNKNOWN으로 두어 승인 취소 대상으로 남긴다")
+  void complete_reservationChanged_approved_keepsUnknownForCancel() {
+    // given
+    when(payment.getStatus()).thenReturn(PaymentStatus.PENDING);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.FAILED);
+
+    // when
+    paymentCompletionService.complete(10L, true);
+
+    // then
+    verify(payment).markUnknown();
+    verify(payment, never()).fail();
+    verify(payment, never()).success();
+    verify(reservation, never()).confirm();
+    verifyNoInteractions(seatInventoryService);
+    verify(domainEventPublisher).publish(
+      new PaymentStatusChangedEvent(null, 1L, PaymentStatus.PENDING, PaymentStatus.UNKNOWN));
+  }
+
+  @Test
+  @DisplayName("complete: 결제 기한 만료로 FAIL 처리된 결제에 승인이 도착하면 UNKNOWN으로 되돌려 승인 취소 대상으로 남긴다")
+  void complete_approvedAfterExpiry_keepsUnknownForCancel() {
+    // given - ReservationExpirationService가 예약 FAILED, 결제 FAIL로 정리한 뒤
+    when(payment.getStatus()).thenReturn(PaymentStatus.FAIL);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.FAILED);
+
+    // when - worker가 늦게 받은 승인 반영
+    paymentCompletionService.complete(10L, true);
+
+    // then
+    verify(payment).markUnknown();
+    verify(payment, never()).success();
+    verify(reservation, never()).confirm();
+    verifyNoInteractions(seatInventoryService);
+    verify(domainEventPublisher).publish(
+      new PaymentStatusChangedEvent(null, 1L, PaymentStatus.FAIL, PaymentStatus.UNKNOWN));
+  }
+
+  @Test
+  @DisplayName("complete: 결제 기한 만료로 FAIL 처리된 결제에 거절이 도착하면 다시 반영하지 않는다")
+  void complete_rejectedAfterExpiry_skips() {
+    // given
+    when(payment.getStatus()).thenReturn(PaymentStatus.FAIL);
+
+    // when
+    paymentCompletionService.complete(10L, false);
+
+    // then
+    verify(payment, never()).markUnknown();
+    verify(payment, never()).fail();
+    verifyNoInteractions(domainEventPublisher);
+  }
+
+  @Test
+  @DisplayName("markUnknown: 게이트웨이 응답 시간 초과 시 결제만 UNKNOWN으로 바꾸고 예약 / HOLD / 좌석은 그대로 둔다")
+  void markUnknown_keepsSeatHeld() {
+    // given
+    when(payment.getStatus()).thenReturn(PaymentStatus.PENDING);
+
+    // when
+    paymentCompletionService.markUnknown(10L);
+
+    // then
+    verify(payment).markUnknown();
+    verify(reservation, never()).fail();
+    verify(reservation, never()).confirm();
+    verifyNoInteractions(seatInventoryService);
+    verify(domainEventPublisher).publish(
+      new PaymentStatusChangedEvent(null, 1L, PaymentStatus.PENDING, PaymentStatus.UNKNOWN));
+  }
+
+  @Test
+  @DisplayName("complete: 상태 조회로 승인이 확인된 UNKNOWN 결제는 SUCCESS로 확정된다")
+  void complete_unknownApproved_confirms() {
+    // given
+    givenPendingReservation();
+    when(payment.getStatus()).thenReturn(PaymentStatus.UNKNOWN);
+    when(queueService.isActiveWindowEnabled()).thenReturn(false);
+
+    // when
+    paymentCompletionService.complete(10L, true);
+
+    // then
+    verify(payment).success();
+    verify(reservation).confirm();
+    verify(domainEventPublisher).publish(
+      new PaymentStatusChangedEvent(null, 1L, PaymentStatus.UNKNOWN, PaymentStatus.SUCCESS));
+  }
+}
@@ -120,14 +120,14 @@ class PaymentConcurrencyTest {
     when(idempotencyRedisRepository.find(
       anyString(),
       anyString(),
-      anyString(),
+      any(byte[].class),
       eq(PaymentResponse.class)
     )).thenReturn(Optional.empty());
 
     doNothing().when(idempotencyRedisRepository).save(
       anyString(),
       anyString(),
-      anyString(),
+      any(byte[].class),
       any(PaymentResponse.class),
       any()
     );
@@ -155,7 +155,7 @@ class PaymentConcurrencyTest {
           readyLatch.countDown();
           startLatch.await();
 
-          paymentService.pay("concurrency-key-" + index, request);
+          paymentService.pay("concurrency-key-" + index, new byte[32], request);
           results.add("SUCCESS");
         } catch (BusinessException e) {
           if (e.getErrorCode() == PaymentErrorCode.PAYMENT_ALREADY_PROCESSED) {
@@ -0,0 +1,117 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmationServiceTest {
+
+  @Mock
+  private PaymentRepository paymentRepository;
+
+  @Mock
+  private PaymentGateway paymentGateway;
+
+  @Mock
+  private PaymentCompletionService paymentCompletionService;
+
+  @InjectMocks
+  private PaymentConfirmationService paymentConfirmationService;
+
+  @Test
+  @DisplayName("confirmUnknownPayments: 게이트웨이 상태 조회 결과로 승인은 SUCCESS, 거절 / 기록 없음은 FAIL로 확정한다")
+  void confirmUnknownPayments_appliesInquiredResult() {
+    // given
+    when(paymentRepository.findIdsByStatusAndUpdatedAtBefore(eq(PaymentStatus.UNKNOWN), any(), any()))
+      .thenReturn(List.of(1L, 2L, 3L));
+    when(paymentGateway.inquire(1L)).thenReturn(Optional.of(PaymentGatewayResult.APPROVED));
+    when(paymentGateway.inquire(2L)).thenReturn(Optional.of(PaymentGatewayResult.DECLINED));
+    // 기록 없음 - 승인 요청이 게이트웨이에 도달하지 않았다
+    when(paymentGateway.inquire(3L)).thenReturn(Optional.empty());
+
+    // when
+    int confirmed = paymentConfirmationService.confirmUnknownPayments(LocalDateTime.now());
+
+    // then
+    assertThat(confirmed).isEqualTo(3);
+    verify(paymentCompletionService).complete(1L, true);
+    verify(paymentCompletionService).complete(2L, false);
+    verify(paymentCompletionService).complete(3L, false);
+  }
+
+  @Test
+  @DisplayName("confirmUnknownPayments: 상태 조회도 실패하면 UNKNOWN으로 두고 다음 결제를 계속 확정한다")
+  void confirmUnknownPayments_inquiryFailed_leavesUnknown() {
+    // given
+    when(paymentRepository.findIdsByStatusAndUpdatedAtBefore(eq(PaymentStatus.UNKNOWN), any(), any()))
+      .thenReturn(List.of(1L, 2L));
+    when(paymentGateway.inquire(1L))
+      .thenThrow(new PaymentGatewayException(PaymentGatewayException.Reason.TIMEOUT, "timeout"));
+    when(paymentGateway.inquire(2L)).thenReturn(Optional.of(PaymentGatewayResult.APPROVED));
+
+    // when
+    int confirmed = paymentConfirmationService.confirmUnknownPayments(LocalDateTime.now());
+
+    // then
+    assertThat(confirmed).isEqualTo(1);
+    verify(paymentCompletionService, never()).complete(eq(1L), anyBoolean());
+    verify(paymentCompletionService).complete(2L, true);
+  }
+
+  @Test
+  @DisplayName("confirmUnknownPayments: 승인됐지만 예약이 종료되어 UNKNOWN으로 남으면 승인 취소 후 FAIL로 확정한다")
+  void confirmUnknownPayments_approvedWithoutReservation_cancels() {
+    // given
+    when(paymentRepository.findIdsByStatusAndUpdatedAtBefore(eq(PaymentStatus.UNKNOWN), any(), any()))
+      .thenReturn(List.of(1L));
+    when(paymentGateway.inquire(1L)).thenReturn(Optional.of(PaymentGatewayResult.APPROVED));
+    when(paymentCompletionService.complete(1L, true)).thenReturn(PaymentStatus.UNKNOWN);
+
+    // when
+    int confirmed = paymentConfirmationService.confirmUnknownPayments(LocalDateTime.now());
+
+    // then
+    assertThat(confirmed).isEqualTo(1);
+    InOrder inOrder = inOrder(paymentGateway, paymentCompletionService);
+    inOrder.verify(paymentGateway).cancel(1L);
+    inOrder.verify(paymentCompletionService).complete(1L, false);
+  }
+
+  @Test
+  @DisplayName("confirmUnknownPayments: 승인 취소 응답을 받지 못하면 UNKNOWN으로 두고 다음 주기에 다시 시도한다")
+  void confirmUnknownPayments_cancelFailed_leavesUnknown() {
+    // given
+    when(paymentRepository.findIdsByStatusAndUpdatedAtBefore(eq(PaymentStatus.UNKNOWN), any(), any()))
+      .thenReturn(List.of(1L));
+    when(paymentGateway.inquire(1L)).thenReturn(Optional.of(PaymentGatewayResult.APPROVED));
+    when(paymentCompletionService.complete(1L, true)).thenReturn(PaymentStatus.UNKNOWN);
+    doThrow(new PaymentGatewayException(PaymentGatewayException.Reason.TIMEOUT, "timeout"))
+      .when(paymentGateway).cancel(1L);
+
+    // when
+    int confirmed = paymentConfirmationService.confirmUnknownPayments(LocalDateTime.now());
+
+    // then
+    assertThat(confirmed).isZero();
+    verify(paymentCompletionService, never()).complete(1L, false);
+  }
+}
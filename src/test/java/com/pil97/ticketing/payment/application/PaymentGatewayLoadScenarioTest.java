@@ -0,0 +1,361 @@
+package com.pil97.ticketing.payment.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
+import com.pil97.ticketing.infra.payment.SimulatedPaymentGateway;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.member.domain.repository.MemberRepository;
+import com.pil97.ticketing.payment.api.dto.request.CreatePaymentRequest;
+import com.pil97.ticketing.payment.api.dto.response.PaymentResponse;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.domain.SeatGrade;
+import com.pil97.ticketing.seat.domain.repository.SeatRepository;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtime.domain.repository.ShowtimeRepository;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 게이트웨이 지연이 결제 p99와 예약 락 보유 시간에 미치는 영향 - 동기 결제 vs 비동기 결제
+ * <p>
+ * 시뮬레이터 지연 프로파일(빠름 / 느림 / 일부 무응답)별로 서로 다른 예약에 결제를 동시에 요청하고 측정한다.
+ * - pay: 결제 요청 응답 시간 (비동기 모드는 202 접수까지)
+ * - done: 결제 요청부터 결제가 PENDING을 벗어날 때까지 - SUCCESS / FAIL, 응답 시간 초과면 UNKNOWN (동기 모드는 pay와 같다)
+ * - lock: 예약 비관적 락 획득(findByIdWithLock)부터 해당 트랜잭션 종료까지 - 결제 1건에 락 구간이 여러 번이면 각각 기록
+ * - 503: 게이트웨이 호출 전에 실패해(circuit open / bulkhead 포화) 거절된 동기 결제 수 (timeout은 UNKNOWN으로 남는다)
+ * <p>
+ * 결과는 p50 / p99(ms)를 표준 출력으로 남긴다. 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * 실제 DB가 필요하므로 test 프로파일 환경에서 실행한다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+class PaymentGatewayLoadScenarioTest {
+
+  private static final int PAYMENTS = 60;
+  private static final int CONCURRENCY = 20;
+  private static final long COMPLETION_TIMEOUT_MS = 60_000L;
+  // 실행마다 다른 좌석 번호 prefix (seat_number UNIQUE, 최대 20자)
+  private static final String SEAT_PREFIX = "GW" + (System.currentTimeMillis() % 100_000) + "-";
+
+  @Autowired
+  private PaymentService paymentService;
+
+  @Autowired
+  private PaymentCompletionService paymentCompletionService;
+
+  @Autowired
+  private SimulatedPaymentGateway simulatedPaymentGateway;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private ReservationRepository reservationRepository;
+
+  @Autowired
+  private HoldRepository holdRepository;
+
+  @Autowired
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Autowired
+  private ShowtimeRepository showtimeRepository;
+
+  @Autowired
+  private SeatRepository seatRepository;
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @MockitoBean
+  private IdempotencyRedisRepository idempotencyRedisRepository;
+
+  // 예약 락 보유 시간 샘플 (ns)
+  private final Queue<Long> lockHoldNanos = new ConcurrentLinkedQueue<>();
+
+  private final List<Long> reservationIds = new ArrayList<>();
+  private final List<Long> holdIds = new ArrayList<>();
+  private final List<Long> showtimeSeatIds = new ArrayList<>();
+  private final List<Long> seatIds = new ArrayList<>();
+  private Long showtimeId;
+  private Long eventId;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    when(idempotencyRedisRepository.find(anyString(), anyString(), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // 락 보유 시간 측정용 ReservationRepository 래핑 - 시나리오 동안만 교체하고 tearDown에서 복구
+    ReservationRepository measuring = measuringLockHold(reservationRepository);
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(paymentService), "reservationRepository", measuring);
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(paymentCompletionService), "reservationRepository", measuring);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(paymentService), "reservationRepository", reservationRepository);
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(paymentCompletionService), "reservationRepository", reservationRepository);
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(paymentService), "asyncEnabled", false);
+    applyProfile(0L, 0L, 0.0, 0L);
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("benchmark: 게이트웨이 지연 프로파일별 결제 p50/p99와 예약 락 보유 시간 - 동기 vs 비동기")
+  void compareGatewayProfiles() throws Exception {
+    run("fast", 50L, 200L, 0.0, false);
+    run("fast", 50L, 200L, 0.0, true);
+    run("slow", 500L, 2_000L, 0.0, false);
+    run("slow", 500L, 2_000L, 0.0, true);
+    // 10% 무응답 - payment.gateway.timeout-ms(3초)에서 잘린다
+    run("hang10%", 50L, 200L, 0.1, false);
+    run("hang10%", 50L, 200L, 0.1, true);
+  }
+
+  private void run(String profile, long medianMs, long p99Ms, double hangRate, boolean async) throws Exception {
+    applyProfile(medianMs, p99Ms, hangRate, 10_000L);
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(paymentService), "asyncEnabled", async);
+    lockHoldNanos.clear();
+    List<Reservation> reservations = createPendingReservations(PAYMENTS);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENCY);
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (int i = 0; i < reservations.size(); i++) {
+      Reservation reservation = reservations.get(i);
+      String idempotencyKey = "gateway-load-" + profile + "-" + async + "-" + i;
+      futures.add(executorService.submit(() -> pay(idempotencyKey, reservation.getId())));
+    }
+
+    long[] pay = new long[futures.size()];
+    long[] done = new long[futures.size()];
+    int unavailable = 0;
+    for (int i = 0; i < futures.size(); i++) {
+      long[] sample = futures.get(i).get();
+      pay[i] = sample[0];
+      done[i] = sample[1];
+      if (sample[2] == 1L) {
+        unavailable++;
+      }
+    }
+    executorService.shutdown();
+
+    String name = profile + "/" + (async ? "async" : "sync");
+    print(name, "pay", pay);
+    print(name, "done", done);
+    print(name, "lock", lockHoldNanos.stream().mapToLong(Long::longValue).toArray());
+    System.out.printf("[benchmark] %-14s %-5s %d%n", name, "503", unavailable);
+  }
+
+  /**
+   * 결제 1건 요청 - {응답 시간, 최종 상태까지 시간, 503 여부(1/0)} (ns)
+   */
+  private long[] pay(String idempotencyKey, Long reservationId) throws InterruptedException {
+    CreatePaymentRequest request = new CreatePaymentRequest();
+    ReflectionTestUtils.setField(request, "reservationId", reservationId);
+    ReflectionTestUtils.setField(request, "amount", 150000);
+    ReflectionTestUtils.setField(request, "forceFailure", false);
+
+    long start = System.nanoTime();
+    PaymentResponse response;
+    try {
+      response = paymentService.pay(idempotencyKey, new byte[32], request).getResponse();
+    } catch (BusinessException e) {
+      long elapsed = System.nanoTime() - start;
+      return new long[]{elapsed, elapsed, 1L};
+    }
+    long accepted = System.nanoTime() - start;
+
+    if (!PaymentStatus.PENDING.name().equals(response.status())) {
+      return new long[]{accepted, accepted, 0L};
+    }
+    // 비동기 모드 - worker가 최종 상태로 바꿀 때까지 폴링
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMPLETION_TIMEOUT_MS);
+    while (System.nanoTime() < deadline) {
+      PaymentStatus status = paymentRepository.findByReservationId(reservationId)
+        .map(Payment::getStatus)
+        .orElse(PaymentStatus.PENDING);
+      if (status != PaymentStatus.PENDING) {
+        break;
+      }
+      Thread.sleep(5L);
+    }
+    return new long[]{accepted, System.nanoTime() - start, 0L};
+  }
+
+  private void applyProfile(long medianMs, long p99Ms, double hangRate, long hangMs) {
+    ReflectionTestUtils.setField(simulatedPaymentGateway, "latencyMedianMs", medianMs);
+    ReflectionTestUtils.setField(simulatedPaymentGateway, "latencyP99Ms", p99Ms);
+    ReflectionTestUtils.setField(simulatedPaymentGateway, "hangRate", hangRate);
+    if (hangMs > 0) {
+      ReflectionTestUtils.setField(simulatedPaymentGateway, "hangMs", hangMs);
+    }
+  }
+
+  /**
+   * findByIdWithLock 호출 시점부터 현재 트랜잭션 종료(커밋 / 롤백)까지를 락 보유 시간으로 기록하는 래퍼
+   */
+  private ReservationRepository measuringLockHold(ReservationRepository delegate) {
+    return (ReservationRepository) Proxy.newProxyInstance(
+      ReservationRepository.class.getClassLoader(),
+      new Class<?>[]{ReservationRepository.class},
+      (proxy, method, args) -> {
+        Object result;
+        try {
+          result = method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+        if ("findByIdWithLock".equals(method.getName()) && TransactionSynchronizationManager.isSynchronizationActive()) {
+          long acquiredAt = System.nanoTime();
+          TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+              lockHoldNanos.add(System.nanoTime() - acquiredAt);
+            }
+          });
+        }
+        return result;
+      });
+  }
+
+  private List<Reservation> createPendingReservations(int count) {
+    LocalDateTime now = LocalDateTime.now();
+    if (member == null) {
+      member = memberRepository.save(new Member("gateway-load-" + System.nanoTime() + "@test.com", "tester", "encoded-password"));
+
+      Event event = BeanUtils.instantiateClass(Event.class);
+      ReflectionTestUtils.setField(event, "name", "게이트웨이 부하 이벤트");
+      ReflectionTestUtils.setField(event, "venue", "테스트 공연장");
+      ReflectionTestUtils.setField(event, "status", EventStatus.ON_SALE);
+      ReflectionTestUtils.setField(event, "endTime", now.plusDays(1));
+      ReflectionTestUtils.setField(event, "createdAt", now);
+      ReflectionTestUtils.setField(event, "updatedAt", now);
+      event = eventRepository.save(event);
+      eventId = event.getId();
+
+      Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
+      ReflectionTestUtils.setField(showtime, "event", event);
+      ReflectionTestUtils.setField(showtime, "showAt", now.plusHours(2));
+      ReflectionTestUtils.setField(showtime, "createdAt", now);
+      ReflectionTestUtils.setField(showtime, "updatedAt", now);
+      showtimeId = showtimeRepository.save(showtime).getId();
+    }
+    Showtime showtime = showtimeRepository.findById(showtimeId).orElseThrow();
+
+    List<Reservation> reservations = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Seat seat = BeanUtils.instantiateClass(Seat.class);
+      ReflectionTestUtils.setField(seat, "seatNumber", SEAT_PREFIX + (seatIds.size() + 1));
+      ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
+      ReflectionTestUtils.setField(seat, "rowLabel", "GW");
+      ReflectionTestUtils.setField(seat, "seatNo", seatIds.size() + 1);
+      ReflectionTestUtils.setField(seat, "createdAt", now);
+      ReflectionTestUtils.setField(seat, "updatedAt", now);
+      seat = seatRepository.save(seat);
+      seatIds.add(seat.getId());
+
+      ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
+      ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
+      ReflectionTestUtils.setField(showtimeSeat, "seat", seat);
+      ReflectionTestUtils.setField(showtimeSeat, "status", ShowtimeSeatStatus.HELD);
+      ReflectionTestUtils.setField(showtimeSeat, "createdAt", now);
+      ReflectionTestUtils.setField(showtimeSeat, "updatedAt", now);
+      showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
+      showtimeSeatIds.add(showtimeSeat.getId());
+
+      Hold hold = holdRepository.save(Hold.create(showtimeSeat, member, now.plusMinutes(5)));
+      holdIds.add(hold.getId());
+
+      Reservation reservation = reservationRepository.save(Reservation.create(hold, showtime, seat, member));
+      reservationIds.add(reservation.getId());
+      reservations.add(reservation);
+    }
+    return reservations;
+  }
+
+  private void cleanUp() {
+    reservationIds.forEach(reservationId ->
+      paymentRepository.findByReservationId(reservationId).ifPresent(paymentRepository::delete));
+    reservationRepository.deleteAllById(reservationIds);
+    holdRepository.deleteAllById(holdIds);
+    showtimeSeatRepository.deleteAllById(showtimeSeatIds);
+    if (showtimeId != null) showtimeRepository.deleteById(showtimeId);
+    seatRepository.deleteAllById(seatIds);
+    if (eventId != null) eventRepository.deleteById(eventId);
+    if (member != null) memberRepository.deleteById(member.getId());
+
+    reservationIds.clear();
+    holdIds.clear();
+    showtimeSeatIds.clear();
+    seatIds.clear();
+    showtimeId = null;
+    eventId = null;
+    member = null;
+  }
+
+  private void print(String name, String metric, long[] samples) {
+    if (samples.length == 0) {
+      return;
+    }
+    long[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    System.out.printf("[benchmark] %-14s %-5s n=%d p50=%dms p99=%dms%n",
+      name, metric, sorted.length,
+      TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.50)),
+      TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.99)));
+  }
+
+  private long percentile(long[] sorted, double percentile) {
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+  }
+}
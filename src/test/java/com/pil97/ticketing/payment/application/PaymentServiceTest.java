@@ -1,7 +1,7 @@
 package com.pil97.ticketing.payment.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.event.DomainEventPublisher;
 import com.pil97.ticketing.common.exception.BusinessException;
 import com.pil97.ticketing.hold.domain.Hold;
 import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
@@ -11,21 +11,28 @@ import com.pil97.ticketing.payment.api.dto.request.CreatePaymentRequest;
 import com.pil97.ticketing.payment.api.dto.response.PaymentResponse;
 import com.pil97.ticketing.payment.domain.Payment;
 import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGateway;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayException;
+import com.pil97.ticketing.payment.domain.gateway.PaymentGatewayResult;
 import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
 import com.pil97.ticketing.payment.error.PaymentErrorCode;
 import com.pil97.ticketing.reservation.domain.Reservation;
 import com.pil97.ticketing.reservation.domain.ReservationStatus;
 import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
 import com.pil97.ticketing.reservation.error.ReservationErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -39,6 +46,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
 
+  // IdempotencyFingerprintFilter가 계산해 전달하는 요청 digest
+  private static final byte[] FINGERPRINT = new byte[32];
+
   @Mock
   private PaymentRepository paymentRepository;
 
@@ -49,13 +59,29 @@ class PaymentServiceTest {
   private IdempotencyRedisRepository idempotencyRedisRepository;
 
   @Mock
-  private ObjectMapper objectMapper;
+  private SeatInventoryService seatInventoryService;
+
+  @Mock
+  private PaymentWorker paymentWorker;
+
+  @Mock
+  private PaymentCompletionService paymentCompletionService;
+
+  @Mock
+  private PaymentGateway paymentGateway;
+
+  @Mock
+  private DomainEventPublisher domainEventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
 
   @InjectMocks
   private PaymentService paymentService;
 
   @BeforeEach
   void setUp() {
+    paymentService.init();
     // registerAfterCommit() 내 isSynchronizationActive() 체크를 통과시키기 위해 초기화
     TransactionSynchronizationManager.initSynchronization();
   }
@@ -78,105 +104,130 @@ class PaymentServiceTest {
       });
   }
 
+  /**
+   * 동기 결제 생성 트랜잭션 준비 - 예약 1L(PENDING), 생성 결제 ID paymentId
+   */
+  private Reservation givenPayableReservation(CreatePaymentRequest request, Long paymentId) {
+    when(request.getReservationId()).thenReturn(1L);
+    when(request.getAmount()).thenReturn(150000);
+
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getId()).thenReturn(1L);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+
+    Payment pendingPayment = mock(Payment.class);
+    when(pendingPayment.getId()).thenReturn(paymentId);
+    when(paymentRepository.save(any(Payment.class))).thenReturn(pendingPayment);
+    return reservation;
+  }
+
+  /**
+   * 결과 반영 트랜잭션이 돌려줄 결제
+   */
+  private Payment appliedPayment(Long paymentId, PaymentStatus status) {
+    Payment payment = mock(Payment.class);
+    when(payment.getId()).thenReturn(paymentId);
+    when(payment.getStatus()).thenReturn(status);
+    return payment;
+  }
+
   // ===================== 결제 케이스 =====================
 
   @Test
-  @DisplayName("pay: 결제 성공 시 트랜잭션 커밋 후 Redis에 결과가 저장된다")
+  @DisplayName("pay: 결제 성공 시 트랜잭션 커밋 후 트랜잭션 밖에서 결과가 저장된다")
   void pay_success_savesAfterCommit() throws Exception {
     // given
     String idempotencyKey = "test-key-001";
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
-    when(request.getReservationId()).thenReturn(1L);
-    when(request.getAmount()).thenReturn(150000);
     when(request.isForceFailure()).thenReturn(false);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{\"reservationId\":1}");
-
-    ShowtimeSeat showtimeSeat = mock(ShowtimeSeat.class);
-    Hold hold = mock(Hold.class);
-    when(hold.getShowtimeSeat()).thenReturn(showtimeSeat);
-
-    Reservation reservation = mock(Reservation.class);
-    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
-    when(reservation.getHold()).thenReturn(hold);
+    givenPayableReservation(request, 1L);
 
-    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+    when(paymentGateway.authorize(any())).thenReturn(PaymentGatewayResult.APPROVED);
+    Payment applied = appliedPayment(1L, PaymentStatus.SUCCESS);
+    when(paymentCompletionService.apply(1L, true)).thenReturn(applied);
 
-    Payment savedPayment = mock(Payment.class);
-    when(savedPayment.getId()).thenReturn(1L);
-    when(savedPayment.getStatus()).thenReturn(PaymentStatus.SUCCESS);
-    when(savedPayment.getPaidAt()).thenReturn(null);
-    when(paymentRepository.save(any(Payment.class))).thenReturn(savedPayment);
-
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenReturn(Optional.empty());
 
     // when
-    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, request);
-
-    // 커밋 전에는 save() 호출되지 않아야 함
-    verify(idempotencyRedisRepository, never()).save(anyString(), anyString(), anyString(), any(), any());
-
-    // afterCommit 수동 실행 - 실제 트랜잭션 커밋 흉내
+    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, FINGERPRINT, request);
     triggerTransactionCommit();
 
     // then
     assertThat(result.isReplayed()).isFalse();
     assertThat(result.getResponse().status()).isEqualTo("SUCCESS");
+    verify(idempotencyRedisRepository)
+      .recordInTransaction(anyString(), eq(idempotencyKey), any(byte[].class), any(PaymentResponse.class), any());
+    // 결제 트랜잭션 커밋 후 결과 저장 확인 (DB 멱등성 저장소가 결제 커넥션을 쥔 채 커넥션을 더 잡지 않게)
+    InOrder inOrder = inOrder(transactionManager, idempotencyRedisRepository);
+    inOrder.verify(transactionManager, times(2)).commit(any());
+    inOrder.verify(idempotencyRedisRepository)
+      .saveAfterCommit(anyString(), eq(idempotencyKey), any(byte[].class), any(PaymentResponse.class), any());
+  }
 
-    verify(reservation).confirm();
-    verify(showtimeSeat).markReserved();
-    verify(hold).confirm();
-    verify(savedPayment).success();
-    // 커밋 후 Redis 저장 확인
-    verify(idempotencyRedisRepository).save(anyString(), eq(idempotencyKey), anyString(), any(PaymentResponse.class), any());
+  @Test
+  @DisplayName("pay: 게이트웨이 승인은 PENDING 결제 생성 트랜잭션 커밋 후, 트랜잭션 밖에서 호출하고 결과는 두 번째 트랜잭션에서 반영한다")
+  void pay_authorizesOutsideTransaction() {
+    // given
+    String idempotencyKey = "test-key-006";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.isForceFailure()).thenReturn(false);
+    givenPayableReservation(request, 6L);
+
+    when(paymentGateway.authorize(any())).thenReturn(PaymentGatewayResult.APPROVED);
+    Payment applied = appliedPayment(6L, PaymentStatus.SUCCESS);
+    when(paymentCompletionService.apply(6L, true)).thenReturn(applied);
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when
+    paymentService.pay(idempotencyKey, FINGERPRINT, request);
+
+    // then - 생성 트랜잭션 커밋 → 게이트웨이 호출 → 반영 트랜잭션 시작 순서 (게이트웨이 지연 동안 예약 락 / 커넥션 미보유)
+    InOrder inOrder = inOrder(reservationRepository, paymentRepository, transactionManager, paymentGateway,
+      paymentCompletionService);
+    inOrder.verify(reservationRepository).findByIdWithLock(1L);
+    inOrder.verify(paymentRepository).save(any(Payment.class));
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(paymentGateway).authorize(any());
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(paymentCompletionService).apply(6L, true);
+    inOrder.verify(transactionManager).commit(any());
   }
 
   @Test
-  @DisplayName("pay: forceFailure=true이면 Payment FAIL, 예약 FAILED, HOLD EXPIRED, 좌석 AVAILABLE로 복구되고 lock이 해제된다")
+  @DisplayName("pay: 게이트웨이가 거절하면 결과 반영 트랜잭션에서 실패로 반영하고 결과 저장 없이 lock이 해제된다")
   void pay_forceFailure_releasesLock() throws Exception {
     // given
     String idempotencyKey = "test-key-002";
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
-    when(request.getReservationId()).thenReturn(1L);
-    when(request.getAmount()).thenReturn(150000);
     when(request.isForceFailure()).thenReturn(true);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{\"reservationId\":1}");
-
-    ShowtimeSeat showtimeSeat = mock(ShowtimeSeat.class);
-    Hold hold = mock(Hold.class);
-    when(hold.getShowtimeSeat()).thenReturn(showtimeSeat);
-
-    Reservation reservation = mock(Reservation.class);
-    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
-    when(reservation.getHold()).thenReturn(hold);
+    givenPayableReservation(request, 2L);
 
-    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+    // 시뮬레이터는 forceFailure 요청을 거절한다
+    when(paymentGateway.authorize(any())).thenReturn(PaymentGatewayResult.DECLINED);
+    Payment applied = appliedPayment(2L, PaymentStatus.FAIL);
+    when(paymentCompletionService.apply(2L, false)).thenReturn(applied);
 
-    Payment savedPayment = mock(Payment.class);
-    when(savedPayment.getId()).thenReturn(2L);
-    when(savedPayment.getStatus()).thenReturn(PaymentStatus.FAIL);
-    when(savedPayment.getPaidAt()).thenReturn(null);
-    when(paymentRepository.save(any(Payment.class))).thenReturn(savedPayment);
-
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenReturn(Optional.empty());
 
     // when
-    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, request);
+    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, FINGERPRINT, request);
 
     // then
     assertThat(result.isReplayed()).isFalse();
     assertThat(result.getResponse().status()).isEqualTo("FAIL");
 
-    verify(savedPayment).fail();
-    verify(reservation).fail();
-    verify(reservation, never()).confirm();
-    verify(hold).expire();
-    verify(showtimeSeat).markAvailable();
+    verify(paymentCompletionService).apply(2L, false);
     // 결제 실패 시 캐시 저장 안 함
-    verify(idempotencyRedisRepository, never()).save(anyString(), anyString(), anyString(), any(), any());
+    verify(idempotencyRedisRepository, never()).recordInTransaction(anyString(), anyString(), any(), any(), any());
+    verify(idempotencyRedisRepository, never()).saveAfterCommit(anyString(), anyString(), any(), any(), any());
     // 결제 실패 시 lock 즉시 해제 - 재시도 허용
     verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
   }
@@ -189,14 +240,13 @@ class PaymentServiceTest {
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
     when(request.getReservationId()).thenReturn(999L);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{\"reservationId\":999}");
 
     when(reservationRepository.findByIdWithLock(999L)).thenReturn(Optional.empty());
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenReturn(Optional.empty());
 
     // when & then
-    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, request))
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
       .isInstanceOf(BusinessException.class)
       .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
         .isEqualTo(ReservationErrorCode.NOT_FOUND));
@@ -214,16 +264,15 @@ class PaymentServiceTest {
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
     when(request.getReservationId()).thenReturn(1L);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{\"reservationId\":1}");
 
     Reservation reservation = mock(Reservation.class);
     when(reservation.getStatus()).thenReturn(ReservationStatus.CONFIRMED);
     when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenReturn(Optional.empty());
 
     // when & then
-    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, request))
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
       .isInstanceOf(BusinessException.class)
       .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
         .isEqualTo(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED));
@@ -242,14 +291,13 @@ class PaymentServiceTest {
     String idempotencyKey = "duplicate-key-001";
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{}");
 
     PaymentResponse cachedResponse = mock(PaymentResponse.class);
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenReturn(Optional.of(cachedResponse));
 
     // when
-    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, request);
+    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, FINGERPRINT, request);
 
     // then
     assertThat(result.isReplayed()).isTrue();
@@ -265,14 +313,13 @@ class PaymentServiceTest {
     String idempotencyKey = "in-progress-key-001";
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{}");
 
     // SETNX lock 선점 실패 시나리오
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenThrow(new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
 
     // when & then
-    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, request))
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
       .isInstanceOf(BusinessException.class)
       .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
         .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
@@ -288,14 +335,13 @@ class PaymentServiceTest {
     String idempotencyKey = "mismatch-key-001";
 
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
-    when(objectMapper.writeValueAsString(request)).thenReturn("{}");
 
     // fingerprint 불일치 시나리오
-    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(PaymentResponse.class)))
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
       .thenThrow(new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH));
 
     // when & then
-    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, request))
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
       .isInstanceOf(BusinessException.class)
       .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
         .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH));
@@ -309,7 +355,7 @@ class PaymentServiceTest {
   void pay_nullIdempotencyKey_throwsBusinessException() {
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
 
-    assertThatThrownBy(() -> paymentService.pay(null, request))
+    assertThatThrownBy(() -> paymentService.pay(null, FINGERPRINT, request))
       .isInstanceOf(BusinessException.class)
       .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
         .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING));
@@ -324,7 +370,7 @@ class PaymentServiceTest {
   void pay_blankIdempotencyKey_throwsBusinessException() {
     CreatePaymentRequest request = mock(CreatePaymentRequest.class);
 
-    assertThatThrownBy(() -> paymentService.pay("   ", request))
+    assertThatThrownBy(() -> paymentService.pay("   ", FINGERPRINT, request))
       .isInstanceOf(BusinessException.class)
       .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
         .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING));
@@ -333,6 +379,244 @@ class PaymentServiceTest {
     verifyNoInteractions(paymentRepository);
     verifyNoInteractions(idempotencyRedisRepository);
   }
+  @Test
+  @DisplayName("pay: 게이트웨이 호출 전에 실패하면 결제만 FAIL로 닫고 PAYMENT_GATEWAY_UNAVAILABLE을 던지며 lock이 해제된다")
+  void pay_gatewayUnavailable_throwsAndReleasesLock() {
+    // given
+    String idempotencyKey = "test-key-003";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.isForceFailure()).thenReturn(false);
+    Reservation reservation = givenPayableReservation(request, 3L);
+
+    when(paymentGateway.authorize(any()))
+      .thenThrow(new PaymentGatewayException(PaymentGatewayException.Reason.CIRCUIT_OPEN, "circuit open"));
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+
+    // 청구되지 않았으므로 예약 / HOLD / 좌석은 그대로 두고 결제만 닫는다 - 같은 key로 재시도 가능
+    verify(paymentCompletionService).applyAbandoned(3L);
+    verify(paymentCompletionService, never()).apply(anyLong(), anyBoolean());
+    verify(reservation, never()).fail();
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("pay: 게이트웨이 응답 시간 초과면 결제를 UNKNOWN으로 커밋하고 그 응답을 기록해 같은 key 재시도가 재승인하지 않게 한다")
+  void pay_gatewayTimeout_keepsPaymentUnknown() {
+    // given
+    String idempotencyKey = "test-key-004";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.isForceFailure()).thenReturn(false);
+    givenPayableReservation(request, 4L);
+
+    when(paymentGateway.authorize(any()))
+      .thenThrow(new PaymentGatewayException(PaymentGatewayException.Reason.TIMEOUT, "timeout"));
+    Payment applied = appliedPayment(4L, PaymentStatus.UNKNOWN);
+    when(paymentCompletionService.applyUnknown(4L)).thenReturn(applied);
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when
+    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, FINGERPRINT, request);
+
+    // then - 승인되었을 수 있으므로 좌석 / 예약은 그대로 두고 결제만 UNKNOWN
+    assertThat(result.getResponse().status()).isEqualTo("UNKNOWN");
+    verify(paymentCompletionService).applyUnknown(4L);
+    verify(paymentCompletionService, never()).apply(anyLong(), anyBoolean());
+    verify(transactionManager, times(2)).commit(any());
+    verify(idempotencyRedisRepository)
+      .recordInTransaction(anyString(), eq(idempotencyKey), any(byte[].class), any(PaymentResponse.class), any());
+    verify(idempotencyRedisRepository, never()).releaseLock(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("pay: 같은 예약에 처리 중(PENDING)인 결제가 있으면 PAYMENT_ALREADY_PROCESSED를 던지고 게이트웨이를 호출하지 않는다")
+  void pay_pendingPaymentExists_throwsWithoutAuthorize() {
+    // given
+    String idempotencyKey = "test-key-007";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.getReservationId()).thenReturn(1L);
+
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getId()).thenReturn(1L);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.UNKNOWN)).thenReturn(false);
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.PENDING)).thenReturn(true);
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED));
+
+    verify(paymentRepository, never()).save(any());
+    verifyNoInteractions(paymentGateway);
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("pay: 같은 예약에 승인 여부 확인 중(UNKNOWN)인 결제가 있으면 PAYMENT_CONFIRMATION_PENDING을 던지고 게이트웨이를 호출하지 않는다")
+  void pay_unknownPaymentExists_throwsWithoutAuthorize() {
+    // given
+    String idempotencyKey = "test-key-005";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.getReservationId()).thenReturn(1L);
+
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getId()).thenReturn(1L);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.UNKNOWN)).thenReturn(true);
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_CONFIRMATION_PENDING));
+
+    verify(paymentRepository, never()).save(any());
+    verifyNoInteractions(paymentGateway);
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+
+  // ===================== 비동기 결제 케이스 =====================
+
+  @Test
+  @DisplayName("pay: 비동기 모드에서는 PENDING 결제만 생성하고 커밋 후 PENDING 응답 저장과 worker 제출을 한다")
+  void pay_async_acceptsPendingAndSubmitsAfterCommit() {
+    // given
+    ReflectionTestUtils.setField(paymentService, "asyncEnabled", true);
+    String idempotencyKey = "async-key-001";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.getReservationId()).thenReturn(1L);
+    when(request.getAmount()).thenReturn(150000);
+    when(request.isForceFailure()).thenReturn(false);
+
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getId()).thenReturn(1L);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.UNKNOWN)).thenReturn(false);
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.PENDING)).thenReturn(false);
+
+    Payment savedPayment = mock(Payment.class);
+    when(savedPayment.getId()).thenReturn(10L);
+    when(savedPayment.getStatus()).thenReturn(PaymentStatus.PENDING);
+    when(paymentRepository.save(any(Payment.class))).thenReturn(savedPayment);
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when
+    IdempotencyResult<PaymentResponse> result = paymentService.pay(idempotencyKey, FINGERPRINT, request);
+
+    triggerTransactionCommit();
+
+    // then
+    assertThat(result.getResponse().status()).isEqualTo("PENDING");
+    verify(savedPayment, never()).success();
+    verify(reservation, never()).confirm();
+    // worker 제출은 커밋 후로 등록한다 (PaymentWorker.submitAfterCommit)
+    verify(paymentWorker).submitAfterCommit(10L, 150000, false);
+    verify(idempotencyRedisRepository)
+      .saveAfterCommit(anyString(), eq(idempotencyKey), any(byte[].class), any(PaymentResponse.class), any());
+  }
+
+  @Test
+  @DisplayName("pay: 비동기 모드에서 같은 예약에 처리 중인 결제가 있으면 PAYMENT_ALREADY_PROCESSED를 던지고 lock이 해제된다")
+  void pay_async_pendingPaymentExists_throwsAndReleasesLock() {
+    // given
+    ReflectionTestUtils.setField(paymentService, "asyncEnabled", true);
+    String idempotencyKey = "async-key-002";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    when(request.getReservationId()).thenReturn(1L);
+
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getId()).thenReturn(1L);
+    when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    when(reservationRepository.findByIdWithLock(1L)).thenReturn(Optional.of(reservation));
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.UNKNOWN)).thenReturn(false);
+    when(paymentRepository.existsByReservationIdAndStatus(1L, PaymentStatus.PENDING)).thenReturn(true);
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED));
+
+    verify(paymentRepository, never()).save(any());
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("pay: 비동기 모드에서 worker 작업 큐가 가득 차면 PAYMENT_QUEUE_FULL을 던지고 lock이 해제된다")
+  void pay_async_queueFull_throwsAndReleasesLock() {
+    // given
+    ReflectionTestUtils.setField(paymentService, "asyncEnabled", true);
+    String idempotencyKey = "async-key-003";
+
+    CreatePaymentRequest request = mock(CreatePaymentRequest.class);
+    doThrow(new BusinessException(PaymentErrorCode.PAYMENT_QUEUE_FULL)).when(paymentWorker).ensureCapacity();
+
+    when(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(PaymentResponse.class)))
+      .thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.pay(idempotencyKey, FINGERPRINT, request))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_QUEUE_FULL));
+
+    verifyNoInteractions(reservationRepository);
+    verify(idempotencyRedisRepository).releaseLock(anyString(), eq(idempotencyKey));
+  }
+
+  @Test
+  @DisplayName("getPayment: 타인의 결제 조회 시 BusinessException(PAYMENT_ACCESS_FORBIDDEN)을 던진다")
+  void getPayment_otherMember_throwsForbidden() {
+    // given
+    Member owner = mock(Member.class);
+    when(owner.getId()).thenReturn(1L);
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getMember()).thenReturn(owner);
+    Payment payment = mock(Payment.class);
+    when(payment.getReservation()).thenReturn(reservation);
+    when(paymentRepository.findByIdWithReservation(1L)).thenReturn(Optional.of(payment));
+
+    Member loginMember = mock(Member.class);
+    when(loginMember.getId()).thenReturn(2L);
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.getPayment(1L, loginMember))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(PaymentErrorCode.PAYMENT_ACCESS_FORBIDDEN));
+  }
 
   // ===================== 환불 케이스 =====================
 
@@ -357,7 +641,7 @@ class PaymentServiceTest {
     when(payment.getId()).thenReturn(1L);
     when(payment.getStatus()).thenReturn(PaymentStatus.SUCCESS);
     when(payment.getReservation()).thenReturn(reservation);
-    when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+    when(paymentRepository.findByIdWithSeat(1L)).thenReturn(Optional.of(payment));
 
     paymentService.refund(1L, loginMember);
 
@@ -381,7 +665,7 @@ class PaymentServiceTest {
 
     Payment payment = mock(Payment.class);
     when(payment.getReservation()).thenReturn(reservation);
-    when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+    when(paymentRepository.findByIdWithSeat(1L)).thenReturn(Optional.of(payment));
 
     assertThatThrownBy(() -> paymentService.refund(1L, loginMember))
       .isInstanceOf(BusinessException.class)
@@ -406,7 +690,7 @@ class PaymentServiceTest {
     Payment payment = mock(Payment.class);
     when(payment.getStatus()).thenReturn(PaymentStatus.FAIL);
     when(payment.getReservation()).thenReturn(reservation);
-    when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+    when(paymentRepository.findByIdWithSeat(1L)).thenReturn(Optional.of(payment));
 
     assertThatThrownBy(() -> paymentService.refund(1L, loginMember))
       .isInstanceOf(BusinessException.class)
@@ -431,7 +715,7 @@ class PaymentServiceTest {
     Payment payment = mock(Payment.class);
     when(payment.getStatus()).thenReturn(PaymentStatus.REFUNDED);
     when(payment.getReservation()).thenReturn(reservation);
-    when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+    when(paymentRepository.findByIdWithSeat(1L)).thenReturn(Optional.of(payment));
 
     assertThatThrownBy(() -> paymentService.refund(1L, loginMember))
       .isInstanceOf(BusinessException.class)
@@ -445,7 +729,7 @@ class PaymentServiceTest {
   @DisplayName("refund: 존재하지 않는 paymentId 환불 시도 시 BusinessException(PAYMENT_NOT_FOUND)을 던진다")
   void refund_paymentNotFound_throwsBusinessException() {
     Member loginMember = mock(Member.class);
-    when(paymentRepository.findById(999L)).thenReturn(Optional.empty());
+    when(paymentRepository.findByIdWithSeat(999L)).thenReturn(Optional.empty());
 
     assertThatThrownBy(() -> paymentService.refund(999L, loginMember))
       .isInstanceOf(BusinessException.class)
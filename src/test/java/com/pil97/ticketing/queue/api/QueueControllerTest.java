@@ -6,6 +6,7 @@ import com.pil97.ticketing.member.domain.Member;
 import com.pil97.ticketing.queue.api.dto.response.QueueEnterResponse;
 import com.pil97.ticketing.queue.api.dto.response.QueueStatusResponse;
 import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.queue.application.dto.QueueWaitEstimate;
 import com.pil97.ticketing.queue.error.QueueErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -141,7 +142,7 @@ class QueueControllerTest {
     // given
     setAuthentication(42L);
     when(queueService.getStatus(anyLong(), anyLong()))
-      .thenReturn(QueueStatusResponse.ofWaiting(3L, 90L));
+      .thenReturn(QueueStatusResponse.ofWaiting(3L, new QueueWaitEstimate(90L, 75L, 120L, 37L)));
 
     // when & then
     mockMvc.perform(get("/queue/status")
@@ -150,6 +151,9 @@ class QueueControllerTest {
       .andExpect(jsonPath("$.success").value(true))
       .andExpect(jsonPath("$.data.rank").value(3))
       .andExpect(jsonPath("$.data.estimatedWaitSeconds").value(90))
+      .andExpect(jsonPath("$.data.estimatedWaitMinSeconds").value(75))
+      .andExpect(jsonPath("$.data.estimatedWaitMaxSeconds").value(120))
+      .andExpect(jsonPath("$.data.nextPollSeconds").value(37))
       .andExpect(jsonPath("$.data.admitted").value(false));
   }
 
@@ -159,13 +163,14 @@ class QueueControllerTest {
     // given
     setAuthentication(42L);
     when(queueService.getStatus(anyLong(), anyLong()))
-      .thenReturn(QueueStatusResponse.ofAdmitted());
+      .thenReturn(QueueStatusResponse.ofAdmitted("signed-admission-token"));
 
     // when & then
     mockMvc.perform(get("/queue/status")
         .param("eventId", "1"))
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.data.admitted").value(true))
+      .andExpect(jsonPath("$.data.admissionToken").value("signed-admission-token"))
       .andExpect(jsonPath("$.data.rank").value(0));
   }
 
@@ -0,0 +1,62 @@
+package com.pil97.ticketing.queue.application;
+
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.queue.error.QueueErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionTokenProviderTest {
+
+  private static final String SECRET = "admission-token-secret-must-be-at-least-32-characters";
+
+  private final AdmissionTokenProvider provider = new AdmissionTokenProvider(SECRET, 60000L);
+
+  @Test
+  @DisplayName("verify: 발급한 토큰에서 memberId, eventId, 토큰 ID를 꺼낸다")
+  void verify_issuedToken_returnsClaims() {
+    // given
+    String token = provider.issue(42L, 7L);
+
+    // when
+    AdmissionTokenClaims claims = provider.verify(token);
+
+    // then
+    assertThat(claims.memberId()).isEqualTo(42L);
+    assertThat(claims.eventId()).isEqualTo(7L);
+    assertThat(claims.tokenId()).isNotBlank();
+    assertThat(claims.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+  }
+
+  @Test
+  @DisplayName("verify: 다른 키로 서명된 토큰은 ADMISSION_TOKEN_INVALID")
+  void verify_otherKey_throwsInvalid() {
+    // given
+    AdmissionTokenProvider other = new AdmissionTokenProvider(SECRET + "-other", 60000L);
+    String token = other.issue(42L, 7L);
+
+    // when & then
+    assertThatThrownBy(() -> provider.verify(token))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_INVALID));
+  }
+
+  @Test
+  @DisplayName("verify: 만료된 토큰은 ADMISSION_TOKEN_EXPIRED")
+  void verify_expired_throwsExpired() throws InterruptedException {
+    // given
+    AdmissionTokenProvider shortLived = new AdmissionTokenProvider(SECRET, 1L);
+    String token = shortLived.issue(42L, 7L);
+    Thread.sleep(10);
+
+    // when & then
+    assertThatThrownBy(() -> shortLived.verify(token))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_EXPIRED));
+  }
+}
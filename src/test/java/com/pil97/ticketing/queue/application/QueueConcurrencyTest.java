@@ -1,6 +1,7 @@
 package com.pil97.ticketing.queue.application;
 
 import com.pil97.ticketing.queue.application.scheduler.QueueScheduler;
+import com.pil97.ticketing.queue.domain.repository.QueueRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class QueueConcurrencyTest {
   @Autowired
   private QueueService queueService;
 
+  @Autowired
+  private QueueRepository queueRepository;
+
   @Autowired
   private StringRedisTemplate redisTemplate;
 
@@ -57,7 +61,7 @@ class QueueConcurrencyTest {
 
     // 테스트 전 대기열 및 입장 허용 이력 초기화
     redisTemplate.delete("queue:event:" + eventId);
-    redisTemplate.delete("queue:admitted:members:" + eventId);
+    queueRepository.deleteAdmittedHistory(eventId);
     // seq 카운터 초기화 - 테스트 간 score 독립성 보장
     redisTemplate.delete("queue:seq:" + eventId);
     // queue:active:events에서 해당 eventId 제거 - 테스트 간 잔여 데이터 방지
@@ -2,17 +2,33 @@ package com.pil97.ticketing.queue.application;
 
 import com.pil97.ticketing.common.exception.BusinessException;
 import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.infra.outbox.OutboxWriter;
 import com.pil97.ticketing.queue.api.dto.response.QueueEnterResponse;
 import com.pil97.ticketing.queue.api.dto.response.QueueStatusResponse;
+import com.pil97.ticketing.queue.application.dto.AdmissionTokenClaims;
+import com.pil97.ticketing.queue.application.dto.QueueWaitEstimate;
+import com.pil97.ticketing.queue.domain.AdmissionTokenEntry;
+import com.pil97.ticketing.queue.domain.AdmissionTokenMode;
 import com.pil97.ticketing.queue.domain.repository.QueueRepository;
 import com.pil97.ticketing.queue.error.QueueErrorCode;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import com.pil97.ticketing.showtimeseat.domain.SeatAvailability;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,13 +44,46 @@ class QueueServiceTest {
   @Mock
   private EventRepository eventRepository;
 
+  @Mock
+  private QueueWaitEstimator queueWaitEstimator;
+
+  @Mock
+  private AdmissionTokenProvider admissionTokenProvider;
+
+  @Mock
+  private SeatInventoryService seatInventoryService;
+
+  @Mock
+  private OutboxWriter outboxWriter;
+
   @InjectMocks
   private QueueService queueService;
 
-  // @Value로 주입되는 batchSize, fixedDelayMs를 테스트에서 직접 설정
-  private void setSchedulerConfig(int batchSize, long fixedDelayMs) {
-    ReflectionTestUtils.setField(queueService, "batchSize", batchSize);
-    ReflectionTestUtils.setField(queueService, "fixedDelayMs", fixedDelayMs);
+  // 예상 대기 시간 계산은 QueueWaitEstimatorTest에서 검증하므로 고정값으로 대체
+  private void stubEstimate(Long eventId, long rank) {
+    when(queueWaitEstimator.estimate(eventId, rank)).thenReturn(new QueueWaitEstimate(15L, 12L, 20L, 6L));
+  }
+
+  // @Value로 주입되는 OPAQUE 모드 설정을 테스트에서 직접 설정
+  private void useOpaqueMode(long localCacheTtlMs) {
+    ReflectionTestUtils.setField(queueService, "admissionTokenMode", AdmissionTokenMode.OPAQUE);
+    ReflectionTestUtils.setField(queueService, "admissionCacheTtlMs", localCacheTtlMs);
+  }
+
+  // @Value로 주입되는 활성 사용자 윈도우 설정을 테스트에서 직접 설정
+  private void useActiveWindow(long maxActiveMembers, long idleTimeoutMs) {
+    ReflectionTestUtils.setField(queueService, "batchSize", 5);
+    ReflectionTestUtils.setField(queueService, "maxActiveMembers", maxActiveMembers);
+    ReflectionTestUtils.setField(queueService, "idleTimeoutMs", idleTimeoutMs);
+  }
+
+  private AdmissionTokenClaims claims(String tokenId, Long memberId, Long eventId) {
+    return new AdmissionTokenClaims(tokenId, memberId, eventId, System.currentTimeMillis() + 60000L);
+  }
+
+  // OPAQUE 모드 저장 토큰 - 남은 TTL 10분
+  private Optional<AdmissionTokenEntry> storedToken(String token) {
+    return Optional.of(new AdmissionTokenEntry(token, System.currentTimeMillis() + 600000L));
   }
 
   @Test
@@ -55,13 +104,32 @@ class QueueServiceTest {
     verifyNoInteractions(queueRepository);
   }
 
+  @Test
+  @DisplayName("enter: 남은 좌석이 없으면 대기열에 등록하지 않고 매진 / 일시 매진 예외를 던진다")
+  void enter_soldOut_throwsBusinessException() {
+    // given
+    when(eventRepository.existsById(1L)).thenReturn(true);
+    when(seatInventoryService.getEventAvailability(1L))
+      .thenReturn(SeatAvailability.SOLD_OUT, SeatAvailability.MAY_REOPEN);
+
+    // when & then
+    assertThatThrownBy(() -> queueService.enter(1L, 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo(QueueErrorCode.SOLD_OUT));
+    assertThatThrownBy(() -> queueService.enter(1L, 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.SOLD_OUT_MAY_REOPEN));
+    verify(queueRepository, never()).nextScore(anyLong(), anyLong());
+  }
+
   @Test
   @DisplayName("enter: 신규 등록 시 순번(1-based)과 예상 대기 시간을 반환한다")
   void enter_newMember_returnsRankAndEstimatedWait() {
     // given
-    setSchedulerConfig(5, 10000L);
     Long eventId = 1L;
     Long memberId = 42L;
+    stubEstimate(eventId, 5L);
 
     when(eventRepository.existsById(eventId)).thenReturn(true);
     // 입장 이력 없음 → 최초 등록
@@ -69,16 +137,17 @@ class QueueServiceTest {
     when(queueRepository.addIfAbsent(eq(eventId), eq(memberId), anyDouble())).thenReturn(true);
     // 0-based rank 4 → 1-based rank 5
     when(queueRepository.getRank(eventId, memberId)).thenReturn(4L);
-    when(queueRepository.nextScore(eventId)).thenReturn(1L);
+    when(queueRepository.nextScore(eventId, memberId)).thenReturn(1L);
 
     // when
     QueueEnterResponse response = queueService.enter(eventId, memberId);
 
     // then
     assertThat(response.rank()).isEqualTo(5L);
-    assertThat(response.estimatedWaitSeconds()).isGreaterThanOrEqualTo(0L);
+    assertThat(response.estimatedWaitSeconds()).isEqualTo(15L);
 
     verify(queueRepository).addIfAbsent(eq(eventId), eq(memberId), anyDouble());
+    verify(queueRepository).incrementEnteredCount(eventId);
     verify(queueRepository, never()).addOrReplace(anyLong(), anyLong(), anyDouble());
   }
 
@@ -86,15 +155,15 @@ class QueueServiceTest {
   @DisplayName("enter: 이미 등록된 유저는 ZADD NX로 기존 순번을 그대로 반환한다")
   void enter_duplicateMember_returnsExistingRank() {
     // given
-    setSchedulerConfig(5, 10000L);
     Long eventId = 1L;
     Long memberId = 42L;
+    stubEstimate(eventId, 3L);
 
     when(eventRepository.existsById(eventId)).thenReturn(true);
     when(queueRepository.hasAdmittedHistory(eventId, memberId)).thenReturn(false);
     when(queueRepository.addIfAbsent(eq(eventId), eq(memberId), anyDouble())).thenReturn(false);
     when(queueRepository.getRank(eventId, memberId)).thenReturn(2L);
-    when(queueRepository.nextScore(eventId)).thenReturn(1L);
+    when(queueRepository.nextScore(eventId, memberId)).thenReturn(1L);
 
     // when
     QueueEnterResponse response = queueService.enter(eventId, memberId);
@@ -102,22 +171,24 @@ class QueueServiceTest {
     // then
     assertThat(response.rank()).isEqualTo(3L);
     verify(queueRepository, never()).addOrReplace(anyLong(), anyLong(), anyDouble());
+    // 실제로 추가되지 않았으므로 진입 수 집계 제외
+    verify(queueRepository, never()).incrementEnteredCount(anyLong());
   }
 
   @Test
   @DisplayName("enter: 재진입 시 ZREM 후 ZADD로 순번을 초기화하고 맨 뒤로 재등록한다")
   void enter_reEnter_resetsRankToBack() {
     // given
-    setSchedulerConfig(5, 10000L);
     Long eventId = 1L;
     Long memberId = 42L;
+    stubEstimate(eventId, 10L);
 
     when(eventRepository.existsById(eventId)).thenReturn(true);
     // 입장 이력 있음 → 재진입
     when(queueRepository.hasAdmittedHistory(eventId, memberId)).thenReturn(true);
     // 재진입 후 맨 뒤 순번 반환
     when(queueRepository.getRank(eventId, memberId)).thenReturn(9L);
-    when(queueRepository.nextScore(eventId)).thenReturn(1L);
+    when(queueRepository.nextScore(eventId, memberId)).thenReturn(1L);
 
     // when
     QueueEnterResponse response = queueService.enter(eventId, memberId);
@@ -129,16 +200,17 @@ class QueueServiceTest {
   }
 
   @Test
-  @DisplayName("getStatus: 입장 토큰이 있으면 admitted=true를 반환한다")
+  @DisplayName("getStatus: 해당 이벤트의 입장 토큰이 있으면 admitted=true와 입장 토큰을 반환한다")
   void getStatus_hasAdmissionToken_returnsAdmitted() {
     // given
-    when(queueRepository.hasAdmissionToken(42L)).thenReturn(true);
+    when(queueRepository.findAdmissionToken(1L, 42L)).thenReturn(Optional.of("signed-token"));
 
     // when
     QueueStatusResponse response = queueService.getStatus(1L, 42L);
 
     // then
     assertThat(response.admitted()).isTrue();
+    assertThat(response.admissionToken()).isEqualTo("signed-token");
     assertThat(response.rank()).isEqualTo(0L);
     assertThat(response.reEnterType()).isNull();
 
@@ -149,7 +221,7 @@ class QueueServiceTest {
   @DisplayName("getStatus: 대기열 미등록 + 입장 이력 없으면 reEnterType=NONE을 반환한다")
   void getStatus_notInQueue_noHistory_returnsNone() {
     // given
-    when(queueRepository.hasAdmissionToken(42L)).thenReturn(false);
+    when(queueRepository.findAdmissionToken(1L, 42L)).thenReturn(Optional.empty());
     when(queueRepository.getRank(1L, 42L)).thenReturn(null);
     when(queueRepository.hasAdmittedHistory(1L, 42L)).thenReturn(false);
 
@@ -165,7 +237,7 @@ class QueueServiceTest {
   @DisplayName("getStatus: 대기열 미등록 + 입장 이력 있으면 reEnterType=EXPIRED를 반환한다")
   void getStatus_notInQueue_hasHistory_returnsExpired() {
     // given
-    when(queueRepository.hasAdmissionToken(42L)).thenReturn(false);
+    when(queueRepository.findAdmissionToken(1L, 42L)).thenReturn(Optional.empty());
     when(queueRepository.getRank(1L, 42L)).thenReturn(null);
     when(queueRepository.hasAdmittedHistory(1L, 42L)).thenReturn(true);
 
@@ -178,11 +250,11 @@ class QueueServiceTest {
   }
 
   @Test
-  @DisplayName("getStatus: 대기 중인 유저는 순번과 예상 대기 시간을 반환한다")
+  @DisplayName("getStatus: 대기 중인 유저는 순번, 예상 대기 시간 신뢰구간, 권장 폴링 간격을 반환한다")
   void getStatus_waiting_returnsRankAndEstimatedWait() {
     // given
-    setSchedulerConfig(5, 10000L);
-    when(queueRepository.hasAdmissionToken(42L)).thenReturn(false);
+    stubEstimate(1L, 3L);
+    when(queueRepository.findAdmissionToken(1L, 42L)).thenReturn(Optional.empty());
     // 0-based rank 2 → 1-based rank 3
     when(queueRepository.getRank(1L, 42L)).thenReturn(2L);
 
@@ -192,10 +264,389 @@ class QueueServiceTest {
     // then
     assertThat(response.admitted()).isFalse();
     assertThat(response.rank()).isEqualTo(3L);
-    assertThat(response.estimatedWaitSeconds()).isGreaterThanOrEqualTo(0L);
+    assertThat(response.estimatedWaitSeconds()).isEqualTo(15L);
+    assertThat(response.estimatedWaitMinSeconds()).isEqualTo(12L);
+    assertThat(response.estimatedWaitMaxSeconds()).isEqualTo(20L);
+    assertThat(response.nextPollSeconds()).isEqualTo(6L);
     assertThat(response.reEnterType()).isNull();
   }
 
+  @Test
+  @DisplayName("getStatus: 대기 중 일시 매진이면 순번과 MAY_REOPEN 상태를 반환하고 예상 대기 시간은 계산하지 않는다")
+  void getStatus_waiting_mayReopen_returnsSoldOutState() {
+    // given
+    when(queueRepository.findAdmissionToken(1L, 42L)).thenReturn(Optional.empty());
+    when(queueRepository.getRank(1L, 42L)).thenReturn(2L);
+    when(seatInventoryService.getEventAvailability(1L)).thenReturn(SeatAvailability.MAY_REOPEN);
+
+    // when
+    QueueStatusResponse response = queueService.getStatus(1L, 42L);
+
+    // then
+    assertThat(response.rank()).isEqualTo(3L);
+    assertThat(response.seatAvailability()).isEqualTo(SeatAvailability.MAY_REOPEN);
+    assertThat(response.nextPollSeconds()).isPositive();
+    verifyNoInteractions(queueWaitEstimator);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken: 토큰이 없으면 BusinessException(ADMISSION_TOKEN_NOT_FOUND)을 던진다")
+  void validateAdmissionToken_missing_throwsNotFound() {
+    // when & then
+    assertThatThrownBy(() -> queueService.validateAdmissionToken(null, 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_NOT_FOUND));
+
+    verifyNoInteractions(admissionTokenProvider);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken: 다른 회원의 토큰이면 BusinessException(ADMISSION_TOKEN_INVALID)을 던진다")
+  void validateAdmissionToken_otherMember_throwsInvalid() {
+    // given
+    when(admissionTokenProvider.verify("signed-token")).thenReturn(claims("jti-1", 7L, 1L));
+
+    // when & then
+    assertThatThrownBy(() -> queueService.validateAdmissionToken("signed-token", 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_INVALID));
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken: 이벤트 정리 전에 발급된 토큰이면 BusinessException(ADMISSION_TOKEN_REVOKED)을 던진다")
+  void validateAdmissionToken_revoked_throwsRevoked() {
+    // given
+    when(admissionTokenProvider.verify("signed-token")).thenReturn(claims("jti-1", 42L, 1L));
+    when(queueRepository.getEventAdmissionRevocations()).thenReturn(Map.of(1L, Long.MAX_VALUE));
+
+    // when & then
+    assertThatThrownBy(() -> queueService.validateAdmissionToken("signed-token", 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_REVOKED));
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken: 이벤트 정리 후에 발급된 토큰(폐기 기준 시각 이후 만료)은 통과한다")
+  void validateAdmissionToken_issuedAfterRevocation_returnsClaims() {
+    // given - 폐기 기준 시각이 토큰 만료 시각보다 앞선다
+    AdmissionTokenClaims issued = claims("jti-2", 42L, 1L);
+    when(admissionTokenProvider.verify("signed-token")).thenReturn(issued);
+    when(queueRepository.getEventAdmissionRevocations()).thenReturn(Map.of(1L, issued.expiresAtMillis() - 1L));
+
+    // when
+    AdmissionTokenClaims claims = queueService.validateAdmissionToken("signed-token", 42L);
+
+    // then
+    assertThat(claims.tokenId()).isEqualTo("jti-2");
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken: 유효한 토큰은 토큰 검증용 Redis 조회 없이 토큰 내용을 반환한다")
+  void validateAdmissionToken_valid_returnsClaims() {
+    // given
+    when(admissionTokenProvider.verify("signed-token")).thenReturn(claims("jti-1", 42L, 1L));
+    when(queueRepository.getEventAdmissionRevocations()).thenReturn(Map.of());
+
+    // when
+    AdmissionTokenClaims claims = queueService.validateAdmissionToken("signed-token", 42L);
+
+    // then
+    assertThat(claims.eventId()).isEqualTo(1L);
+    verify(queueRepository, never()).findAdmissionToken(anyLong(), anyLong());
+    verify(queueRepository, never()).findAdmissionTokenEntry(anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(OPAQUE): 양성 결과는 로컬 캐시되어 반복 HOLD 시 Redis를 다시 조회하지 않는다")
+  void validateAdmissionToken_opaque_cachesPositiveResult() {
+    // given
+    useOpaqueMode(5000L);
+    when(queueRepository.findAdmissionTokenEntry(1L, 42L)).thenReturn(storedToken("1:uuid-a"));
+
+    // when
+    queueService.validateAdmissionToken("1:uuid-a", 42L);
+    queueService.validateAdmissionToken("1:uuid-a", 42L);
+    queueService.validateAdmissionToken("1:uuid-a", 42L);
+
+    // then
+    verify(queueRepository, times(1)).findAdmissionTokenEntry(1L, 42L);
+    verifyNoInteractions(admissionTokenProvider);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(OPAQUE): 토큰이 없으면 캐시하지 않고 BusinessException(ADMISSION_TOKEN_NOT_FOUND)을 던진다")
+  void validateAdmissionToken_opaque_missing_throwsNotFound() {
+    // given
+    useOpaqueMode(5000L);
+    when(queueRepository.findAdmissionTokenEntry(1L, 42L)).thenReturn(Optional.empty());
+
+    // when & then
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> queueService.validateAdmissionToken("1:uuid-a", 42L))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+          .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_NOT_FOUND));
+    }
+    verify(queueRepository, times(2)).findAdmissionTokenEntry(1L, 42L);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(OPAQUE): 폐기 알림으로 캐시가 제거되면 다시 Redis로 확인한다")
+  void validateAdmissionToken_opaque_evicted_rechecksRedis() {
+    // given
+    useOpaqueMode(5000L);
+    when(queueRepository.findAdmissionTokenEntry(1L, 42L)).thenReturn(storedToken("1:uuid-a"), Optional.empty());
+    queueService.validateAdmissionToken("1:uuid-a", 42L);
+
+    // when
+    queueService.evictAdmissionCache(42L);
+
+    // then
+    assertThatThrownBy(() -> queueService.validateAdmissionToken("1:uuid-a", 42L))
+      .isInstanceOf(BusinessException.class);
+    verify(queueRepository, times(2)).findAdmissionTokenEntry(1L, 42L);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(OPAQUE): 토큰 접두어의 이벤트로 조회하고 eventId를 반환한다")
+  void validateAdmissionToken_opaque_returnsEventId() {
+    // given
+    useOpaqueMode(5000L);
+    when(queueRepository.findAdmissionTokenEntry(7L, 42L)).thenReturn(storedToken("7:uuid-a"));
+
+    // when
+    AdmissionTokenClaims claims = queueService.validateAdmissionToken("7:uuid-a", 42L);
+
+    // then
+    assertThat(claims.eventId()).isEqualTo(7L);
+    assertThat(claims.memberId()).isEqualTo(42L);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(OPAQUE): 저장된 토큰과 값이 다르면 캐시하지 않고 BusinessException(ADMISSION_TOKEN_INVALID)을 던진다")
+  void validateAdmissionToken_opaque_tokenMismatch_throwsInvalid() {
+    // given - 회원의 토큰은 있지만 다른 값을 제시
+    useOpaqueMode(5000L);
+    when(queueRepository.findAdmissionTokenEntry(1L, 42L)).thenReturn(storedToken("1:uuid-a"));
+
+    // when & then
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> queueService.validateAdmissionToken("1:uuid-guess", 42L))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+          .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_INVALID));
+    }
+    verify(queueRepository, times(2)).findAdmissionTokenEntry(1L, 42L);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(OPAQUE): 형식이 잘못된 토큰이면 BusinessException(ADMISSION_TOKEN_INVALID)을 던진다")
+  void validateAdmissionToken_opaque_malformed_throwsInvalid() {
+    // given
+    useOpaqueMode(5000L);
+
+    // when & then
+    assertThatThrownBy(() -> queueService.validateAdmissionToken("uuid-without-event", 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_INVALID));
+    verify(queueRepository, never()).findAdmissionTokenEntry(anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("sweepExpiredAdmissions: 정리 상한만큼 지워지면 남은 만료 토큰이 없을 때까지 반복한다")
+  void sweepExpiredAdmissions_repeatsUntilBelowBatch() {
+    // given
+    ReflectionTestUtils.setField(queueService, "sweepBatchSize", 2);
+    when(queueRepository.removeExpiredAdmissionTokens(1L, 2))
+      .thenReturn(List.of(41L, 42L), List.of(43L));
+
+    // when
+    int swept = queueService.sweepExpiredAdmissions(1L);
+
+    // then
+    assertThat(swept).isEqualTo(3);
+    verify(queueRepository, times(2)).removeExpiredAdmissionTokens(1L, 2);
+  }
+
+  @Test
+  @DisplayName("admitTopMembers: 남은 좌석이 없으면 대기열을 조회하지 않고 입장 허용을 멈춘다")
+  void admitTopMembers_soldOut_pausesAdmission() {
+    // given
+    when(seatInventoryService.getEventAvailability(1L)).thenReturn(SeatAvailability.MAY_REOPEN);
+
+    // when
+    queueService.admitTopMembers(1L);
+
+    // then
+    verify(queueRepository, never()).getTopMembers(anyLong(), anyInt());
+    verifyNoInteractions(queueWaitEstimator);
+  }
+
+  @Test
+  @DisplayName("admitTopMembers(윈도우): 상한 - 활성 인원만큼만 입장 허용하고 토큰을 유휴 제한 시간(연장 상한은 토큰 유효 시간)으로 저장한다")
+  void admitTopMembers_activeWindow_admitsOnlyFreeSlots() {
+    // given - 상한 10명, 활성 8명 → 빈 자리 2명 (배치 사이즈 5명보다 작음)
+    useActiveWindow(10L, 60000L);
+    when(queueRepository.countAdmissionTokens(1L)).thenReturn(8L);
+    when(queueRepository.getTopMembers(1L, 2)).thenReturn(Set.of("41", "42"));
+    when(admissionTokenProvider.issue(anyLong(), eq(1L))).thenReturn("signed-token");
+
+    // when
+    queueService.admitTopMembers(1L);
+
+    // then
+    verify(queueRepository).saveAdmissionToken(1L, 41L, "signed-token", 60000L, 1800000L);
+    verify(queueRepository).saveAdmissionToken(1L, 42L, "signed-token", 60000L, 1800000L);
+    verify(queueWaitEstimator).recordAdmissions(1L, 2);
+  }
+
+  @Test
+  @DisplayName("admitTopMembers(윈도우): 빈 자리가 없으면 대기열을 조회하지 않고 처리량 0으로 기록한다")
+  void admitTopMembers_activeWindowFull_admitsNobody() {
+    // given
+    useActiveWindow(10L, 60000L);
+    when(queueRepository.countAdmissionTokens(1L)).thenReturn(10L);
+
+    // when
+    queueService.admitTopMembers(1L);
+
+    // then
+    verify(queueRepository, never()).getTopMembers(anyLong(), anyInt());
+    verify(queueWaitEstimator).recordAdmissions(1L, 0);
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(윈도우): 유효한 토큰은 유휴 제한 시간을 연장하고, 자리를 잃었으면 ADMISSION_TOKEN_EXPIRED를 던진다")
+  void validateAdmissionToken_activeWindow_touchesSlot() {
+    // given
+    useActiveWindow(10L, 60000L);
+    when(admissionTokenProvider.verify("signed-token")).thenReturn(claims("jti-1", 42L, 1L));
+    when(queueRepository.getEventAdmissionRevocations()).thenReturn(Map.of());
+    when(queueRepository.touchAdmissionToken(1L, 42L, 60000L)).thenReturn(true, false);
+
+    // when & then
+    assertThat(queueService.validateAdmissionToken("signed-token", 42L).eventId()).isEqualTo(1L);
+    assertThatThrownBy(() -> queueService.validateAdmissionToken("signed-token", 42L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(QueueErrorCode.ADMISSION_TOKEN_EXPIRED));
+  }
+
+  @Test
+  @DisplayName("validateAdmissionToken(윈도우): 유휴 시간 연장은 회원별로 캐시 TTL에 1회만 Redis를 호출한다")
+  void validateAdmissionToken_activeWindow_throttlesTouch() {
+    // given
+    useActiveWindow(10L, 60000L);
+    ReflectionTestUtils.setField(queueService, "admissionCacheTtlMs", 5000L);
+    when(admissionTokenProvider.verify("signed-token")).thenReturn(claims("jti-1", 42L, 1L));
+    when(queueRepository.getEventAdmissionRevocations()).thenReturn(Map.of());
+    when(queueRepository.touchAdmissionToken(1L, 42L, 60000L)).thenReturn(true);
+
+    // when
+    queueService.validateAdmissionToken("signed-token", 42L);
+    queueService.validateAdmissionToken("signed-token", 42L);
+    queueService.touchAdmission(1L, 42L);
+
+    // then
+    verify(queueRepository, times(1)).touchAdmissionToken(1L, 42L, 60000L);
+
+    // 폐기 알림으로 기록이 지워지면 다음 요청에서 다시 확인한다
+    queueService.evictAdmissionCache(42L);
+    queueService.validateAdmissionToken("signed-token", 42L);
+    verify(queueRepository, times(2)).touchAdmissionToken(1L, 42L, 60000L);
+  }
+
+  @Test
+  @DisplayName("releaseAdmission: 윈도우 모드에서만 입장 토큰을 삭제하고 폐기 알림을 발행한다")
+  void releaseAdmission_onlyInActiveWindow() {
+    // given - 윈도우 미사용
+    queueService.releaseAdmission(1L, 42L);
+    verifyNoInteractions(queueRepository);
+
+    // when - 윈도우 사용
+    useActiveWindow(10L, 60000L);
+    queueService.releaseAdmission(1L, 42L);
+
+    // then
+    verify(queueRepository).deleteAdmissionToken(1L, 42L);
+    verify(queueRepository).publishAdmissionRevoked(42L);
+  }
+
+  @Test
+  @DisplayName("releaseAdmissionAfterCommit: 커밋 전에는 반환하지 않고 커밋 후 입장 토큰을 삭제한다")
+  void releaseAdmissionAfterCommit_releasesOnCommit() {
+    // given
+    useActiveWindow(10L, 60000L);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      queueService.releaseAdmissionAfterCommit(1L, 42L);
+      verifyNoInteractions(queueRepository);
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+      // then
+      verify(queueRepository).deleteAdmissionToken(1L, 42L);
+      verify(queueRepository).publishAdmissionRevoked(42L);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("releaseAdmissionAfterCommit(outbox): 트랜잭션에 ADMISSION_RELEASE 이벤트만 기록한다")
+  void releaseAdmissionAfterCommit_outbox_appendsEvent() {
+    // given
+    useActiveWindow(10L, 60000L);
+    when(outboxWriter.isEnabled()).thenReturn(true);
+
+    // when
+    queueService.releaseAdmissionAfterCommit(1L, 42L);
+
+    // then
+    verify(outboxWriter).append(eq(OutboxEventType.ADMISSION_RELEASE), eq("admission:1:42"),
+      eq(new AdmissionReleaseHandler.Payload(1L, 42L)));
+    verifyNoInteractions(queueRepository);
+  }
+
+  @Test
+  @DisplayName("cleanUpEndedQueue(OPAQUE): 이벤트 토큰 전체를 삭제하고 이벤트 폐기 알림을 1회 발행한다")
+  void cleanUpEndedQueue_opaque_publishesRevocation() {
+    // given
+    useOpaqueMode(5000L);
+
+    // when
+    queueService.cleanUpEndedQueue(1L);
+
+    // then
+    verify(queueRepository).deleteAdmissionTokens(1L);
+    verify(queueRepository).publishEventAdmissionsRevoked(1L);
+    verify(queueRepository, never()).revokeEventAdmissions(anyLong(), anyLong());
+    verify(queueRepository, never()).publishAdmissionRevoked(anyLong());
+  }
+
+  @Test
+  @DisplayName("cleanUpEndedQueue: 토큰을 순회하지 않고 이벤트 단위로 폐기 기준 시각을 1건 기록한다")
+  void cleanUpEndedQueue_revokesAdmissionTokens() {
+    // given
+    Long eventId = 1L;
+    long before = System.currentTimeMillis();
+
+    // when
+    queueService.cleanUpEndedQueue(eventId);
+
+    // then - 기준 시각 = 정리 시각 + 토큰 유효 시간 (기본 30분)
+    ArgumentCaptor<Long> revokedUntil = ArgumentCaptor.forClass(Long.class);
+    verify(queueRepository).revokeEventAdmissions(eq(eventId), revokedUntil.capture());
+    assertThat(revokedUntil.getValue()).isGreaterThanOrEqualTo(before + 1800000L);
+    verify(queueRepository).deleteAdmissionTokens(eventId);
+    verify(queueRepository, times(1)).publishEventAdmissionsRevoked(eventId);
+    verify(queueRepository, never()).publishAdmissionRevoked(anyLong());
+  }
+
   @Test
   @DisplayName("cleanUpEndedQueue: 종료된 이벤트 대기열 정리 시 seq 카운터 key도 함께 삭제한다")
   void cleanUpEndedQueue_deletesAllKeys() {
@@ -210,5 +661,8 @@ class QueueServiceTest {
     verify(queueRepository).removeActiveEvent(eventId);
     verify(queueRepository).deleteAdmittedHistory(eventId);
     verify(queueRepository).deleteSeq(eventId);
+    verify(queueRepository).deleteThroughputStats(eventId);
+    verify(queueRepository).deleteAdmissionTokens(eventId);
+    verify(queueWaitEstimator).evict(eventId);
   }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.pil97.ticketing.queue.application;
+
+import com.pil97.ticketing.queue.application.dto.QueueWaitEstimate;
+import com.pil97.ticketing.queue.domain.QueueThroughputStats;
+import com.pil97.ticketing.queue.domain.repository.QueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueWaitEstimatorTest {
+
+  private static final Long EVENT_ID = 1L;
+
+  @Mock
+  private QueueRepository queueRepository;
+
+  @InjectMocks
+  private QueueWaitEstimator queueWaitEstimator;
+
+  @BeforeEach
+  void setUp() {
+    // @Value로 주입되는 설정값을 테스트에서 직접 설정
+    setSchedulerConfig(5, 10000L);
+    ReflectionTestUtils.setField(queueWaitEstimator, "windowSeconds", 60.0);
+    ReflectionTestUtils.setField(queueWaitEstimator, "minPollSeconds", 2L);
+    ReflectionTestUtils.setField(queueWaitEstimator, "maxPollSeconds", 60L);
+  }
+
+  private void setSchedulerConfig(int batchSize, long fixedDelayMs) {
+    ReflectionTestUtils.setField(queueWaitEstimator, "batchSize", batchSize);
+    ReflectionTestUtils.setField(queueWaitEstimator, "fixedDelayMs", fixedDelayMs);
+  }
+
+  private QueueThroughputStats stats(double admitRate, double variance, double dropRate, long queueSize) {
+    return new QueueThroughputStats(admitRate, variance, dropRate, queueSize, 0L, System.currentTimeMillis());
+  }
+
+  @Test
+  @DisplayName("estimate: 측정값이 없으면 명목 처리량(배치 사이즈 / 주기)으로 계산한다")
+  void estimate_noStats_usesNominalRate() {
+    // given - 5명 / 10초 = 초당 0.5명
+    when(queueRepository.findThroughputStats(EVENT_ID)).thenReturn(Optional.empty());
+
+    // when
+    QueueWaitEstimate estimate = queueWaitEstimator.estimate(EVENT_ID, 3L);
+
+    // then
+    assertThat(estimate.estimatedWaitSeconds()).isEqualTo(6L);
+    assertThat(estimate.estimatedWaitMinSeconds()).isEqualTo(6L);
+    assertThat(estimate.estimatedWaitMaxSeconds()).isEqualTo(6L);
+    assertThat(estimate.nextPollSeconds()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("estimate: 배치 사이즈가 주기(초)보다 커도 예상 대기 시간이 0이 되지 않는다")
+  void estimate_batchLargerThanInterval_notZero() {
+    // given - 20명 / 10초 = 초당 2명 (기존 정수 나눗셈 공식은 0초)
+    setSchedulerConfig(20, 10000L);
+    when(queueRepository.findThroughputStats(EVENT_ID)).thenReturn(Optional.empty());
+
+    // when
+    QueueWaitEstimate estimate = queueWaitEstimator.estimate(EVENT_ID, 3L);
+
+    // then
+    assertThat(estimate.estimatedWaitSeconds()).isEqualTo(2L);
+    assertThat(estimate.nextPollSeconds()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("estimate: 측정 처리량과 분산으로 신뢰구간을 계산하고 하한의 절반을 폴링 간격으로 권장한다")
+  void estimate_withStats_returnsConfidenceBounds() {
+    // given - 초당 1명, 표준편차 0.2
+    when(queueRepository.findThroughputStats(EVENT_ID))
+      .thenReturn(Optional.of(stats(1.0, 0.04, 0.0, 100L)));
+
+    // when
+    QueueWaitEstimate estimate = queueWaitEstimator.estimate(EVENT_ID, 60L);
+
+    // then
+    assertThat(estimate.estimatedWaitSeconds()).isEqualTo(60L);
+    assertThat(estimate.estimatedWaitMinSeconds()).isEqualTo(46L);
+    assertThat(estimate.estimatedWaitMaxSeconds()).isEqualTo(90L);
+    assertThat(estimate.nextPollSeconds()).isEqualTo(23L);
+  }
+
+  @Test
+  @DisplayName("estimate: 내 앞 구간의 이탈률만큼 예상 대기 시간이 줄어든다")
+  void estimate_withDropRate_reducesWait() {
+    // given - 초당 입장 1명 + 초당 이탈 1명, 대기열 전체가 내 앞 구간
+    when(queueRepository.findThroughputStats(EVENT_ID))
+      .thenReturn(Optional.of(stats(1.0, 0.0, 1.0, 100L)));
+
+    // when
+    QueueWaitEstimate estimate = queueWaitEstimator.estimate(EVENT_ID, 100L);
+
+    // then
+    assertThat(estimate.estimatedWaitSeconds()).isEqualTo(50L);
+    assertThat(estimate.nextPollSeconds()).isEqualTo(25L);
+  }
+
+  @Test
+  @DisplayName("estimate: 통계는 로컬 캐시되어 연속 조회 시 Redis를 한 번만 조회한다")
+  void estimate_cachesStats() {
+    // given
+    when(queueRepository.findThroughputStats(EVENT_ID))
+      .thenReturn(Optional.of(stats(1.0, 0.0, 0.0, 100L)));
+
+    // when
+    queueWaitEstimator.estimate(EVENT_ID, 10L);
+    queueWaitEstimator.estimate(EVENT_ID, 20L);
+
+    // then
+    verify(queueRepository, times(1)).findThroughputStats(EVENT_ID);
+  }
+
+  @Test
+  @DisplayName("recordAdmissions: 최초 tick은 명목 처리량으로 통계를 초기화한다")
+  void recordAdmissions_firstTick_seedsNominalRate() {
+    // given
+    when(queueRepository.getQueueSize(EVENT_ID)).thenReturn(30L);
+    when(queueRepository.getEnteredCount(EVENT_ID)).thenReturn(35L);
+    when(queueRepository.findThroughputStats(EVENT_ID)).thenReturn(Optional.empty());
+
+    // when
+    queueWaitEstimator.recordAdmissions(EVENT_ID, 5);
+
+    // then
+    ArgumentCaptor<QueueThroughputStats> captor = ArgumentCaptor.forClass(QueueThroughputStats.class);
+    verify(queueRepository).saveThroughputStats(eq(EVENT_ID), captor.capture());
+    QueueThroughputStats saved = captor.getValue();
+    assertThat(saved.admitRate()).isEqualTo(0.5);
+    assertThat(saved.queueSize()).isEqualTo(30L);
+    assertThat(saved.enteredCount()).isEqualTo(35L);
+  }
+
+  @Test
+  @DisplayName("recordAdmissions: 측정 처리량으로 EWMA를 갱신하고 진입/입장/대기열 변화로 이탈률을 추정한다")
+  void recordAdmissions_updatesRateAndDropRate() {
+    // given - 10초 전 통계: 초당 1명, 대기열 50명, 누적 진입 100명
+    QueueThroughputStats previous = new QueueThroughputStats(
+      1.0, 0.0, 0.0, 50L, 100L, System.currentTimeMillis() - 10000L);
+    when(queueRepository.findThroughputStats(EVENT_ID)).thenReturn(Optional.of(previous));
+    // 10명 진입, 5명 입장, 대기열 크기 그대로 → 5명 이탈
+    when(queueRepository.getQueueSize(EVENT_ID)).thenReturn(50L);
+    when(queueRepository.getEnteredCount(EVENT_ID)).thenReturn(110L);
+
+    // when
+    queueWaitEstimator.recordAdmissions(EVENT_ID, 5);
+
+    // then
+    ArgumentCaptor<QueueThroughputStats> captor = ArgumentCaptor.forClass(QueueThroughputStats.class);
+    verify(queueRepository).saveThroughputStats(eq(EVENT_ID), captor.capture());
+    QueueThroughputStats saved = captor.getValue();
+    // 측정값 초당 0.5명 방향으로 이동
+    assertThat(saved.admitRate()).isBetween(0.5, 1.0);
+    assertThat(saved.admitRateVariance()).isGreaterThan(0.0);
+    // 측정값 초당 0.5명 이탈 방향으로 이동
+    assertThat(saved.dropRate()).isBetween(0.0, 0.5).isGreaterThan(0.0);
+    assertThat(saved.enteredCount()).isEqualTo(110L);
+  }
+
+  @Test
+  @DisplayName("recordAdmissions: 입장 후 대기열이 비면 처리량을 갱신하지 않는다")
+  void recordAdmissions_emptyQueue_keepsRate() {
+    // given - 대기열 소진으로 배치보다 적게 입장
+    QueueThroughputStats previous = new QueueThroughputStats(
+      1.0, 0.0, 0.0, 3L, 100L, System.currentTimeMillis() - 10000L);
+    when(queueRepository.findThroughputStats(EVENT_ID)).thenReturn(Optional.of(previous));
+    when(queueRepository.getQueueSize(EVENT_ID)).thenReturn(0L);
+    when(queueRepository.getEnteredCount(EVENT_ID)).thenReturn(100L);
+
+    // when
+    queueWaitEstimator.recordAdmissions(EVENT_ID, 3);
+
+    // then
+    ArgumentCaptor<QueueThroughputStats> captor = ArgumentCaptor.forClass(QueueThroughputStats.class);
+    verify(queueRepository).saveThroughputStats(eq(EVENT_ID), captor.capture());
+    assertThat(captor.getValue().admitRate()).isCloseTo(1.0, within(1e-9));
+    assertThat(captor.getValue().dropRate()).isCloseTo(0.0, within(1e-9));
+  }
+}
@@ -0,0 +1,136 @@
+package com.pil97.ticketing.queue.application.scheduler;
+
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueSchedulerTest {
+
+  @Mock
+  private QueueService queueService;
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private SeatInventoryService seatInventoryService;
+
+  @InjectMocks
+  private QueueScheduler queueScheduler;
+
+  @BeforeEach
+  void setUp() {
+    // @Value로 주입되는 설정값을 테스트에서 직접 설정 후 executor 생성
+    ReflectionTestUtils.setField(queueScheduler, "poolSize", 4);
+    ReflectionTestUtils.setField(queueScheduler, "endTimeCacheTtlMs", 60000L);
+    queueScheduler.initExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    queueScheduler.shutdownExecutor();
+  }
+
+  private Event event(Long id, boolean ended) {
+    Event event = mock(Event.class);
+    when(event.getId()).thenReturn(id);
+    when(event.isEnded()).thenReturn(ended);
+    return event;
+  }
+
+  @Test
+  @DisplayName("admitMembers: 활성 이벤트는 입장 허용, 종료/미존재 이벤트는 대기열을 정리한다")
+  void admitMembers_processesEachEvent() {
+    // given
+    when(queueService.getActiveEventIds()).thenReturn(Set.of("1", "2", "3"));
+    Event active = event(1L, false);
+    Event ended = event(2L, true);
+    // eventId=3은 DB에 없음
+    when(eventRepository.findAllById(anyIterable())).thenReturn(List.of(active, ended));
+
+    // when
+    queueScheduler.admitMembers();
+
+    // then
+    verify(queueService).admitTopMembers(1L);
+    verify(queueService).refreshRankSnapshot(1L);
+    verify(queueService).cleanUpEndedQueue(2L);
+    verify(queueService).cleanUpEndedQueue(3L);
+    verify(queueService, never()).admitTopMembers(2L);
+    verify(queueService, never()).admitTopMembers(3L);
+  }
+
+  @Test
+  @DisplayName("admitMembers: 캐시 TTL 내 재실행 시 이벤트를 DB에서 다시 조회하지 않는다")
+  void admitMembers_usesCachedEventWithinTtl() {
+    // given
+    when(queueService.getActiveEventIds()).thenReturn(Set.of("1"));
+    Event active = event(1L, false);
+    when(eventRepository.findAllById(anyIterable())).thenReturn(List.of(active));
+
+    // when - 3회 tick
+    queueScheduler.admitMembers();
+    queueScheduler.admitMembers();
+    queueScheduler.admitMembers();
+
+    // then - DB 조회는 최초 1회, 입장 허용은 매 tick
+    verify(eventRepository, times(1)).findAllById(anyIterable());
+    verify(eventRepository, never()).findById(anyLong());
+    verify(queueService, times(3)).admitTopMembers(1L);
+  }
+
+  @Test
+  @DisplayName("admitMembers: 한 이벤트 처리 실패가 다른 이벤트 처리를 막지 않는다")
+  void admitMembers_failureIsolatedPerEvent() {
+    // given
+    when(queueService.getActiveEventIds()).thenReturn(Set.of("1", "2"));
+    Event first = event(1L, false);
+    Event second = event(2L, false);
+    when(eventRepository.findAllById(anyIterable())).thenReturn(List.of(first, second));
+    doThrow(new IllegalStateException("redis down")).when(queueService).admitTopMembers(1L);
+
+    // when
+    queueScheduler.admitMembers();
+
+    // then
+    verify(queueService).admitTopMembers(2L);
+  }
+
+  @Test
+  @DisplayName("logStats: 이벤트별 처리 시간을 주기 로그로 모아 초기화하고, 그 사이 처리되지 않은 이벤트 항목은 제거한다")
+  void logStats_aggregatesPerEventAndDropsIdleEvents() {
+    // given
+    when(queueService.getActiveEventIds()).thenReturn(Set.of("1"));
+    Event active = event(1L, false);
+    when(eventRepository.findAllById(anyIterable())).thenReturn(List.of(active));
+    queueScheduler.admitMembers();
+    queueScheduler.admitMembers();
+    Map<?, ?> tickStats = (Map<?, ?>) ReflectionTestUtils.getField(queueScheduler, "tickStatsByEvent");
+
+    // when & then - 처리된 이벤트는 로그 후에도 항목 유지, 다음 주기까지 처리가 없으면 제거
+    queueScheduler.logStats();
+    assertThat(tickStats).containsOnlyKeys(1L);
+    queueScheduler.logStats();
+    assertThat(tickStats).isEmpty();
+  }
+}
@@ -0,0 +1,167 @@
+package com.pil97.ticketing.reservation.application;
+
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.HoldStatus;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.member.domain.repository.MemberRepository;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.ReservationStatus;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.domain.SeatGrade;
+import com.pil97.ticketing.seat.domain.repository.SeatRepository;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtime.domain.repository.ShowtimeRepository;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class ReservationExpirationServiceTest {
+
+  @Autowired
+  private ReservationExpirationService reservationExpirationService;
+
+  @Autowired
+  private ReservationRepository reservationRepository;
+
+  @Autowired
+  private HoldRepository holdRepository;
+
+  @Autowired
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Autowired
+  private ShowtimeRepository showtimeRepository;
+
+  @Autowired
+  private SeatRepository seatRepository;
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Long reservationId;
+  private Long holdId;
+  private Long showtimeSeatId;
+  private Long showtimeId;
+  private Long seatId;
+  private Long eventId;
+  private Long memberId;
+
+  @BeforeEach
+  void setUp() {
+    createPendingReservation();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (reservationId != null) reservationRepository.deleteById(reservationId);
+    if (holdId != null) holdRepository.deleteById(holdId);
+    if (showtimeSeatId != null) showtimeSeatRepository.deleteById(showtimeSeatId);
+    if (showtimeId != null) showtimeRepository.deleteById(showtimeId);
+    if (seatId != null) seatRepository.deleteById(seatId);
+    if (eventId != null) eventRepository.deleteById(eventId);
+    if (memberId != null) memberRepository.deleteById(memberId);
+  }
+
+  @Test
+  @DisplayName("결제 기한이 지난 PENDING 예약을 FAILED로 바꾸고 HOLD를 EXPIRED, 좌석을 AVAILABLE로 되돌린다")
+  void expirePendingReservations_pastDeadline_failsAndReleasesSeat() {
+    // when - 기준 시각을 결제 기한(5분)보다 뒤로 잡는다
+    int expired = reservationExpirationService.expirePendingReservations(LocalDateTime.now().plusMinutes(10));
+
+    // then
+    assertThat(expired).isGreaterThanOrEqualTo(1);
+    assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+      .isEqualTo(ReservationStatus.FAILED);
+    assertThat(holdRepository.findById(holdId).orElseThrow().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+    assertThat(showtimeSeatRepository.findById(showtimeSeatId).orElseThrow().getStatus())
+      .isEqualTo(ShowtimeSeatStatus.AVAILABLE);
+  }
+
+  @Test
+  @DisplayName("결제 기한 안의 PENDING 예약은 그대로 둔다")
+  void expirePendingReservations_withinDeadline_keepsReservation() {
+    // when
+    reservationExpirationService.expirePendingReservations(LocalDateTime.now());
+
+    // then
+    assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+      .isEqualTo(ReservationStatus.PENDING);
+    assertThat(holdRepository.findById(holdId).orElseThrow().getStatus()).isEqualTo(HoldStatus.ACTIVE);
+    assertThat(showtimeSeatRepository.findById(showtimeSeatId).orElseThrow().getStatus())
+      .isEqualTo(ShowtimeSeatStatus.HELD);
+  }
+
+  private void createPendingReservation() {
+    LocalDateTime now = LocalDateTime.now();
+
+    Member member = memberRepository.save(
+      new Member("reservation-expiration-" + System.nanoTime() + "@test.com", "tester", "encoded-pw")
+    );
+    memberId = member.getId();
+
+    Event event = BeanUtils.instantiateClass(Event.class);
+    ReflectionTestUtils.setField(event, "name", "결제 기한 테스트 이벤트");
+    ReflectionTestUtils.setField(event, "venue", "테스트 공연장");
+    ReflectionTestUtils.setField(event, "status", EventStatus.ON_SALE);
+    ReflectionTestUtils.setField(event, "endTime", now.plusDays(1));
+    ReflectionTestUtils.setField(event, "createdAt", now);
+    ReflectionTestUtils.setField(event, "updatedAt", now);
+    event = eventRepository.save(event);
+    eventId = event.getId();
+
+    Seat seat = BeanUtils.instantiateClass(Seat.class);
+    ReflectionTestUtils.setField(seat, "seatNumber", "A-98");
+    ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
+    ReflectionTestUtils.setField(seat, "rowLabel", "A");
+    ReflectionTestUtils.setField(seat, "seatNo", 98);
+    ReflectionTestUtils.setField(seat, "createdAt", now);
+    ReflectionTestUtils.setField(seat, "updatedAt", now);
+    seat = seatRepository.save(seat);
+    seatId = seat.getId();
+
+    Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
+    ReflectionTestUtils.setField(showtime, "event", event);
+    ReflectionTestUtils.setField(showtime, "showAt", now.plusHours(2));
+    ReflectionTestUtils.setField(showtime, "createdAt", now);
+    ReflectionTestUtils.setField(showtime, "updatedAt", now);
+    showtime = showtimeRepository.save(showtime);
+    showtimeId = showtime.getId();
+
+    ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
+    ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
+    ReflectionTestUtils.setField(showtimeSeat, "seat", seat);
+    ReflectionTestUtils.setField(showtimeSeat, "status", ShowtimeSeatStatus.HELD);
+    ReflectionTestUtils.setField(showtimeSeat, "createdAt", now);
+    ReflectionTestUtils.setField(showtimeSeat, "updatedAt", now);
+    showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
+    showtimeSeatId = showtimeSeat.getId();
+
+    Hold hold = holdRepository.save(Hold.create(showtimeSeat, member, now.plusMinutes(5)));
+    holdId = hold.getId();
+
+    reservationId = reservationRepository.save(Reservation.create(hold, showtime, seat, member)).getId();
+  }
+}
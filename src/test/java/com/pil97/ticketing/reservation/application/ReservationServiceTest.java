@@ -1,7 +1,8 @@
 package com.pil97.ticketing.reservation.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pil97.ticketing.common.error.CommonErrorCode;
 import com.pil97.ticketing.common.error.IdempotencyErrorCode;
+import com.pil97.ticketing.common.event.DomainEventPublisher;
 import com.pil97.ticketing.common.exception.BusinessException;
 import com.pil97.ticketing.hold.domain.Hold;
 import com.pil97.ticketing.hold.domain.HoldStatus;
@@ -10,15 +11,22 @@ import com.pil97.ticketing.hold.error.HoldErrorCode;
 import com.pil97.ticketing.infra.idempotency.IdempotencyRedisRepository;
 import com.pil97.ticketing.infra.idempotency.IdempotencyResult;
 import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.payment.domain.PaymentStatus;
+import com.pil97.ticketing.queue.application.QueueService;
+import com.pil97.ticketing.reservation.api.dto.response.MemberReservationPageResponse;
 import com.pil97.ticketing.reservation.api.dto.response.ReservationResponse;
+import com.pil97.ticketing.reservation.application.dto.MemberReservationQueryResult;
 import com.pil97.ticketing.reservation.domain.Reservation;
 import com.pil97.ticketing.reservation.domain.ReservationStatus;
 import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
 import com.pil97.ticketing.reservation.error.ReservationErrorCode;
 import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.domain.SeatGrade;
 import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtimeseat.application.SeatInventoryService;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
 import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
 import com.pil97.ticketing.showtimeseat.error.ShowtimeSeatErrorCode;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,13 +34,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,23 +58,39 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ReservationServiceTest {
 
+  // IdempotencyFingerprintFilter가 계산해 전달하는 요청 digest
+  private static final byte[] FINGERPRINT = new byte[32];
+
   @Mock
   private HoldRepository holdRepository;
 
   @Mock
   private ReservationRepository reservationRepository;
 
+  @Mock
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
   @Mock
   private IdempotencyRedisRepository idempotencyRedisRepository;
 
   @Mock
-  private ObjectMapper objectMapper;
+  private QueueService queueService;
+
+  @Mock
+  private SeatInventoryService seatInventoryService;
+
+  @Mock
+  private DomainEventPublisher domainEventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
 
   @InjectMocks
   private ReservationService reservationService;
 
   @BeforeEach
   void setUp() {
+    reservationService.init();
     // registerAfterCommit() 내 isSynchronizationActive() 체크를 통과시키기 위해 초기화
     TransactionSynchronizationManager.initSynchronization();
   }
@@ -90,7 +118,7 @@ class ReservationServiceTest {
   class Reserve {
 
     @Test
-    @DisplayName("유효한 HOLD면 예약을 PENDING 상태로 생성하고 커밋 후 Redis에 저장된다")
+    @DisplayName("유효한 HOLD면 예약을 PENDING 상태로 생성하고 커밋 후 트랜잭션 밖에서 결과가 저장된다")
     void reserve_success_savesAfterCommit() throws Exception {
       // given
       String idempotencyKey = "test-key-001";
@@ -107,9 +135,8 @@ class ReservationServiceTest {
       Member member = mock(Member.class);
       Reservation savedReservation = mock(Reservation.class);
 
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willReturn(Optional.empty());
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
 
       given(holdRepository.findByIdWithLock(holdId)).willReturn(Optional.of(hold));
       given(hold.getId()).willReturn(holdId);
@@ -130,12 +157,7 @@ class ReservationServiceTest {
       given(reservationRepository.save(any(Reservation.class))).willReturn(savedReservation);
 
       // when
-      IdempotencyResult<ReservationResponse> result = reservationService.reserve(idempotencyKey, holdId);
-
-      // 커밋 전에는 Redis 저장 안 됨
-      verify(idempotencyRedisRepository, never()).save(anyString(), anyString(), anyString(), any(), any());
-
-      // afterCommit 수동 실행
+      IdempotencyResult<ReservationResponse> result = reservationService.reserve(idempotencyKey, FINGERPRINT, holdId);
       triggerTransactionCommit();
 
       // then
@@ -149,8 +171,11 @@ class ReservationServiceTest {
       // 좌석/HOLD 상태 변경은 PaymentService에서 처리하므로 호출되지 않아야 함
       verify(showtimeSeat, never()).markReserved();
       verify(hold, never()).confirm();
-      // 커밋 후 Redis 저장 확인
-      verify(idempotencyRedisRepository).save(anyString(), eq(idempotencyKey), anyString(), any(ReservationResponse.class), any());
+      // 예약 트랜잭션 커밋 후 결과 저장 확인
+      InOrder inOrder = inOrder(transactionManager, idempotencyRedisRepository);
+      inOrder.verify(transactionManager).commit(any());
+      inOrder.verify(idempotencyRedisRepository)
+        .saveAfterCommit(anyString(), eq(idempotencyKey), any(byte[].class), any(ReservationResponse.class), any());
     }
 
     @Test
@@ -161,12 +186,11 @@ class ReservationServiceTest {
       Long holdId = 1L;
 
       ReservationResponse cachedResponse = mock(ReservationResponse.class);
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willReturn(Optional.of(cachedResponse));
 
       // when
-      IdempotencyResult<ReservationResponse> result = reservationService.reserve(idempotencyKey, holdId);
+      IdempotencyResult<ReservationResponse> result = reservationService.reserve(idempotencyKey, FINGERPRINT, holdId);
 
       // then
       assertThat(result.isReplayed()).isTrue();
@@ -182,12 +206,11 @@ class ReservationServiceTest {
       String idempotencyKey = "in-progress-key-001";
       Long holdId = 1L;
 
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willThrow(new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
 
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, holdId))
+      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, FINGERPRINT, holdId))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
@@ -203,12 +226,11 @@ class ReservationServiceTest {
       String idempotencyKey = "mismatch-key-001";
       Long holdId = 1L;
 
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willThrow(new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH));
 
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, holdId))
+      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, FINGERPRINT, holdId))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_PAYLOAD_MISMATCH));
@@ -221,7 +243,7 @@ class ReservationServiceTest {
     @DisplayName("Idempotency-Key가 null이면 IDEMPOTENCY_KEY_MISSING 예외를 던진다")
     void reserve_nullIdempotencyKey_throwsBusinessException() {
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(null, 1L))
+      assertThatThrownBy(() -> reservationService.reserve(null, FINGERPRINT, 1L))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING));
@@ -235,7 +257,7 @@ class ReservationServiceTest {
     @DisplayName("Idempotency-Key가 blank이면 IDEMPOTENCY_KEY_MISSING 예외를 던진다")
     void reserve_blankIdempotencyKey_throwsBusinessException() {
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve("   ", 1L))
+      assertThatThrownBy(() -> reservationService.reserve("   ", FINGERPRINT, 1L))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_MISSING));
@@ -252,13 +274,12 @@ class ReservationServiceTest {
       String idempotencyKey = "test-key-002";
       Long holdId = 1L;
 
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willReturn(Optional.empty());
       given(holdRepository.findByIdWithLock(holdId)).willReturn(Optional.empty());
 
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, holdId))
+      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, FINGERPRINT, holdId))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(HoldErrorCode.NOT_FOUND));
@@ -276,14 +297,13 @@ class ReservationServiceTest {
       Long holdId = 1L;
       Hold hold = mock(Hold.class);
 
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willReturn(Optional.empty());
       given(holdRepository.findByIdWithLock(holdId)).willReturn(Optional.of(hold));
       given(hold.getStatus()).willReturn(HoldStatus.CONFIRMED);
 
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, holdId))
+      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, FINGERPRINT, holdId))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(HoldErrorCode.NOT_ACTIVE));
@@ -300,15 +320,14 @@ class ReservationServiceTest {
       Long holdId = 1L;
       Hold hold = mock(Hold.class);
 
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willReturn(Optional.empty());
       given(holdRepository.findByIdWithLock(holdId)).willReturn(Optional.of(hold));
       given(hold.getStatus()).willReturn(HoldStatus.ACTIVE);
       given(hold.getExpiresAt()).willReturn(LocalDateTime.now().minusMinutes(1));
 
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, holdId))
+      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, FINGERPRINT, holdId))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(HoldErrorCode.EXPIRED));
@@ -326,8 +345,7 @@ class ReservationServiceTest {
       Hold hold = mock(Hold.class);
       ShowtimeSeat showtimeSeat = mock(ShowtimeSeat.class);
 
-      given(objectMapper.writeValueAsString(holdId)).willReturn("1");
-      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), anyString(), eq(ReservationResponse.class)))
+      given(idempotencyRedisRepository.find(anyString(), eq(idempotencyKey), any(byte[].class), eq(ReservationResponse.class)))
         .willReturn(Optional.empty());
       given(holdRepository.findByIdWithLock(holdId)).willReturn(Optional.of(hold));
       given(hold.getStatus()).willReturn(HoldStatus.ACTIVE);
@@ -336,7 +354,7 @@ class ReservationServiceTest {
       given(showtimeSeat.getStatus()).willReturn(ShowtimeSeatStatus.RESERVED);
 
       // when & then
-      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, holdId))
+      assertThatThrownBy(() -> reservationService.reserve(idempotencyKey, FINGERPRINT, holdId))
         .isInstanceOf(BusinessException.class)
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(ShowtimeSeatErrorCode.NOT_HELD));
@@ -360,7 +378,7 @@ class ReservationServiceTest {
       Hold hold = mock(Hold.class);
       ShowtimeSeat showtimeSeat = mock(ShowtimeSeat.class);
 
-      given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+      given(reservationRepository.findByIdWithSeat(reservationId)).willReturn(Optional.of(reservation));
       given(reservation.getStatus()).willReturn(ReservationStatus.PENDING);
       given(reservation.getHold()).willReturn(hold);
       given(hold.getShowtimeSeat()).willReturn(showtimeSeat);
@@ -379,7 +397,7 @@ class ReservationServiceTest {
     void cancel_reservationNotFound() {
       // given
       Long reservationId = 1L;
-      given(reservationRepository.findById(reservationId)).willReturn(Optional.empty());
+      given(reservationRepository.findByIdWithSeat(reservationId)).willReturn(Optional.empty());
 
       // when & then
       assertThatThrownBy(() -> reservationService.cancel(reservationId))
@@ -387,7 +405,7 @@ class ReservationServiceTest {
         .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
           .isEqualTo(ReservationErrorCode.NOT_FOUND));
 
-      verify(reservationRepository).findById(reservationId);
+      verify(reservationRepository).findByIdWithSeat(reservationId);
     }
 
     @Test
@@ -397,7 +415,7 @@ class ReservationServiceTest {
       Long reservationId = 1L;
       Reservation reservation = mock(Reservation.class);
 
-      given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+      given(reservationRepository.findByIdWithSeat(reservationId)).willReturn(Optional.of(reservation));
       given(reservation.getStatus()).willReturn(ReservationStatus.CONFIRMED);
 
       // when & then
@@ -417,7 +435,7 @@ class ReservationServiceTest {
       Long reservationId = 1L;
       Reservation reservation = mock(Reservation.class);
 
-      given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+      given(reservationRepository.findByIdWithSeat(reservationId)).willReturn(Optional.of(reservation));
       given(reservation.getStatus()).willReturn(ReservationStatus.FAILED);
 
       // when & then
@@ -437,7 +455,7 @@ class ReservationServiceTest {
       Long reservationId = 1L;
       Reservation reservation = mock(Reservation.class);
 
-      given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+      given(reservationRepository.findByIdWithSeat(reservationId)).willReturn(Optional.of(reservation));
       given(reservation.getStatus()).willReturn(ReservationStatus.CANCELLED);
 
       // when & then
@@ -450,4 +468,67 @@ class ReservationServiceTest {
       verify(reservation, never()).getHold();
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("getMemberReservations")
+  class GetMemberReservations {
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 size건만 내려주고 마지막 예약 ID를 다음 커서로 반환한다")
+    void getMemberReservations_hasNext_returnsNextCursor() {
+      // given
+      Long memberId = 30L;
+      given(reservationRepository.findMemberReservationsBefore(memberId, Long.MAX_VALUE, PageRequest.ofSize(3)))
+        .willReturn(List.of(row(9L, 7L), row(8L, null), row(5L, null)));
+
+      // when
+      MemberReservationPageResponse response = reservationService.getMemberReservations(memberId, null, 2);
+
+      // then
+      assertThat(response.items()).extracting("reservationId").containsExactly(9L, 8L);
+      assertThat(response.items().get(0).payment().paymentId()).isEqualTo(7L);
+      assertThat(response.items().get(1).payment()).isNull();
+      assertThat(response.hasNext()).isTrue();
+      assertThat(response.nextCursor()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("size 이하로 조회되면 마지막 페이지로 보고 다음 커서를 비운다")
+    void getMemberReservations_lastPage_noCursor() {
+      // given
+      Long memberId = 30L;
+      given(reservationRepository.findMemberReservationsBefore(memberId, 8L, PageRequest.ofSize(3)))
+        .willReturn(List.of(row(5L, null)));
+
+      // when
+      MemberReservationPageResponse response = reservationService.getMemberReservations(memberId, 8L, 2);
+
+      // then
+      assertThat(response.items()).hasSize(1);
+      assertThat(response.hasNext()).isFalse();
+      assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("size가 1 ~ 100 범위를 벗어나면 조회하지 않고 예외를 던진다")
+    void getMemberReservations_invalidSize_throws() {
+      // when & then
+      assertThatThrownBy(() -> reservationService.getMemberReservations(30L, null, 101))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+          .isEqualTo(CommonErrorCode.INVALID_REQUEST));
+
+      verifyNoInteractions(reservationRepository);
+    }
+
+    private MemberReservationQueryResult row(Long reservationId, Long paymentId) {
+      LocalDateTime now = LocalDateTime.now();
+      return new MemberReservationQueryResult(
+        reservationId, ReservationStatus.CONFIRMED, now,
+        1L, "콘서트", 10L, now.plusDays(7),
+        20L, "A-1", SeatGrade.VIP,
+        paymentId, paymentId == null ? null : PaymentStatus.SUCCESS, paymentId == null ? null : 150000, now
+      );
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.pil97.ticketing.settlement.application;
+
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.member.domain.repository.MemberRepository;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.domain.SeatGrade;
+import com.pil97.ticketing.seat.domain.repository.SeatRepository;
+import com.pil97.ticketing.settlement.api.dto.response.ReconciliationResponse;
+import com.pil97.ticketing.settlement.domain.ReconciliationMismatchType;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtime.domain.repository.ShowtimeRepository;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class ReconciliationServiceTest {
+
+  private static final int AMOUNT = 150000;
+
+  @Autowired
+  private ReconciliationService reconciliationService;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private ReservationRepository reservationRepository;
+
+  @Autowired
+  private HoldRepository holdRepository;
+
+  @Autowired
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Autowired
+  private ShowtimeRepository showtimeRepository;
+
+  @Autowired
+  private SeatRepository seatRepository;
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Long paymentId;
+  private Long reservationId;
+  private Long holdId;
+  private Long showtimeSeatId;
+  private Long showtimeId;
+  private Long seatId;
+  private Long eventId;
+  private Long memberId;
+
+  @AfterEach
+  void tearDown() {
+    if (paymentId != null) paymentRepository.deleteById(paymentId);
+    if (reservationId != null) reservationRepository.deleteById(reservationId);
+    if (holdId != null) holdRepository.deleteById(holdId);
+    if (showtimeSeatId != null) showtimeSeatRepository.deleteById(showtimeSeatId);
+    if (showtimeId != null) showtimeRepository.deleteById(showtimeId);
+    if (seatId != null) seatRepository.deleteById(seatId);
+    if (eventId != null) eventRepository.deleteById(eventId);
+    if (memberId != null) memberRepository.deleteById(memberId);
+  }
+
+  @Test
+  @DisplayName("결제 SUCCESS / 예약 CONFIRMED / HOLD CONFIRMED이면 불일치 없이 승인 금액만 집계한다")
+  void reconcile_consistent_noMismatch() {
+    // given
+    createPaidReservation(true);
+
+    // when
+    ReconciliationResponse response = reconciliationService.reconcile(eventId);
+
+    // then
+    assertThat(response.reservationCount()).isEqualTo(1);
+    assertThat(response.paymentCount()).isEqualTo(1);
+    assertThat(response.capturedAmount()).isEqualTo(AMOUNT);
+    assertThat(response.mismatchCount()).isZero();
+    assertThat(response.showtimes()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("결제 SUCCESS인데 예약이 PENDING으로 남아 있으면 불일치로 집계하고 샘플을 남긴다")
+  void reconcile_successPaymentOnPendingReservation_reportsMismatch() {
+    // given
+    createPaidReservation(false);
+
+    // when
+    ReconciliationResponse response = reconciliationService.reconcile(eventId);
+
+    // then
+    assertThat(response.mismatchCount()).isEqualTo(1);
+    assertThat(response.mismatches())
+      .containsEntry(ReconciliationMismatchType.SUCCESS_PAYMENT_STATE_MISMATCH, 1L);
+    assertThat(response.showtimes().get(0).samples())
+      .singleElement()
+      .satisfies(sample -> {
+        assertThat(sample.reservationId()).isEqualTo(reservationId);
+        assertThat(sample.paymentId()).isEqualTo(paymentId);
+        assertThat(sample.reservationStatus()).isEqualTo("PENDING");
+      });
+  }
+
+  /**
+   * SUCCESS 결제 1건이 있는 예약 생성
+   *
+   * @param confirmed true면 예약 / HOLD도 CONFIRMED로 맞춘다, false면 PENDING / ACTIVE로 둔다
+   */
+  private void createPaidReservation(boolean confirmed) {
+    LocalDateTime now = LocalDateTime.now();
+
+    Member member = memberRepository.save(
+      new Member("reconciliation-" + System.nanoTime() + "@test.com", "tester", "encoded-pw")
+    );
+    memberId = member.getId();
+
+    Event event = BeanUtils.instantiateClass(Event.class);
+    ReflectionTestUtils.setField(event, "name", "대사 테스트 이벤트");
+    ReflectionTestUtils.setField(event, "venue", "테스트 공연장");
+    ReflectionTestUtils.setField(event, "status", EventStatus.ON_SALE);
+    ReflectionTestUtils.setField(event, "endTime", now.plusDays(1));
+    ReflectionTestUtils.setField(event, "createdAt", now);
+    ReflectionTestUtils.setField(event, "updatedAt", now);
+    event = eventRepository.save(event);
+    eventId = event.getId();
+
+    Seat seat = BeanUtils.instantiateClass(Seat.class);
+    ReflectionTestUtils.setField(seat, "seatNumber", "R-97");
+    ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
+    ReflectionTestUtils.setField(seat, "rowLabel", "R");
+    ReflectionTestUtils.setField(seat, "seatNo", 97);
+    ReflectionTestUtils.setField(seat, "createdAt", now);
+    ReflectionTestUtils.setField(seat, "updatedAt", now);
+    seat = seatRepository.save(seat);
+    seatId = seat.getId();
+
+    Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
+    ReflectionTestUtils.setField(showtime, "event", event);
+    ReflectionTestUtils.setField(showtime, "showAt", now.plusHours(2));
+    ReflectionTestUtils.setField(showtime, "createdAt", now);
+    ReflectionTestUtils.setField(showtime, "updatedAt", now);
+    showtime = showtimeRepository.save(showtime);
+    showtimeId = showtime.getId();
+
+    ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
+    ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
+    ReflectionTestUtils.setField(showtimeSeat, "seat", seat);
+    ReflectionTestUtils.setField(showtimeSeat, "status",
+      confirmed ? ShowtimeSeatStatus.RESERVED : ShowtimeSeatStatus.HELD);
+    ReflectionTestUtils.setField(showtimeSeat, "createdAt", now);
+    ReflectionTestUtils.setField(showtimeSeat, "updatedAt", now);
+    showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
+    showtimeSeatId = showtimeSeat.getId();
+
+    Hold hold = Hold.create(showtimeSeat, member, now.plusMinutes(5));
+    Reservation reservation = Reservation.create(hold, showtime, seat, member);
+    if (confirmed) {
+      hold.confirm();
+      reservation.confirm();
+    }
+    holdId = holdRepository.save(hold).getId();
+    reservationId = reservationRepository.save(reservation).getId();
+
+    Payment payment = Payment.create(reservation, AMOUNT);
+    payment.success();
+    paymentId = paymentRepository.save(payment).getId();
+  }
+}
@@ -0,0 +1,202 @@
+package com.pil97.ticketing.settlement.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.hold.domain.Hold;
+import com.pil97.ticketing.hold.domain.repository.HoldRepository;
+import com.pil97.ticketing.member.domain.Member;
+import com.pil97.ticketing.member.domain.repository.MemberRepository;
+import com.pil97.ticketing.payment.domain.Payment;
+import com.pil97.ticketing.payment.domain.repository.PaymentRepository;
+import com.pil97.ticketing.reservation.domain.Reservation;
+import com.pil97.ticketing.reservation.domain.repository.ReservationRepository;
+import com.pil97.ticketing.seat.domain.Seat;
+import com.pil97.ticketing.seat.domain.SeatGrade;
+import com.pil97.ticketing.seat.domain.repository.SeatRepository;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtime.domain.repository.ShowtimeRepository;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class SettlementExportServiceTest {
+
+  private static final int AMOUNT = 150000;
+
+  @Autowired
+  private SettlementExportService settlementExportService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private ReservationRepository reservationRepository;
+
+  @Autowired
+  private HoldRepository holdRepository;
+
+  @Autowired
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Autowired
+  private ShowtimeRepository showtimeRepository;
+
+  @Autowired
+  private SeatRepository seatRepository;
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Long paymentId;
+  private Long reservationId;
+  private Long holdId;
+  private Long showtimeSeatId;
+  private Long showtimeId;
+  private Long seatId;
+  private Long eventId;
+  private Long memberId;
+
+  @AfterEach
+  void tearDown() {
+    if (paymentId != null) paymentRepository.deleteById(paymentId);
+    if (reservationId != null) reservationRepository.deleteById(reservationId);
+    if (holdId != null) holdRepository.deleteById(holdId);
+    if (showtimeSeatId != null) showtimeSeatRepository.deleteById(showtimeSeatId);
+    if (showtimeId != null) showtimeRepository.deleteById(showtimeId);
+    if (seatId != null) seatRepository.deleteById(seatId);
+    if (eventId != null) eventRepository.deleteById(eventId);
+    if (memberId != null) memberRepository.deleteById(memberId);
+  }
+
+  @Test
+  @DisplayName("CSV: 헤더 1줄 + 결제 1건당 1줄을 쓰고 결제 정보를 함께 내보낸다")
+  void export_csv_writesHeaderAndRows() throws Exception {
+    // given
+    createPaidReservation(true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    long rows = settlementExportService.export(eventId, SettlementExportFormat.CSV, out);
+
+    // then
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(rows).isEqualTo(1);
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0)).startsWith("showtime_id,show_at,reservation_id,");
+    assertThat(lines.get(1))
+      .startsWith(showtimeId + ",")
+      .contains("," + reservationId + ",CONFIRMED,")
+      .contains("," + paymentId + ",SUCCESS," + AMOUNT + ",");
+  }
+
+  @Test
+  @DisplayName("JSONL: 행마다 JSON 객체 1개를 쓰고 숫자 컬럼은 숫자, 빈 값은 null로 쓴다")
+  void export_jsonl_writesOneObjectPerLine() throws Exception {
+    // given
+    createPaidReservation(false);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    settlementExportService.export(eventId, SettlementExportFormat.JSONL, out);
+
+    // then
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(lines).hasSize(1);
+    JsonNode row = objectMapper.readTree(lines.get(0));
+    assertThat(row.get("reservation_id").asLong()).isEqualTo(reservationId);
+    assertThat(row.get("reservation_status").asText()).isEqualTo("PENDING");
+    assertThat(row.get("amount").isNumber()).isTrue();
+    assertThat(row.get("refunded_at").isNull()).isTrue();
+  }
+
+  /**
+   * SUCCESS 결제 1건이 있는 예약 생성
+   *
+   * @param confirmed true면 예약 / HOLD도 CONFIRMED로 맞춘다, false면 PENDING / ACTIVE로 둔다
+   */
+  private void createPaidReservation(boolean confirmed) {
+    LocalDateTime now = LocalDateTime.now();
+
+    Member member = memberRepository.save(
+      new Member("settlement-export-" + System.nanoTime() + "@test.com", "tester", "encoded-pw")
+    );
+    memberId = member.getId();
+
+    Event event = BeanUtils.instantiateClass(Event.class);
+    ReflectionTestUtils.setField(event, "name", "정산 export 테스트 이벤트");
+    ReflectionTestUtils.setField(event, "venue", "테스트 공연장");
+    ReflectionTestUtils.setField(event, "status", EventStatus.ON_SALE);
+    ReflectionTestUtils.setField(event, "endTime", now.plusDays(1));
+    ReflectionTestUtils.setField(event, "createdAt", now);
+    ReflectionTestUtils.setField(event, "updatedAt", now);
+    event = eventRepository.save(event);
+    eventId = event.getId();
+
+    Seat seat = BeanUtils.instantiateClass(Seat.class);
+    ReflectionTestUtils.setField(seat, "seatNumber", "R-96");
+    ReflectionTestUtils.setField(seat, "grade", SeatGrade.VIP);
+    ReflectionTestUtils.setField(seat, "rowLabel", "R");
+    ReflectionTestUtils.setField(seat, "seatNo", 96);
+    ReflectionTestUtils.setField(seat, "createdAt", now);
+    ReflectionTestUtils.setField(seat, "updatedAt", now);
+    seat = seatRepository.save(seat);
+    seatId = seat.getId();
+
+    Showtime showtime = BeanUtils.instantiateClass(Showtime.class);
+    ReflectionTestUtils.setField(showtime, "event", event);
+    ReflectionTestUtils.setField(showtime, "showAt", now.plusHours(2));
+    ReflectionTestUtils.setField(showtime, "createdAt", now);
+    ReflectionTestUtils.setField(showtime, "updatedAt", now);
+    showtime = showtimeRepository.save(showtime);
+    showtimeId = showtime.getId();
+
+    ShowtimeSeat showtimeSeat = BeanUtils.instantiateClass(ShowtimeSeat.class);
+    ReflectionTestUtils.setField(showtimeSeat, "showtime", showtime);
+    ReflectionTestUtils.setField(showtimeSeat, "seat", seat);
+    ReflectionTestUtils.setField(showtimeSeat, "status",
+      confirmed ? ShowtimeSeatStatus.RESERVED : ShowtimeSeatStatus.HELD);
+    ReflectionTestUtils.setField(showtimeSeat, "createdAt", now);
+    ReflectionTestUtils.setField(showtimeSeat, "updatedAt", now);
+    showtimeSeat = showtimeSeatRepository.save(showtimeSeat);
+    showtimeSeatId = showtimeSeat.getId();
+
+    Hold hold = Hold.create(showtimeSeat, member, now.plusMinutes(5));
+    Reservation reservation = Reservation.create(hold, showtime, seat, member);
+    if (confirmed) {
+      hold.confirm();
+      reservation.confirm();
+    }
+    holdId = holdRepository.save(hold).getId();
+    reservationId = reservationRepository.save(reservation).getId();
+
+    Payment payment = Payment.create(reservation, AMOUNT);
+    payment.success();
+    paymentId = paymentRepository.save(payment).getId();
+  }
+}
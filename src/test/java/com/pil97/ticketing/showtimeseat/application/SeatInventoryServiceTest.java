@@ -0,0 +1,263 @@
+package com.pil97.ticketing.showtimeseat.application;
+
+import com.pil97.ticketing.common.event.DomainEventPublisher;
+import com.pil97.ticketing.common.exception.BusinessException;
+import com.pil97.ticketing.event.domain.Event;
+import com.pil97.ticketing.event.domain.EventStatus;
+import com.pil97.ticketing.event.domain.repository.EventRepository;
+import com.pil97.ticketing.infra.outbox.OutboxEventType;
+import com.pil97.ticketing.infra.outbox.OutboxWriter;
+import com.pil97.ticketing.showtime.domain.Showtime;
+import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatRef;
+import com.pil97.ticketing.showtimeseat.application.dto.ShowtimeSeatStatusCount;
+import com.pil97.ticketing.showtimeseat.domain.SeatAvailability;
+import com.pil97.ticketing.showtimeseat.domain.SeatInventory;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeat;
+import com.pil97.ticketing.showtimeseat.domain.ShowtimeSeatStatus;
+import com.pil97.ticketing.showtimeseat.domain.repository.SeatInventoryRepository;
+import com.pil97.ticketing.showtimeseat.domain.repository.ShowtimeSeatRepository;
+import com.pil97.ticketing.showtimeseat.error.ShowtimeSeatErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryServiceTest {
+
+  private static final Long EVENT_ID = 1L;
+
+  @Mock
+  private SeatInventoryRepository seatInventoryRepository;
+
+  @Mock
+  private ShowtimeSeatRepository showtimeSeatRepository;
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private OutboxWriter outboxWriter;
+
+  @Mock
+  private DomainEventPublisher domainEventPublisher;
+
+  @InjectMocks
+  private SeatInventoryService seatInventoryService;
+
+  @Test
+  @DisplayName("getEventAvailability: 카운터가 없으면 DB 집계로 이벤트 / 회차 카운터를 초기화한다")
+  void getEventAvailability_missing_reconcilesFromDb() {
+    // given - 회차 10: HELD 2 + RESERVED 5, 회차 11: RESERVED 3 → AVAILABLE 없음, HELD 있음
+    when(seatInventoryRepository.findEventInventory(EVENT_ID)).thenReturn(Optional.empty());
+    when(showtimeSeatRepository.countByEventIdGroupByShowtimeAndStatus(EVENT_ID)).thenReturn(List.of(
+      new ShowtimeSeatStatusCount(10L, ShowtimeSeatStatus.HELD, 2L),
+      new ShowtimeSeatStatusCount(10L, ShowtimeSeatStatus.RESERVED, 5L),
+      new ShowtimeSeatStatusCount(11L, ShowtimeSeatStatus.RESERVED, 3L)
+    ));
+
+    // when
+    SeatAvailability availability = seatInventoryService.getEventAvailability(EVENT_ID);
+
+    // then
+    assertThat(availability).isEqualTo(SeatAvailability.MAY_REOPEN);
+    verify(seatInventoryRepository).saveInventory(
+      eq(EVENT_ID),
+      eq(0L),
+      eq(new SeatInventory(0L, 2L)),
+      eq(Map.of(10L, new SeatInventory(0L, 2L), 11L, new SeatInventory(0L, 0L))),
+      anyLong()
+    );
+  }
+
+  @Test
+  @DisplayName("getEventAvailability: 카운터가 있으면 DB를 조회하지 않는다")
+  void getEventAvailability_cached_skipsDb() {
+    // given
+    when(seatInventoryRepository.findEventInventory(EVENT_ID)).thenReturn(Optional.of(new SeatInventory(3L, 0L)));
+
+    // when & then
+    assertThat(seatInventoryService.getEventAvailability(EVENT_ID)).isEqualTo(SeatAvailability.AVAILABLE);
+    verifyNoInteractions(showtimeSeatRepository);
+  }
+
+  @Test
+  @DisplayName("validateShowtimeAvailable: 카운터가 없으면 단락하지 않고, 0이면 DB로 확인해 매진 / 일시 매진 예외를 던진다")
+  void validateShowtimeAvailable_byCounter() {
+    // given
+    when(seatInventoryRepository.findShowtimeInventory(10L)).thenReturn(Optional.empty());
+    when(seatInventoryRepository.findShowtimeInventory(11L)).thenReturn(Optional.of(new SeatInventory(0L, 0L)));
+    when(seatInventoryRepository.findShowtimeInventory(12L)).thenReturn(Optional.of(new SeatInventory(0L, 1L)));
+    when(showtimeSeatRepository.countByShowtimeIdGroupByStatus(11L)).thenReturn(List.of(
+      new ShowtimeSeatStatusCount(11L, ShowtimeSeatStatus.RESERVED, 3L)));
+    when(showtimeSeatRepository.countByShowtimeIdGroupByStatus(12L)).thenReturn(List.of(
+      new ShowtimeSeatStatusCount(12L, ShowtimeSeatStatus.HELD, 1L)));
+
+    // when & then
+    assertThatCode(() -> seatInventoryService.validateShowtimeAvailable(10L)).doesNotThrowAnyException();
+    assertThatThrownBy(() -> seatInventoryService.validateShowtimeAvailable(11L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo(ShowtimeSeatErrorCode.SOLD_OUT));
+    assertThatThrownBy(() -> seatInventoryService.validateShowtimeAvailable(12L))
+      .isInstanceOf(BusinessException.class)
+      .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+        .isEqualTo(ShowtimeSeatErrorCode.SOLD_OUT_MAY_REOPEN));
+  }
+
+  @Test
+  @DisplayName("validateShowtimeAvailable: 카운터가 0이어도 DB에 AVAILABLE 좌석이 있으면 단락하지 않는다")
+  void validateShowtimeAvailable_zeroCounterButDbAvailable_passes() {
+    // given - 증가 반영 누락으로 카운터만 0
+    when(seatInventoryRepository.findShowtimeInventory(10L)).thenReturn(Optional.of(new SeatInventory(0L, 0L)));
+    when(showtimeSeatRepository.countByShowtimeIdGroupByStatus(10L)).thenReturn(List.of(
+      new ShowtimeSeatStatusCount(10L, ShowtimeSeatStatus.AVAILABLE, 2L)));
+
+    // when & then
+    assertThatCode(() -> seatInventoryService.validateShowtimeAvailable(10L)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("validateShowtimeAvailable: DB로 확인한 매진 판정은 재확인 시간 동안 다시 집계하지 않는다")
+  void validateShowtimeAvailable_confirmedSoldOut_reused() {
+    // given
+    when(seatInventoryRepository.findShowtimeInventory(10L)).thenReturn(Optional.of(new SeatInventory(0L, 0L)));
+    when(showtimeSeatRepository.countByShowtimeIdGroupByStatus(10L)).thenReturn(List.of());
+
+    // when
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> seatInventoryService.validateShowtimeAvailable(10L))
+        .isInstanceOf(BusinessException.class);
+    }
+
+    // then
+    verify(showtimeSeatRepository, times(1)).countByShowtimeIdGroupByStatus(10L);
+  }
+
+  @Test
+  @DisplayName("recordTransition: AVAILABLE → HELD 전이는 available -1, held +1로 반영한다")
+  void recordTransition_held_appliesDeltas() {
+    // given - 트랜잭션 동기화가 없으면 즉시 반영
+    ShowtimeSeat showtimeSeat = mock(ShowtimeSeat.class);
+    Showtime showtime = mock(Showtime.class);
+    Event event = mock(Event.class);
+    when(showtimeSeat.getShowtime()).thenReturn(showtime);
+    when(showtime.getId()).thenReturn(10L);
+    when(showtime.getEvent()).thenReturn(event);
+    when(event.getId()).thenReturn(EVENT_ID);
+
+    // when
+    seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.AVAILABLE, ShowtimeSeatStatus.HELD);
+
+    // then
+    verify(seatInventoryRepository).applyTransition(EVENT_ID, 10L, -1L, 1L);
+  }
+
+  @Test
+  @DisplayName("recordTransition: outbox 모드에서는 트랜잭션에 outbox 이벤트로 기록하고 카운터에 직접 반영하지 않는다")
+  void recordTransition_outbox_appendsEvent() {
+    // given
+    ShowtimeSeat showtimeSeat = mock(ShowtimeSeat.class);
+    Showtime showtime = mock(Showtime.class);
+    Event event = mock(Event.class);
+    when(showtimeSeat.getShowtime()).thenReturn(showtime);
+    when(showtime.getId()).thenReturn(10L);
+    when(showtime.getEvent()).thenReturn(event);
+    when(event.getId()).thenReturn(EVENT_ID);
+    when(outboxWriter.isEnabled()).thenReturn(true);
+
+    // when
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      seatInventoryService.recordTransition(showtimeSeat, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.RESERVED);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then
+    verify(outboxWriter).append(OutboxEventType.SEAT_INVENTORY_TRANSITION, "showtime:10",
+      new SeatInventoryTransitionHandler.Payload(EVENT_ID, 10L, 0L, -1L));
+    verify(seatInventoryRepository, never()).applyTransition(anyLong(), anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("recordTransitions: 좌석마다 이벤트를 발행하고 카운터는 회차별로 합산해 1회씩 반영한다")
+  void recordTransitions_aggregatesPerShowtime() {
+    // given
+    List<ShowtimeSeatRef> showtimeSeats = List.of(
+      new ShowtimeSeatRef(100L, 10L, EVENT_ID),
+      new ShowtimeSeatRef(101L, 10L, EVENT_ID),
+      new ShowtimeSeatRef(200L, 20L, EVENT_ID)
+    );
+
+    // when
+    seatInventoryService.recordTransitions(showtimeSeats, ShowtimeSeatStatus.HELD, ShowtimeSeatStatus.AVAILABLE);
+
+    // then
+    verify(domainEventPublisher, times(3)).publish(any());
+    verify(seatInventoryRepository).applyTransition(EVENT_ID, 10L, 2L, -2L);
+    verify(seatInventoryRepository).applyTransition(EVENT_ID, 20L, 1L, -1L);
+  }
+
+  @Test
+  @DisplayName("reconcileIfStale: 보정 주기 내 재호출 시 DB를 다시 집계하지 않는다")
+  void reconcileIfStale_withinInterval_skips() {
+    // given
+    when(showtimeSeatRepository.countByEventIdGroupByShowtimeAndStatus(EVENT_ID)).thenReturn(List.of());
+    when(seatInventoryRepository.saveInventory(eq(EVENT_ID), anyLong(), any(), any(), anyLong())).thenReturn(true);
+
+    // when
+    seatInventoryService.reconcileIfStale(EVENT_ID);
+    seatInventoryService.reconcileIfStale(EVENT_ID);
+
+    // then
+    verify(showtimeSeatRepository, times(1)).countByEventIdGroupByShowtimeAndStatus(EVENT_ID);
+  }
+
+  @Test
+  @DisplayName("reconcileIfStale: 집계 중 상태 전이가 반영되어 버전이 바뀌면 덮어쓰지 않고 다음 호출에서 다시 보정한다")
+  void reconcileIfStale_versionChanged_retries() {
+    // given - 집계 전 버전 3, 덮어쓰기 시점에는 다른 버전
+    when(seatInventoryRepository.findInventoryVersion(EVENT_ID)).thenReturn(3L);
+    when(showtimeSeatRepository.countByEventIdGroupByShowtimeAndStatus(EVENT_ID)).thenReturn(List.of());
+    when(seatInventoryRepository.saveInventory(eq(EVENT_ID), eq(3L), any(), any(), anyLong())).thenReturn(false);
+
+    // when
+    seatInventoryService.reconcileIfStale(EVENT_ID);
+    seatInventoryService.reconcileIfStale(EVENT_ID);
+
+    // then
+    verify(showtimeSeatRepository, times(2)).countByEventIdGroupByShowtimeAndStatus(EVENT_ID);
+  }
+
+  @Test
+  @DisplayName("reconcileOnSaleEvents: 대기열 유무와 관계없이 판매 중인 이벤트 전체를 보정한다")
+  void reconcileOnSaleEvents_reconcilesEachEvent() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    when(eventRepository.findIdsByStatusNotEnded(EventStatus.ON_SALE, now)).thenReturn(List.of(1L, 2L));
+    when(showtimeSeatRepository.countByEventIdGroupByShowtimeAndStatus(anyLong())).thenReturn(List.of());
+
+    // when
+    seatInventoryService.reconcileOnSaleEvents(now);
+
+    // then
+    verify(showtimeSeatRepository).countByEventIdGroupByShowtimeAndStatus(1L);
+    verify(showtimeSeatRepository).countByEventIdGroupByShowtimeAndStatus(2L);
+  }
+}